@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.Plan;
+import com.djrapitops.plan.gathering.cache.TPSCache;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -42,11 +43,12 @@ public class BukkitTPSCounter extends TPSCounter {
             Plan plugin,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            TPSCache tpsCache,
             ServerProperties serverProperties,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
-        super(dbSystem, serverInfo, logger, errorHandler);
+        super(dbSystem, serverInfo, tpsCache, logger, errorHandler);
         this.plugin = plugin;
         this.serverProperties = serverProperties;
         lastCheckNano = -1;
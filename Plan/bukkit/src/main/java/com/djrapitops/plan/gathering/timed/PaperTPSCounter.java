@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.Plan;
+import com.djrapitops.plan.gathering.cache.TPSCache;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -34,10 +35,11 @@ public class PaperTPSCounter extends BukkitTPSCounter {
             Plan plugin,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            TPSCache tpsCache,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
-        super(plugin, dbSystem, serverInfo, serverInfo.getServerProperties(), logger, errorHandler);
+        super(plugin, dbSystem, serverInfo, tpsCache, serverInfo.getServerProperties(), logger, errorHandler);
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.mutators;
+
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
+import com.djrapitops.plan.utilities.comparators.TPSComparator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares calculating the Performance tab numbers and TPS graph points from a list of TPS objects, the way
+ * {@link TPSMutator} did before, against {@link TPSColumns}.
+ * <p>
+ * Loading benchmarks compare creating a TPS object per database row against filling columns.
+ * Run with the gc profiler to see the allocation rate per operation:
+ * gradlew :common:jmh -Pjmh="TPSMutatorBenchmark -f 1 -prof gc"
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TPSMutatorBenchmark {
+
+    @Param({"180"})
+    public int days;
+
+    private long now;
+    private long[] dates;
+    private double[] tps;
+    private int[] players;
+
+    private List<TPS> tpsList;
+    private TPSColumns tpsColumns;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1234L);
+        now = System.currentTimeMillis();
+        int size = (int) TimeUnit.DAYS.toMinutes(days);
+        dates = new long[size];
+        tps = new double[size];
+        players = new int[size];
+        long date = now - TimeUnit.DAYS.toMillis(days);
+        for (int i = 0; i < size; i++) {
+            date += TimeUnit.MINUTES.toMillis(random.nextInt(100) == 0 ? 5L : 1L);
+            dates[i] = date;
+            tps[i] = random.nextInt(20) == 0 ? random.nextDouble() * 20.0 : 20.0;
+            players[i] = random.nextInt(50);
+        }
+        tpsList = loadAsObjects();
+        tpsColumns = loadAsColumns();
+    }
+
+    @Benchmark
+    public List<TPS> loadAsObjects() {
+        List<TPS> data = new ArrayList<>();
+        for (int i = 0; i < dates.length; i++) {
+            data.add(new TPS(dates[i], tps[i], players[i], 10.0, 1024L, 500, 300, 50000L));
+        }
+        return data;
+    }
+
+    @Benchmark
+    public TPSColumns loadAsColumns() {
+        TPSColumns.Builder builder = new TPSColumns.Builder(1024);
+        for (int i = 0; i < dates.length; i++) {
+            builder.add(dates[i], tps[i], players[i], 10.0, 1024L, 500, 300, 50000L, TimeUnit.MINUTES.toMillis(1L), 1);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public void performanceTabWithObjects(Blackhole blackhole) {
+        List<TPS> month = filterBetween(tpsList, now - TimeUnit.DAYS.toMillis(30L), now);
+        List<TPS> week = filterBetween(month, now - TimeUnit.DAYS.toMillis(7L), now);
+        List<TPS> day = filterBetween(week, now - TimeUnit.DAYS.toMillis(1L), now);
+        consumeNumbers(blackhole, month);
+        consumeNumbers(blackhole, week);
+        consumeNumbers(blackhole, day);
+        blackhole.consume(tpsList.stream()
+                .map(point -> new Point(point.getDate(), point.getTicksPerSecond()))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public void performanceTabWithColumns(Blackhole blackhole) {
+        TPSMutator month = new TPSMutator(tpsColumns).filterDataBetween(now - TimeUnit.DAYS.toMillis(30L), now);
+        TPSMutator week = month.filterDataBetween(now - TimeUnit.DAYS.toMillis(7L), now);
+        TPSMutator day = week.filterDataBetween(now - TimeUnit.DAYS.toMillis(1L), now);
+        for (TPSMutator range : new TPSMutator[]{month, week, day}) {
+            blackhole.consume(range.averageTPS());
+            blackhole.consume(range.averagePlayersOnline());
+            blackhole.consume(range.serverDownTime());
+        }
+        blackhole.consume(new TPSMutator(tpsColumns).tpsPoints());
+    }
+
+    private static void consumeNumbers(Blackhole blackhole, List<TPS> range) {
+        blackhole.consume(range.stream().mapToDouble(TPS::getTicksPerSecond).average().orElse(-1));
+        blackhole.consume(range.stream().mapToDouble(TPS::getPlayers).average().orElse(-1));
+        blackhole.consume(downTime(range));
+    }
+
+    private static List<TPS> filterBetween(List<TPS> data, long after, long before) {
+        return data.stream()
+                .filter(point -> point.getDate() >= after && point.getDate() <= before)
+                .collect(Collectors.toList());
+    }
+
+    private static long downTime(List<TPS> data) {
+        data.sort(new TPSComparator());
+        long downTime = 0;
+        TPS previous = null;
+        for (TPS point : data) {
+            if (previous != null && point.getDate() - previous.getDate() > TimeUnit.MINUTES.toMillis(3L)) {
+                downTime += point.getDate() - previous.getDate();
+            }
+            previous = point;
+        }
+        return downTime;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.NotReadyException;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MethodWrapper} invocation throughput against calling the provider method with reflection.
+ * <p>
+ * The reflective benchmark follows the path MethodWrapper used before it was bound to a MethodHandle.
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MethodWrapperBenchmark {
+
+    private BenchmarkExtension extension;
+    private Method method;
+    private MethodWrapper<Long> wrapper;
+    private UUID playerUUID;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        extension = new BenchmarkExtension();
+        method = BenchmarkExtension.class.getMethod("playtime", UUID.class);
+        wrapper = new MethodWrapper<>(method, Long.class);
+        playerUUID = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public long direct() {
+        return extension.playtime(playerUUID);
+    }
+
+    @Benchmark
+    public Long reflective() {
+        try {
+            return Long.class.cast(method.invoke(extension, playerUUID));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof NotReadyException) {
+                return null;
+            }
+            throw new IllegalArgumentException(e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Benchmark
+    public Long methodWrapper() {
+        return wrapper.callMethod(extension, playerUUID, null);
+    }
+
+    public static class BenchmarkExtension implements DataExtension {
+
+        private long counter;
+
+        public long playtime(UUID playerUUID) {
+            return playerUUID.getLeastSignificantBits() + counter++;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Compares joining plan_sessions to plan_users and plan_servers on UUID strings against joining on the integer IDs.
+ * <p>
+ * Uses an in-memory H2 database with a generated dataset, tables and indexes are created with the same SQL as Plan.
+ * Example: gradlew :common:jmh -Pjmh="IntegerIDJoinBenchmark -f 1 -p sessions=100000"
+ *
+ * @author Rsl1122
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntegerIDJoinBenchmark {
+
+    private static final String JOIN_ON_UUID = SELECT + "u." + UsersTable.USER_NAME + ",server." + ServerTable.NAME + ",s." + SessionsTable.SESSION_START +
+            FROM + SessionsTable.TABLE_NAME + " s" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=s." + SessionsTable.USER_UUID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_UUID + "=s." + SessionsTable.SERVER_UUID +
+            WHERE + "s." + SessionsTable.SERVER_UUID + "=?";
+    private static final String JOIN_ON_ID = SELECT + "u." + UsersTable.USER_NAME + ",server." + ServerTable.NAME + ",s." + SessionsTable.SESSION_START +
+            FROM + SessionsTable.TABLE_NAME + " s" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID +
+            WHERE + "s." + SessionsTable.SERVER_ID + "=?";
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"200000"})
+    public int sessions;
+
+    private Connection connection;
+    private UUID serverUUID;
+    private int serverID;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:plan_benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(ServerTable.createTableSQL(DBType.H2));
+            statement.execute(UsersTable.createTableSQL(DBType.H2));
+            statement.execute(SessionsTable.createTableSQL(DBType.H2));
+            statement.execute("CREATE INDEX plan_sessions_uuid_index ON " + SessionsTable.TABLE_NAME + " (" + SessionsTable.USER_UUID + ',' + SessionsTable.SERVER_UUID + ')');
+            statement.execute("CREATE INDEX plan_sessions_server_uuid_index ON " + SessionsTable.TABLE_NAME + " (" + SessionsTable.SERVER_UUID + ')');
+            statement.execute("CREATE INDEX plan_sessions_id_index ON " + SessionsTable.TABLE_NAME + " (" + SessionsTable.USER_ID + ',' + SessionsTable.SERVER_ID + ')');
+            statement.execute("CREATE INDEX plan_sessions_server_id_index ON " + SessionsTable.TABLE_NAME + " (" + SessionsTable.SERVER_ID + ')');
+        }
+        generateData();
+    }
+
+    private void generateData() throws SQLException {
+        Random random = new Random(1234L);
+        List<UUID> serverUUIDs = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(ServerTable.INSERT_STATEMENT)) {
+            for (int i = 0; i < 3; i++) {
+                UUID uuid = UUID.randomUUID();
+                serverUUIDs.add(uuid);
+                statement.setString(1, uuid.toString());
+                statement.setString(2, "Server " + i);
+                statement.setString(3, "http://localhost:" + (8804 + i));
+                statement.setBoolean(4, true);
+                statement.setInt(5, 100);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        serverUUID = serverUUIDs.get(0);
+        serverID = 1;
+
+        List<UUID> playerUUIDs = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(UsersTable.INSERT_STATEMENT)) {
+            for (int i = 0; i < users; i++) {
+                UUID uuid = UUID.randomUUID();
+                playerUUIDs.add(uuid);
+                statement.setString(1, uuid.toString());
+                statement.setString(2, "Player" + i);
+                statement.setLong(3, 0L);
+                statement.setInt(4, 0);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(SessionsTable.INSERT_STATEMENT)) {
+            for (int i = 0; i < sessions; i++) {
+                String playerUUID = playerUUIDs.get(random.nextInt(users)).toString();
+                String sessionServerUUID = serverUUIDs.get(random.nextInt(serverUUIDs.size())).toString();
+                long start = random.nextInt(Integer.MAX_VALUE) * 1000L;
+                statement.setString(1, playerUUID);
+                statement.setLong(2, start);
+                statement.setLong(3, start + random.nextInt(3600000));
+                statement.setInt(4, 0);
+                statement.setInt(5, 0);
+                statement.setLong(6, 0L);
+                statement.setString(7, sessionServerUUID);
+                statement.setString(8, playerUUID);
+                statement.setString(9, sessionServerUUID);
+                statement.addBatch();
+                if (i % 10000 == 0) statement.executeBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long joinOnUUID() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(JOIN_ON_UUID)) {
+            statement.setString(1, serverUUID.toString());
+            return sumResults(statement);
+        }
+    }
+
+    @Benchmark
+    public long joinOnID() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(JOIN_ON_ID)) {
+            statement.setInt(1, serverID);
+            return sumResults(statement);
+        }
+    }
+
+    private long sumResults(PreparedStatement statement) throws SQLException {
+        long sum = 0L;
+        try (ResultSet set = statement.executeQuery()) {
+            while (set.next()) {
+                sum += set.getString(1).length() + set.getString(2).length() + set.getLong(3);
+            }
+        }
+        return sum;
+    }
+}
@@ -26,6 +26,7 @@ import com.djrapitops.plan.delivery.webserver.WebServerSystem;
 import com.djrapitops.plan.exceptions.EnableException;
 import com.djrapitops.plan.extension.ExtensionService;
 import com.djrapitops.plan.extension.ExtensionServiceImplementation;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.gathering.cache.CacheSystem;
 import com.djrapitops.plan.gathering.importing.ImportSystem;
 import com.djrapitops.plan.gathering.listeners.ListenerSystem;
@@ -75,6 +76,7 @@ public class PlanSystem implements SubSystem {
     private final ImportSystem importSystem;
     private final ExportSystem exportSystem;
     private final DeliveryUtilities deliveryUtilities;
+    private final ExtensionMethodExecutor extensionMethodExecutor;
     private final ExtensionServiceImplementation extensionService;
     private final QueryServiceImplementation queryService;
     private final SettingsServiceImplementation settingsService;
@@ -97,6 +99,7 @@ public class PlanSystem implements SubSystem {
             ImportSystem importSystem,
             ExportSystem exportSystem,
             DeliveryUtilities deliveryUtilities,
+            ExtensionMethodExecutor extensionMethodExecutor,
             ExtensionServiceImplementation extensionService,
             QueryServiceImplementation queryService,
             SettingsServiceImplementation settingsService,
@@ -118,6 +121,7 @@ public class PlanSystem implements SubSystem {
         this.importSystem = importSystem;
         this.exportSystem = exportSystem;
         this.deliveryUtilities = deliveryUtilities;
+        this.extensionMethodExecutor = extensionMethodExecutor;
         this.extensionService = extensionService;
         this.queryService = queryService;
         this.settingsService = settingsService;
@@ -156,6 +160,7 @@ public class PlanSystem implements SubSystem {
                 databaseSystem,
                 webServerSystem,
                 processing,
+                extensionMethodExecutor,
                 serverInfo,
                 importSystem,
                 exportSystem,
@@ -193,6 +198,7 @@ public class PlanSystem implements SubSystem {
                 importSystem,
                 exportSystem,
                 processing,
+                extensionMethodExecutor,
                 databaseSystem,
                 webServerSystem,
                 serverInfo,
@@ -118,7 +118,10 @@ public class ManageMoveCommand extends CommandNode {
             try {
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
-                toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+                toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase,
+                        (table, rowsCopied, rowsPerSecond) ->
+                                sender.sendMessage(locale.getString(ManageLang.PROGRESS_COPY, table, rowsCopied, rowsPerSecond))
+                )).get();
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
 
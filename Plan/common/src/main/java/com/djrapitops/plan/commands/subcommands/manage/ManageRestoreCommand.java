@@ -129,7 +129,10 @@ public class ManageRestoreCommand extends CommandNode {
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
-                database.executeTransaction(new BackupCopyTransaction(backupDB, database)).get();
+                database.executeTransaction(new BackupCopyTransaction(backupDB, database,
+                        (table, rowsCopied, rowsPerSecond) ->
+                                sender.sendMessage(locale.getString(ManageLang.PROGRESS_COPY, table, rowsCopied, rowsPerSecond))
+                )).get();
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
             } catch (InterruptedException e) {
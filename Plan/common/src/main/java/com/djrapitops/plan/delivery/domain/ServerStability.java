@@ -0,0 +1,42 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+/**
+ * Low TPS spikes and downtime of a server during a time range.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.storage.database.queries.objects.TPSQueries#fetchServerStabilityOfAllServers(long, long, int)
+ */
+public class ServerStability {
+
+    private final int lowTpsSpikeCount;
+    private final long downTime;
+
+    public ServerStability(int lowTpsSpikeCount, long downTime) {
+        this.lowTpsSpikeCount = lowTpsSpikeCount;
+        this.downTime = downTime;
+    }
+
+    public int getLowTpsSpikeCount() {
+        return lowTpsSpikeCount;
+    }
+
+    public long getDownTime() {
+        return downTime;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Collection;
+
+/**
+ * Totals of sessions calculated by the database instead of from every session.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.storage.database.queries.objects.SessionQueries#summaryOfPlayerPerServer(long, long, java.util.UUID)
+ */
+public class SessionSummary {
+
+    private int sessionCount;
+    private long playtime;
+    private long afkTime;
+    private long longestSession;
+    private int mobKills;
+    private int deaths;
+    private long lastSeen;
+
+    public SessionSummary() {
+        // Empty summary, add to it.
+    }
+
+    public SessionSummary(
+            int sessionCount, long playtime, long afkTime, long longestSession,
+            int mobKills, int deaths, long lastSeen
+    ) {
+        this.sessionCount = sessionCount;
+        this.playtime = playtime;
+        this.afkTime = afkTime;
+        this.longestSession = longestSession;
+        this.mobKills = mobKills;
+        this.deaths = deaths;
+        this.lastSeen = lastSeen;
+    }
+
+    public static SessionSummary combine(Collection<SessionSummary> summaries) {
+        SessionSummary combined = new SessionSummary();
+        for (SessionSummary summary : summaries) {
+            combined.add(summary);
+        }
+        return combined;
+    }
+
+    public SessionSummary add(SessionSummary other) {
+        sessionCount += other.sessionCount;
+        playtime += other.playtime;
+        afkTime += other.afkTime;
+        longestSession = Math.max(longestSession, other.longestSession);
+        mobKills += other.mobKills;
+        deaths += other.deaths;
+        lastSeen = Math.max(lastSeen, other.lastSeen);
+        return this;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public long getActivePlaytime() {
+        return playtime - afkTime;
+    }
+
+    public long getAfkTime() {
+        return afkTime;
+    }
+
+    public long getLongestSession() {
+        return longestSession;
+    }
+
+    public long getAverageSessionLength() {
+        return sessionCount != 0 ? playtime / sessionCount : 0L;
+    }
+
+    public int getMobKills() {
+        return mobKills;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    public long getLastSeen() {
+        return lastSeen;
+    }
+}
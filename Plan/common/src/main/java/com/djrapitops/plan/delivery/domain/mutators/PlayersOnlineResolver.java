@@ -16,49 +16,48 @@
  */
 package com.djrapitops.plan.delivery.domain.mutators;
 
-import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 
 /**
- * Resolves dates into players online numbers with a help of a NavigableMap.
+ * Resolves dates into players online numbers with a binary search over date ordered TPS data.
  * <p>
- * Time Complexity of O(n / 2) with the use of TreeMap.
+ * Time Complexity of O(log n).
  *
  * @author Rsl1122
  */
-public class PlayersOnlineResolver extends TreeMap<Long, Integer> {
+public class PlayersOnlineResolver {
+
+    private final TPSColumns tpsData;
 
     public PlayersOnlineResolver(TPSMutator mutator) {
-        List<Point> points = mutator.playersOnlinePoints();
-        for (Point point : points) {
-            double date = point.getX();
-            double value = point.getY();
-            put((long) date, (int) value);
-        }
+        this(mutator.getColumns());
+    }
+
+    public PlayersOnlineResolver(TPSColumns tpsData) {
+        this.tpsData = tpsData;
     }
 
     public Optional<Integer> getOnlineOn(long date) {
-        Map.Entry<Long, Integer> entry = floorEntry(date);
-        if (entry == null) {
+        int online = tpsData.getPlayersOnlineOn(date);
+        if (online == -1) {
             return Optional.empty();
         }
-        return Optional.of(entry.getValue());
+        return Optional.of(online);
     }
 
     public int findLonelyJoins(List<Long> joinDates) {
         int lonely = 0;
         for (Long joinDate : joinDates) {
-            if (getOnlineOn(joinDate).orElse(-1) == 0) lonely++;
+            if (tpsData.getPlayersOnlineOn(joinDate) == 0) lonely++;
         }
         return lonely;
     }
 
     public boolean isServerOnline(long date, long timeLimit) {
-        Long lastEntry = floorKey(date);
-        return date - lastEntry < timeLimit;
+        long lastEntry = tpsData.getLatestDateOn(date);
+        return lastEntry != -1 && date - lastEntry < timeLimit;
     }
-}
\ No newline at end of file
+}
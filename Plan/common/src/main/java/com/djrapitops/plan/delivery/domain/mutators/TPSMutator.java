@@ -20,12 +20,11 @@ import com.djrapitops.plan.delivery.domain.container.DataContainer;
 import com.djrapitops.plan.delivery.domain.keys.ServerKeys;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
 import com.djrapitops.plan.gathering.domain.TPS;
-import com.djrapitops.plan.utilities.comparators.TPSComparator;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -33,14 +32,19 @@ import java.util.stream.Collectors;
  * Mutator for a list of TPS data.
  * <p>
  * Can be used to get properties of a large number of TPS entries easily.
+ * The data is held as {@link TPSColumns}, so filtering by date does not copy the data.
  *
  * @author Rsl1122
  */
 public class TPSMutator {
 
-    private final List<TPS> tpsData;
+    private final TPSColumns tpsData;
 
     public TPSMutator(List<TPS> tpsData) {
+        this(TPSColumns.of(tpsData));
+    }
+
+    public TPSMutator(TPSColumns tpsData) {
         this.tpsData = tpsData;
     }
 
@@ -49,215 +53,161 @@ public class TPSMutator {
     }
 
     public static TPSMutator copyOf(TPSMutator mutator) {
-        return new TPSMutator(new ArrayList<>(mutator.tpsData));
+        // Columns are never modified
+        return new TPSMutator(mutator.tpsData);
     }
 
     public TPSMutator filterBy(Predicate<TPS> filter) {
-        return new TPSMutator(tpsData.stream()
+        return new TPSMutator(all().stream()
                 .filter(filter)
                 .collect(Collectors.toList()));
     }
 
     public TPSMutator filterDataBetween(long after, long before) {
-        return filterBy(tps -> tps.getDate() >= after && tps.getDate() <= before);
+        return new TPSMutator(tpsData.between(after, before));
     }
 
     public TPSMutator filterTPSBetween(int above, int below) {
-        return filterBy(tps -> tps.getTicksPerSecond() > above && tps.getTicksPerSecond() < below);
+        return new TPSMutator(tpsData.filterTPSBetween(above, below));
     }
 
+    /**
+     * Get the data as TPS objects.
+     *
+     * @return New list of TPS in date order.
+     */
     public List<TPS> all() {
+        return tpsData.toList();
+    }
+
+    public TPSColumns getColumns() {
         return tpsData;
     }
 
     public List<Point> playersOnlinePoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getPlayers()))
-                .collect(Collectors.toList());
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(tpsData.getDate(i), tpsData.getPlayers(i)));
+        }
+        return points;
     }
 
     public List<Point> tpsPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getTicksPerSecond()))
-                .collect(Collectors.toList());
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(tpsData.getDate(i), tpsData.getTicksPerSecond(i)));
+        }
+        return points;
     }
 
     public List<Point> cpuPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getCPUUsage()))
-                .filter(point -> point.getY() != -1)
-                .collect(Collectors.toList());
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double cpu = tpsData.getCPUUsage(i);
+            if (cpu != -1) {
+                points.add(new Point(tpsData.getDate(i), cpu));
+            }
+        }
+        return points;
     }
 
     public List<Point> ramUsagePoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getUsedMemory()))
-                .collect(Collectors.toList());
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(tpsData.getDate(i), tpsData.getUsedMemory(i)));
+        }
+        return points;
     }
 
     public List<Point> entityPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getEntityCount()))
-                .collect(Collectors.toList());
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(tpsData.getDate(i), tpsData.getEntityCount(i)));
+        }
+        return points;
     }
 
     public List<Point> chunkPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getChunksLoaded()))
-                .collect(Collectors.toList());
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(tpsData.getDate(i), tpsData.getChunksLoaded(i)));
+        }
+        return points;
     }
 
     public List<Point> freeDiskPoints() {
-        return tpsData.stream()
-                .map(tps -> new Point(tps.getDate(), tps.getFreeDiskSpace()))
-                .filter(point -> point.getY() != -1)
-                .collect(Collectors.toList());
-    }
-
-    public long serverDownTime() {
-        long lastDate = -1;
-        long downTime = 0;
-        tpsData.sort(new TPSComparator());
-        for (TPS tps : tpsData) {
-            long date = tps.getDate();
-            if (lastDate == -1) {
-                lastDate = date;
-                continue;
-            }
-
-            long diff = date - lastDate;
-            if (diff > TimeUnit.MINUTES.toMillis(3L)) {
-                downTime += diff;
+        int size = tpsData.size();
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long freeDisk = tpsData.getFreeDiskSpace(i);
+            if (freeDisk != -1) {
+                points.add(new Point(tpsData.getDate(i), freeDisk));
             }
-            lastDate = date;
         }
+        return points;
+    }
 
-        return downTime;
+    public long serverDownTime() {
+        return tpsData.serverDownTime();
     }
 
     public long serverOccupiedTime() {
-        long lastDate = -1;
-        long activeTime = 0;
-        tpsData.sort(new TPSComparator());
-        for (TPS tps : tpsData) {
-            long date = tps.getDate();
-            if (lastDate == -1) {
-                lastDate = date;
-                continue;
-            }
-
-            int players = tps.getPlayers();
-            long diff = date - lastDate;
-            if (players > 0 && diff <= TimeUnit.MINUTES.toMillis(3L)) {
-                activeTime += diff;
-            }
-
-            lastDate = date;
-        }
-
-        return activeTime;
+        return tpsData.serverOccupiedTime();
     }
 
     public double percentageTPSAboveThreshold(int threshold) {
-        if (tpsData.isEmpty()) {
-            return 1;
-        }
-
-        long count = 0;
-        for (TPS tps : tpsData) {
-            if (tps.getTicksPerSecond() >= threshold) {
-                count++;
-            }
-        }
-
-        return count * 1.0 / tpsData.size();
+        return tpsData.percentageTPSAboveThreshold(threshold);
     }
 
     public int lowTpsSpikeCount(int threshold) {
-        boolean wasLow = false;
-        int spikeCount = 0;
-
-        for (TPS tpsObj : tpsData) {
-            double tps = tpsObj.getTicksPerSecond();
-            if (tps < threshold) {
-                if (!wasLow) {
-                    spikeCount++;
-                    wasLow = true;
-                }
-            } else {
-                wasLow = false;
-            }
-        }
-
-        return spikeCount;
+        return tpsData.lowTpsSpikeCount(threshold);
     }
 
     public double averageTPS() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getTicksPerSecond)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return tpsData.averageTPS();
     }
 
     public double averageCPU() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getCPUUsage)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return tpsData.averageCPU();
     }
 
     public double averageRAM() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getUsedMemory)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return tpsData.averageRAM();
     }
 
     public double averageEntities() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getEntityCount)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return tpsData.averageEntities();
     }
 
     public double averageChunks() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getChunksLoaded)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return tpsData.averageChunks();
     }
 
     public double averageFreeDisk() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getFreeDiskSpace)
-                .filter(num -> num >= 0)
-                .average().orElse(-1);
+        return tpsData.averageFreeDisk();
     }
 
     public long maxFreeDisk() {
-        return tpsData.stream()
-                .mapToLong(TPS::getFreeDiskSpace)
-                .filter(num -> num >= 0)
-                .max().orElse(-1);
+        return tpsData.maxFreeDisk();
     }
 
     public long minFreeDisk() {
-        return tpsData.stream()
-                .mapToLong(TPS::getFreeDiskSpace)
-                .filter(num -> num >= 0)
-                .min().orElse(-1);
+        return tpsData.minFreeDisk();
     }
 
     public double averagePlayersOnline() {
-        return tpsData.stream()
-                .mapToDouble(TPS::getPlayers)
-                .average().orElse(-1);
+        return tpsData.averagePlayersOnline();
     }
 
     public Optional<TPS> getLast() {
         if (tpsData.isEmpty()) return Optional.empty();
         // else
-        tpsData.sort(new TPSComparator());
-        return Optional.of(tpsData.get(tpsData.size() - 1));
+        return Optional.of(tpsData.getTPS(tpsData.size() - 1));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.export;
+
+import com.djrapitops.plan.exceptions.connection.NotFoundException;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Exports resources concurrently on a bounded pool of threads.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ExportExecutor {
+
+    private static final int EXPORT_THREADS = 4;
+
+    private final ErrorHandler errorHandler;
+
+    private ExecutorService executor;
+
+    @Inject
+    public ExportExecutor(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    public void enable() {
+        if (executor == null || executor.isShutdown()) {
+            executor = Executors.newFixedThreadPool(EXPORT_THREADS, new BasicThreadFactory.Builder()
+                    .namingPattern("Plan Export-pool-%d")
+                    .daemon(true)
+                    .uncaughtExceptionHandler((thread, throwable) ->
+                            errorHandler.log(L.WARN, ExportExecutor.class, throwable)
+                    ).build());
+        }
+    }
+
+    public void disable() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Export each resource concurrently and wait for all of them to finish.
+     *
+     * @param resources Resources to export.
+     * @param export    Action that exports a single resource.
+     * @throws IOException       If a resource could not be written, or the export was interrupted.
+     * @throws NotFoundException If a resource could not be found.
+     */
+    public void exportAll(String[] resources, ResourceExport export) throws IOException, NotFoundException {
+        ExecutorService pool = executor;
+        if (resources.length <= 1 || pool == null || pool.isShutdown()) {
+            for (String resource : resources) {
+                export.export(resource);
+            }
+            return;
+        }
+
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            for (String resource : resources) {
+                futures.add(pool.submit(() -> {
+                    export.export(resource);
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (RejectedExecutionException shutdown) {
+            throw new IOException("Export was stopped as the plugin is disabling", shutdown);
+        } catch (ExecutionException failed) {
+            throw rethrow(failed.getCause());
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Export was interrupted");
+        } finally {
+            // Exports that have not started are skipped if one of them failed, running ones are not interrupted mid-write.
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private IOException rethrow(Throwable cause) throws NotFoundException {
+        if (cause instanceof NotFoundException) throw (NotFoundException) cause;
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        if (cause instanceof IOException) return (IOException) cause;
+        return new IOException(cause);
+    }
+
+    /**
+     * Functional interface for exporting a single resource.
+     */
+    public interface ResourceExport {
+        void export(String resource) throws IOException, NotFoundException;
+    }
+}
@@ -18,30 +18,33 @@ package com.djrapitops.plan.delivery.export;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Export utility that takes care of path replacement for different resources referenced in other files.
+ * <p>
+ * Thread safe, as resources are exported concurrently.
  *
  * @author Rsl1122
  */
 public class ExportPaths {
 
-    private final List<String> replace;
-    private final List<String> with;
+    private final Map<String, String> replacements;
 
     public ExportPaths() {
-        replace = new ArrayList<>();
-        with = new ArrayList<>();
+        replacements = new LinkedHashMap<>();
     }
 
-    public String resolveExportPaths(String original) {
-        return StringUtils.replaceEach(original, replace.toArray(new String[0]), with.toArray(new String[0]));
+    public synchronized String resolveExportPaths(String original) {
+        return StringUtils.replaceEach(original,
+                replacements.keySet().toArray(new String[0]),
+                replacements.values().toArray(new String[0])
+        );
     }
 
-    public void put(String replace, String with) {
-        this.replace.add(replace);
-        this.with.add(with);
+    public synchronized void put(String replace, String with) {
+        // Same paths are put on every export, so they are replaced instead of added again.
+        replacements.put(replace, with);
     }
 }
\ No newline at end of file
@@ -68,6 +68,16 @@ public class ExportScheduler {
     public void scheduleExport() {
         scheduleServerPageExport();
         schedulePlayersPageExport();
+        scheduleChangedPlayersExport();
+    }
+
+    private void scheduleChangedPlayersExport() {
+        if (!config.get(ExportSettings.PLAYER_PAGES) && !config.get(ExportSettings.PLAYER_JSON)) return;
+
+        long period = TimeAmount.toTicks(config.get(ExportSettings.EXPORT_PERIOD), TimeUnit.MILLISECONDS);
+        taskSystem.registerTask("Changed players export",
+                new ExportTask(exporter, Exporter::exportChangedPlayers, logger, errorHandler)
+        ).runTaskTimerAsynchronously(period, period);
     }
 
     private void schedulePlayersPageExport() {
@@ -17,7 +17,10 @@
 package com.djrapitops.plan.delivery.export;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.ExportSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
@@ -33,23 +36,38 @@ import javax.inject.Singleton;
 @Singleton
 public class ExportSystem implements SubSystem {
 
+    private final PlanConfig config;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final SessionCache sessionCache;
+    private final PlayerChangeQueue playerChangeQueue;
     private final ExportScheduler exportScheduler;
+    private final ExportExecutor exportExecutor;
 
     @Inject
     public ExportSystem(
+            PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            ExportScheduler exportScheduler
+            SessionCache sessionCache,
+            PlayerChangeQueue playerChangeQueue,
+            ExportScheduler exportScheduler,
+            ExportExecutor exportExecutor
     ) {
+        this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.sessionCache = sessionCache;
+        this.playerChangeQueue = playerChangeQueue;
         this.exportScheduler = exportScheduler;
+        this.exportExecutor = exportExecutor;
     }
 
     @Override
     public void enable() {
+        // Player pages are exported on join and leave even when the proxy exports the rest.
+        exportExecutor.enable();
+
         Database database = dbSystem.getDatabase();
         boolean hasProxy = database.query(ServerQueries.fetchProxyServerInformation()).isPresent();
         if (serverInfo.getServer().isNotProxy() && hasProxy) {
@@ -57,10 +75,16 @@ public class ExportSystem implements SubSystem {
         }
 
         exportScheduler.scheduleExport();
+        if (config.get(ExportSettings.PLAYER_PAGES) || config.get(ExportSettings.PLAYER_JSON)) {
+            // Players whose session ended are exported periodically, see ExportScheduler.
+            sessionCache.registerSessionEndListener(playerChangeQueue);
+        }
     }
 
     @Override
     public void disable() {
-        // Nothing to disable
+        sessionCache.unregisterSessionEndListener(playerChangeQueue);
+        playerChangeQueue.clear();
+        exportExecutor.disable();
     }
 }
\ No newline at end of file
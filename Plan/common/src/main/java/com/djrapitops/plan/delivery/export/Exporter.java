@@ -22,6 +22,9 @@ import com.djrapitops.plan.exceptions.connection.NotFoundException;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.ExportSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.storage.file.PlanFiles;
 
 import javax.inject.Inject;
@@ -30,8 +33,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles export for different pages.
@@ -41,13 +46,18 @@ import java.util.UUID;
 @Singleton
 public class Exporter extends FileExporter {
 
+    // Sessions are stored asynchronously, and on a network by the server the player was on.
+    private static final long SESSION_STORE_DELAY_MS = TimeUnit.SECONDS.toMillis(30L);
+
     private final PlanFiles files;
     private final PlanConfig config;
+    private final DBSystem dbSystem;
     private final PlayerJSONExporter playerJSONExporter;
     private final PlayerPageExporter playerPageExporter;
     private final PlayersPageExporter playersPageExporter;
     private final ServerPageExporter serverPageExporter;
     private final NetworkPageExporter networkPageExporter;
+    private final PlayerChangeQueue playerChangeQueue;
 
     private final Set<UUID> failedServers;
 
@@ -55,19 +65,23 @@ public class Exporter extends FileExporter {
     public Exporter(
             PlanFiles files,
             PlanConfig config,
+            DBSystem dbSystem,
             PlayerJSONExporter playerJSONExporter,
             PlayerPageExporter playerPageExporter,
             PlayersPageExporter playersPageExporter,
             ServerPageExporter serverPageExporter,
-            NetworkPageExporter networkPageExporter
+            NetworkPageExporter networkPageExporter,
+            PlayerChangeQueue playerChangeQueue
     ) {
         this.files = files;
         this.config = config;
+        this.dbSystem = dbSystem;
         this.playerJSONExporter = playerJSONExporter;
         this.playerPageExporter = playerPageExporter;
         this.playersPageExporter = playersPageExporter;
         this.serverPageExporter = serverPageExporter;
         this.networkPageExporter = networkPageExporter;
+        this.playerChangeQueue = playerChangeQueue;
 
         failedServers = new HashSet<>();
     }
@@ -180,4 +194,39 @@ public class Exporter extends FileExporter {
             throw new ExportException("Failed to export player: " + playerName + ", " + e.toString(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Export pages and Raw Data JSON of players whose session has ended since the previous call.
+     * <p>
+     * Players whose session ended very recently are left for the next call, as the session might not be stored yet.
+     *
+     * @return false if nothing was exported due to config settings.
+     * @throws ExportException If the export of a player failed, the rest of the players are still exported.
+     */
+    public boolean exportChangedPlayers() throws ExportException {
+        boolean exportPages = config.get(ExportSettings.PLAYER_PAGES);
+        boolean exportJSON = config.get(ExportSettings.PLAYER_JSON);
+        if (!exportPages && !exportJSON) return false;
+
+        Set<UUID> changed = playerChangeQueue.pollChangedBefore(System.currentTimeMillis() - SESSION_STORE_DELAY_MS);
+        Database database = dbSystem.getDatabase();
+        ExportException firstFailure = null;
+        for (UUID playerUUID : changed) {
+            Optional<String> playerName = database.query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID));
+            if (!playerName.isPresent()) continue;
+
+            try {
+                if (exportJSON) exportPlayerJSON(playerUUID, playerName.get());
+                if (exportPages) exportPlayerPage(playerUUID, playerName.get());
+            } catch (ExportException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                } else {
+                    firstFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (firstFailure != null) throw firstFailure;
+        return true;
+    }
+}
@@ -19,6 +19,7 @@ package com.djrapitops.plan.delivery.export;
 import com.djrapitops.plan.storage.file.Resource;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -29,17 +30,28 @@ import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Code that handles writing the actual files that are exported.
+ * <p>
+ * Files are only written if their contents changed, which is checked with a SHA-256 hash of the contents.
  *
  * @author Rsl1122
  */
 abstract class FileExporter {
 
     private static final OpenOption[] OPEN_OPTIONS = {StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE};
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    // Hashes of the files written by this process, so that unchanged files don't need to be read to compare.
+    private static final Map<Path, String> WRITTEN_HASHES = new ConcurrentHashMap<>();
 
     private static void copy(InputStream in, OutputStream out) throws IOException {
         int read;
@@ -50,25 +62,55 @@ abstract class FileExporter {
         }
     }
 
+    private static String hashOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    private static boolean isUpToDate(Path to, String hash) throws IOException {
+        if (!Files.isRegularFile(to)) return false;
+
+        String previous = WRITTEN_HASHES.get(to);
+        if (previous == null) {
+            // File was written before a reload, or by someone else.
+            previous = hashOf(Files.readAllBytes(to));
+        }
+        return hash.equals(previous);
+    }
+
+    private void write(Path to, byte[] content) throws IOException {
+        String hash = hashOf(content);
+        if (!isUpToDate(to, hash)) {
+            Files.createDirectories(to.getParent());
+            Files.write(to, content, OPEN_OPTIONS);
+        }
+        WRITTEN_HASHES.put(to, hash);
+    }
+
     void export(Path to, List<String> content) throws IOException {
-        Files.createDirectories(to.getParent());
-        Files.write(to, content, StandardCharsets.UTF_8, OPEN_OPTIONS);
+        // Same output as Files.write(Path, Iterable, Charset, OpenOption...)
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String line : content) {
+            out.write(line.getBytes(StandardCharsets.UTF_8));
+            out.write(LINE_SEPARATOR);
+        }
+        write(to, out.toByteArray());
     }
 
     void export(Path to, String content) throws IOException {
-        Files.createDirectories(to.getParent());
-        Files.write(to, Arrays.asList(StringUtils.split(content, "\r\n")), StandardCharsets.UTF_8, OPEN_OPTIONS);
+        export(to, Arrays.asList(StringUtils.split(content, "\r\n")));
     }
 
     void export(Path to, Resource resource) throws IOException {
-        Files.createDirectories(to.getParent());
-
-        try (
-                InputStream in = resource.asInputStream();
-                OutputStream out = Files.newOutputStream(to, OPEN_OPTIONS)
-        ) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = resource.asInputStream()) {
             copy(in, out);
         }
+        write(to, out.toByteArray());
     }
 
     String toFileName(String resourceName) {
@@ -83,4 +125,4 @@ abstract class FileExporter {
         }
     }
 
-}
\ No newline at end of file
+}
@@ -55,6 +55,7 @@ public class NetworkPageExporter extends FileExporter {
     private final Locale locale;
     private final Theme theme;
 
+    private final ExportExecutor exportExecutor;
     private final ExportPaths exportPaths;
 
     @Inject
@@ -64,7 +65,8 @@ public class NetworkPageExporter extends FileExporter {
             PageFactory pageFactory,
             RootJSONResolver jsonHandler,
             Locale locale,
-            Theme theme
+            Theme theme,
+            ExportExecutor exportExecutor
     ) {
         this.files = files;
         this.dbSystem = dbSystem;
@@ -72,6 +74,7 @@ public class NetworkPageExporter extends FileExporter {
         this.jsonHandler = jsonHandler;
         this.locale = locale;
         this.theme = theme;
+        this.exportExecutor = exportExecutor;
 
         exportPaths = new ExportPaths();
     }
@@ -108,16 +111,13 @@ public class NetworkPageExporter extends FileExporter {
                 "graph?type=serverPie",
                 "graph?type=activity",
                 "graph?type=geolocation",
-                "graph?type=uniqueAndNew",
                 "network/pingTable",
                 "sessions"
         );
     }
 
     private void exportJSON(Path toDirectory, String... resources) throws NotFoundException, IOException {
-        for (String resource : resources) {
-            exportJSON(toDirectory, resource);
-        }
+        exportExecutor.exportAll(resources, resource -> exportJSON(toDirectory, resource));
     }
 
     private void exportJSON(Path toDirectory, String resource) throws NotFoundException, IOException {
@@ -0,0 +1,80 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.export;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.cache.SessionEndListener;
+import com.djrapitops.plan.gathering.domain.Session;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of players whose data has changed since their page was last exported.
+ * <p>
+ * Players are marked when their session ends, while {@link ExportSystem} has registered this queue to
+ * {@link com.djrapitops.plan.gathering.cache.SessionCache}.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlayerChangeQueue implements SessionEndListener {
+
+    // Player UUID - Epoch ms of the last change
+    private final Map<UUID, Long> changed;
+
+    @Inject
+    public PlayerChangeQueue() {
+        changed = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void sessionEnded(Session session) {
+        markChanged(session.getUnsafe(SessionKeys.UUID), session.getUnsafe(SessionKeys.END));
+    }
+
+    public void markChanged(UUID playerUUID, long time) {
+        changed.merge(playerUUID, time, Math::max);
+    }
+
+    /**
+     * Remove players whose last change happened before given time.
+     * <p>
+     * Players that changed after the time are left in the queue, as their data might not be stored yet.
+     *
+     * @param before Epoch ms.
+     * @return UUIDs of the removed players.
+     */
+    public Set<UUID> pollChangedBefore(long before) {
+        Set<UUID> polled = new HashSet<>();
+        for (Map.Entry<UUID, Long> entry : changed.entrySet()) {
+            UUID playerUUID = entry.getKey();
+            Long changedAt = entry.getValue();
+            // Conditional remove so that a change made during polling is not lost
+            if (changedAt < before && changed.remove(playerUUID, changedAt)) {
+                polled.add(playerUUID);
+            }
+        }
+        return polled;
+    }
+
+    public void clear() {
+        changed.clear();
+    }
+}
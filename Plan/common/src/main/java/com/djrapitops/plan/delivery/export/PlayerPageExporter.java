@@ -56,6 +56,7 @@ public class PlayerPageExporter extends FileExporter {
     private final Locale locale;
     private final Theme theme;
 
+    private final ExportExecutor exportExecutor;
     private final ExportPaths exportPaths;
 
     @Inject
@@ -65,7 +66,8 @@ public class PlayerPageExporter extends FileExporter {
             PageFactory pageFactory,
             RootJSONResolver jsonHandler,
             Locale locale,
-            Theme theme
+            Theme theme,
+            ExportExecutor exportExecutor
     ) {
         this.files = files;
         this.dbSystem = dbSystem;
@@ -73,6 +75,7 @@ public class PlayerPageExporter extends FileExporter {
         this.jsonHandler = jsonHandler;
         this.locale = locale;
         this.theme = theme;
+        this.exportExecutor = exportExecutor;
 
         exportPaths = new ExportPaths();
     }
@@ -103,10 +106,13 @@ public class PlayerPageExporter extends FileExporter {
     }
 
     private void exportJSON(Path toDirectory, UUID playerUUID, String playerName) throws IOException, NotFoundException {
-        exportJSON(toDirectory, "player?player=" + playerUUID, playerName);
+        // Only the first page of sessions and kills is exported, the page loads the rest on demand.
+        exportExecutor.exportAll(new String[]{"player", "playerSessions", "playerKills", "playerCalendar"},
+                endpoint -> exportJSON(toDirectory, endpoint, playerUUID, playerName));
     }
 
-    private void exportJSON(Path toDirectory, String resource, String playerName) throws NotFoundException, IOException {
+    private void exportJSON(Path toDirectory, String endpoint, UUID playerUUID, String playerName) throws NotFoundException, IOException {
+        String resource = endpoint + "?player=" + playerUUID;
         Response found = getJSONResponse(resource);
         if (found instanceof ErrorResponse) {
             throw new NotFoundException(resource + " was not properly exported: " + found.getContent());
@@ -115,7 +121,7 @@ public class PlayerPageExporter extends FileExporter {
         String jsonResourceName = toFileName(toJSONResourceName(resource)) + ".json";
 
         export(toDirectory.resolve(jsonResourceName), found.getContent());
-        exportPaths.put("../v1/player?player=" + playerName, "./" + jsonResourceName);
+        exportPaths.put("../v1/" + endpoint + "?player=" + playerName, "./" + jsonResourceName);
     }
 
     private String toJSONResourceName(String resource) {
@@ -58,6 +58,7 @@ public class ServerPageExporter extends FileExporter {
     private final Theme theme;
     private final ServerInfo serverInfo;
 
+    private final ExportExecutor exportExecutor;
     private final ExportPaths exportPaths;
 
     @Inject
@@ -68,7 +69,8 @@ public class ServerPageExporter extends FileExporter {
             RootJSONResolver jsonHandler,
             Locale locale,
             Theme theme,
-            ServerInfo serverInfo // To know if current server is a Proxy
+            ServerInfo serverInfo, // To know if current server is a Proxy
+            ExportExecutor exportExecutor
     ) {
         this.files = files;
         this.pageFactory = pageFactory;
@@ -77,6 +79,7 @@ public class ServerPageExporter extends FileExporter {
         this.locale = locale;
         this.theme = theme;
         this.serverInfo = serverInfo;
+        this.exportExecutor = exportExecutor;
 
         exportPaths = new ExportPaths();
     }
@@ -127,9 +130,7 @@ public class ServerPageExporter extends FileExporter {
     }
 
     private void exportJSON(Path toDirectory, String... resources) throws NotFoundException, IOException {
-        for (String resource : resources) {
-            exportJSON(toDirectory, resource);
-        }
+        exportExecutor.exportAll(resources, resource -> exportJSON(toDirectory, resource));
     }
 
     private void exportJSON(Path toDirectory, String resource) throws NotFoundException, IOException {
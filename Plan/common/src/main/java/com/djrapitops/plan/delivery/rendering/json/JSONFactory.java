@@ -17,9 +17,9 @@
 package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.domain.ServerStability;
 import com.djrapitops.plan.delivery.domain.mutators.PlayerKillMutator;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
@@ -28,7 +28,6 @@ import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.Session;
-import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -79,7 +78,7 @@ public class JSONFactory {
         this.formatters = formatters;
     }
 
-    public String serverPlayersTableJSON(UUID serverUUID) {
+    public StreamableJSON serverPlayersTableJSON(UUID serverUUID) {
         Integer xMostRecentPlayers = config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
         Boolean openPlayerLinksInNewTab = config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
@@ -91,10 +90,10 @@ public class JSONFactory {
                 database.query(new ExtensionServerPlayerDataTableQuery(serverUUID, xMostRecentPlayers)),
                 openPlayerLinksInNewTab,
                 formatters, locale
-        ).toJSONString();
+        );
     }
 
-    public String networkPlayersTableJSON() {
+    public StreamableJSON networkPlayersTableJSON() {
         Integer xMostRecentPlayers = config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
         Boolean openPlayerLinksInNewTab = config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
@@ -106,7 +105,7 @@ public class JSONFactory {
                 Collections.emptyMap(),
                 openPlayerLinksInNewTab,
                 formatters, locale
-        ).toJSONString();
+        );
     }
 
     public List<Map<String, Object>> serverSessionsAsJSONMap(UUID serverUUID) {
@@ -166,14 +165,15 @@ public class JSONFactory {
         Formatter<Long> timeAmount = formatters.timeAmount();
 
         Map<UUID, Server> serverInformation = db.query(ServerQueries.fetchPlanServerInformation());
-        UUID proxyUUID = serverInformation.values().stream()
-                .filter(Server::isProxy)
-                .findFirst()
-                .map(Server::getUuid).orElse(null);
 
-        Map<UUID, List<TPS>> tpsData = db.query(
-                TPSQueries.fetchTPSDataOfAllServersBut(weekAgo, now, proxyUUID)
+        Map<UUID, List<DateObj<Integer>>> playersOnlineData = db.query(
+                TPSQueries.fetchDownsampledPlayersOnlineOfAllServers(weekAgo, now, TimeUnit.HOURS.toMillis(1L))
         );
+        Map<UUID, DateObj<Integer>> recentPeaks = db.query(TPSQueries.fetchPeakPlayerCountsOfAllServers(now - TimeUnit.DAYS.toMillis(2L)));
+        Map<UUID, DateObj<Integer>> allTimePeaks = db.query(TPSQueries.fetchAllTimePeakPlayerCountsOfAllServers());
+        Map<UUID, Double> averageTPSs = db.query(TPSQueries.averageTPSOfAllServers(weekAgo, now));
+        Map<UUID, ServerStability> stabilities = db.query(TPSQueries.fetchServerStabilityOfAllServers(weekAgo, now, config.getNumber(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
+        Map<UUID, DateObj<Integer>> latestPlayersOnline = db.query(TPSQueries.fetchLatestPlayersOnlineOfAllServers(weekAgo));
         Map<UUID, Integer> totalPlayerCounts = db.query(PlayerCountQueries.newPlayerCounts(0, now));
         Map<UUID, Integer> newPlayerCounts = db.query(PlayerCountQueries.newPlayerCounts(weekAgo, now));
         Map<UUID, Integer> uniquePlayerCounts = db.query(PlayerCountQueries.uniquePlayerCounts(weekAgo, now));
@@ -188,30 +188,29 @@ public class JSONFactory {
                     Map<String, Object> server = new HashMap<>();
                     server.put("name", entry.getValue().getIdentifiableName());
 
-                    Optional<DateObj<Integer>> recentPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, now - TimeUnit.DAYS.toMillis(2L)));
-                    Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+                    Optional<DateObj<Integer>> recentPeak = Optional.ofNullable(recentPeaks.get(serverUUID));
+                    Optional<DateObj<Integer>> allTimePeak = Optional.ofNullable(allTimePeaks.get(serverUUID));
                     server.put("last_peak_date", recentPeak.map(DateObj::getDate).map(year).orElse("-"));
                     server.put("best_peak_date", allTimePeak.map(DateObj::getDate).map(year).orElse("-"));
                     server.put("last_peak_players", recentPeak.map(DateObj::getValue).orElse(0));
                     server.put("best_peak_players", allTimePeak.map(DateObj::getValue).orElse(0));
 
-                    TPSMutator tpsMonth = new TPSMutator(tpsData.getOrDefault(serverUUID, Collections.emptyList()));
-                    server.put("playersOnline", tpsMonth.all().stream()
-                            .map(tps -> new double[]{tps.getDate(), tps.getPlayers()})
+                    server.put("playersOnline", playersOnlineData.getOrDefault(serverUUID, Collections.emptyList()).stream()
+                            .map(point -> new double[]{point.getDate(), point.getValue()})
                             .toArray(double[][]::new));
                     server.put("players", totalPlayerCounts.getOrDefault(serverUUID, 0));
                     server.put("new_players", newPlayerCounts.getOrDefault(serverUUID, 0));
                     server.put("unique_players", uniquePlayerCounts.getOrDefault(serverUUID, 0));
-                    TPSMutator tpsWeek = tpsMonth.filterDataBetween(weekAgo, now);
-                    double averageTPS = tpsWeek.averageTPS();
-                    server.put("avg_tps", averageTPS != -1 ? decimals.apply(averageTPS) : locale.get(HtmlLang.UNIT_NO_DATA).toString());
-                    server.put("low_tps_spikes", tpsWeek.lowTpsSpikeCount(config.getNumber(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
-                    server.put("downtime", timeAmount.apply(tpsWeek.serverDownTime()));
-
-                    Optional<TPS> online = tpsWeek.getLast();
-                    server.put("online", online.isPresent() ?
-                            online.get().getDate() >= now - TimeUnit.MINUTES.toMillis(3L) ?
-                                    online.get().getPlayers() : "Possibly offline"
+                    Double averageTPS = averageTPSs.get(serverUUID);
+                    server.put("avg_tps", averageTPS != null ? decimals.apply(averageTPS) : locale.get(HtmlLang.UNIT_NO_DATA).toString());
+                    ServerStability stability = stabilities.getOrDefault(serverUUID, new ServerStability(0, 0L));
+                    server.put("low_tps_spikes", stability.getLowTpsSpikeCount());
+                    server.put("downtime", timeAmount.apply(stability.getDownTime()));
+
+                    DateObj<Integer> online = latestPlayersOnline.get(serverUUID);
+                    server.put("online", online != null ?
+                            online.getDate() >= now - TimeUnit.MINUTES.toMillis(3L) ?
+                                    online.getValue() : "Possibly offline"
                             : locale.get(HtmlLang.UNIT_NO_DATA).toString());
                     servers.add(server);
                 });
@@ -17,31 +17,34 @@
 package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.domain.mutators.PlayersOnlineResolver;
 import com.djrapitops.plan.delivery.domain.mutators.RetentionData;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.cache.TPSCache;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
-import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Online Activity Overview tab.
@@ -53,6 +56,7 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
 
     private final PlanConfig config;
     private final DBSystem dbSystem;
+    private final TPSCache tpsCache;
 
     private final Formatter<Long> timeAmountFormatter;
     private final Formatter<Double> decimalFormatter;
@@ -62,10 +66,12 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
     public OnlineActivityOverviewJSONCreator(
             PlanConfig config,
             DBSystem dbSystem,
+            TPSCache tpsCache,
             Formatters formatters
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
+        this.tpsCache = tpsCache;
 
         timeAmountFormatter = formatters.timeAmount();
         decimalFormatter = formatters.decimals();
@@ -80,7 +86,6 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
     }
 
     private Map<String, Object> createNumbersMap(UUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
@@ -89,49 +94,84 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         int timeZoneOffset = config.getTimeZone().getOffset(now);
         Long playThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+
+        Supplier<Integer> unique30d = batch.add(PlayerCountQueries.uniquePlayerCount(monthAgo, now, serverUUID));
+        Supplier<Integer> uniqueBefore = batch.add(PlayerCountQueries.uniquePlayerCount(monthAgo, halfMonthAgo, serverUUID));
+        Supplier<Integer> uniqueAfter = batch.add(PlayerCountQueries.uniquePlayerCount(halfMonthAgo, now, serverUUID));
+        Supplier<Integer> unique7d = batch.add(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> unique1d = batch.add(PlayerCountQueries.uniquePlayerCount(dayAgo, now, serverUUID));
+
+        Supplier<Integer> uniqueAvg30d = batch.add(PlayerCountQueries.averageUniquePlayerCount(monthAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Integer> uniqueAvgBefore = batch.add(PlayerCountQueries.averageUniquePlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID));
+        Supplier<Integer> uniqueAvgAfter = batch.add(PlayerCountQueries.averageUniquePlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Integer> uniqueAvg7d = batch.add(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Integer> uniqueAvg1d = batch.add(PlayerCountQueries.averageUniquePlayerCount(dayAgo, now, timeZoneOffset, serverUUID));
+
+        Supplier<Integer> new30dResult = batch.add(PlayerCountQueries.newPlayerCount(monthAgo, now, serverUUID));
+        Supplier<Integer> new7dResult = batch.add(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> new1dResult = batch.add(PlayerCountQueries.newPlayerCount(dayAgo, now, serverUUID));
+        Supplier<Integer> newBefore = batch.add(PlayerCountQueries.newPlayerCount(monthAgo, halfMonthAgo, serverUUID));
+        Supplier<Integer> newAfter = batch.add(PlayerCountQueries.newPlayerCount(halfMonthAgo, now, serverUUID));
+
+        Supplier<Integer> newAvg30d = batch.add(PlayerCountQueries.averageNewPlayerCount(monthAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Integer> newAvgBefore = batch.add(PlayerCountQueries.averageNewPlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID));
+        Supplier<Integer> newAvgAfter = batch.add(PlayerCountQueries.averageNewPlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Integer> newAvg7d = batch.add(PlayerCountQueries.averageNewPlayerCount(weekAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Integer> newAvg1d = batch.add(PlayerCountQueries.averageNewPlayerCount(dayAgo, now, timeZoneOffset, serverUUID));
+
+        Supplier<Integer> retained30dResult = batch.add(PlayerCountQueries.retainedPlayerCount(monthAgo, now, serverUUID));
+        Supplier<Integer> retained7dResult = batch.add(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        Supplier<Collection<ActivityIndex>> newPlayerActivity = batch.add(ActivityIndexQueries.activityIndexForNewPlayers(dayAgo, now, serverUUID, playThreshold));
+        Supplier<ActivityIndex> retainedActivity = batch.add(ActivityIndexQueries.averageActivityIndexForRetainedPlayers(monthAgo, now, serverUUID, playThreshold));
+        Supplier<ActivityIndex> nonRetainedActivity = batch.add(ActivityIndexQueries.averageActivityIndexForNonRetainedPlayers(monthAgo, now, serverUUID, playThreshold));
+
+        Supplier<Long> playtimeMonthResult = batch.add(SessionQueries.playtime(monthAgo, now, serverUUID));
+        Supplier<Long> playtimeWeekResult = batch.add(SessionQueries.playtime(weekAgo, now, serverUUID));
+        Supplier<Long> playtimeDayResult = batch.add(SessionQueries.playtime(dayAgo, now, serverUUID));
+        Supplier<Long> playtimeBeforeResult = batch.add(SessionQueries.playtime(monthAgo, halfMonthAgo, serverUUID));
+        Supplier<Long> playtimeAfterResult = batch.add(SessionQueries.playtime(halfMonthAgo, now, serverUUID));
+
+        Supplier<Long> playtimeAvg30d = batch.add(SessionQueries.averagePlaytimePerDay(monthAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Long> playtimeAvgBefore = batch.add(SessionQueries.averagePlaytimePerDay(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID));
+        Supplier<Long> playtimeAvgAfter = batch.add(SessionQueries.averagePlaytimePerDay(halfMonthAgo, now, timeZoneOffset, serverUUID));
+        Supplier<Long> playtimeAvg7d = batch.add(SessionQueries.averagePlaytimePerDay(weekAgo, now, timeZoneOffset, serverUUID));
+
+        Supplier<Long> sessionsMonthResult = batch.add(SessionQueries.sessionCount(monthAgo, now, serverUUID));
+        Supplier<Long> sessionsWeekResult = batch.add(SessionQueries.sessionCount(weekAgo, now, serverUUID));
+        Supplier<Long> sessionsDayResult = batch.add(SessionQueries.sessionCount(dayAgo, now, serverUUID));
+        Supplier<Long> sessionsBeforeResult = batch.add(SessionQueries.sessionCount(monthAgo, halfMonthAgo, serverUUID));
+        Supplier<Long> sessionsAfterResult = batch.add(SessionQueries.sessionCount(halfMonthAgo, now, serverUUID));
+
+        batch.execute();
+
         Map<String, Object> numbers = new HashMap<>();
 
-        numbers.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now, serverUUID)));
-        numbers.put("unique_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.uniquePlayerCount(halfMonthAgo, now, serverUUID)),
-                false
-        ));
-        numbers.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        numbers.put("unique_players_24h", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now, serverUUID)));
-
-        numbers.put("unique_players_30d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("unique_players_30d_avg_trend", new Trend(
-                db.query(PlayerCountQueries.averageUniquePlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(PlayerCountQueries.averageUniquePlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
-                false
-        ));
-        numbers.put("unique_players_7d_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("unique_players_24h_avg", db.query(PlayerCountQueries.averageUniquePlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("unique_players_30d", unique30d.get());
+        numbers.put("unique_players_30d_trend", new Trend(uniqueBefore.get(), uniqueAfter.get(), false));
+        numbers.put("unique_players_7d", unique7d.get());
+        numbers.put("unique_players_24h", unique1d.get());
+
+        numbers.put("unique_players_30d_avg", uniqueAvg30d.get());
+        numbers.put("unique_players_30d_avg_trend", new Trend(uniqueAvgBefore.get(), uniqueAvgAfter.get(), false));
+        numbers.put("unique_players_7d_avg", uniqueAvg7d.get());
+        numbers.put("unique_players_24h_avg", uniqueAvg1d.get());
 
-        Integer new30d = db.query(PlayerCountQueries.newPlayerCount(monthAgo, now, serverUUID));
-        Integer new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        Integer new1d = db.query(PlayerCountQueries.newPlayerCount(dayAgo, now, serverUUID));
+        Integer new30d = new30dResult.get();
+        Integer new7d = new7dResult.get();
+        Integer new1d = new1dResult.get();
         numbers.put("new_players_30d", new30d);
-        numbers.put("new_players_30d_trend", new Trend(
-                db.query(PlayerCountQueries.newPlayerCount(monthAgo, halfMonthAgo, serverUUID)),
-                db.query(PlayerCountQueries.newPlayerCount(halfMonthAgo, now, serverUUID)),
-                false
-        ));
+        numbers.put("new_players_30d_trend", new Trend(newBefore.get(), newAfter.get(), false));
         numbers.put("new_players_7d", new7d);
         numbers.put("new_players_24h", new1d);
 
-        numbers.put("new_players_30d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("new_players_30d_avg_trend", new Trend(
-                db.query(PlayerCountQueries.averageNewPlayerCount(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(PlayerCountQueries.averageNewPlayerCount(halfMonthAgo, now, timeZoneOffset, serverUUID)),
-                false
-        ));
-        numbers.put("new_players_7d_avg", db.query(PlayerCountQueries.averageNewPlayerCount(weekAgo, now, timeZoneOffset, serverUUID)));
-        numbers.put("new_players_24h_avg", db.query(PlayerCountQueries.averageNewPlayerCount(dayAgo, now, timeZoneOffset, serverUUID)));
+        numbers.put("new_players_30d_avg", newAvg30d.get());
+        numbers.put("new_players_30d_avg_trend", new Trend(newAvgBefore.get(), newAvgAfter.get(), false));
+        numbers.put("new_players_7d_avg", newAvg7d.get());
+        numbers.put("new_players_24h_avg", newAvg1d.get());
 
-        int retained30d = db.query(PlayerCountQueries.retainedPlayerCount(monthAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int retained30d = retained30dResult.get();
+        int retained7d = retained7dResult.get();
         double retentionPerc30d = new30d != 0 ? (double) retained30d / new30d : -1;
         double retentionPerc7d = new7d != 0 ? (double) retained7d / new7d : -1;
         numbers.put("new_players_retention_30d", retained30d);
@@ -140,39 +180,39 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         numbers.put("new_players_retention_7d_perc", percentageFormatter.apply(retentionPerc7d));
 
         int prediction1d = RetentionData.countRetentionPrediction(
-                db.query(ActivityIndexQueries.activityIndexForNewPlayers(dayAgo, now, serverUUID, playThreshold)),
-                db.query(ActivityIndexQueries.averageActivityIndexForRetainedPlayers(monthAgo, now, serverUUID, playThreshold)),
-                db.query(ActivityIndexQueries.averageActivityIndexForNonRetainedPlayers(monthAgo, now, serverUUID, playThreshold))
+                newPlayerActivity.get(),
+                retainedActivity.get(),
+                nonRetainedActivity.get()
         );
         double retentionPerc1d = new1d != 0 ? (double) prediction1d / new1d : -1;
         numbers.put("new_players_retention_24h", prediction1d);
         numbers.put("new_players_retention_24h_perc", percentageFormatter.apply(retentionPerc1d));
 
-        Long playtimeMonth = db.query(SessionQueries.playtime(monthAgo, now, serverUUID));
-        Long playtimeWeek = db.query(SessionQueries.playtime(weekAgo, now, serverUUID));
-        Long playtimeDay = db.query(SessionQueries.playtime(dayAgo, now, serverUUID));
-        Long playtimeBefore = db.query(SessionQueries.playtime(monthAgo, halfMonthAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(halfMonthAgo, now, serverUUID));
+        Long playtimeMonth = playtimeMonthResult.get();
+        Long playtimeWeek = playtimeWeekResult.get();
+        Long playtimeDay = playtimeDayResult.get();
+        Long playtimeBefore = playtimeBeforeResult.get();
+        Long playtimeAfter = playtimeAfterResult.get();
         numbers.put("playtime_30d", timeAmountFormatter.apply(playtimeMonth));
         numbers.put("playtime_30d_trend", new Trend(playtimeBefore, playtimeAfter, false, timeAmountFormatter));
         numbers.put("playtime_7d", timeAmountFormatter.apply(playtimeWeek));
         numbers.put("playtime_24h", timeAmountFormatter.apply(playtimeDay));
 
-        numbers.put("playtime_30d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(monthAgo, now, timeZoneOffset, serverUUID))));
+        numbers.put("playtime_30d_avg", timeAmountFormatter.apply(playtimeAvg30d.get()));
         numbers.put("playtime_30d_avg_trend", new Trend(
-                db.query(SessionQueries.averagePlaytimePerDay(monthAgo, halfMonthAgo, timeZoneOffset, serverUUID)),
-                db.query(SessionQueries.averagePlaytimePerDay(halfMonthAgo, now, timeZoneOffset, serverUUID)),
+                playtimeAvgBefore.get(),
+                playtimeAvgAfter.get(),
                 false,
                 timeAmountFormatter
         ));
-        numbers.put("playtime_7d_avg", timeAmountFormatter.apply(db.query(SessionQueries.averagePlaytimePerDay(weekAgo, now, timeZoneOffset, serverUUID))));
-        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(db.query(SessionQueries.playtime(dayAgo, now, serverUUID))));
-
-        Long sessionsMonth = db.query(SessionQueries.sessionCount(monthAgo, now, serverUUID));
-        Long sessionsWeek = db.query(SessionQueries.sessionCount(weekAgo, now, serverUUID));
-        Long sessionsDay = db.query(SessionQueries.sessionCount(dayAgo, now, serverUUID));
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(monthAgo, halfMonthAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(halfMonthAgo, now, serverUUID));
+        numbers.put("playtime_7d_avg", timeAmountFormatter.apply(playtimeAvg7d.get()));
+        numbers.put("playtime_24h_avg", timeAmountFormatter.apply(playtimeDay));
+
+        Long sessionsMonth = sessionsMonthResult.get();
+        Long sessionsWeek = sessionsWeekResult.get();
+        Long sessionsDay = sessionsDayResult.get();
+        Long sessionsBefore = sessionsBeforeResult.get();
+        Long sessionsAfter = sessionsAfterResult.get();
         numbers.put("sessions_30d", sessionsMonth);
         numbers.put("sessions_30d_trend", new Trend(sessionsBefore, sessionsAfter, false));
         numbers.put("sessions_7d", sessionsWeek);
@@ -191,27 +231,30 @@ public class OnlineActivityOverviewJSONCreator implements ServerTabJSONCreator<M
         numbers.put("session_length_7d_avg", timeAmountFormatter.apply(sessionLengthAvgWeek));
         numbers.put("session_length_24h_avg", timeAmountFormatter.apply(sessionLengthAvgDay));
 
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID)));
-        numbers.put("average_tps", decimalFormatter.apply(tpsMutator.averageTPS()));
-        numbers.put("low_tps_spikes", tpsMutator.lowTpsSpikeCount(config.getNumber(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
-        numbers.put("downtime", timeAmountFormatter.apply(tpsMutator.serverDownTime()));
+        TPSColumns tpsData = tpsCache.getRecentTPS(serverUUID).between(monthAgo, now);
+        numbers.put("average_tps", decimalFormatter.apply(tpsData.averageTPS()));
+        numbers.put("low_tps_spikes", tpsData.lowTpsSpikeCount(config.getNumber(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
+        numbers.put("downtime", timeAmountFormatter.apply(tpsData.serverDownTime()));
 
         return numbers;
     }
 
     private Map<String, Object> createInsightsMap(UUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long halfMonthAgo = now - TimeUnit.DAYS.toMillis(15L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<List<Session>> sessionData = batch.add(SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID));
+        Supplier<Map<UUID, Long>> registerDateData = batch.add(UserInfoQueries.fetchRegisterDates(monthAgo, now, serverUUID));
+        batch.execute();
+
         Map<String, Object> insights = new HashMap<>();
 
-        SessionsMutator sessions = new SessionsMutator(db.query(SessionQueries.fetchServerSessionsWithoutKillOrWorldData(monthAgo, now, serverUUID)));
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
-        Map<UUID, Long> registerDates = db.query(UserInfoQueries.fetchRegisterDates(monthAgo, now, serverUUID));
+        SessionsMutator sessions = new SessionsMutator(sessionData.get());
+        Map<UUID, Long> registerDates = registerDateData.get();
 
-        PlayersOnlineResolver playersOnlineResolver = new PlayersOnlineResolver(new TPSMutator(tpsData));
+        PlayersOnlineResolver playersOnlineResolver = new PlayersOnlineResolver(tpsCache.getRecentTPS(serverUUID).between(monthAgo, now));
         SessionsMutator firstSessions = sessions.filterBy(session -> {
             long registered = registerDates.getOrDefault(session.getValue(SessionKeys.UUID).orElse(null), -501L);
             long start = session.getDate();
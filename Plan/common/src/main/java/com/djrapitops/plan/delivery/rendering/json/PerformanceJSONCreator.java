@@ -16,23 +16,19 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.cache.TPSCache;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.settings.locale.lang.HtmlLang;
-import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -47,7 +43,7 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
 
     private final PlanConfig config;
     private final Locale locale;
-    private final DBSystem dbSystem;
+    private final TPSCache tpsCache;
 
     private final Formatter<Double> decimals;
     private final Formatter<Long> timeAmountFormatter;
@@ -57,12 +53,12 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
     public PerformanceJSONCreator(
             PlanConfig config,
             Locale locale,
-            DBSystem dbSystem,
+            TPSCache tpsCache,
             Formatters formatters
     ) {
         this.config = config;
         this.locale = locale;
-        this.dbSystem = dbSystem;
+        this.tpsCache = tpsCache;
 
         decimals = formatters.decimals();
         percentageFormatter = formatters.percentage();
@@ -71,26 +67,25 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
 
     public Map<String, Object> createJSONAsMap(UUID serverUUID) {
         Map<String, Object> serverOverview = new HashMap<>();
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        TPSColumns tpsData = tpsCache.getRecentTPS(serverUUID).between(monthAgo, now);
 
         serverOverview.put("numbers", createNumbersMap(tpsData));
         serverOverview.put("insights", createInsightsMap(tpsData));
         return serverOverview;
     }
 
-    private Map<String, Object> createNumbersMap(List<TPS> tpsData) {
+    private Map<String, Object> createNumbersMap(TPSColumns tpsData) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
         Map<String, Object> numbers = new HashMap<>();
 
-        TPSMutator tpsDataMonth = new TPSMutator(tpsData);
-        TPSMutator tpsDataWeek = tpsDataMonth.filterDataBetween(weekAgo, now);
-        TPSMutator tpsDataDay = tpsDataWeek.filterDataBetween(dayAgo, now);
+        TPSColumns tpsDataMonth = tpsData;
+        TPSColumns tpsDataWeek = tpsDataMonth.between(weekAgo, now);
+        TPSColumns tpsDataDay = tpsDataWeek.between(dayAgo, now);
 
         Integer tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
         numbers.put("low_tps_spikes_30d", tpsDataMonth.lowTpsSpikeCount(tpsThreshold));
@@ -139,10 +134,9 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
         return value != -1 ? percentageFormatter.apply(value / 100.0) : locale.get(GenericLang.UNAVAILABLE).toString();
     }
 
-    private Map<String, Object> createInsightsMap(List<TPS> tpsData) {
-        TPSMutator tpsMutator = new TPSMutator(tpsData);
+    private Map<String, Object> createInsightsMap(TPSColumns tpsData) {
         Integer tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
-        TPSMutator lowTPS = tpsMutator.filterTPSBetween(-1, tpsThreshold);
+        TPSColumns lowTPS = tpsData.filterTPSBetween(-1, tpsThreshold);
 
         Map<String, Object> insights = new HashMap<>();
 
@@ -16,8 +16,8 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
-import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
-import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.delivery.domain.SessionSummary;
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.*;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
@@ -25,9 +25,7 @@ import com.djrapitops.plan.delivery.rendering.html.Html;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
 import com.djrapitops.plan.gathering.cache.SessionCache;
-import com.djrapitops.plan.gathering.domain.GeoInfo;
-import com.djrapitops.plan.gathering.domain.PlayerKill;
-import com.djrapitops.plan.gathering.domain.WorldTimes;
+import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
@@ -37,8 +35,7 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
-import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import org.apache.commons.text.StringEscapeUtils;
 
@@ -46,11 +43,22 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Creates JSON for the player page.
+ * <p>
+ * The summary only uses totals calculated by the database, sessions and kills are given a page at a time
+ * and the calendar is created when the sessions tab is opened.
+ *
+ * @author Rsl1122
+ */
 @Singleton
 public class PlayerJSONCreator {
 
+    public static final int KILLS_PER_PAGE = 50;
+
     private final PlanConfig config;
     private final Locale locale;
     private final Theme theme;
@@ -85,134 +93,236 @@ public class PlayerJSONCreator {
 
     public Map<String, Object> createJSONAsMap(UUID playerUUID) {
         Database db = dbSystem.getDatabase();
+        long now = System.currentTimeMillis();
+        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
+        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
         Map<UUID, String> serverNames = db.query(ServerQueries.fetchServerNames());
         String[] pieColors = theme.getPieColors(ThemeVal.GRAPH_WORLD_PIE);
 
-        PlayerContainer player = db.query(new PlayerContainerQuery(playerUUID));
-        SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
-        Map<UUID, WorldTimes> worldTimesPerServer = PerServerMutator.forContainer(player).worldTimesPerServer();
-        List<Map<String, Object>> serverAccordion = new ServerAccordion(player, serverNames, graphs, year, timeAmount, locale.getString(GenericLang.UNKNOWN)).asMaps();
-        List<PlayerKill> kills = player.getValue(PlayerKeys.PLAYER_KILLS).orElse(Collections.emptyList());
-        List<PlayerKill> deaths = player.getValue(PlayerKeys.PLAYER_DEATHS_KILLS).orElse(Collections.emptyList());
-
-        PingMutator.forContainer(player).addPingToSessions(sessionsMutator.all());
+        Map<UUID, SessionSummary> summaryPerServer = db.query(SessionQueries.summaryOfPlayerPerServer(0L, now, playerUUID));
+        SessionSummary total = SessionSummary.combine(summaryPerServer.values());
+        SessionSummary month = SessionSummary.combine(db.query(SessionQueries.summaryOfPlayerPerServer(monthAgo, now, playerUUID)).values());
+        SessionSummary week = SessionSummary.combine(db.query(SessionQueries.summaryOfPlayerPerServer(weekAgo, now, playerUUID)).values());
+
+        Map<UUID, Integer> playerKillsPerServer = db.query(KillQueries.playerKillCountOfPlayerPerServer(0L, now, playerUUID));
+        PvPCounts pvp = new PvPCounts(
+                sum(playerKillsPerServer.values()),
+                sum(db.query(KillQueries.playerKillCountOfPlayerPerServer(monthAgo, now, playerUUID)).values()),
+                sum(db.query(KillQueries.playerKillCountOfPlayerPerServer(weekAgo, now, playerUUID)).values()),
+                db.query(KillQueries.playerDeathCountOfPlayer(0L, now, playerUUID)),
+                db.query(KillQueries.playerDeathCountOfPlayer(monthAgo, now, playerUUID)),
+                db.query(KillQueries.playerDeathCountOfPlayer(weekAgo, now, playerUUID))
+        );
+
+        // Only the start and end of each session, needed for median, activity index and punchcard.
+        List<Session> sessions = db.query(SessionQueries.fetchPlayerSessionsWithoutKillOrWorldData(playerUUID));
+        SessionsMutator sessionsMutator = new SessionsMutator(sessions);
+
+        Map<UUID, UserInfo> userInfo = db.query(UserInfoQueries.fetchUserInformationOfUser(playerUUID)).stream()
+                .collect(Collectors.toMap(UserInfo::getServerUUID, Function.identity(), (one, two) -> one));
+        Map<UUID, WorldTimes> worldTimesPerServer = db.query(WorldTimesQueries.fetchPlayerWorldTimesOnServers(playerUUID));
+        WorldTimes worldTimes = new WorldTimes();
+        worldTimesPerServer.values().forEach(worldTimes::add);
+
+        List<Map<String, Object>> serverAccordion = new ServerAccordion(
+                userInfo, summaryPerServer, SessionsMutator.sortByServers(sessions), playerKillsPerServer, worldTimesPerServer,
+                serverNames, graphs, year, timeAmount, locale.getString(GenericLang.UNKNOWN)
+        ).asMaps();
 
         Map<String, Object> data = new HashMap<>();
-        data.put("info", createInfoJSONMap(player, serverNames));
-        data.put("online_activity", createOnlineActivityJSONMap(sessionsMutator));
-        data.put("kill_data", createPvPPvEMap(player));
-
-        data.put("nicknames", player.getValue(PlayerKeys.NICKNAMES)
-                .map(nicks -> Nickname.fromDataNicknames(nicks, serverNames, year))
-                .orElse(Collections.emptyList()));
-        data.put("connections", player.getValue(PlayerKeys.GEO_INFO)
-                .map(geoInfo -> ConnectionInfo.fromGeoInfo(geoInfo, year))
-                .orElse(Collections.emptyList()));
-        data.put("player_kills", new PlayerKillMutator(kills).filterNonSelfKills().toJSONAsMap(formatters));
-        data.put("player_deaths", new PlayerKillMutator(deaths).toJSONAsMap(formatters));
-        data.put("sessions", sessionsMutator.sort(new DateHolderRecentComparator()).toServerNameJSONMaps(graphs, config.getWorldAliasSettings(), formatters));
-        data.put("sessions_per_page", config.get(DisplaySettings.SESSIONS_PER_PAGE));
+        data.put("info", createInfoJSONMap(playerUUID, total, pvp, sessionsMutator, userInfo.values(), summaryPerServer, serverNames));
+        data.put("online_activity", createOnlineActivityJSONMap(month, week, pvp));
+        data.put("kill_data", createPvPPvEMap(playerUUID, total, month, week, pvp));
+
+        data.put("nicknames", Nickname.fromDataNicknames(db.query(NicknameQueries.fetchNicknameDataOfPlayer(playerUUID)), serverNames, year));
+        data.put("connections", ConnectionInfo.fromGeoInfo(db.query(GeoInfoQueries.fetchPlayerGeoInformation(playerUUID)), year));
+        data.put("sessions_per_page", getSessionsPerPage());
         data.put("servers", serverAccordion);
         data.put("punchcard_series", graphs.special().punchCard(sessionsMutator).getDots());
-        WorldPie worldPie = graphs.pie().worldPie(player.getValue(PlayerKeys.WORLD_TIMES).orElse(new WorldTimes()));
+        WorldPie worldPie = graphs.pie().worldPie(worldTimes);
         data.put("world_pie_series", worldPie.getSlices());
         data.put("gm_series", worldPie.toHighChartsDrillDownMaps());
-        data.put("calendar_series", graphs.calendar().playerCalendar(player).getEntries());
         data.put("server_pie_series", graphs.pie().serverPreferencePie(serverNames, worldTimesPerServer).getSlices());
         data.put("server_pie_colors", pieColors);
         data.put("first_day", 1); // Monday
         return data;
     }
 
-    private Map<String, Object> createOnlineActivityJSONMap(SessionsMutator sessionsMutator) {
-        long now = System.currentTimeMillis();
-        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
-        SessionsMutator sessions30d = sessionsMutator.filterSessionsBetween(monthAgo, now);
-        SessionsMutator sessions7d = sessions30d.filterSessionsBetween(weekAgo, now);
+    /**
+     * Create JSON for a page of the most recent sessions of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param page       Page number, 0 for the most recent sessions.
+     * @return Map with sessions of the page and whether there are more pages.
+     */
+    public Map<String, Object> createSessionsJSONAsMap(UUID playerUUID, int page) {
+        Database db = dbSystem.getDatabase();
+        int perPage = getSessionsPerPage();
+
+        // One extra session is fetched to know if there is a next page.
+        List<Session> sessions = db.query(SessionQueries.fetchLatestSessionsOfPlayer(playerUUID, perPage + 1, page * perPage));
+        boolean hasMore = sessions.size() > perPage;
+        List<Session> pageSessions = new ArrayList<>(sessions.subList(0, Math.min(perPage, sessions.size())));
+
+        if (!pageSessions.isEmpty()) {
+            long oldest = pageSessions.get(pageSessions.size() - 1).getDate();
+            long newest = pageSessions.stream().mapToLong(session -> session.getValue(SessionKeys.END).orElse(session.getDate())).max().orElse(oldest);
+            List<Ping> pings = db.query(PingQueries.fetchPingDataOfPlayer(playerUUID, oldest, newest));
+            new PingMutator(pings).addPingToSessions(pageSessions);
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("sessions", new SessionsMutator(pageSessions).sort(new DateHolderRecentComparator())
+                .toServerNameJSONMaps(graphs, config.getWorldAliasSettings(), formatters));
+        data.put("sessions_per_page", perPage);
+        data.put("page", page);
+        data.put("has_more", hasMore);
+        return data;
+    }
+
+    /**
+     * Create JSON for a page of the most recent kills and deaths of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param page       Page number, 0 for the most recent kills.
+     * @return Map with kills and deaths of the page and whether there are more pages.
+     */
+    public Map<String, Object> createKillsJSONAsMap(UUID playerUUID, int page) {
+        Database db = dbSystem.getDatabase();
+        int offset = page * KILLS_PER_PAGE;
+
+        // One extra kill is fetched to know if there is a next page.
+        List<PlayerKill> kills = db.query(KillQueries.fetchPlayerKillsOfPlayer(playerUUID, KILLS_PER_PAGE + 1, offset));
+        List<PlayerKill> deaths = db.query(KillQueries.fetchPlayerDeathsOfPlayer(playerUUID, KILLS_PER_PAGE + 1, offset));
+        boolean hasMore = kills.size() > KILLS_PER_PAGE || deaths.size() > KILLS_PER_PAGE;
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("player_kills", new PlayerKillMutator(firstOf(kills, KILLS_PER_PAGE)).filterNonSelfKills().toJSONAsMap(formatters));
+        data.put("player_deaths", new PlayerKillMutator(firstOf(deaths, KILLS_PER_PAGE)).toJSONAsMap(formatters));
+        data.put("kills_per_page", KILLS_PER_PAGE);
+        data.put("page", page);
+        data.put("has_more", hasMore);
+        return data;
+    }
 
+    /**
+     * Create JSON for the session calendar of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Map with the calendar entries.
+     */
+    public Map<String, Object> createCalendarJSONAsMap(UUID playerUUID) {
+        Database db = dbSystem.getDatabase();
+
+        List<Session> sessions = db.query(SessionQueries.fetchPlayerSessionsWithoutKillOrWorldData(playerUUID));
+        List<PlayerKill> kills = db.query(KillQueries.fetchPlayerKillsOfPlayer(playerUUID));
+        long registered = db.query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID)).map(BaseUser::getRegistered).orElse(0L);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("calendar_series", graphs.calendar().playerCalendar(sessions, kills, registered).getEntries());
+        data.put("first_day", 1); // Monday
+        return data;
+    }
+
+    private int getSessionsPerPage() {
+        return Math.max(1, config.get(DisplaySettings.SESSIONS_PER_PAGE));
+    }
+
+    private <T> List<T> firstOf(List<T> list, int limit) {
+        return list.size() <= limit ? list : new ArrayList<>(list.subList(0, limit));
+    }
+
+    private int sum(Collection<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private Map<String, Object> createOnlineActivityJSONMap(SessionSummary sessions30d, SessionSummary sessions7d, PvPCounts pvp) {
         Map<String, Object> onlineActivity = new HashMap<>();
 
-        onlineActivity.put("playtime_30d", timeAmount.apply(sessions30d.toPlaytime()));
-        onlineActivity.put("active_playtime_30d", timeAmount.apply(sessions30d.toActivePlaytime()));
-        onlineActivity.put("afk_time_30d", timeAmount.apply(sessions30d.toAfkTime()));
-        onlineActivity.put("average_session_length_30d", timeAmount.apply(sessions30d.toAverageSessionLength()));
-        onlineActivity.put("session_count_30d", sessions30d.count());
-        onlineActivity.put("player_kill_count_30d", sessions30d.toPlayerKillCount());
-        onlineActivity.put("mob_kill_count_30d", sessions30d.toMobKillCount());
-        onlineActivity.put("death_count_30d", sessions30d.toDeathCount());
-
-        onlineActivity.put("playtime_7d", timeAmount.apply(sessions7d.toPlaytime()));
-        onlineActivity.put("active_playtime_7d", timeAmount.apply(sessions7d.toActivePlaytime()));
-        onlineActivity.put("afk_time_7d", timeAmount.apply(sessions7d.toAfkTime()));
-        onlineActivity.put("average_session_length_7d", timeAmount.apply(sessions7d.toAverageSessionLength()));
-        onlineActivity.put("session_count_7d", sessions7d.count());
-        onlineActivity.put("player_kill_count_7d", sessions7d.toPlayerKillCount());
-        onlineActivity.put("mob_kill_count_7d", sessions7d.toMobKillCount());
-        onlineActivity.put("death_count_7d", sessions7d.toDeathCount());
+        onlineActivity.put("playtime_30d", timeAmount.apply(sessions30d.getPlaytime()));
+        onlineActivity.put("active_playtime_30d", timeAmount.apply(sessions30d.getActivePlaytime()));
+        onlineActivity.put("afk_time_30d", timeAmount.apply(sessions30d.getAfkTime()));
+        onlineActivity.put("average_session_length_30d", timeAmount.apply(sessions30d.getAverageSessionLength()));
+        onlineActivity.put("session_count_30d", sessions30d.getSessionCount());
+        onlineActivity.put("player_kill_count_30d", pvp.kills30d);
+        onlineActivity.put("mob_kill_count_30d", sessions30d.getMobKills());
+        onlineActivity.put("death_count_30d", sessions30d.getDeaths());
+
+        onlineActivity.put("playtime_7d", timeAmount.apply(sessions7d.getPlaytime()));
+        onlineActivity.put("active_playtime_7d", timeAmount.apply(sessions7d.getActivePlaytime()));
+        onlineActivity.put("afk_time_7d", timeAmount.apply(sessions7d.getAfkTime()));
+        onlineActivity.put("average_session_length_7d", timeAmount.apply(sessions7d.getAverageSessionLength()));
+        onlineActivity.put("session_count_7d", sessions7d.getSessionCount());
+        onlineActivity.put("player_kill_count_7d", pvp.kills7d);
+        onlineActivity.put("mob_kill_count_7d", sessions7d.getMobKills());
+        onlineActivity.put("death_count_7d", sessions7d.getDeaths());
 
         return onlineActivity;
     }
 
-    private Map<String, Object> createInfoJSONMap(PlayerContainer player, Map<UUID, String> serverNames) {
-        SessionsMutator sessions = SessionsMutator.forContainer(player);
-        ActivityIndex activityIndex = player.getActivityIndex(System.currentTimeMillis(), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD));
-        PerServerMutator perServer = PerServerMutator.forContainer(player);
-        PingMutator ping = PingMutator.forContainer(player);
+    private Map<String, Object> createInfoJSONMap(
+            UUID playerUUID,
+            SessionSummary total,
+            PvPCounts pvp,
+            SessionsMutator sessions,
+            Collection<UserInfo> userInfo,
+            Map<UUID, SessionSummary> summaryPerServer,
+            Map<UUID, String> serverNames
+    ) {
+        Database db = dbSystem.getDatabase();
+        Optional<BaseUser> baseUser = db.query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID));
+        ActivityIndex activityIndex = new ActivityIndex(sessions.all(), System.currentTimeMillis(), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD));
+        Optional<UUID> favoriteServer = summaryPerServer.entrySet().stream()
+                .filter(entry -> entry.getValue().getPlaytime() > 0)
+                .max(Comparator.comparingLong(entry -> entry.getValue().getPlaytime()))
+                .map(Map.Entry::getKey);
+        Ping ping = db.query(PingQueries.pingSummaryOfPlayer(playerUUID));
 
         Map<String, Object> info = new HashMap<>();
 
-        info.put("online", SessionCache.getCachedSession(player.getUnsafe(PlayerKeys.UUID)).isPresent());
-        info.put("operator", player.getValue(PlayerKeys.OPERATOR).orElse(false));
-        info.put("banned", player.getValue(PlayerKeys.BANNED).orElse(false));
-        info.put("kick_count", player.getValue(PlayerKeys.KICK_COUNT).orElse(0));
-        info.put("player_kill_count", player.getValue(PlayerKeys.PLAYER_KILL_COUNT).orElse(0));
-        info.put("mob_kill_count", player.getValue(PlayerKeys.MOB_KILL_COUNT).orElse(0));
-        info.put("death_count", player.getValue(PlayerKeys.DEATH_COUNT).orElse(0));
-        info.put("playtime", timeAmount.apply(sessions.toPlaytime()));
-        info.put("active_playtime", timeAmount.apply(sessions.toActivePlaytime()));
-        info.put("afk_time", timeAmount.apply(sessions.toAfkTime()));
-        info.put("session_count", sessions.count());
-        info.put("longest_session_length", timeAmount.apply(sessions.toLongestSessionLength()));
+        info.put("online", SessionCache.getCachedSession(playerUUID).isPresent());
+        info.put("operator", userInfo.stream().anyMatch(UserInfo::isOperator));
+        info.put("banned", userInfo.stream().anyMatch(UserInfo::isBanned));
+        info.put("kick_count", baseUser.map(BaseUser::getTimesKicked).orElse(0));
+        info.put("player_kill_count", pvp.kills);
+        info.put("mob_kill_count", total.getMobKills());
+        info.put("death_count", total.getDeaths());
+        info.put("playtime", timeAmount.apply(total.getPlaytime()));
+        info.put("active_playtime", timeAmount.apply(total.getActivePlaytime()));
+        info.put("afk_time", timeAmount.apply(total.getAfkTime()));
+        info.put("session_count", total.getSessionCount());
+        info.put("longest_session_length", timeAmount.apply(total.getLongestSession()));
         info.put("session_median", timeAmount.apply(sessions.toMedianSessionLength()));
         info.put("activity_index", decimals.apply(activityIndex.getValue()));
         info.put("activity_index_group", activityIndex.getGroup());
-        info.put("favorite_server", perServer.favoriteServer().map(favoriteServer -> serverNames.getOrDefault(favoriteServer, favoriteServer.toString())).orElse(locale.getString(GenericLang.UNKNOWN)));
-        double averagePing = ping.average();
-        int worstPing = ping.max();
-        int bestPing = ping.min();
+        info.put("favorite_server", favoriteServer.map(server -> serverNames.getOrDefault(server, server.toString())).orElse(locale.getString(GenericLang.UNKNOWN)));
+        double averagePing = ping.getAverage();
+        int worstPing = ping.getMax();
+        int bestPing = ping.getMin();
 
         String unavailable = locale.get(GenericLang.UNAVAILABLE).toString();
         info.put("average_ping", averagePing != -1.0 ? decimals.apply(averagePing) + " ms" : unavailable);
         info.put("worst_ping", worstPing != -1.0 ? worstPing + " ms" : unavailable);
         info.put("best_ping", bestPing != -1.0 ? bestPing + " ms" : unavailable);
-        info.put("registered", player.getValue(PlayerKeys.REGISTERED).map(year).orElse("-"));
-        info.put("last_seen", player.getValue(PlayerKeys.LAST_SEEN).map(year).orElse("-"));
+        info.put("registered", baseUser.map(BaseUser::getRegistered).map(year).orElse("-"));
+        info.put("last_seen", total.getSessionCount() > 0 ? year.apply(total.getLastSeen()) : "-");
 
         return info;
     }
 
-    private Map<String, Object> createPvPPvEMap(PlayerContainer playerContainer) {
-        long now = System.currentTimeMillis();
-        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
-        long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-
-        PlayerVersusMutator playerVersus = PlayerVersusMutator.forContainer(playerContainer);
-        PlayerVersusMutator playerVersus30d = playerVersus.filterBetween(monthAgo, now);
-        PlayerVersusMutator playerVersus7d = playerVersus30d.filterBetween(weekAgo, now);
-
+    private Map<String, Object> createPvPPvEMap(UUID playerUUID, SessionSummary total, SessionSummary month, SessionSummary week, PvPCounts pvp) {
         Map<String, Object> killData = new HashMap<>();
-        int pks = playerVersus.toPlayerKillCount();
-        int pks7d = playerVersus7d.toPlayerKillCount();
-        int pks30d = playerVersus30d.toPlayerKillCount();
+        int pks = pvp.kills;
+        int pks7d = pvp.kills7d;
+        int pks30d = pvp.kills30d;
         killData.put("player_kills_total", pks);
         killData.put("player_kills_30d", pks30d);
         killData.put("player_kills_7d", pks7d);
 
-        int playerDeaths = playerVersus.toPlayerDeathCount();
-        int playerDeaths30d = playerVersus30d.toPlayerDeathCount();
-        int playerDeaths7d = playerVersus7d.toPlayerDeathCount();
+        int playerDeaths = pvp.deaths;
+        int playerDeaths30d = pvp.deaths30d;
+        int playerDeaths7d = pvp.deaths7d;
         killData.put("player_deaths_total", playerDeaths);
         killData.put("player_deaths_30d", playerDeaths30d);
         killData.put("player_deaths_7d", playerDeaths7d);
@@ -224,16 +334,16 @@ public class PlayerJSONCreator {
         killData.put("player_kdr_30d", decimals.apply(kdr30d));
         killData.put("player_kdr_7d", decimals.apply(krd7d));
 
-        int mobKills = playerVersus.toMobKillCount();
-        int mobKills30d = playerVersus30d.toMobKillCount();
-        int mobKills7d = playerVersus7d.toMobKillCount();
+        int mobKills = total.getMobKills();
+        int mobKills30d = month.getMobKills();
+        int mobKills7d = week.getMobKills();
         killData.put("mob_kills_total", mobKills);
         killData.put("mob_kills_30d", mobKills30d);
         killData.put("mob_kills_7d", mobKills7d);
 
-        int deaths = playerVersus.toDeathCount();
-        int deaths30d = playerVersus30d.toDeathCount();
-        int deaths7d = playerVersus7d.toDeathCount();
+        int deaths = total.getDeaths();
+        int deaths30d = month.getDeaths();
+        int deaths7d = week.getDeaths();
         killData.put("deaths_total", deaths);
         killData.put("deaths_30d", deaths30d);
         killData.put("deaths_7d", deaths7d);
@@ -253,7 +363,7 @@ public class PlayerJSONCreator {
         killData.put("mob_kdr_30d", decimals.apply(mobKdr30d));
         killData.put("mob_kdr_7d", decimals.apply(mobKdr7d));
 
-        List<String> topWeapons = playerVersus.toTopWeapons(3);
+        List<String> topWeapons = dbSystem.getDatabase().query(KillQueries.topWeaponsOfPlayer(0L, System.currentTimeMillis(), playerUUID, 3));
         killData.put("weapon_1st", getWeapon(topWeapons, 0).orElse("-"));
         killData.put("weapon_2nd", getWeapon(topWeapons, 1).orElse("-"));
         killData.put("weapon_3rd", getWeapon(topWeapons, 2).orElse("-"));
@@ -265,6 +375,27 @@ public class PlayerJSONCreator {
         return list.size() <= index ? Optional.empty() : Optional.of(list.get(index));
     }
 
+    /**
+     * Player kill and death counts of the player within the last 30 and 7 days.
+     */
+    private static class PvPCounts {
+        final int kills;
+        final int kills30d;
+        final int kills7d;
+        final int deaths;
+        final int deaths30d;
+        final int deaths7d;
+
+        PvPCounts(int kills, int kills30d, int kills7d, int deaths, int deaths30d, int deaths7d) {
+            this.kills = kills;
+            this.kills30d = kills30d;
+            this.kills7d = kills7d;
+            this.deaths = deaths;
+            this.deaths30d = deaths30d;
+            this.deaths7d = deaths7d;
+        }
+    }
+
     public static class Nickname {
         private final String nickname;
         private final String server;
@@ -28,9 +28,10 @@ import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.implementation.results.*;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.HtmlLang;
-import org.apache.commons.lang3.StringUtils;
+import com.google.gson.stream.JsonWriter;
 import org.apache.commons.text.StringEscapeUtils;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -40,7 +41,7 @@ import java.util.*;
  *
  * @author Rsl1122
  */
-public class PlayersTableJSONCreator {
+public class PlayersTableJSONCreator implements StreamableJSON {
 
     private final List<TablePlayer> players;
     private final List<ExtensionDescriptive> extensionDescriptives;
@@ -94,38 +95,33 @@ public class PlayersTableJSONCreator {
         }
     }
 
-    public String toJSONString() {
-        String data = createData();
-        String columnHeaders = createColumnHeaders();
-        return "{\"columns\":" + columnHeaders + ",\"data\":" + data + '}';
+    @Override
+    public void writeTo(JsonWriter json) throws IOException {
+        json.beginObject();
+        json.name("columns");
+        writeColumnHeaders(json);
+        json.name("data");
+        writeData(json);
+        json.endObject();
     }
 
-    private String createData() {
-        StringBuilder dataJSON = new StringBuilder("[");
-
-        int currentPlayerNumber = 0;
+    private void writeData(JsonWriter json) throws IOException {
+        json.beginArray();
         for (TablePlayer player : players) {
             UUID playerUUID = player.getPlayerUUID();
             if (playerUUID == null) {
                 continue;
             }
 
-            if (currentPlayerNumber > 0) {
-                dataJSON.append(',');       // Previous item
-            }
-            dataJSON.append('{');           // Start new item
-
-            appendPlayerData(dataJSON, player);
-            appendExtensionData(dataJSON, extensionData.getOrDefault(playerUUID, new ExtensionTabData.Builder(null).build()));
-
-            dataJSON.append('}');           // Close new item
-
-            currentPlayerNumber++;
+            json.beginObject();
+            writePlayerData(json, player);
+            writeExtensionData(json, extensionData.getOrDefault(playerUUID, new ExtensionTabData.Builder(null).build()));
+            json.endObject();
         }
-        return dataJSON.append(']').toString();
+        json.endArray();
     }
 
-    private void appendPlayerData(StringBuilder dataJSON, TablePlayer player) {
+    private void writePlayerData(JsonWriter json, TablePlayer player) throws IOException {
         String name = player.getName().orElse(player.getPlayerUUID().toString());
         String url = "../player/" + Html.encodeToURL(name);
 
@@ -143,33 +139,35 @@ public class PlayersTableJSONCreator {
 
         Html link = openPlayerPageInNewTab ? Html.LINK_EXTERNAL : Html.LINK;
 
-        dataJSON.append(makeDataEntry(link.create(url, StringUtils.replace(StringEscapeUtils.escapeHtml4(name), "\\", "\\\\")), "name")).append(',') // Backslashes escaped to prevent json errors
-                .append(makeDataEntry(activityIndex.getValue(), activityString, "index")).append(',')
-                .append(makeDataEntry(playtime, numberFormatters.get(FormatType.TIME_MILLISECONDS).apply(playtime), "playtime")).append(',')
-                .append(makeDataEntry(loginTimes, "sessions")).append(',')
-                .append(makeDataEntry(registered, numberFormatters.get(FormatType.DATE_YEAR).apply(registered), "registered")).append(',')
-                .append(makeDataEntry(lastSeen, numberFormatters.get(FormatType.DATE_YEAR).apply(lastSeen), "seen")).append(',')
-                .append(makeDataEntry(geolocation, "geolocation"));
+        writeDataEntry(json, link.create(url, StringEscapeUtils.escapeHtml4(name)), "name");
+        writeDataEntry(json, activityIndex.getValue(), activityString, "index");
+        writeDataEntry(json, playtime, numberFormatters.get(FormatType.TIME_MILLISECONDS).apply(playtime), "playtime");
+        writeDataEntry(json, loginTimes, "sessions");
+        writeDataEntry(json, registered, numberFormatters.get(FormatType.DATE_YEAR).apply(registered), "registered");
+        writeDataEntry(json, lastSeen, numberFormatters.get(FormatType.DATE_YEAR).apply(lastSeen), "seen");
+        writeDataEntry(json, geolocation, "geolocation");
     }
 
-    private String makeDataEntry(Object data, String dataName) {
-        return "\"" + dataName + "\":\"" + data.toString().replace('"', '\'') + "\"";
+    private void writeDataEntry(JsonWriter json, Object data, String dataName) throws IOException {
+        json.name(dataName).value(data.toString().replace('"', '\''));
     }
 
-    private String makeDataEntry(Object data, String formatted, String dataName) {
-        return "\"" + dataName + "\":{\"v\":\"" + data.toString().replace('"', '\'') + "\", \"d\":\"" + formatted.replace('"', '\'') + "\"}";
+    private void writeDataEntry(JsonWriter json, Object data, String formatted, String dataName) throws IOException {
+        json.name(dataName).beginObject()
+                .name("v").value(data.toString().replace('"', '\''))
+                .name("d").value(formatted.replace('"', '\''))
+                .endObject();
     }
 
-    private void appendExtensionData(StringBuilder dataJSON, ExtensionTabData tabData) {
+    private void writeExtensionData(JsonWriter json, ExtensionTabData tabData) throws IOException {
         for (ExtensionDescriptive descriptive : extensionDescriptives) {
-            dataJSON.append(',');
             String key = descriptive.getName();
 
             // If it's a double, append a double
             Optional<ExtensionDoubleData> doubleValue = tabData.getDouble(key);
 
             if (doubleValue.isPresent()) {
-                dataJSON.append(makeDataEntry(doubleValue.get().getRawValue(), doubleValue.get().getFormattedValue(decimalFormatter), key));
+                writeDataEntry(json, doubleValue.get().getRawValue(), doubleValue.get().getFormattedValue(decimalFormatter), key);
                 continue;
             }
 
@@ -177,48 +175,52 @@ public class PlayersTableJSONCreator {
             if (numberValue.isPresent()) {
                 ExtensionNumberData numberData = numberValue.get();
                 FormatType formatType = numberData.getFormatType();
-                dataJSON.append(makeDataEntry(numberData.getRawValue(), numberData.getFormattedValue(numberFormatters.get(formatType)), key));
+                writeDataEntry(json, numberData.getRawValue(), numberData.getFormattedValue(numberFormatters.get(formatType)), key);
                 continue;
             }
 
             // If it's a String append a String, otherwise the player has no value for this extension provider.
             String stringValue = tabData.getString(key).map(ExtensionStringData::getFormattedValue).orElse("-");
-            dataJSON.append(makeDataEntry(stringValue, stringValue, key));
+            writeDataEntry(json, stringValue, stringValue, key);
         }
     }
 
-    private String createColumnHeaders() {
-        StringBuilder columnHeaders = new StringBuilder("[");
-
-        // Is the data for the column formatted
-
-        columnHeaders
-                .append(makeColumnHeader(Icon.called("user") + " " + locale.get(HtmlLang.LABEL_NAME), "name")).append(',')
-                .append(makeFColumnHeader(Icon.called("check") + " " + locale.get(HtmlLang.LABEL_ACTIVITY_INDEX), "index")).append(',')
-                .append(makeFColumnHeader(Icon.called("clock").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_PLAYTIME), "playtime")).append(',')
-                .append(makeColumnHeader(Icon.called("calendar-plus").of(Family.REGULAR) + " " + locale.get(HtmlLang.SIDE_SESSIONS), "sessions")).append(',')
-                .append(makeFColumnHeader(Icon.called("user-plus") + " " + locale.get(HtmlLang.LABEL_REGISTERED), "registered")).append(',')
-                .append(makeFColumnHeader(Icon.called("calendar-check").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_LAST_SEEN), "seen")).append(',')
-                .append(makeColumnHeader(Icon.called("globe") + " " + locale.get(HtmlLang.TITLE_COUNTRY), "geolocation"));
-
-        appendExtensionHeaders(columnHeaders);
-
-        return columnHeaders.append(']').toString();
+    private void writeColumnHeaders(JsonWriter json) throws IOException {
+        json.beginArray();
+        writeColumnHeader(json, Icon.called("user") + " " + locale.get(HtmlLang.LABEL_NAME), "name");
+        writeFColumnHeader(json, Icon.called("check") + " " + locale.get(HtmlLang.LABEL_ACTIVITY_INDEX), "index");
+        writeFColumnHeader(json, Icon.called("clock").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_PLAYTIME), "playtime");
+        writeColumnHeader(json, Icon.called("calendar-plus").of(Family.REGULAR) + " " + locale.get(HtmlLang.SIDE_SESSIONS), "sessions");
+        writeFColumnHeader(json, Icon.called("user-plus") + " " + locale.get(HtmlLang.LABEL_REGISTERED), "registered");
+        writeFColumnHeader(json, Icon.called("calendar-check").of(Family.REGULAR) + " " + locale.get(HtmlLang.LABEL_LAST_SEEN), "seen");
+        writeColumnHeader(json, Icon.called("globe") + " " + locale.get(HtmlLang.TITLE_COUNTRY), "geolocation");
+
+        writeExtensionHeaders(json);
+        json.endArray();
     }
 
-    private String makeColumnHeader(String title, String dataProperty) {
-        return "{\"title\": \"" + title.replace('"', '\'') + "\",\"data\":\"" + dataProperty + "\"}";
+    private void writeColumnHeader(JsonWriter json, String title, String dataProperty) throws IOException {
+        json.beginObject()
+                .name("title").value(title.replace('"', '\''))
+                .name("data").value(dataProperty)
+                .endObject();
     }
 
-    private String makeFColumnHeader(String title, String dataProperty) {
-        return "{\"title\": \"" + title.replace('"', '\'') + "\",\"data\":{\"_\":\"" + dataProperty + ".v\",\"display\":\"" + dataProperty + ".d\"}}";
+    // Is the data for the column formatted
+    private void writeFColumnHeader(JsonWriter json, String title, String dataProperty) throws IOException {
+        json.beginObject()
+                .name("title").value(title.replace('"', '\''))
+                .name("data").beginObject()
+                .name("_").value(dataProperty + ".v")
+                .name("display").value(dataProperty + ".d")
+                .endObject()
+                .endObject();
     }
 
-    private void appendExtensionHeaders(StringBuilder columnHeaders) {
+    private void writeExtensionHeaders(JsonWriter json) throws IOException {
         for (ExtensionDescriptive provider : extensionDescriptives) {
-            columnHeaders.append(',');
             String headerText = Icon.fromExtensionIcon(provider.getIcon().setColor(Color.NONE)).toHtml().replace('"', '\'') + ' ' + provider.getText();
-            columnHeaders.append(makeFColumnHeader(headerText, provider.getName()));
+            writeFColumnHeader(json, headerText, provider.getName());
         }
     }
-}
\ No newline at end of file
+}
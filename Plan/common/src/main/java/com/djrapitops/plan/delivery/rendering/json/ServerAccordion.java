@@ -16,15 +16,13 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
-import com.djrapitops.plan.delivery.domain.container.DataContainer;
-import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
-import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
-import com.djrapitops.plan.delivery.domain.keys.PerServerKeys;
-import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.delivery.domain.SessionSummary;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.UserInfo;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 
 import java.util.*;
@@ -37,15 +35,33 @@ import java.util.*;
 public class ServerAccordion {
 
     private final Map<UUID, String> serverNames;
-    private final PerServerContainer perServer;
+    private final Map<UUID, UserInfo> userInfo;
+    private final Map<UUID, SessionSummary> sessionSummaries;
+    private final Map<UUID, List<Session>> sessions;
+    private final Map<UUID, Integer> playerKills;
+    private final Map<UUID, WorldTimes> worldTimes;
     private final String unknown;
 
     private final Graphs graphs;
     private final Formatter<Long> year;
     private final Formatter<Long> timeAmount;
 
+    /**
+     * Create the accordion from data of the player on each server.
+     *
+     * @param userInfo         Server UUID - UserInfo of the player.
+     * @param sessionSummaries Server UUID - Totals of sessions, from the database.
+     * @param sessions         Server UUID - Sessions without kill or world data, for session median.
+     * @param playerKills      Server UUID - Player kill count.
+     * @param worldTimes       Server UUID - World times of the player.
+     */
     public ServerAccordion(
-            PlayerContainer container, Map<UUID, String> serverNames,
+            Map<UUID, UserInfo> userInfo,
+            Map<UUID, SessionSummary> sessionSummaries,
+            Map<UUID, List<Session>> sessions,
+            Map<UUID, Integer> playerKills,
+            Map<UUID, WorldTimes> worldTimes,
+            Map<UUID, String> serverNames,
             Graphs graphs,
             Formatter<Long> year,
             Formatter<Long> timeAmount,
@@ -55,42 +71,47 @@ public class ServerAccordion {
         this.year = year;
         this.timeAmount = timeAmount;
 
+        this.userInfo = userInfo;
+        this.sessionSummaries = sessionSummaries;
+        this.sessions = sessions;
+        this.playerKills = playerKills;
+        this.worldTimes = worldTimes;
         this.serverNames = serverNames;
-        perServer = container.getValue(PlayerKeys.PER_SERVER)
-                .orElse(new PerServerContainer());
         this.unknown = unknown;
     }
 
     public List<Map<String, Object>> asMaps() {
         List<Map<String, Object>> servers = new ArrayList<>();
 
-        for (Map.Entry<UUID, DataContainer> entry : perServer.entrySet()) {
-            UUID serverUUID = entry.getKey();
-            DataContainer perServer = entry.getValue();
+        Set<UUID> serverUUIDs = new HashSet<>(userInfo.keySet());
+        serverUUIDs.addAll(sessionSummaries.keySet());
+
+        for (UUID serverUUID : serverUUIDs) {
             Map<String, Object> server = new HashMap<>();
 
             String serverName = serverNames.getOrDefault(serverUUID, unknown);
-            WorldTimes worldTimes = perServer.getValue(PerServerKeys.WORLD_TIMES).orElse(new WorldTimes());
-            SessionsMutator sessionsMutator = SessionsMutator.forContainer(perServer);
+            Optional<UserInfo> info = Optional.ofNullable(userInfo.get(serverUUID));
+            SessionSummary summary = sessionSummaries.getOrDefault(serverUUID, new SessionSummary());
+            SessionsMutator sessionsMutator = new SessionsMutator(sessions.getOrDefault(serverUUID, Collections.emptyList()));
 
             server.put("server_name", serverName);
 
-            server.put("banned", perServer.getValue(PerServerKeys.BANNED).orElse(false));
-            server.put("operator", perServer.getValue(PerServerKeys.OPERATOR).orElse(false));
-            server.put("registered", year.apply(perServer.getValue(PerServerKeys.REGISTERED).orElse(0L)));
-            server.put("last_seen", year.apply(sessionsMutator.toLastSeen()));
+            server.put("banned", info.map(UserInfo::isBanned).orElse(false));
+            server.put("operator", info.map(UserInfo::isOperator).orElse(false));
+            server.put("registered", year.apply(info.map(UserInfo::getRegistered).orElse(0L)));
+            server.put("last_seen", year.apply(summary.getLastSeen()));
 
-            server.put("session_count", sessionsMutator.count());
-            server.put("playtime", timeAmount.apply(sessionsMutator.toPlaytime()));
-            server.put("afk_time", timeAmount.apply(sessionsMutator.toAfkTime()));
+            server.put("session_count", summary.getSessionCount());
+            server.put("playtime", timeAmount.apply(summary.getPlaytime()));
+            server.put("afk_time", timeAmount.apply(summary.getAfkTime()));
             server.put("session_median", timeAmount.apply(sessionsMutator.toMedianSessionLength()));
-            server.put("longest_session_length", timeAmount.apply(sessionsMutator.toLongestSessionLength()));
+            server.put("longest_session_length", timeAmount.apply(summary.getLongestSession()));
 
-            server.put("mob_kills", sessionsMutator.toMobKillCount());
-            server.put("player_kills", sessionsMutator.toPlayerKillCount());
-            server.put("deaths", sessionsMutator.toDeathCount());
+            server.put("mob_kills", summary.getMobKills());
+            server.put("player_kills", playerKills.getOrDefault(serverUUID, 0));
+            server.put("deaths", summary.getDeaths());
 
-            WorldPie worldPie = graphs.pie().worldPie(worldTimes);
+            WorldPie worldPie = graphs.pie().worldPie(worldTimes.getOrDefault(serverUUID, new WorldTimes()));
             server.put("world_pie_series", worldPie.getSlices());
             server.put("gm_series", worldPie.toHighChartsDrillDownMaps());
 
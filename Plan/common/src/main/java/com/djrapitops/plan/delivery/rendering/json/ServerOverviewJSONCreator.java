@@ -18,9 +18,10 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
 import com.djrapitops.plan.delivery.domain.DateObj;
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.gathering.cache.TPSCache;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -29,9 +30,10 @@ import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.ServerAggregateQueries;
-import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivitySnapshotQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -44,6 +46,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /server-page Server Overview tab.
@@ -58,6 +61,7 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     private final Locale locale;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final TPSCache tpsCache;
 
     private final Formatter<Long> timeAmount;
     private final Formatter<Double> decimals;
@@ -70,12 +74,14 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
             Locale locale,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            TPSCache tpsCache,
             Formatters formatters
     ) {
         this.config = config;
         this.locale = locale;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.tpsCache = tpsCache;
 
         year = formatters.year();
         day = formatters.dayLong();
@@ -93,103 +99,143 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
     }
 
     private Map<String, Object> createLast7DaysMap(UUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<Integer> uniquePlayers = batch.add(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> uniquePlayersPerDay = batch.add(DailyRollupQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID));
+        Supplier<Integer> newPlayers = batch.add(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
+        Supplier<Integer> retainedPlayers = batch.add(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        batch.execute();
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now, serverUUID)));
-        sevenDays.put("unique_players_day", db.query(PlayerCountQueries.averageUniquePlayerCount(weekAgo, now, config.getTimeZone().getOffset(now), serverUUID)));
+        sevenDays.put("unique_players", uniquePlayers.get());
+        sevenDays.put("unique_players_day", uniquePlayersPerDay.get());
 
-        int new7d = db.query(PlayerCountQueries.newPlayerCount(weekAgo, now, serverUUID));
-        int retained7d = db.query(PlayerCountQueries.retainedPlayerCount(weekAgo, now, serverUUID));
+        int new7d = newPlayers.get();
+        int retained7d = retainedPlayers.get();
         double retentionPerc7d = new7d != 0 ? (double) retained7d / new7d : -1;
 
         sevenDays.put("new_players", new7d);
         sevenDays.put("new_players_retention", retained7d);
         sevenDays.put("new_players_retention_perc", percentage.apply(retentionPerc7d));
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(weekAgo, now, serverUUID)));
-        double averageTPS = tpsMutator.averageTPS();
+        TPSColumns tpsData = tpsCache.getRecentTPS(serverUUID).between(weekAgo, now);
+        double averageTPS = tpsData.averageTPS();
         sevenDays.put("average_tps", averageTPS != -1 ? decimals.apply(averageTPS) : locale.get(GenericLang.UNAVAILABLE).toString());
-        sevenDays.put("low_tps_spikes", tpsMutator.lowTpsSpikeCount(config.getNumber(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
-        sevenDays.put("downtime", timeAmount.apply(tpsMutator.serverDownTime()));
+        sevenDays.put("low_tps_spikes", tpsData.lowTpsSpikeCount(config.getNumber(DisplaySettings.GRAPH_TPS_THRESHOLD_MED)));
+        sevenDays.put("downtime", timeAmount.apply(tpsData.serverDownTime()));
 
         return sevenDays;
     }
 
     private Map<String, Object> createNumbersMap(UUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
+        int timeZoneOffset = config.getTimeZone().getOffset(now);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<Integer> userCountResult = batch.add(ServerAggregateQueries.serverUserCount(serverUUID));
+        Supplier<Integer> regularPlayers = batch.add(ActivitySnapshotQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Object> onlinePlayers = getOnlinePlayers(serverUUID, batch);
+        Supplier<Optional<DateObj<Integer>>> lastPeakResult = batch.add(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> allTimePeakResult = batch.add(DailyRollupQueries.fetchAllTimePeakPlayerCount(timeZoneOffset, serverUUID));
+        Supplier<Long> totalPlaytimeResult = batch.add(DailyRollupQueries.playtime(timeZoneOffset, serverUUID));
+        Supplier<Long> sessionCount = batch.add(DailyRollupQueries.sessionCount(timeZoneOffset, serverUUID));
+        Supplier<Long> playerKills = batch.add(KillQueries.playerKillCount(0L, now, serverUUID));
+        Supplier<Long> mobKills = batch.add(KillQueries.mobKillCount(0L, now, serverUUID));
+        Supplier<Long> deaths = batch.add(KillQueries.deathCount(0L, now, serverUUID));
+        batch.execute();
+
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(ServerAggregateQueries.serverUserCount(serverUUID));
+        Integer userCount = userCountResult.get();
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold)));
-        numbers.put("online_players", getOnlinePlayers(serverUUID, db));
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        numbers.put("regular_players", regularPlayers.get());
+        numbers.put("online_players", onlinePlayers.get());
+        Optional<DateObj<Integer>> lastPeak = lastPeakResult.get();
+        Optional<DateObj<Integer>> allTimePeak = allTimePeakResult.get();
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now, serverUUID));
+        Long totalPlaytime = totalPlaytimeResult.get();
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        numbers.put("sessions", db.query(SessionQueries.sessionCount(0L, now, serverUUID)));
-        numbers.put("player_kills", db.query(KillQueries.playerKillCount(0L, now, serverUUID)));
-        numbers.put("mob_kills", db.query(KillQueries.mobKillCount(0L, now, serverUUID)));
-        numbers.put("deaths", db.query(KillQueries.deathCount(0L, now, serverUUID)));
+        numbers.put("sessions", sessionCount.get());
+        numbers.put("player_kills", playerKills.get());
+        numbers.put("mob_kills", mobKills.get());
+        numbers.put("deaths", deaths.get());
 
         return numbers;
     }
 
-    private Object getOnlinePlayers(UUID serverUUID, Database db) {
-        return serverUUID.equals(serverInfo.getServerUUID())
-                ? serverInfo.getServerProperties().getOnlinePlayers()
-                : db.query(TPSQueries.fetchLatestTPSEntryForServer(serverUUID))
+    private Supplier<Object> getOnlinePlayers(UUID serverUUID, QueryBatch batch) {
+        if (serverUUID.equals(serverInfo.getServerUUID())) {
+            Object onlinePlayers = serverInfo.getServerProperties().getOnlinePlayers();
+            return () -> onlinePlayers;
+        }
+        Supplier<Optional<TPS>> latestTPS = batch.add(TPSQueries.fetchLatestTPSEntryForServer(serverUUID));
+        return () -> latestTPS.get()
                 .map(TPS::getPlayers).map(Object::toString)
                 .orElse(locale.get(GenericLang.UNKNOWN).toString());
     }
 
     private Map<String, Object> createWeeksMap(UUID serverUUID) {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<Integer> uniqueBeforeResult = batch.add(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Integer> uniqueAfterResult = batch.add(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Supplier<Integer> newBeforeResult = batch.add(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Integer> newAfterResult = batch.add(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Supplier<Integer> regularBeforeResult = batch.add(ActivitySnapshotQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
+        Supplier<Integer> regularAfterResult = batch.add(ActivitySnapshotQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        Supplier<Long> playtimeBeforeResult = batch.add(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> playtimeAfterResult = batch.add(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
+        Supplier<Long> sessionsBeforeResult = batch.add(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> sessionsAfterResult = batch.add(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> pksBeforeResult = batch.add(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> pksAfterResult = batch.add(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> mkBeforeResult = batch.add(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> mkAfterResult = batch.add(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        Supplier<Long> deathsBeforeResult = batch.add(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
+        Supplier<Long> deathsAfterResult = batch.add(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+        batch.execute();
+
         Map<String, Object> weeks = new HashMap<>();
 
         weeks.put("start", day.apply(twoWeeksAgo));
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now, serverUUID));
+        Integer uniqueBefore = uniqueBeforeResult.get();
+        Integer uniqueAfter = uniqueAfterResult.get();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now, serverUUID));
+        Integer newBefore = newBeforeResult.get();
+        Integer newAfter = newAfterResult.get();
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(ActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, serverUUID, playtimeThreshold));
-        int regularAfter = db.query(ActivityIndexQueries.fetchRegularPlayerCount(now, serverUUID, playtimeThreshold));
+        int regularBefore = regularBeforeResult.get();
+        int regularAfter = regularAfterResult.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now, serverUUID));
+        Long playtimeBefore = playtimeBeforeResult.get();
+        Long playtimeAfter = playtimeAfterResult.get();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -197,29 +243,29 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now, serverUUID));
+        Long sessionsBefore = sessionsBeforeResult.get();
+        Long sessionsAfter = sessionsAfterResult.get();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
         weeks.put("sessions_trend", sessionsTrend);
 
-        Long pksBefore = db.query(KillQueries.playerKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long pksAfter = db.query(KillQueries.playerKillCount(oneWeekAgo, now, serverUUID));
+        Long pksBefore = pksBeforeResult.get();
+        Long pksAfter = pksAfterResult.get();
         Trend pksTrend = new Trend(pksBefore, pksAfter, false);
         weeks.put("player_kills_before", pksBefore);
         weeks.put("player_kills_after", pksAfter);
         weeks.put("player_kills_trend", pksTrend);
 
-        Long mkBefore = db.query(KillQueries.mobKillCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long mkAfter = db.query(KillQueries.mobKillCount(oneWeekAgo, now, serverUUID));
+        Long mkBefore = mkBeforeResult.get();
+        Long mkAfter = mkAfterResult.get();
         Trend mkTrend = new Trend(mkBefore, mkAfter, false);
         weeks.put("mob_kills_before", mkBefore);
         weeks.put("mob_kills_after", mkAfter);
         weeks.put("mob_kills_trend", mkTrend);
 
-        Long deathsBefore = db.query(KillQueries.deathCount(twoWeeksAgo, oneWeekAgo, serverUUID));
-        Long deathsAfter = db.query(KillQueries.deathCount(oneWeekAgo, now, serverUUID));
+        Long deathsBefore = deathsBeforeResult.get();
+        Long deathsAfter = deathsAfterResult.get();
         Trend deathTrend = new Trend(deathsBefore, deathsAfter, true);
         weeks.put("deaths_before", deathsBefore);
         weeks.put("deaths_after", deathsAfter);
@@ -227,4 +273,4 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
 
         return weeks;
     }
-}
\ No newline at end of file
+}
@@ -16,15 +16,14 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.gathering.cache.TPSCache;
 import com.djrapitops.plan.gathering.domain.GMTimes;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
-import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import org.apache.commons.text.WordUtils;
 
@@ -42,6 +41,7 @@ import java.util.concurrent.TimeUnit;
 public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<String, Object>> {
 
     private final DBSystem dbSystem;
+    private final TPSCache tpsCache;
 
     private final Formatter<Long> timeAmount;
     private final Formatter<Double> percentage;
@@ -49,9 +49,11 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
     @Inject
     public SessionsOverviewJSONCreator(
             DBSystem dbSystem,
+            TPSCache tpsCache,
             Formatters formatters
     ) {
         this.dbSystem = dbSystem;
+        this.tpsCache = tpsCache;
 
         timeAmount = formatters.timeAmount();
         percentage = formatters.percentage();
@@ -66,13 +68,12 @@ public class SessionsOverviewJSONCreator implements ServerTabJSONCreator<Map<Str
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
-        TPSMutator tpsMutator = new TPSMutator(tpsData);
+        TPSColumns tpsData = tpsCache.getRecentTPS(serverUUID).between(monthAgo, now);
 
         Map<String, Object> insights = new HashMap<>();
 
-        long uptime = TimeUnit.DAYS.toMillis(30L) - tpsMutator.serverDownTime();
-        long occupied = tpsMutator.serverOccupiedTime();
+        long uptime = TimeUnit.DAYS.toMillis(30L) - tpsData.serverDownTime();
+        long occupied = tpsData.serverOccupiedTime();
         insights.put("server_occupied", timeAmount.apply(occupied));
         insights.put("server_occupied_perc", uptime != 0 ? percentage.apply(1.0 * occupied / uptime) : "-");
 
@@ -0,0 +1,40 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * JSON that can be written token by token instead of building it into a String first.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.delivery.webserver.response.data.JSONStreamResponse
+ */
+@FunctionalInterface
+public interface StreamableJSON {
+
+    /**
+     * Write a single JSON value to the writer.
+     *
+     * @param json Writer to write the JSON to.
+     * @throws IOException If the underlying stream fails, for example when the client closes the connection.
+     */
+    void writeTo(JsonWriter json) throws IOException;
+
+}
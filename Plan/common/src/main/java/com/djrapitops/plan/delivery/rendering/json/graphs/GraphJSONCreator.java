@@ -20,7 +20,9 @@ import com.djrapitops.plan.delivery.domain.DateMap;
 import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
 import com.djrapitops.plan.delivery.domain.mutators.PingMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
+import com.djrapitops.plan.delivery.rendering.json.StreamableJSON;
 import com.djrapitops.plan.delivery.rendering.json.graphs.bar.BarGraph;
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraphFactory;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.PingGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
@@ -37,7 +39,8 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivitySnapshotQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
@@ -57,6 +60,13 @@ import java.util.stream.Collectors;
 @Singleton
 public class GraphJSONCreator {
 
+    /**
+     * Amount of points per series in line graphs of half a year of per-minute data.
+     * <p>
+     * Narrower time ranges can be requested with more detail.
+     */
+    public static final int DEFAULT_GRAPH_POINTS = 2500;
+
     private final PlanConfig config;
     private final Theme theme;
     private final DBSystem dbSystem;
@@ -75,33 +85,57 @@ public class GraphJSONCreator {
         this.graphs = graphs;
     }
 
-    public String performanceGraphJSON(UUID serverUUID) {
-        Database db = dbSystem.getDatabase();
-        LineGraphFactory lineGraphs = graphs.line();
+    public StreamableJSON performanceGraphJSON(UUID serverUUID) {
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
-        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServer(serverUUID)))
-                .filterDataBetween(halfYearAgo, now);
-        return '{' +
-                "\"playersOnline\":" + lineGraphs.playersOnlineGraph(tpsMutator).toHighChartsSeries() +
-                ",\"tps\":" + lineGraphs.tpsGraph(tpsMutator).toHighChartsSeries() +
-                ",\"cpu\":" + lineGraphs.cpuGraph(tpsMutator).toHighChartsSeries() +
-                ",\"ram\":" + lineGraphs.ramGraph(tpsMutator).toHighChartsSeries() +
-                ",\"entities\":" + lineGraphs.entityGraph(tpsMutator).toHighChartsSeries() +
-                ",\"chunks\":" + lineGraphs.chunkGraph(tpsMutator).toHighChartsSeries() +
-                ",\"disk\":" + lineGraphs.diskGraph(tpsMutator).toHighChartsSeries() +
-                '}';
+        return performanceGraphJSON(serverUUID, halfYearAgo, now, DEFAULT_GRAPH_POINTS);
     }
 
-    public String playersOnlineGraph(UUID serverUUID) {
+    /**
+     * Create performance graph data of a time range.
+     * <p>
+     * The data is queried and downsampled right away, the JSON is written when the response is sent.
+     *
+     * @param serverUUID UUID of the server.
+     * @param after      Epoch ms, start of the time range.
+     * @param before     Epoch ms, end of the time range.
+     * @param maxPoints  Maximum amount of points per series, data is downsampled if there are more.
+     * @return JSON with the series of the performance graphs.
+     */
+    public StreamableJSON performanceGraphJSON(UUID serverUUID, long after, long before, int maxPoints) {
         Database db = dbSystem.getDatabase();
+        LineGraphFactory lineGraphs = graphs.line();
+        TPSMutator tpsMutator = new TPSMutator(db.query(TPSQueries.fetchTPSColumnsOfServer(after, before, serverUUID)));
+        Map<String, LineGraph> series = new LinkedHashMap<>();
+        series.put("playersOnline", lineGraphs.playersOnlineGraph(tpsMutator).downsample(maxPoints));
+        series.put("tps", lineGraphs.tpsGraph(tpsMutator).downsample(maxPoints));
+        series.put("cpu", lineGraphs.cpuGraph(tpsMutator).downsample(maxPoints));
+        series.put("ram", lineGraphs.ramGraph(tpsMutator).downsample(maxPoints));
+        series.put("entities", lineGraphs.entityGraph(tpsMutator).downsample(maxPoints));
+        series.put("chunks", lineGraphs.chunkGraph(tpsMutator).downsample(maxPoints));
+        series.put("disk", lineGraphs.diskGraph(tpsMutator).downsample(maxPoints));
+        return json -> {
+            json.beginObject();
+            for (Map.Entry<String, LineGraph> entry : series.entrySet()) {
+                json.name(entry.getKey());
+                entry.getValue().writeHighChartsSeries(json);
+            }
+            json.endObject();
+        };
+    }
+
+    public String playersOnlineGraph(UUID serverUUID) {
         long now = System.currentTimeMillis();
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
+        return playersOnlineGraph(serverUUID, halfYearAgo, now, DEFAULT_GRAPH_POINTS);
+    }
 
-        List<Point> points = db.query(TPSQueries.fetchPlayersOnlineOfServer(halfYearAgo, now, serverUUID)).stream()
+    public String playersOnlineGraph(UUID serverUUID, long after, long before, int maxPoints) {
+        Database db = dbSystem.getDatabase();
+        List<Point> points = db.query(TPSQueries.fetchPlayersOnlineOfServer(after, before, serverUUID)).stream()
                 .map(point -> new Point(point.getDate(), point.getValue()))
                 .collect(Collectors.toList());
-        return "{\"playersOnline\":" + graphs.line().lineGraph(points).toHighChartsSeries() + '}';
+        return "{\"playersOnline\":" + graphs.line().lineGraph(points).downsample(maxPoints).toHighChartsSeries() + '}';
     }
 
     public String uniqueAndNewGraphJSON(UUID serverUUID) {
@@ -111,10 +145,10 @@ public class GraphJSONCreator {
         long halfYearAgo = now - TimeUnit.DAYS.toMillis(180L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
         NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
+                DailyRollupQueries.uniquePlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
         NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
+                DailyRollupQueries.newPlayerCounts(halfYearAgo, now, timeZoneOffset, serverUUID)
         );
 
         return "{\"uniquePlayers\":" +
@@ -158,16 +192,16 @@ public class GraphJSONCreator {
         long twoYearsAgo = now - TimeUnit.DAYS.toMillis(730L);
         int timeZoneOffset = config.getTimeZone().getOffset(now);
         NavigableMap<Long, Integer> uniquePerDay = db.query(
-                PlayerCountQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
+                DailyRollupQueries.uniquePlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
         NavigableMap<Long, Integer> newPerDay = db.query(
-                PlayerCountQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
+                DailyRollupQueries.newPlayerCounts(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
         NavigableMap<Long, Long> playtimePerDay = db.query(
-                SessionQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
+                DailyRollupQueries.playtimePerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
         NavigableMap<Long, Integer> sessionsPerDay = db.query(
-                SessionQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
+                DailyRollupQueries.sessionCountPerDay(twoYearsAgo, now, timeZoneOffset, serverUUID)
         );
         return "{\"data\":" +
                 graphs.calendar().serverCalendar(
@@ -197,7 +231,7 @@ public class GraphJSONCreator {
 
         DateMap<Map<String, Integer>> activityData = new DateMap<>();
         for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
+            activityData.put(time, db.query(ActivitySnapshotQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
         }
 
         Map.Entry<Long, Map<String, Integer>> lastActivityEntry = activityData.lastEntry();
@@ -16,14 +16,16 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs.calendar;
 
-import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.gathering.domain.PlayerKill;
+import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.SortedMap;
 
@@ -52,9 +54,9 @@ public class CalendarFactory {
         this.theme = theme;
     }
 
-    public PlayerCalendar playerCalendar(PlayerContainer player) {
+    public PlayerCalendar playerCalendar(List<Session> sessions, List<PlayerKill> kills, long registered) {
         return new PlayerCalendar(
-                player,
+                sessions, kills, registered,
                 formatters.timeAmount(), formatters.yearLong(), formatters.iso8601NoClockLong(), theme, locale,
                 config.getTimeZone()
         );
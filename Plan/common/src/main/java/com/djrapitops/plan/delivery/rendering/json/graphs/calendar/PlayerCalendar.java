@@ -16,8 +16,6 @@
  */
 package com.djrapitops.plan.delivery.rendering.json.graphs.calendar;
 
-import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
-import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
@@ -45,10 +43,13 @@ public class PlayerCalendar {
     private final TimeZone timeZone;
 
     private final List<Session> allSessions;
+    private final List<PlayerKill> kills;
     private final long registered;
 
     PlayerCalendar(
-            PlayerContainer container,
+            List<Session> allSessions,
+            List<PlayerKill> kills,
+            long registered,
             Formatter<Long> timeAmount,
             Formatter<Long> year,
             Formatter<Long> iso8601Formatter,
@@ -56,8 +57,9 @@ public class PlayerCalendar {
             Locale locale,
             TimeZone timeZone
     ) {
-        this.allSessions = container.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>());
-        this.registered = container.getValue(PlayerKeys.REGISTERED).orElse(0L);
+        this.allSessions = allSessions;
+        this.kills = kills;
+        this.registered = registered;
 
         this.timeAmount = timeAmount;
         this.year = year;
@@ -104,16 +106,16 @@ public class PlayerCalendar {
                             start + timeZone.getOffset(start))
                     .withEnd(end + timeZone.getOffset(end))
             );
+        }
 
-            for (PlayerKill kill : session.getPlayerKills()) {
-                long time = kill.getDate();
-                String victim = kill.getVictimName().orElse(kill.getVictim().toString());
-                entries.add(CalendarEntry
-                        .of(locale.getString(HtmlLang.KILLED) + ": " + victim, time)
-                        .withEnd(time + fiveMinutes)
-                        .withColor(theme.getValue(ThemeVal.RED))
-                );
-            }
+        for (PlayerKill kill : kills) {
+            long time = kill.getDate();
+            String victim = kill.getVictimName().orElse(kill.getVictim().toString());
+            entries.add(CalendarEntry
+                    .of(locale.getString(HtmlLang.KILLED) + ": " + victim, time)
+                    .withEnd(time + fiveMinutes)
+                    .withColor(theme.getValue(ThemeVal.RED))
+            );
         }
 
         return entries;
@@ -0,0 +1,101 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs.line;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Downsampling of line graph data with the Largest-Triangle-Three-Buckets algorithm.
+ * <p>
+ * Points are divided into equally sized buckets, and from each bucket the point that forms the largest triangle with
+ * the previously selected point and the average of the next bucket is kept. This keeps the peaks and dips of the
+ * graph visible while reducing the amount of points to a fixed number.
+ *
+ * @author Rsl1122
+ */
+public class LargestTriangleThreeBuckets {
+
+    private LargestTriangleThreeBuckets() {
+        /* Static method class */
+    }
+
+    /**
+     * Downsample points to a target amount.
+     *
+     * @param points       Points sorted by x.
+     * @param targetPoints Amount of points in the result, at least 3.
+     * @return Given list if it is already small enough, otherwise a new list with targetPoints points.
+     */
+    public static List<Point> downsample(List<Point> points, int targetPoints) {
+        int size = points.size();
+        if (targetPoints < 3 || size <= targetPoints) {
+            return points;
+        }
+
+        List<Point> sampled = new ArrayList<>(targetPoints);
+        // First and last points are always kept, rest are divided into buckets.
+        double bucketSize = (double) (size - 2) / (targetPoints - 2);
+
+        int selected = 0;
+        sampled.add(points.get(selected));
+        for (int bucket = 0; bucket < targetPoints - 2; bucket++) {
+            int bucketStart = (int) (bucket * bucketSize) + 1;
+            int bucketEnd = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Average of the next bucket is used as the third point of the triangle.
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                Point point = points.get(i);
+                averageX += point.getX();
+                averageY += y(point);
+            }
+            int nextLength = nextEnd - nextStart;
+            averageX /= nextLength;
+            averageY /= nextLength;
+
+            Point previous = points.get(selected);
+            double previousX = previous.getX();
+            double previousY = y(previous);
+
+            double maxArea = -1;
+            int maxAreaIndex = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                Point point = points.get(i);
+                // Double of the triangle area, only used for comparison.
+                double area = Math.abs((previousX - averageX) * (y(point) - previousY)
+                        - (previousX - point.getX()) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxAreaIndex = i;
+                }
+            }
+            sampled.add(points.get(maxAreaIndex));
+            selected = maxAreaIndex;
+        }
+        sampled.add(points.get(size - 1));
+        return sampled;
+    }
+
+    private static double y(Point point) {
+        Double y = point.getY();
+        return y != null ? y : 0.0;
+    }
+}
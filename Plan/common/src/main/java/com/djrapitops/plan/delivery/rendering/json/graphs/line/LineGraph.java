@@ -18,7 +18,12 @@ package com.djrapitops.plan.delivery.rendering.json.graphs.line;
 
 import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
 import com.djrapitops.plan.delivery.rendering.json.graphs.HighChart;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -29,38 +34,112 @@ import java.util.concurrent.TimeUnit;
  */
 public class LineGraph implements HighChart {
 
+    private static final long DEFAULT_GAP_THRESHOLD = TimeUnit.MINUTES.toMillis(3L);
+
     private final boolean displayGaps;
     private final List<Point> points;
+    private final long gapThreshold;
 
     public LineGraph(List<Point> points, boolean displayGaps) {
+        this(points, displayGaps, DEFAULT_GAP_THRESHOLD);
+    }
+
+    private LineGraph(List<Point> points, boolean displayGaps, long gapThreshold) {
         this.points = points;
         this.displayGaps = displayGaps;
+        this.gapThreshold = gapThreshold;
+    }
+
+    /**
+     * Reduce the amount of points in this graph.
+     * <p>
+     * Gaps are detected from the original points, since downsampled points are too far apart to tell an outage
+     * from sampling. Each part between gaps is downsampled separately, and the gaps are kept as null points.
+     *
+     * @param targetPoints Maximum amount of points in the returned graph, more if there are many gaps.
+     * @return this graph if it has few enough points, or a new downsampled graph.
+     * @see LargestTriangleThreeBuckets
+     */
+    public LineGraph downsample(int targetPoints) {
+        int size = points.size();
+        if (size <= targetPoints) {
+            return this;
+        }
+        if (!displayGaps) {
+            return new LineGraph(LargestTriangleThreeBuckets.downsample(points, targetPoints), false, gapThreshold);
+        }
+
+        List<Point> downsampled = new ArrayList<>(targetPoints);
+        int partStart = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i < size && !isGap(i)) {
+                continue;
+            }
+            List<Point> part = points.subList(partStart, i);
+            int partTarget = Math.max(3, (int) ((long) targetPoints * part.size() / size));
+            downsampled.addAll(LargestTriangleThreeBuckets.downsample(part, partTarget));
+            if (i < size) {
+                downsampled.add(new Point(points.get(i - 1).getX() + TimeUnit.MINUTES.toMillis(1L), null));
+            }
+            partStart = i;
+        }
+        // Gaps are now explicit null points.
+        return new LineGraph(downsampled, false, gapThreshold);
+    }
+
+    /**
+     * Check if there is a gap before a point.
+     * <p>
+     * Aggregated data is further apart than the gap threshold, so the distance is compared to the distances of the
+     * neighbouring points too.
+     *
+     * @param index Index of the point after the possible gap, at least 1.
+     * @return true if the data is missing between this and the previous point.
+     */
+    private boolean isGap(int index) {
+        double distance = points.get(index).getX() - points.get(index - 1).getX();
+        double previousDistance = index >= 2 ? points.get(index - 1).getX() - points.get(index - 2).getX() : 0.0;
+        double nextDistance = index + 1 < points.size() ? points.get(index + 1).getX() - points.get(index).getX() : 0.0;
+        return distance > Math.max(gapThreshold, 2.0 * Math.max(previousDistance, nextDistance));
     }
 
     @Override
     public String toHighChartsSeries() {
-        StringBuilder arrayBuilder = new StringBuilder("[");
+        StringWriter out = new StringWriter();
+        try (JsonWriter json = new JsonWriter(out)) {
+            writeHighChartsSeries(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not thrown by StringWriter
+        }
+        return out.toString();
+    }
 
-        int size = points.size();
-        Long lastX = null;
-        for (int i = 0; i < size; i++) {
+    /**
+     * Write the series of this graph without creating a String of it.
+     *
+     * @param json Writer to write the series array to.
+     * @throws IOException If the writer fails.
+     */
+    public void writeHighChartsSeries(JsonWriter json) throws IOException {
+        json.beginArray();
+        for (int i = 0; i < points.size(); i++) {
             Point point = points.get(i);
             Double y = point.getY();
             long date = (long) point.getX();
 
-            if (displayGaps && lastX != null && date - lastX > TimeUnit.MINUTES.toMillis(3L)) {
-                addMissingPoints(arrayBuilder, lastX, date);
+            if (displayGaps && i > 0 && isGap(i)) {
+                writeMissingPoints(json, (long) points.get(i - 1).getX(), date);
             }
-            lastX = date;
 
-            arrayBuilder.append("[").append(date).append(",").append(y).append("]");
-            if (i < size - 1) {
-                arrayBuilder.append(",");
+            json.beginArray().value(date);
+            if (y != null && Double.isFinite(y)) {
+                json.value((double) y);
+            } else {
+                json.nullValue(); // NaN is not valid JSON
             }
+            json.endArray();
         }
-
-        arrayBuilder.append("]");
-        return arrayBuilder.toString();
+        json.endArray();
     }
 
     public List<Point> getPoints() {
@@ -70,10 +149,10 @@ public class LineGraph implements HighChart {
         return points;
     }
 
-    private void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
+    private void writeMissingPoints(JsonWriter json, long lastX, long date) throws IOException {
         long iterate = lastX + TimeUnit.MINUTES.toMillis(1L);
         while (iterate < date) {
-            arrayBuilder.append("[").append(iterate).append(",null],");
+            json.beginArray().value(iterate).nullValue().endArray();
             iterate += TimeUnit.MINUTES.toMillis(30L);
         }
     }
@@ -25,7 +25,8 @@ import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
@@ -38,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Creates JSON payload for /network-page Network Overview tab.
@@ -79,48 +81,65 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
     }
 
     private Map<String, Object> createPlayersMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<Integer> unique1d = batch.add(PlayerCountQueries.uniquePlayerCount(dayAgo, now));
+        Supplier<Integer> unique7d = batch.add(PlayerCountQueries.uniquePlayerCount(weekAgo, now));
+        Supplier<Integer> unique30d = batch.add(PlayerCountQueries.uniquePlayerCount(monthAgo, now));
+        Supplier<Integer> new1d = batch.add(PlayerCountQueries.newPlayerCount(dayAgo, now));
+        Supplier<Integer> new7d = batch.add(PlayerCountQueries.newPlayerCount(weekAgo, now));
+        Supplier<Integer> new30d = batch.add(PlayerCountQueries.newPlayerCount(monthAgo, now));
+        batch.execute();
+
         Map<String, Object> sevenDays = new HashMap<>();
 
-        sevenDays.put("unique_players_1d", db.query(PlayerCountQueries.uniquePlayerCount(dayAgo, now)));
-        sevenDays.put("unique_players_7d", db.query(PlayerCountQueries.uniquePlayerCount(weekAgo, now)));
-        sevenDays.put("unique_players_30d", db.query(PlayerCountQueries.uniquePlayerCount(monthAgo, now)));
+        sevenDays.put("unique_players_1d", unique1d.get());
+        sevenDays.put("unique_players_7d", unique7d.get());
+        sevenDays.put("unique_players_30d", unique30d.get());
 
-        sevenDays.put("new_players_1d", db.query(PlayerCountQueries.newPlayerCount(dayAgo, now)));
-        sevenDays.put("new_players_7d", db.query(PlayerCountQueries.newPlayerCount(weekAgo, now)));
-        sevenDays.put("new_players_30d", db.query(PlayerCountQueries.newPlayerCount(monthAgo, now)));
+        sevenDays.put("new_players_1d", new1d.get());
+        sevenDays.put("new_players_7d", new7d.get());
+        sevenDays.put("new_players_30d", new30d.get());
 
         return sevenDays;
     }
 
     private Map<String, Object> createNumbersMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long twoDaysAgo = now - TimeUnit.DAYS.toMillis(2L);
+        int timeZoneOffset = config.getTimeZone().getOffset(now);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        UUID serverUUID = serverInfo.getServerUUID();
+
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<Integer> userCountResult = batch.add(PlayerCountQueries.newPlayerCount(0L, now));
+        Supplier<Integer> regularPlayers = batch.add(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        Supplier<Optional<DateObj<Integer>>> lastPeakResult = batch.add(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
+        Supplier<Optional<DateObj<Integer>>> allTimePeakResult = batch.add(DailyRollupQueries.fetchAllTimePeakPlayerCount(timeZoneOffset, serverUUID));
+        Supplier<Long> totalPlaytimeResult = batch.add(DailyRollupQueries.playtime(timeZoneOffset));
+        Supplier<Long> sessionCountResult = batch.add(DailyRollupQueries.sessionCount(timeZoneOffset));
+        batch.execute();
 
         Map<String, Object> numbers = new HashMap<>();
 
-        Integer userCount = db.query(PlayerCountQueries.newPlayerCount(0L, now));
+        Integer userCount = userCountResult.get();
         numbers.put("total_players", userCount);
-        numbers.put("regular_players", db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold)));
+        numbers.put("regular_players", regularPlayers.get());
         numbers.put("online_players", getOnlinePlayers());
-        UUID serverUUID = serverInfo.getServerUUID();
-        Optional<DateObj<Integer>> lastPeak = db.query(TPSQueries.fetchPeakPlayerCount(serverUUID, twoDaysAgo));
-        Optional<DateObj<Integer>> allTimePeak = db.query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID));
+        Optional<DateObj<Integer>> lastPeak = lastPeakResult.get();
+        Optional<DateObj<Integer>> allTimePeak = allTimePeakResult.get();
         numbers.put("last_peak_date", lastPeak.map(year).orElse("-"));
         numbers.put("last_peak_players", lastPeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
         numbers.put("best_peak_date", allTimePeak.map(year).orElse("-"));
         numbers.put("best_peak_players", allTimePeak.map(dateObj -> dateObj.getValue().toString()).orElse("-"));
-        Long totalPlaytime = db.query(SessionQueries.playtime(0L, now));
+        Long totalPlaytime = totalPlaytimeResult.get();
         numbers.put("playtime", timeAmount.apply(totalPlaytime));
         numbers.put("player_playtime", userCount != 0 ? timeAmount.apply(totalPlaytime / userCount) : "-");
-        Long sessionCount = db.query(SessionQueries.sessionCount(0L, now));
+        Long sessionCount = sessionCountResult.get();
         numbers.put("sessions", sessionCount);
         numbers.put("session_length_avg", sessionCount != 0 ? timeAmount.apply(totalPlaytime / sessionCount) : "-");
 
@@ -132,40 +151,52 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
     }
 
     private Map<String, Object> createWeeksMap() {
-        Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long oneWeekAgo = now - TimeUnit.DAYS.toMillis(7L);
         long twoWeeksAgo = now - TimeUnit.DAYS.toMillis(14L);
         Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
+        QueryBatch batch = dbSystem.getDatabase().batch();
+        Supplier<Integer> uniqueBeforeResult = batch.add(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
+        Supplier<Integer> uniqueAfterResult = batch.add(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now));
+        Supplier<Integer> newBeforeResult = batch.add(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
+        Supplier<Integer> newAfterResult = batch.add(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        Supplier<Integer> regularBeforeResult = batch.add(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
+        Supplier<Integer> regularAfterResult = batch.add(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        Supplier<Long> playtimeBeforeResult = batch.add(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo));
+        Supplier<Long> playtimeAfterResult = batch.add(SessionQueries.playtime(oneWeekAgo, now));
+        Supplier<Long> sessionsBeforeResult = batch.add(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo));
+        Supplier<Long> sessionsAfterResult = batch.add(SessionQueries.sessionCount(oneWeekAgo, now));
+        batch.execute();
+
         Map<String, Object> weeks = new HashMap<>();
 
         weeks.put("start", day.apply(twoWeeksAgo));
         weeks.put("midpoint", day.apply(oneWeekAgo));
         weeks.put("end", day.apply(now));
 
-        Integer uniqueBefore = db.query(PlayerCountQueries.uniquePlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer uniqueAfter = db.query(PlayerCountQueries.uniquePlayerCount(oneWeekAgo, now));
+        Integer uniqueBefore = uniqueBeforeResult.get();
+        Integer uniqueAfter = uniqueAfterResult.get();
         Trend uniqueTrend = new Trend(uniqueBefore, uniqueAfter, false);
         weeks.put("unique_before", uniqueBefore);
         weeks.put("unique_after", uniqueAfter);
         weeks.put("unique_trend", uniqueTrend);
 
-        Integer newBefore = db.query(PlayerCountQueries.newPlayerCount(twoWeeksAgo, oneWeekAgo));
-        Integer newAfter = db.query(PlayerCountQueries.newPlayerCount(oneWeekAgo, now));
+        Integer newBefore = newBeforeResult.get();
+        Integer newAfter = newAfterResult.get();
         Trend newTrend = new Trend(newBefore, newAfter, false);
         weeks.put("new_before", newBefore);
         weeks.put("new_after", newAfter);
         weeks.put("new_trend", newTrend);
 
-        int regularBefore = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(oneWeekAgo, playtimeThreshold));
-        int regularAfter = db.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(now, playtimeThreshold));
+        int regularBefore = regularBeforeResult.get();
+        int regularAfter = regularAfterResult.get();
         weeks.put("regular_before", regularBefore);
         weeks.put("regular_after", regularAfter);
         weeks.put("regular_trend", new Trend(regularBefore, regularAfter, false));
 
-        Long playtimeBefore = db.query(SessionQueries.playtime(twoWeeksAgo, oneWeekAgo));
-        Long playtimeAfter = db.query(SessionQueries.playtime(oneWeekAgo, now));
+        Long playtimeBefore = playtimeBeforeResult.get();
+        Long playtimeAfter = playtimeAfterResult.get();
         long avgPlaytimeBefore = uniqueBefore != 0 ? playtimeBefore / uniqueBefore : 0L;
         long avgPlaytimeAfter = uniqueAfter != 0 ? playtimeAfter / uniqueAfter : 0L;
         Trend avgPlaytimeTrend = new Trend(avgPlaytimeBefore, avgPlaytimeAfter, false, timeAmount);
@@ -173,8 +204,8 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
         weeks.put("average_playtime_after", timeAmount.apply(avgPlaytimeAfter));
         weeks.put("average_playtime_trend", avgPlaytimeTrend);
 
-        Long sessionsBefore = db.query(SessionQueries.sessionCount(twoWeeksAgo, oneWeekAgo));
-        Long sessionsAfter = db.query(SessionQueries.sessionCount(oneWeekAgo, now));
+        Long sessionsBefore = sessionsBeforeResult.get();
+        Long sessionsAfter = sessionsAfterResult.get();
         Trend sessionsTrend = new Trend(sessionsBefore, sessionsAfter, false);
         weeks.put("sessions_before", sessionsBefore);
         weeks.put("sessions_after", sessionsAfter);
@@ -189,4 +220,4 @@ public class NetworkOverviewJSONCreator implements NetworkTabJSONCreator<Map<Str
 
         return weeks;
     }
-}
\ No newline at end of file
+}
@@ -22,12 +22,19 @@ import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.html.Html;
 import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
 import com.djrapitops.plan.delivery.rendering.html.structure.TabsElement;
+import com.djrapitops.plan.delivery.webserver.LatencyHistogram;
+import com.djrapitops.plan.delivery.webserver.WebServerMetrics;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
+import com.djrapitops.plan.extension.implementation.MethodCallStatistics;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.properties.ServerProperties;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.QueryProfiler;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.TransactionQueueStatistics;
 import com.djrapitops.plan.storage.file.FileResource;
 import com.djrapitops.plan.storage.file.ResourceCache;
 import com.djrapitops.plan.version.VersionCheckSystem;
@@ -41,6 +48,7 @@ import com.djrapitops.plugin.logging.debug.MemoryDebugLogger;
 import com.djrapitops.plugin.logging.error.DefaultErrorHandler;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 import com.djrapitops.plugin.logging.error.FolderTimeStampErrorFileLogger;
+import org.apache.commons.text.StringEscapeUtils;
 
 import java.io.IOException;
 import java.util.*;
@@ -58,6 +66,8 @@ public class DebugPage implements Page {
     private final CombineDebugLogger debugLogger;
     private final Timings timings;
     private final ErrorHandler errorHandler;
+    private final ExtensionMethodExecutor extensionMethodExecutor;
+    private final WebServerMetrics webServerMetrics;
 
     private final Formatter<Long> yearFormatter;
 
@@ -68,7 +78,9 @@ public class DebugPage implements Page {
             VersionCheckSystem versionCheckSystem,
             DebugLogger debugLogger,
             Timings timings,
-            ErrorHandler errorHandler
+            ErrorHandler errorHandler,
+            ExtensionMethodExecutor extensionMethodExecutor,
+            WebServerMetrics webServerMetrics
     ) {
         this.database = database;
         this.serverInfo = serverInfo;
@@ -76,6 +88,8 @@ public class DebugPage implements Page {
         this.debugLogger = (CombineDebugLogger) debugLogger;
         this.timings = timings;
         this.errorHandler = errorHandler;
+        this.extensionMethodExecutor = extensionMethodExecutor;
+        this.webServerMetrics = webServerMetrics;
 
         this.yearFormatter = formatters.yearLong();
     }
@@ -96,8 +110,11 @@ public class DebugPage implements Page {
         TabsElement.Tab errors = new TabsElement.Tab(Icon.called("exclamation-circle") + " Errors", createErrorContent());
         TabsElement.Tab debugLog = new TabsElement.Tab(Icon.called("bug") + " Debug Log", createDebugLogContent());
         TabsElement.Tab caches = new TabsElement.Tab(Icon.called("archive") + " Plan Caches", createCacheContent());
+        TabsElement.Tab extensions = new TabsElement.Tab(Icon.called("cubes") + " Extensions", createExtensionContent());
+        TabsElement.Tab webserver = new TabsElement.Tab(Icon.called("globe") + " Webserver", createWebserverContent());
+        TabsElement.Tab queries = new TabsElement.Tab(Icon.called("database") + " Queries", createQueryProfileContent());
 
-        TabsElement tabs = new TabsElement(info, errors, debugLog, caches);
+        TabsElement tabs = new TabsElement(info, errors, debugLog, caches, extensions, webserver, queries);
 
         return preContent + tabs.toHtmlFull();
     }
@@ -163,6 +180,193 @@ public class DebugPage implements Page {
         }
     }
 
+    private String createExtensionContent() {
+        StringBuilder content = new StringBuilder();
+        appendExtensionMethodLatencies(content);
+        return content.toString();
+    }
+
+    private void appendExtensionMethodLatencies(StringBuilder content) {
+        try {
+            content.append("<pre>### Extension method calls<br><br>");
+            List<MethodCallStatistics> statistics = extensionMethodExecutor.getStatistics();
+            if (statistics.isEmpty()) {
+                content.append("No methods called");
+                content.append("</pre>");
+                return;
+            }
+
+            content.append("Extension | Method | Calls | Avg | Max | Timeouts | Skipped | Rejected | Circuit");
+            for (long limit : MethodCallStatistics.BUCKET_LIMITS_MS) {
+                content.append(" | &lt;").append(limit).append("ms");
+            }
+            content.append(" | Slower<br>-- | -- | -- | -- | -- | -- | -- | -- | --");
+            for (int i = 0; i <= MethodCallStatistics.BUCKET_LIMITS_MS.length; i++) {
+                content.append(" | --");
+            }
+            content.append("<br>");
+
+            long now = System.currentTimeMillis();
+            for (MethodCallStatistics method : statistics) {
+                content.append(method.getPluginName()).append(" | ")
+                        .append(method.getMethodName()).append(" | ")
+                        .append(method.getFinishedCallCount()).append(" | ")
+                        .append(method.getAverageMs()).append(" ms | ")
+                        .append(method.getMaxMs()).append(" ms | ")
+                        .append(method.getTimeoutCount()).append(" | ")
+                        .append(method.getSkippedCallCount()).append(" | ")
+                        .append(method.getRejectedCallCount()).append(" | ")
+                        .append(method.isCircuitOpen(now) ? "Open" : "Closed");
+                for (long bucket : method.getBuckets()) {
+                    content.append(" | ").append(bucket);
+                }
+                content.append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private String createWebserverContent() {
+        StringBuilder content = new StringBuilder();
+        appendRequestLatencies(content);
+        appendJSONCacheHitRatios(content);
+        return content.toString();
+    }
+
+    private void appendRequestLatencies(StringBuilder content) {
+        try {
+            content.append("<pre>### Webserver requests<br><br>");
+            LatencyHistogram queueWait = webServerMetrics.getQueueWait();
+            content.append("Queue wait: avg ").append(queueWait.getAverageMs())
+                    .append(" ms, max ").append(queueWait.getMaxMs()).append(" ms<br><br>");
+
+            Map<String, WebServerMetrics.EndpointStatistics> endpoints = webServerMetrics.getEndpoints();
+            if (endpoints.isEmpty()) {
+                content.append("No requests served");
+                content.append("</pre>");
+                return;
+            }
+
+            content.append("Endpoint | Requests | Avg | Max | Sent | Errors");
+            for (long limit : LatencyHistogram.BUCKET_LIMITS_MS) {
+                content.append(" | &lt;").append(limit).append("ms");
+            }
+            content.append(" | Slower<br>-- | -- | -- | -- | -- | --");
+            for (int i = 0; i <= LatencyHistogram.BUCKET_LIMITS_MS.length; i++) {
+                content.append(" | --");
+            }
+            content.append("<br>");
+
+            for (WebServerMetrics.EndpointStatistics endpoint : endpoints.values()) {
+                LatencyHistogram latency = endpoint.getLatency();
+                content.append(endpoint.getEndpoint()).append(" | ")
+                        .append(latency.getCount()).append(" | ")
+                        .append(latency.getAverageMs()).append(" ms | ")
+                        .append(latency.getMaxMs()).append(" ms | ")
+                        .append(endpoint.getBytesSent() / 1024).append(" kB | ")
+                        .append(endpoint.getServerErrorCount());
+                for (long bucket : latency.getBuckets()) {
+                    content.append(" | ").append(bucket);
+                }
+                content.append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private void appendJSONCacheHitRatios(StringBuilder content) {
+        try {
+            content.append("<pre>### JSON Cache hit ratios<br><br>");
+            Map<String, Long> hits = JSONCache.getHitCounts();
+            Map<String, Long> misses = JSONCache.getMissCounts();
+            Set<String> dataIDs = new TreeSet<>(hits.keySet());
+            dataIDs.addAll(misses.keySet());
+            if (dataIDs.isEmpty()) {
+                content.append("No JSON requested");
+                content.append("</pre>");
+                return;
+            }
+
+            content.append("Data | Hits | Misses | Hit ratio<br>")
+                    .append("-- | -- | -- | --<br>");
+            for (String dataID : dataIDs) {
+                long hitCount = hits.getOrDefault(dataID, 0L);
+                long missCount = misses.getOrDefault(dataID, 0L);
+                content.append(dataID).append(" | ")
+                        .append(hitCount).append(" | ")
+                        .append(missCount).append(" | ")
+                        .append(String.format("%.1f", hitCount * 100.0 / (hitCount + missCount))).append("%<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private String createQueryProfileContent() {
+        StringBuilder content = new StringBuilder();
+        if (!(database instanceof SQLDB)) {
+            return content.toString();
+        }
+        QueryProfiler profiler = ((SQLDB) database).getQueryProfiler();
+        if (!profiler.isEnabled()) {
+            return content.append("<pre>### Query profile<br><br>")
+                    .append("Query profiling is disabled, enable it with Database.Profile_queries setting in config.yml")
+                    .append("</pre>").toString();
+        }
+        appendQueryStatistics(content, "Queries by total time", profiler.getTopByTotalTime(20));
+        appendQueryStatistics(content, "Slowest queries", profiler.getTopByMaxTime(20));
+        appendQueryStatistics(content, "Queries by fetched rows", profiler.getTopByRows(20));
+        appendQueryPlans(content, profiler.getExplainedStatements());
+        return content.toString();
+    }
+
+    private void appendQueryStatistics(StringBuilder content, String title, List<QueryProfiler.StatementStatistics> statistics) {
+        try {
+            content.append("<pre>### ").append(title).append("<br><br>");
+            if (statistics.isEmpty()) {
+                content.append("No queries executed");
+                content.append("</pre>");
+                return;
+            }
+
+            content.append("Source | Executions | Total | Avg | Max | Connection wait | Rows | Fetch size | SQL<br>")
+                    .append("-- | -- | -- | -- | -- | -- | -- | -- | --<br>");
+            for (QueryProfiler.StatementStatistics statement : statistics) {
+                content.append(statement.getSource()).append(" | ")
+                        .append(statement.getCount()).append(" | ")
+                        .append(statement.getTotalMs()).append(" ms | ")
+                        .append(statement.getAverageMs()).append(" ms | ")
+                        .append(statement.getMaxMs()).append(" ms | ")
+                        .append(statement.getAverageConnectionWaitMs()).append(" ms | ")
+                        .append(statement.getRows()).append(" | ")
+                        .append(statement.getFetchSize()).append(" | ")
+                        .append(StringEscapeUtils.escapeHtml4(statement.getSql())).append("<br>");
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private void appendQueryPlans(StringBuilder content, List<QueryProfiler.StatementStatistics> explained) {
+        if (explained.isEmpty()) {
+            return;
+        }
+        content.append("<pre>### Query plans of slow queries<br><br>");
+        for (QueryProfiler.StatementStatistics statement : explained) {
+            content.append(statement.getSource()).append(" (max ").append(statement.getMaxMs()).append(" ms)<br>")
+                    .append(StringEscapeUtils.escapeHtml4(statement.getSql())).append("<br>")
+                    .append(StringEscapeUtils.escapeHtml4(statement.getQueryPlan()).replace("\n", "<br>"))
+                    .append("<br>");
+        }
+        content.append("</pre>");
+    }
+
     private String createDebugLogContent() {
         StringBuilder content = new StringBuilder();
         appendDebugLog(content);
@@ -180,6 +384,7 @@ public class DebugPage implements Page {
 
         appendServerInformation(content);
         appendBenchmarks(content);
+        appendTransactionQueue(content);
 
         return content.toString();
     }
@@ -236,6 +441,26 @@ public class DebugPage implements Page {
         content.append("&#96;&#96;&#96;</pre>");
     }
 
+    private void appendTransactionQueue(StringBuilder content) {
+        if (!(database instanceof SQLDB)) {
+            return;
+        }
+        TransactionQueueStatistics statistics = ((SQLDB) database).getQueueStatistics();
+        content.append("<pre>### Database Transaction Queue<br><br>")
+                .append("Queued transactions: ").append(statistics.getQueueDepth())
+                .append(" (max ").append(statistics.getMaxQueueDepth()).append(")<br>")
+                .append("Group commits: ").append(statistics.getGroupCount())
+                .append(", ").append(statistics.getTransactionCount()).append(" transactions")
+                .append(" (avg ").append(String.format("%.2f", statistics.getAverageGroupSize())).append(" per commit)<br>")
+                .append("Commit latency: avg ").append(statistics.getAverageCommitMs())
+                .append(" ms, max ").append(statistics.getMaxCommitMs()).append(" ms<br>")
+                .append("Queue wait: avg ").append(statistics.getAverageQueueWaitMs())
+                .append(" ms, max ").append(statistics.getMaxQueueWaitMs()).append(" ms<br>")
+                .append("Failed transactions: ").append(statistics.getFailedTransactionCount())
+                .append(", group rollbacks: ").append(statistics.getGroupRollbackCount()).append("<br>")
+                .append("</pre>");
+    }
+
     private void appendLoggedErrors(StringBuilder content) {
         content.append("<pre>### Logged Errors<br>");
 
@@ -18,7 +18,9 @@ package com.djrapitops.plan.delivery.rendering.pages;
 
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.webserver.WebServerMetrics;
 import com.djrapitops.plan.exceptions.connection.NotFoundException;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.identification.Server;
@@ -58,6 +60,8 @@ public class PageFactory {
     private final Lazy<DebugLogger> debugLogger;
     private final Lazy<Timings> timings;
     private final Lazy<ErrorHandler> errorHandler;
+    private final Lazy<ExtensionMethodExecutor> extensionMethodExecutor;
+    private final Lazy<WebServerMetrics> webServerMetrics;
 
     @Inject
     public PageFactory(
@@ -70,7 +74,9 @@ public class PageFactory {
             Lazy<Formatters> formatters,
             Lazy<DebugLogger> debugLogger,
             Lazy<Timings> timings,
-            Lazy<ErrorHandler> errorHandler
+            Lazy<ErrorHandler> errorHandler,
+            Lazy<ExtensionMethodExecutor> extensionMethodExecutor,
+            Lazy<WebServerMetrics> webServerMetrics
     ) {
         this.versionCheckSystem = versionCheckSystem;
         this.fileSystem = fileSystem;
@@ -82,12 +88,15 @@ public class PageFactory {
         this.debugLogger = debugLogger;
         this.timings = timings;
         this.errorHandler = errorHandler;
+        this.extensionMethodExecutor = extensionMethodExecutor;
+        this.webServerMetrics = webServerMetrics;
     }
 
     public DebugPage debugPage() {
         return new DebugPage(
                 dbSystem.get().getDatabase(), serverInfo.get(), formatters.get(), versionCheckSystem.get(),
-                debugLogger.get(), timings.get(), errorHandler.get()
+                debugLogger.get(), timings.get(), errorHandler.get(), extensionMethodExecutor.get(),
+                webServerMetrics.get()
         );
     }
 
@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations of something the WebServer does.
+ *
+ * @author Rsl1122
+ */
+public class LatencyHistogram {
+
+    /**
+     * Upper limits of the histogram buckets in milliseconds, durations longer than the last limit go into an extra bucket.
+     */
+    public static final long[] BUCKET_LIMITS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final AtomicLongArray buckets;
+    private final AtomicLong count;
+    private final AtomicLong totalNanos;
+    private final AtomicLong maxNanos;
+
+    public LatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKET_LIMITS_MS.length + 1);
+        count = new AtomicLong(0);
+        totalNanos = new AtomicLong(0);
+        maxNanos = new AtomicLong(0);
+    }
+
+    public void record(long nanos) {
+        buckets.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMillis(nanos)));
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static int bucketOf(long ms) {
+        for (int i = 0; i < BUCKET_LIMITS_MS.length; i++) {
+            if (ms < BUCKET_LIMITS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS_MS.length;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getAverageMs() {
+        long calls = getCount();
+        return calls != 0 ? TimeUnit.NANOSECONDS.toMillis(getTotalNanos() / calls) : 0L;
+    }
+
+    public long getMaxMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    /**
+     * Get the amount of durations in each bucket.
+     *
+     * @return Array with a value for each of {@link #BUCKET_LIMITS_MS} and one for slower durations.
+     */
+    public long[] getBuckets() {
+        long[] values = new long[buckets.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buckets.get(i);
+        }
+        return values;
+    }
+}
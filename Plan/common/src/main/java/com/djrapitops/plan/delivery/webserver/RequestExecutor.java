@@ -0,0 +1,139 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.concurrent.*;
+
+/**
+ * Executor for the exchanges of the WebServer that applies back-pressure when too many requests are waiting.
+ * <p>
+ * Exchanges that don't fit the worker queue are handed to a separate overload thread, where {@link RequestHandler}
+ * answers them with 503 Service Unavailable without resolving the request.
+ * <p>
+ * {@link com.sun.net.httpserver.HttpServer} does not close the connection of an exchange its executor rejects
+ * with a {@link RejectedExecutionException}, so exchanges that don't fit the overload queue are instead run on the
+ * calling thread, where {@link RequestHandler} closes them without a response.
+ *
+ * @author Rsl1122
+ */
+class RequestExecutor implements Executor {
+
+    private static final ThreadLocal<Boolean> OVERLOADED = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Boolean> DROPPED = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor overloadResponder;
+    private final WebServerMetrics metrics;
+
+    /**
+     * Create a new RequestExecutor.
+     *
+     * @param workerThreads Maximum number of requests handled at the same time.
+     * @param queueSize     Maximum number of requests waiting for a worker before 503 is returned.
+     * @param metrics       Metrics to record the time exchanges wait in the queue into.
+     * @param handler       Handler for exceptions thrown by the threads.
+     */
+    RequestExecutor(int workerThreads, int queueSize, WebServerMetrics metrics, Thread.UncaughtExceptionHandler handler) {
+        this.metrics = metrics;
+        workers = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                new BasicThreadFactory.Builder()
+                        .namingPattern("Plan WebServer Thread-%d")
+                        .uncaughtExceptionHandler(handler)
+                        .build()
+        );
+        workers.allowCoreThreadTimeOut(true);
+        overloadResponder = new ThreadPoolExecutor(
+                1, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                new BasicThreadFactory.Builder()
+                        .namingPattern("Plan WebServer Overload Thread-%d")
+                        .uncaughtExceptionHandler(handler)
+                        .build()
+        );
+        overloadResponder.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Check if the current thread is answering an exchange that did not fit the queue.
+     *
+     * @return true if the request should be answered with 503.
+     */
+    static boolean isOverloaded() {
+        return OVERLOADED.get();
+    }
+
+    /**
+     * Check if the current thread is dropping an exchange that did not fit the overload queue either.
+     *
+     * @return true if the exchange should be closed without a response.
+     */
+    static boolean isDropped() {
+        return DROPPED.get();
+    }
+
+    @Override
+    public void execute(Runnable exchange) {
+        long queuedAt = System.nanoTime();
+        try {
+            workers.execute(() -> {
+                metrics.recordQueueWait(System.nanoTime() - queuedAt);
+                exchange.run();
+            });
+        } catch (RejectedExecutionException overloaded) {
+            if (workers.isShutdown()) throw overloaded;
+            respondOverloaded(exchange);
+        }
+    }
+
+    private void respondOverloaded(Runnable exchange) {
+        try {
+            overloadResponder.execute(() -> {
+                OVERLOADED.set(true);
+                try {
+                    exchange.run();
+                } finally {
+                    OVERLOADED.remove();
+                }
+            });
+        } catch (RejectedExecutionException dropped) {
+            if (overloadResponder.isShutdown()) throw dropped;
+            // Even the 503 responses can not keep up, close the connection so that it is not left open.
+            DROPPED.set(true);
+            try {
+                exchange.run();
+            } finally {
+                DROPPED.remove();
+            }
+        }
+    }
+
+    void shutdown() {
+        overloadResponder.shutdown();
+        workers.shutdown();
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit) && overloadResponder.awaitTermination(timeout, unit);
+    }
+
+    void shutdownNow() {
+        overloadResponder.shutdownNow();
+        workers.shutdownNow();
+    }
+}
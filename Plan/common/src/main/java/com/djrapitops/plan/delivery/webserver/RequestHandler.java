@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.webserver.auth.BasicAuthentication;
 import com.djrapitops.plan.delivery.webserver.response.PromptAuthorizationResponse;
 import com.djrapitops.plan.delivery.webserver.response.Response;
 import com.djrapitops.plan.delivery.webserver.response.ResponseFactory;
+import com.djrapitops.plan.delivery.webserver.response.ServiceUnavailableResponse;
 import com.djrapitops.plan.delivery.webserver.response.errors.ForbiddenResponse;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
@@ -28,6 +29,7 @@ import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.QueryRecorder;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
@@ -41,6 +43,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -61,6 +64,7 @@ public class RequestHandler implements HttpHandler {
     private final ResponseFactory responseFactory;
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
+    private final WebServerMetrics metrics;
 
     private final Cache<String, Integer> failedLoginAttempts = Caffeine.newBuilder()
             .expireAfterWrite(90, TimeUnit.SECONDS)
@@ -75,7 +79,8 @@ public class RequestHandler implements HttpHandler {
             ResponseResolver responseResolver,
             ResponseFactory responseFactory,
             PluginLogger logger,
-            ErrorHandler errorHandler
+            ErrorHandler errorHandler,
+            WebServerMetrics metrics
     ) {
         this.locale = locale;
         this.config = config;
@@ -85,18 +90,32 @@ public class RequestHandler implements HttpHandler {
         this.responseFactory = responseFactory;
         this.logger = logger;
         this.errorHandler = errorHandler;
+        this.metrics = metrics;
     }
 
     @Override
     public void handle(HttpExchange exchange) {
+        if (RequestExecutor.isDropped()) {
+            exchange.close();
+            return;
+        }
+        if (RequestExecutor.isOverloaded()) {
+            sendServiceUnavailable(exchange);
+            return;
+        }
+
         Headers requestHeaders = exchange.getRequestHeaders();
         Headers responseHeaders = exchange.getResponseHeaders();
 
         Request request = new Request(exchange, locale);
         request.setAuth(getAuthorization(requestHeaders));
 
+        long start = System.nanoTime();
+        long resolved = start;
+        Response response = null;
+        QueryRecorder.start();
         try {
-            Response response = shouldPreventRequest(request.getRemoteAddress()) // Forbidden response (Optional)
+            response = shouldPreventRequest(request.getRemoteAddress()) // Forbidden response (Optional)
                     .orElseGet(() -> responseResolver.getResponse(request));     // Or the actual requested response
 
             // Increase attempt count and block if too high
@@ -104,6 +123,7 @@ public class RequestHandler implements HttpHandler {
             if (forbid.isPresent()) {
                 response = forbid.get();
             }
+            resolved = System.nanoTime();
 
             // Authentication failed, but was not blocked
             if (response instanceof PromptAuthorizationResponse) {
@@ -119,6 +139,45 @@ public class RequestHandler implements HttpHandler {
                 logger.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
                 errorHandler.log(L.WARN, this.getClass(), e);
             }
+        } finally {
+            exchange.close();
+            List<String> queries = QueryRecorder.stop();
+            if (response != null) {
+                recordRequest(request, response, start, resolved, queries);
+            }
+        }
+    }
+
+    private void recordRequest(Request request, Response response, long start, long resolved, List<String> queries) {
+        long end = System.nanoTime();
+        String endpoint = WebServerMetrics.endpointOf(request.getTarget());
+        metrics.recordRequest(endpoint, response.getCode(), end - start, response.getSentBytes());
+
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(end - start);
+        if (tookMs < config.get(WebserverSettings.LOG_SLOW_REQUESTS_AFTER)) {
+            return;
+        }
+        StringBuilder log = new StringBuilder("Slow request: ")
+                .append(request.getRequestMethod()).append(' ').append(request.getTargetString())
+                .append(" (").append(endpoint).append(") took ").append(tookMs).append(" ms")
+                .append(", resolve ").append(TimeUnit.NANOSECONDS.toMillis(resolved - start)).append(" ms")
+                .append(", send ").append(TimeUnit.NANOSECONDS.toMillis(end - resolved)).append(" ms")
+                .append(", ").append(response.getCode()).append(' ')
+                .append(response.getSentBytes()).append(" bytes, ")
+                .append(queries.size()).append(" queries");
+        for (String query : queries) {
+            log.append("\n  ").append(query);
+        }
+        logger.warn(log.toString());
+    }
+
+    private void sendServiceUnavailable(HttpExchange exchange) {
+        try {
+            Response response = new ServiceUnavailableResponse(1);
+            response.setResponseHeaders(exchange.getResponseHeaders());
+            response.send(exchange, locale, theme);
+        } catch (IOException ignored) {
+            // Client gave up on the request already
         } finally {
             exchange.close();
         }
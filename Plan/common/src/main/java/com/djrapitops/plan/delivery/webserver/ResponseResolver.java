@@ -48,6 +48,7 @@ import java.util.Optional;
 public class ResponseResolver extends CompositePageResolver {
 
     private final DebugPageResolver debugPageResolver;
+    private final MetricsPageResolver metricsPageResolver;
     private final PlayersPageResolver playersPageResolver;
     private final PlayerPageResolver playerPageResolver;
     private final ServerPageResolver serverPageResolver;
@@ -64,6 +65,7 @@ public class ResponseResolver extends CompositePageResolver {
             ServerInfo serverInfo,
 
             DebugPageResolver debugPageResolver,
+            MetricsPageResolver metricsPageResolver,
             PlayersPageResolver playersPageResolver,
             PlayerPageResolver playerPageResolver,
             ServerPageResolver serverPageResolver,
@@ -75,6 +77,7 @@ public class ResponseResolver extends CompositePageResolver {
         this.webServer = webServer;
         this.serverInfo = serverInfo;
         this.debugPageResolver = debugPageResolver;
+        this.metricsPageResolver = metricsPageResolver;
         this.playersPageResolver = playersPageResolver;
         this.playerPageResolver = playerPageResolver;
         this.serverPageResolver = serverPageResolver;
@@ -84,6 +87,7 @@ public class ResponseResolver extends CompositePageResolver {
 
     public void registerPages() {
         registerPage("debug", debugPageResolver);
+        registerPage("metrics", metricsPageResolver);
         registerPage("players", playersPageResolver);
         registerPage("player", playerPageResolver);
 
@@ -32,7 +32,6 @@ import com.sun.net.httpserver.HttpServer;
 import com.sun.net.httpserver.HttpsConfigurator;
 import com.sun.net.httpserver.HttpsParameters;
 import com.sun.net.httpserver.HttpsServer;
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -48,7 +47,8 @@ import java.nio.file.Paths;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
-import java.util.concurrent.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Rsl1122
@@ -62,6 +62,7 @@ public class WebServer implements SubSystem {
 
     private final ServerProperties serverProperties;
     private final RequestHandler requestHandler;
+    private final WebServerMetrics metrics;
 
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
@@ -80,7 +81,8 @@ public class WebServer implements SubSystem {
             ServerInfo serverInfo,
             PluginLogger logger,
             ErrorHandler errorHandler,
-            RequestHandler requestHandler
+            RequestHandler requestHandler,
+            WebServerMetrics metrics
     ) {
         this.locale = locale;
         this.files = files;
@@ -88,6 +90,7 @@ public class WebServer implements SubSystem {
         this.serverProperties = serverInfo.getServerProperties();
 
         this.requestHandler = requestHandler;
+        this.metrics = metrics;
 
         this.logger = logger;
         this.errorHandler = errorHandler;
@@ -135,22 +138,22 @@ public class WebServer implements SubSystem {
 
             if (!usingHttps) {
                 logger.log(L.INFO_COLOR, "§e" + locale.getString(PluginLang.WEB_SERVER_NOTIFY_HTTP_USER_AUTH));
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), config.get(WebserverSettings.CONNECTION_BACKLOG));
             } else if (server == null) {
                 logger.log(L.INFO_COLOR, "§eWebServer: Proxy HTTPS Override enabled. HTTP Server in use, make sure that your Proxy webserver is routing with HTTPS and AlternativeIP.Link points to the Proxy");
-                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+                server = HttpServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), config.get(WebserverSettings.CONNECTION_BACKLOG));
             }
             server.createContext("/", requestHandler);
 
-            ExecutorService executor = new ThreadPoolExecutor(
-                    4, 8, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
-                    new BasicThreadFactory.Builder()
-                            .namingPattern("Plan WebServer Thread-%d")
-                            .uncaughtExceptionHandler((thread, throwable) -> {
-                                if (config.get(PluginSettings.DEV_MODE)) {
-                                    errorHandler.log(L.WARN, WebServer.class, throwable);
-                                }
-                            }).build()
+            RequestExecutor executor = new RequestExecutor(
+                    config.get(WebserverSettings.WORKER_THREADS),
+                    config.get(WebserverSettings.REQUEST_QUEUE_SIZE),
+                    metrics,
+                    (thread, throwable) -> {
+                        if (config.get(PluginSettings.DEV_MODE)) {
+                            errorHandler.log(L.WARN, WebServer.class, throwable);
+                        }
+                    }
             );
             server.setExecutor(executor);
             server.start();
@@ -211,7 +214,7 @@ public class WebServer implements SubSystem {
             TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance("SunX509");
             trustManagerFactory.init(keystore);
 
-            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), 10);
+            server = HttpsServer.create(new InetSocketAddress(config.get(WebserverSettings.INTERNAL_IP), port), config.get(WebserverSettings.CONNECTION_BACKLOG));
             SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
             sslContext.init(keyManagerFactory.getKeyManagers(), null/*trustManagerFactory.getTrustManagers()*/, null);
 
@@ -272,8 +275,8 @@ public class WebServer implements SubSystem {
     private void shutdown() {
         server.stop(0);
         Executor executor = server.getExecutor();
-        if (executor instanceof ExecutorService) {
-            ExecutorService service = (ExecutorService) executor;
+        if (executor instanceof RequestExecutor) {
+            RequestExecutor service = (RequestExecutor) executor;
             service.shutdown();
             try {
                 if (!service.awaitTermination(5, TimeUnit.SECONDS)) {
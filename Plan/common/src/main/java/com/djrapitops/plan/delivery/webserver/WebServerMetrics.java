@@ -0,0 +1,207 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, response size and queue statistics of the requests the WebServer has served.
+ * <p>
+ * Requests are grouped by endpoint, which is the first part of the address (second for /v1 JSON), so that
+ * player names and UUIDs in the address don't create new endpoints.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class WebServerMetrics {
+
+    static final int MAX_ENDPOINTS = 100;
+    static final String OTHER_ENDPOINT = "other";
+
+    private final Map<String, EndpointStatistics> endpoints;
+    private final LatencyHistogram queueWait;
+
+    @Inject
+    public WebServerMetrics() {
+        endpoints = new ConcurrentHashMap<>();
+        queueWait = new LatencyHistogram();
+    }
+
+    /**
+     * Get the endpoint a request is recorded under.
+     *
+     * @param target Target of the request, not modified.
+     * @return Endpoint, for example /v1/serverOverview, /server or /static.
+     */
+    public static String endpointOf(RequestTarget target) {
+        if (target.endsWith(".css") || target.endsWith(".js") || target.endsWith(".png") || target.endsWith(".ico")) {
+            return "/static";
+        }
+        if (target.isEmpty()) {
+            return "/";
+        }
+        String first = target.get(0);
+        if ("v1".equals(first) && target.size() > 1) {
+            return "/v1/" + sanitize(target.get(1));
+        }
+        return "/" + sanitize(first);
+    }
+
+    private static String sanitize(String part) {
+        // Endpoints are used as Prometheus label values
+        return part.replaceAll("[^A-Za-z0-9_.-]", "_");
+    }
+
+    public void recordRequest(String endpoint, int statusCode, long nanos, long bytesSent) {
+        EndpointStatistics statistics = endpoints.get(endpoint);
+        if (statistics == null) {
+            String key = endpoints.size() < MAX_ENDPOINTS ? endpoint : OTHER_ENDPOINT;
+            statistics = endpoints.computeIfAbsent(key, EndpointStatistics::new);
+        }
+        statistics.record(statusCode, nanos, bytesSent);
+    }
+
+    public void recordQueueWait(long nanos) {
+        queueWait.record(nanos);
+    }
+
+    public Map<String, EndpointStatistics> getEndpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Write the metrics in Prometheus text exposition format.
+     *
+     * @return Metrics for the /metrics endpoint.
+     */
+    public String toPrometheusFormat() {
+        StringBuilder metrics = new StringBuilder();
+
+        metrics.append("# HELP plan_webserver_request_duration_seconds Time taken to resolve and send a response.\n")
+                .append("# TYPE plan_webserver_request_duration_seconds histogram\n");
+        for (Map.Entry<String, EndpointStatistics> entry : getEndpoints().entrySet()) {
+            appendHistogram(metrics, "plan_webserver_request_duration_seconds",
+                    "endpoint=\"" + entry.getKey() + '"', entry.getValue().getLatency());
+        }
+
+        metrics.append("# HELP plan_webserver_response_bytes_total Bytes of response bodies sent.\n")
+                .append("# TYPE plan_webserver_response_bytes_total counter\n");
+        for (Map.Entry<String, EndpointStatistics> entry : getEndpoints().entrySet()) {
+            metrics.append("plan_webserver_response_bytes_total{endpoint=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().getBytesSent()).append('\n');
+        }
+
+        metrics.append("# HELP plan_webserver_server_errors_total Responses sent with a 5xx status code.\n")
+                .append("# TYPE plan_webserver_server_errors_total counter\n");
+        for (Map.Entry<String, EndpointStatistics> entry : getEndpoints().entrySet()) {
+            metrics.append("plan_webserver_server_errors_total{endpoint=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().getServerErrorCount()).append('\n');
+        }
+
+        metrics.append("# HELP plan_webserver_queue_wait_seconds Time requests waited for a webserver thread.\n")
+                .append("# TYPE plan_webserver_queue_wait_seconds histogram\n");
+        appendHistogram(metrics, "plan_webserver_queue_wait_seconds", null, queueWait);
+
+        metrics.append("# HELP plan_json_cache_requests_total JSON cache lookups by result.\n")
+                .append("# TYPE plan_json_cache_requests_total counter\n");
+        appendCacheCounts(metrics, "hit", JSONCache.getHitCounts());
+        appendCacheCounts(metrics, "miss", JSONCache.getMissCounts());
+
+        return metrics.toString();
+    }
+
+    private void appendHistogram(StringBuilder metrics, String name, String labels, LatencyHistogram histogram) {
+        String labelPrefix = labels != null ? labels + ',' : "";
+        long[] buckets = histogram.getBuckets();
+        long cumulative = 0;
+        for (int i = 0; i < LatencyHistogram.BUCKET_LIMITS_MS.length; i++) {
+            cumulative += buckets[i];
+            metrics.append(name).append("_bucket{").append(labelPrefix)
+                    .append("le=\"").append(LatencyHistogram.BUCKET_LIMITS_MS[i] / 1000.0).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        metrics.append(name).append("_bucket{").append(labelPrefix).append("le=\"+Inf\"} ")
+                .append(histogram.getCount()).append('\n');
+
+        String labelSet = labels != null ? '{' + labels + '}' : "";
+        metrics.append(name).append("_sum").append(labelSet).append(' ')
+                .append(histogram.getTotalNanos() / (double) TimeUnit.SECONDS.toNanos(1L)).append('\n');
+        metrics.append(name).append("_count").append(labelSet).append(' ')
+                .append(histogram.getCount()).append('\n');
+    }
+
+    private void appendCacheCounts(StringBuilder metrics, String result, Map<String, Long> counts) {
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            metrics.append("plan_json_cache_requests_total{data_id=\"").append(entry.getKey())
+                    .append("\",result=\"").append(result).append("\"} ")
+                    .append(entry.getValue()).append('\n');
+        }
+    }
+
+    /**
+     * Statistics of a single endpoint.
+     */
+    public static class EndpointStatistics {
+        private final String endpoint;
+        private final LatencyHistogram latency;
+        private final LongAdder bytesSent;
+        private final LongAdder serverErrors;
+
+        EndpointStatistics(String endpoint) {
+            this.endpoint = endpoint;
+            latency = new LatencyHistogram();
+            bytesSent = new LongAdder();
+            serverErrors = new LongAdder();
+        }
+
+        void record(int statusCode, long nanos, long bytes) {
+            latency.record(nanos);
+            bytesSent.add(bytes);
+            if (statusCode >= 500) {
+                serverErrors.increment();
+            }
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getBytesSent() {
+            return bytesSent.sum();
+        }
+
+        public long getServerErrorCount() {
+            return serverErrors.sum();
+        }
+    }
+}
@@ -17,7 +17,10 @@
 package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.delivery.webserver.auth.VerifiedCredentialCache;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.storage.database.WebUserChangeNotifier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -31,24 +34,31 @@ import javax.inject.Singleton;
 public class WebServerSystem implements SubSystem {
 
     private final WebServer webServer;
+    private final WebUserChangeNotifier webUserChangeNotifier;
 
     @Inject
     public WebServerSystem(
-            WebServer webServer
+            WebServer webServer,
+            WebUserChangeNotifier webUserChangeNotifier
     ) {
         this.webServer = webServer;
+        this.webUserChangeNotifier = webUserChangeNotifier;
     }
 
     @Override
     public void enable() {
+        webUserChangeNotifier.register(VerifiedCredentialCache.invalidator());
         webServer.enable();
     }
 
     @Override
     public void disable() {
         webServer.disable();
+        webUserChangeNotifier.unregister(VerifiedCredentialCache.invalidator());
         JSONCache.invalidateAll();
         JSONCache.cleanUp();
+        CompressedContentCache.invalidateAll();
+        VerifiedCredentialCache.invalidateAll();
     }
 
     public WebServer getWebServer() {
@@ -26,6 +26,8 @@ import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plan.utilities.PassEncryptUtil;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Optional;
+
 /**
  * Authentication handling for Basic Auth.
  * <p>
@@ -46,6 +48,11 @@ public class BasicAuthentication implements Authentication {
 
     @Override
     public WebUser getWebUser() throws WebUserAuthException {
+        Optional<WebUser> verified = VerifiedCredentialCache.get(authenticationString);
+        if (verified.isPresent()) {
+            return verified.get();
+        }
+
         String decoded = Base64Util.decode(authenticationString);
 
         String[] userInfo = StringUtils.split(decoded, ':');
@@ -62,6 +69,7 @@ public class BasicAuthentication implements Authentication {
         }
 
         try {
+            long generation = VerifiedCredentialCache.generation();
             WebUser webUser = database.query(WebUserQueries.fetchWebUser(user))
                     .orElseThrow(() -> new WebUserAuthException(FailReason.USER_DOES_NOT_EXIST, user));
 
@@ -69,6 +77,7 @@ public class BasicAuthentication implements Authentication {
             if (!correctPass) {
                 throw new WebUserAuthException(FailReason.USER_PASS_MISMATCH, user);
             }
+            VerifiedCredentialCache.put(authenticationString, webUser, generation);
             return webUser;
         } catch (DBOpException | PassEncryptException e) {
             throw new WebUserAuthException(e);
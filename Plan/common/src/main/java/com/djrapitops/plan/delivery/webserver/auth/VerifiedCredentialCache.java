@@ -0,0 +1,131 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.domain.WebUser;
+import com.djrapitops.plan.storage.database.WebUserChangeListener;
+import com.djrapitops.plan.storage.database.WebUserChangeNotifier;
+import com.djrapitops.plan.utilities.Base64Util;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for credentials that have already been verified by {@link BasicAuthentication}.
+ * <p>
+ * Verifying a password is intentionally slow, and a single page load sends many requests with the same credentials,
+ * so only the first request needs to verify the password against the database.
+ * <p>
+ * Credentials are stored as SHA-256 digests to avoid keeping the passwords in memory.
+ * <p>
+ * Every invalidation increments a generation counter. A web user fetched before an invalidation is not cached,
+ * since it might be the state of the web user before the change.
+ *
+ * @author Rsl1122
+ */
+public class VerifiedCredentialCache {
+
+    private static final Cache<String, WebUser> cache = Caffeine.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumSize(1000)
+            .build();
+    private static final AtomicLong generation = new AtomicLong();
+
+    private static final WebUserChangeListener INVALIDATOR = new WebUserChangeListener() {
+        @Override
+        public void webUserChanged(String username) {
+            invalidate(username);
+        }
+
+        @Override
+        public void allWebUsersChanged() {
+            invalidateAll();
+        }
+    };
+
+    private VerifiedCredentialCache() {
+        // Static class
+    }
+
+    public static Optional<WebUser> get(String authenticationString) {
+        return Optional.ofNullable(cache.getIfPresent(digest(authenticationString)));
+    }
+
+    /**
+     * Get the current generation of the cache, to read before fetching the web user that is going to be cached.
+     *
+     * @return Generation to give to {@link #put(String, WebUser, long)}.
+     */
+    public static long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cache verified credentials, unless the cache has been invalidated since the web user was fetched.
+     *
+     * @param authenticationString Verified Basic Auth credentials.
+     * @param webUser              Web user the credentials belong to.
+     * @param fetchedAt            {@link #generation()} before the web user was fetched from the database.
+     */
+    public static void put(String authenticationString, WebUser webUser, long fetchedAt) {
+        String key = digest(authenticationString);
+        cache.put(key, webUser);
+        // Invalidation increments the generation before removing, so either this check or the removal sees the put.
+        if (generation.get() != fetchedAt) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Remove cached credentials of a web user, so that they need to be verified again.
+     *
+     * @param username Name of the web user, case insensitive.
+     */
+    public static void invalidate(String username) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(webUser -> webUser.getName().equalsIgnoreCase(username));
+    }
+
+    public static void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Get a listener that removes credentials of web users from the cache after they change in the database.
+     *
+     * @return Listener to register to {@link WebUserChangeNotifier}.
+     */
+    public static WebUserChangeListener invalidator() {
+        return INVALIDATOR;
+    }
+
+    private static String digest(String authenticationString) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64Util.encodeBytes(digest.digest(authenticationString.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+}
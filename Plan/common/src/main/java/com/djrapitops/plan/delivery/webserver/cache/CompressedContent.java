@@ -0,0 +1,58 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gzip compressed body of a response with its ETag.
+ * <p>
+ * Created once when the content is cached, so that sending it again does not need to encode, hash or compress anything.
+ *
+ * @author Rsl1122
+ */
+public class CompressedContent {
+
+    private final byte[] compressed;
+    private final String etag;
+
+    /**
+     * Create for a body that was compressed already.
+     *
+     * @param compressed gzip compressed body.
+     */
+    public CompressedContent(byte[] compressed) {
+        this.compressed = compressed;
+        this.etag = CompressedContentCache.etagOf(compressed);
+    }
+
+    public static CompressedContent compress(String content) {
+        return new CompressedContent(CompressedContentCache.compress(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public byte[] getCompressed() {
+        return compressed;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public int getLength() {
+        return compressed.length;
+    }
+}
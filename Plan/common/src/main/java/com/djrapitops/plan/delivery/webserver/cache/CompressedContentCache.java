@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache for gzip compressed response contents, identified by the uncompressed content.
+ * <p>
+ * Same content is sent repeatedly (js and css files), so it is compressed and hashed only once.
+ * Only static content is cached, see {@link com.djrapitops.plan.delivery.webserver.response.Response#isStaticContent()}.
+ * JSON from {@link JSONCache} is stored compressed in that cache instead.
+ *
+ * @author Rsl1122
+ */
+public class CompressedContentCache {
+
+    private static final Cache<String, CompressedContent> cache = Caffeine.newBuilder()
+            .maximumWeight(64L * 1024L * 1024L)
+            .weigher((String content, CompressedContent compressed) -> content.length() + compressed.getLength())
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    private CompressedContentCache() {
+        // Static class
+    }
+
+    /**
+     * Create a strong ETag for the content.
+     *
+     * @param content Uncompressed bytes of the content.
+     * @return Quoted ETag value.
+     */
+    public static String etagOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    public static CompressedContent getOrCompress(String content) {
+        return cache.get(content, CompressedContent::compress);
+    }
+
+    public static byte[] compress(byte[] content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not thrown by in-memory streams
+        }
+        return compressed.toByteArray();
+    }
+
+    public static void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public static void cleanUp() {
+        cache.cleanUp();
+    }
+
+    public static long getCachedSize() {
+        return cache.estimatedSize();
+    }
+}
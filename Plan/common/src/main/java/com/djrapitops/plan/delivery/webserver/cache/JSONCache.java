@@ -16,9 +16,11 @@
  */
 package com.djrapitops.plan.delivery.webserver.cache;
 
+import com.djrapitops.plan.delivery.rendering.json.StreamableJSON;
 import com.djrapitops.plan.delivery.webserver.pages.json.RootJSONResolver;
 import com.djrapitops.plan.delivery.webserver.response.Response;
 import com.djrapitops.plan.delivery.webserver.response.data.JSONResponse;
+import com.djrapitops.plan.delivery.webserver.response.data.JSONStreamResponse;
 import com.djrapitops.plan.storage.file.ResourceCache;
 import com.djrapitops.plugin.task.AbsRunnable;
 import com.github.benmanes.caffeine.cache.Cache;
@@ -28,12 +30,21 @@ import org.apache.commons.lang3.StringUtils;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Cache for any JSON data sent via {@link RootJSONResolver}.
+ * <p>
+ * JSON responses are cached as their gzip compressed body and ETag, so that a cache hit is sent as is.
+ * Streamed JSON is cached as the gzip compressed body that was sent, see {@link JSONStreamResponse}.
+ * <p>
+ * As the body is cached only after it has been sent, every invalidation increments a generation of the identifier.
+ * A body is not cached if its identifier was invalidated after the body started to be created, as it might be stale.
  *
  * @author Rsl1122
  */
@@ -42,32 +53,86 @@ public class JSONCache {
     private static final Cache<String, String> cache = Caffeine.newBuilder()
             .expireAfterAccess(2, TimeUnit.MINUTES)
             .build();
+    private static final Cache<String, CompressedContent> compressedCache = Caffeine.newBuilder()
+            .expireAfterAccess(2, TimeUnit.MINUTES)
+            .build();
+
+    private static final AtomicLong allInvalidated = new AtomicLong();
+    private static final Map<String, AtomicLong> invalidations = new ConcurrentHashMap<>();
+
+    private static final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> misses = new ConcurrentHashMap<>();
 
     private JSONCache() {
         // Static class
     }
 
     public static Response getOrCache(String identifier, Supplier<JSONResponse> jsonResponseSupplier) {
-        String found = cache.getIfPresent(identifier);
+        CompressedContent found = compressedCache.getIfPresent(identifier);
+        recordLookup(identifier, found != null);
+        if (found == null) {
+            long generation = generationOf(identifier);
+            CompressedContent compressed = CompressedContent.compress(jsonResponseSupplier.get().getContent());
+            putIfNotInvalidated(compressedCache, identifier, generation, compressed);
+            return new JSONStreamResponse(compressed);
+        }
+        return new JSONStreamResponse(found);
+    }
+
+    public static Response getOrCacheStreamed(String identifier, Supplier<StreamableJSON> jsonSupplier) {
+        CompressedContent found = compressedCache.getIfPresent(identifier);
+        recordLookup(identifier, found != null);
         if (found == null) {
-            JSONResponse response = jsonResponseSupplier.get();
-            cache.put(identifier, response.getContent());
-            return response;
+            long generation = generationOf(identifier);
+            return new JSONStreamResponse(jsonSupplier.get(),
+                    compressed -> putIfNotInvalidated(compressedCache, identifier, generation, new CompressedContent(compressed)));
         }
-        return new JSONResponse(found);
+        return new JSONStreamResponse(found);
+    }
+
+    public static Response getOrCacheStreamed(DataID dataID, Supplier<StreamableJSON> jsonSupplier) {
+        return getOrCacheStreamed(dataID.name(), jsonSupplier);
+    }
+
+    public static Response getOrCacheStreamed(DataID dataID, UUID serverUUID, Supplier<StreamableJSON> jsonSupplier) {
+        return getOrCacheStreamed(dataID.of(serverUUID), jsonSupplier);
     }
 
     public static String getOrCacheString(DataID dataID, UUID serverUUID, Supplier<String> stringSupplier) {
         String identifier = dataID.of(serverUUID);
         String found = cache.getIfPresent(identifier);
+        recordLookup(identifier, found != null);
         if (found == null) {
+            long generation = generationOf(identifier);
             String result = stringSupplier.get();
-            cache.put(identifier, result);
+            putIfNotInvalidated(cache, identifier, generation, result);
             return result;
         }
         return found;
     }
 
+    private static long generationOf(String identifier) {
+        // Both counters only grow, so the sum changes whenever either of them does.
+        return allInvalidated.get() + invalidations.computeIfAbsent(identifier, key -> new AtomicLong()).get();
+    }
+
+    private static <T> void putIfNotInvalidated(Cache<String, T> into, String identifier, long generation, T value) {
+        // The generation is checked while holding the entry, so an invalidation can not slip between the check and the put.
+        into.asMap().compute(identifier, (key, existing) -> {
+            if (generationOf(key) != generation) {
+                return existing;
+            }
+            // Keep the body that was cached first by a concurrent request so that its ETag stays the same.
+            return existing != null ? existing : value;
+        });
+    }
+
+    private static void recordLookup(String identifier, boolean hit) {
+        // Server specific identifiers are counted under the DataID they were created from.
+        String dataID = StringUtils.substringBefore(identifier, "-");
+        (hit ? hits : misses).computeIfAbsent(dataID, key -> new LongAdder()).increment();
+    }
+
     public static Response getOrCache(DataID dataID, Supplier<JSONResponse> jsonResponseSupplier) {
         return getOrCache(dataID.name(), jsonResponseSupplier);
     }
@@ -77,7 +142,9 @@ public class JSONCache {
     }
 
     public static void invalidate(String identifier) {
+        invalidations.computeIfAbsent(identifier, key -> new AtomicLong()).incrementAndGet();
         cache.invalidate(identifier);
+        compressedCache.invalidate(identifier);
     }
 
     public static void invalidate(DataID dataID) {
@@ -94,11 +161,16 @@ public class JSONCache {
         invalidate(dataID.of(serverUUID));
     }
 
+    private static Set<String> getLookedUpIDs() {
+        // Includes identifiers whose body is still being sent, so that they are not cached after this invalidation.
+        return new HashSet<>(invalidations.keySet());
+    }
+
     public static void invalidateMatching(DataID... dataIDs) {
         Set<String> toInvalidate = Arrays.stream(dataIDs)
                 .map(DataID::name)
                 .collect(Collectors.toSet());
-        for (String identifier : cache.asMap().keySet()) {
+        for (String identifier : getLookedUpIDs()) {
             for (String identifierToInvalidate : toInvalidate) {
                 if (StringUtils.startsWith(identifier, identifierToInvalidate)) {
                     invalidate(identifier);
@@ -109,7 +181,7 @@ public class JSONCache {
 
     public static void invalidateMatching(DataID dataID) {
         String toInvalidate = dataID.name();
-        for (String identifier : cache.asMap().keySet()) {
+        for (String identifier : getLookedUpIDs()) {
             if (StringUtils.startsWith(identifier, toInvalidate)) {
                 invalidate(identifier);
             }
@@ -117,15 +189,43 @@ public class JSONCache {
     }
 
     public static void invalidateAll() {
+        allInvalidated.incrementAndGet();
         cache.invalidateAll();
+        compressedCache.invalidateAll();
     }
 
     public static void cleanUp() {
         cache.cleanUp();
+        compressedCache.cleanUp();
+    }
+
+    /**
+     * Get how many times each kind of JSON was found in the cache.
+     *
+     * @return Map of DataID name to the number of cache hits.
+     */
+    public static Map<String, Long> getHitCounts() {
+        return toCounts(hits);
+    }
+
+    /**
+     * Get how many times each kind of JSON had to be created.
+     *
+     * @return Map of DataID name to the number of cache misses.
+     */
+    public static Map<String, Long> getMissCounts() {
+        return toCounts(misses);
+    }
+
+    private static Map<String, Long> toCounts(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((dataID, counter) -> counts.put(dataID, counter.sum()));
+        return counts;
     }
 
     public static List<String> getCachedIDs() {
         List<String> identifiers = new ArrayList<>(cache.asMap().keySet());
+        identifiers.addAll(compressedCache.asMap().keySet());
         Collections.sort(identifiers);
         return identifiers;
     }
@@ -142,6 +242,7 @@ public class JSONCache {
         public void run() {
             cleanUp();
             ResourceCache.cleanUp();
+            CompressedContentCache.cleanUp();
         }
     }
 }
\ No newline at end of file
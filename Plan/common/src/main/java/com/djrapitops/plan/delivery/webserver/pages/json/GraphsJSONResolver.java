@@ -25,6 +25,7 @@ import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.delivery.webserver.pages.PageResolver;
 import com.djrapitops.plan.delivery.webserver.response.Response;
 import com.djrapitops.plan.delivery.webserver.response.data.JSONResponse;
+import com.djrapitops.plan.delivery.webserver.response.data.JSONStreamResponse;
 import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.exceptions.connection.BadRequestException;
 import com.djrapitops.plan.exceptions.connection.WebException;
@@ -33,16 +34,23 @@ import com.djrapitops.plan.identification.Identifiers;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Resolves /v1/graph JSON requests.
+ * <p>
+ * Performance and players online graphs of a server accept optional 'after', 'before' (epoch ms) and 'points'
+ * parameters to request a narrower time range at a higher resolution.
  *
  * @author Rsl1122
  */
 @Singleton
 public class GraphsJSONResolver implements PageResolver {
 
+    private static final long MAX_GRAPH_POINTS = 20000L;
+
     private final Identifiers identifiers;
     private final GraphJSONCreator graphJSON;
 
@@ -64,6 +72,13 @@ public class GraphsJSONResolver implements PageResolver {
 
         if (target.getParameter("server").isPresent()) {
             UUID serverUUID = identifiers.getServerUUID(target); // Can throw BadRequestException
+            if (isTimeRangeRequest(target) && (dataID == DataID.GRAPH_PERFORMANCE || dataID == DataID.GRAPH_ONLINE)) {
+                // Narrower time ranges with more points are not cached, as the ranges vary.
+                return generateLineGraphJSONOfTimeRange(dataID, serverUUID, target);
+            }
+            if (dataID == DataID.GRAPH_PERFORMANCE) {
+                return JSONCache.getOrCacheStreamed(dataID, serverUUID, () -> graphJSON.performanceGraphJSON(serverUUID));
+            }
             return JSONCache.getOrCache(dataID, serverUUID, () -> generateGraphDataJSONOfType(dataID, serverUUID));
         }
         // Assume network
@@ -86,10 +101,41 @@ public class GraphsJSONResolver implements PageResolver {
         }
     }
 
+    private boolean isTimeRangeRequest(RequestTarget target) {
+        return target.getParameter("after").isPresent()
+                || target.getParameter("before").isPresent()
+                || target.getParameter("points").isPresent();
+    }
+
+    private Response generateLineGraphJSONOfTimeRange(DataID id, UUID serverUUID, RequestTarget target) throws BadRequestException {
+        long now = System.currentTimeMillis();
+        long before = getNumberParameter(target, "before", now);
+        long after = getNumberParameter(target, "after", before - TimeUnit.DAYS.toMillis(180L));
+        int points = (int) Math.min(getNumberParameter(target, "points", GraphJSONCreator.DEFAULT_GRAPH_POINTS), MAX_GRAPH_POINTS);
+        if (after > before || points < 3) {
+            throw new BadRequestException("'after' must be before 'before' and 'points' must be at least 3.");
+        }
+
+        if (id == DataID.GRAPH_PERFORMANCE) {
+            return new JSONStreamResponse(graphJSON.performanceGraphJSON(serverUUID, after, before, points));
+        }
+        return new JSONResponse(graphJSON.playersOnlineGraph(serverUUID, after, before, points));
+    }
+
+    private long getNumberParameter(RequestTarget target, String key, long defaultValue) throws BadRequestException {
+        Optional<String> parameter = target.getParameter(key);
+        if (!parameter.isPresent()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(parameter.get());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'" + key + "' parameter is not a number: " + parameter.get());
+        }
+    }
+
     private JSONResponse generateGraphDataJSONOfType(DataID id, UUID serverUUID) {
         switch (id) {
-            case GRAPH_PERFORMANCE:
-                return new JSONResponse(graphJSON.performanceGraphJSON(serverUUID));
             case GRAPH_ONLINE:
                 return new JSONResponse(graphJSON.playersOnlineGraph(serverUUID));
             case GRAPH_UNIQUE_NEW:
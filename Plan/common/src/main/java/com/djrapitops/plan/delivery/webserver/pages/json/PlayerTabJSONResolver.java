@@ -0,0 +1,83 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.pages.json;
+
+import com.djrapitops.plan.delivery.domain.WebUser;
+import com.djrapitops.plan.delivery.rendering.json.PlayerTabJSONCreator;
+import com.djrapitops.plan.delivery.webserver.Request;
+import com.djrapitops.plan.delivery.webserver.RequestTarget;
+import com.djrapitops.plan.delivery.webserver.auth.Authentication;
+import com.djrapitops.plan.delivery.webserver.pages.PageResolver;
+import com.djrapitops.plan.delivery.webserver.response.Response;
+import com.djrapitops.plan.delivery.webserver.response.data.JSONResponse;
+import com.djrapitops.plan.exceptions.WebUserAuthException;
+import com.djrapitops.plan.exceptions.connection.BadRequestException;
+import com.djrapitops.plan.exceptions.connection.WebException;
+import com.djrapitops.plan.identification.Identifiers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Functional interface wrapper for resolving paginated parts of the player page, such as sessions.
+ * <p>
+ * 'page' parameter is optional and defaults to the first page, 0.
+ *
+ * @author Rsl1122
+ */
+public class PlayerTabJSONResolver<T> implements PageResolver {
+
+    private final Identifiers identifiers;
+    private final PlayerTabJSONCreator<T> jsonCreator;
+
+    public PlayerTabJSONResolver(
+            Identifiers identifiers,
+            PlayerTabJSONCreator<T> jsonCreator
+    ) {
+        this.identifiers = identifiers;
+        this.jsonCreator = jsonCreator;
+    }
+
+    @Override
+    public Response resolve(Request request, RequestTarget target) throws WebException {
+        UUID playerUUID = identifiers.getPlayerUUID(target); // Can throw BadRequestException
+        int page = getPage(target);
+        return new JSONResponse(jsonCreator.createJSONAsMap(playerUUID, page));
+    }
+
+    private int getPage(RequestTarget target) throws BadRequestException {
+        Optional<String> parameter = target.getParameter("page");
+        if (!parameter.isPresent()) {
+            return 0;
+        }
+        try {
+            int page = Integer.parseInt(parameter.get());
+            if (page < 0) {
+                throw new BadRequestException("'page' parameter can not be negative: " + page);
+            }
+            return page;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'page' parameter is not a number: " + parameter.get());
+        }
+    }
+
+    @Override
+    public boolean isAuthorized(Authentication auth, RequestTarget target) throws WebUserAuthException {
+        WebUser webUser = auth.getWebUser();
+        return webUser.getPermLevel() <= 1 || webUser.getName().equalsIgnoreCase(target.get(target.size() - 1));
+    }
+}
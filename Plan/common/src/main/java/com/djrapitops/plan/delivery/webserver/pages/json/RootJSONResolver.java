@@ -55,6 +55,7 @@ public class RootJSONResolver extends CompositePageResolver {
             PerformanceJSONCreator performanceJSONCreator,
 
             PlayerJSONResolver playerJSONResolver,
+            PlayerJSONCreator playerJSONCreator,
             NetworkJSONResolver networkJSONResolver
     ) {
         super(responseFactory);
@@ -74,6 +75,9 @@ public class RootJSONResolver extends CompositePageResolver {
         registerPage("performanceOverview", DataID.PERFORMANCE_OVERVIEW, performanceJSONCreator);
 
         registerPage("player", playerJSONResolver, 2);
+        registerPage("playerSessions", new PlayerTabJSONResolver<>(identifiers, playerJSONCreator::createSessionsJSONAsMap), 2);
+        registerPage("playerKills", new PlayerTabJSONResolver<>(identifiers, playerJSONCreator::createKillsJSONAsMap), 2);
+        registerPage("playerCalendar", new PlayerTabJSONResolver<>(identifiers, (playerUUID, page) -> playerJSONCreator.createCalendarJSONAsMap(playerUUID)), 2);
         registerPage("network", networkJSONResolver, 0);
     }
 
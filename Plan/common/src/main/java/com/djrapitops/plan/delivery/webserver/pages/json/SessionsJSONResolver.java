@@ -17,6 +17,7 @@
 package com.djrapitops.plan.delivery.webserver.pages.json;
 
 import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
+import com.djrapitops.plan.delivery.rendering.json.StreamableJSON;
 import com.djrapitops.plan.delivery.webserver.Request;
 import com.djrapitops.plan.delivery.webserver.RequestTarget;
 import com.djrapitops.plan.delivery.webserver.auth.Authentication;
@@ -24,14 +25,16 @@ import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.delivery.webserver.pages.PageResolver;
 import com.djrapitops.plan.delivery.webserver.response.Response;
-import com.djrapitops.plan.delivery.webserver.response.data.JSONResponse;
 import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.exceptions.connection.WebException;
 import com.djrapitops.plan.identification.Identifiers;
+import com.google.gson.Gson;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -44,6 +47,7 @@ public class SessionsJSONResolver implements PageResolver {
 
     private final Identifiers identifiers;
     private final JSONFactory jsonFactory;
+    private final Gson gson = new Gson();
 
     @Inject
     public SessionsJSONResolver(
@@ -58,16 +62,21 @@ public class SessionsJSONResolver implements PageResolver {
     public Response resolve(Request request, RequestTarget target) throws WebException {
         if (target.getParameter("server").isPresent()) {
             UUID serverUUID = identifiers.getServerUUID(target);
-            return JSONCache.getOrCache(DataID.SESSIONS, serverUUID, () ->
-                    new JSONResponse(Collections.singletonMap("sessions", jsonFactory.serverSessionsAsJSONMap(serverUUID)))
+            return JSONCache.getOrCacheStreamed(DataID.SESSIONS, serverUUID, () ->
+                    toJSON(jsonFactory.serverSessionsAsJSONMap(serverUUID))
             );
         }
         // Assume network
-        return JSONCache.getOrCache(DataID.SESSIONS, () ->
-                new JSONResponse(Collections.singletonMap("sessions", jsonFactory.networkSessionsAsJSONMap()))
+        return JSONCache.getOrCacheStreamed(DataID.SESSIONS, () ->
+                toJSON(jsonFactory.networkSessionsAsJSONMap())
         );
     }
 
+    private StreamableJSON toJSON(List<Map<String, Object>> sessions) {
+        Map<String, Object> json = Collections.singletonMap("sessions", sessions);
+        return writer -> gson.toJson(json, Map.class, writer);
+    }
+
     @Override
     public boolean isAuthorized(Authentication auth, RequestTarget target) throws WebUserAuthException {
         return auth.getWebUser().getPermLevel() <= 0;
@@ -52,9 +52,12 @@ public class ByteResponse extends Response {
              InputStream bis = files.getCustomizableResourceOrDefault(fileName).asInputStream()) {
             byte[] buffer = new byte[2048];
             int count;
+            long sent = 0;
             while ((count = bis.read(buffer)) != -1) {
                 out.write(buffer, 0, count);
+                sent += count;
             }
+            setSentBytes(sent);
         }
     }
 }
@@ -36,6 +36,11 @@ public class FileResponse extends Response {
         super.setContent(files.getCustomizableResourceOrDefault(fileName).asString());
     }
 
+    @Override
+    protected boolean isStaticContent() {
+        return true;
+    }
+
     public static String format(String fileName) {
         String[] split = StringUtils.split(fileName, '/');
         int i;
@@ -16,19 +16,20 @@
  */
 package com.djrapitops.plan.delivery.webserver.response;
 
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContent;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.theme.Theme;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author Rsl1122
@@ -40,6 +41,7 @@ public abstract class Response {
     private String content;
 
     protected Headers responseHeaders;
+    private long sentBytes;
 
     public Response(ResponseType type) {
         this.type = type.get();
@@ -75,6 +77,7 @@ public abstract class Response {
     }
 
     public String getResponse() {
+        String content = getContent();
         return header + "\r\n"
                 + "Content-Type: " + type + ";\r\n"
                 + "Content-Length: " + content.length() + "\r\n"
@@ -124,21 +127,97 @@ public abstract class Response {
         content = theme.replaceThemeColors(content);
     }
 
+    /**
+     * Get the value of Cache-Control header for successful responses.
+     * <p>
+     * Responses are revalidated with their ETag by default, override to allow browsers to cache content longer.
+     *
+     * @return Cache-Control header value.
+     */
+    protected String getCacheControl() {
+        return "no-cache";
+    }
+
     public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
         responseHeaders.set("Content-Type", type);
-        responseHeaders.set("Content-Encoding", "gzip");
-        exchange.sendResponseHeaders(getCode(), 0);
-
-        try (
-                GZIPOutputStream out = new GZIPOutputStream(exchange.getResponseBody());
-                ByteArrayInputStream bis = new ByteArrayInputStream((content != null ? content : "").getBytes(StandardCharsets.UTF_8))
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
+
+        String body = content != null ? content : "";
+        int code = getCode();
+        if (code == 204) {
+            exchange.sendResponseHeaders(code, -1);
+            return;
+        }
+        if (code != 200) {
+            sendCompressed(exchange, code, CompressedContentCache.compress(body.getBytes(StandardCharsets.UTF_8)));
+            return;
+        }
+        sendCompressedContent(exchange, isStaticContent() ? CompressedContentCache.getOrCompress(body) : CompressedContent.compress(body));
+    }
+
+    /**
+     * Is the content same for every request, like a file of the website.
+     * <p>
+     * Static content is compressed once and kept in {@link CompressedContentCache}. Other content is compressed for
+     * each response, so that content that is not sent again does not fill the cache.
+     *
+     * @return false by default, override for responses of files.
+     */
+    protected boolean isStaticContent() {
+        return false;
+    }
+
+    /**
+     * Send a successful response with an ETag, or 304 if the client has the same content already.
+     *
+     * @param exchange   Exchange to send the response to.
+     * @param compressed Compressed body and its ETag.
+     * @throws IOException If the body can not be sent.
+     */
+    protected void sendCompressedContent(HttpExchange exchange, CompressedContent compressed) throws IOException {
+        responseHeaders.set("ETag", compressed.getEtag());
+        responseHeaders.set("Cache-Control", getCacheControl());
+
+        if (isNotModified(exchange, compressed.getEtag())) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        sendCompressed(exchange, 200, compressed.getCompressed());
+    }
+
+    protected boolean isNotModified(HttpExchange exchange, String etag) {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String match : StringUtils.split(ifNoneMatch, ',')) {
+            String trimmed = match.trim();
+            if (trimmed.equals(etag) || trimmed.equals("*")) {
+                return true;
             }
         }
+        return false;
+    }
+
+    protected void sendCompressed(HttpExchange exchange, int code, byte[] compressed) throws IOException {
+        responseHeaders.set("Content-Encoding", "gzip");
+        exchange.sendResponseHeaders(code, compressed.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(compressed);
+        }
+        sentBytes = compressed.length;
+    }
+
+    /**
+     * Get the size of the body sent by {@link #send(HttpExchange, Locale, Theme)}.
+     *
+     * @return Amount of bytes sent, 0 if nothing has been sent.
+     */
+    public long getSentBytes() {
+        return sentBytes;
+    }
+
+    protected void setSentBytes(long sentBytes) {
+        this.sentBytes = sentBytes;
     }
 
     @Override
@@ -25,6 +25,7 @@ public enum ResponseType {
     HTML("text/html; charset=utf-8"),
     CSS("text/css"),
     JSON("application/json"),
+    TEXT("text/plain; charset=utf-8"),
     JAVASCRIPT("application/javascript"),
     IMAGE("image/gif"),
     X_ICON("image/x-icon");
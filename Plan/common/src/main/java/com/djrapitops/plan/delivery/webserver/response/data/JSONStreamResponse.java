@@ -0,0 +1,169 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.response.data;
+
+import com.djrapitops.plan.delivery.rendering.json.StreamableJSON;
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContent;
+import com.djrapitops.plan.delivery.webserver.response.Response;
+import com.djrapitops.plan.delivery.webserver.response.ResponseType;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.settings.theme.Theme;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON response that writes the JSON straight into the gzip stream of the request.
+ * <p>
+ * Large JSON is never held in memory as a String or uncompressed bytes. As the length is not known beforehand
+ * the body is sent with chunked encoding, and a failure while writing cuts the response short.
+ * <p>
+ * The compressed body can be captured while it is sent so that it can be cached and sent again
+ * with an ETag, see {@link com.djrapitops.plan.delivery.webserver.cache.JSONCache}.
+ *
+ * @author Rsl1122
+ */
+public class JSONStreamResponse extends Response {
+
+    private final StreamableJSON json;
+    private final Consumer<byte[]> compressedBodyConsumer;
+    private final CompressedContent compressed;
+
+    /**
+     * Create a response that writes the JSON when it is sent.
+     *
+     * @param json JSON to write.
+     */
+    public JSONStreamResponse(StreamableJSON json) {
+        this(json, null, null);
+    }
+
+    /**
+     * Create a response that writes the JSON when it is sent, and gives the compressed body to a consumer.
+     *
+     * @param json                   JSON to write.
+     * @param compressedBodyConsumer Called with the gzip compressed body after it has been sent completely.
+     */
+    public JSONStreamResponse(StreamableJSON json, Consumer<byte[]> compressedBodyConsumer) {
+        this(json, compressedBodyConsumer, null);
+    }
+
+    /**
+     * Create a response for a body that was compressed already.
+     *
+     * @param compressed gzip compressed JSON and its ETag.
+     */
+    public JSONStreamResponse(CompressedContent compressed) {
+        this(null, null, compressed);
+    }
+
+    private JSONStreamResponse(StreamableJSON json, Consumer<byte[]> compressedBodyConsumer, CompressedContent compressed) {
+        super(ResponseType.JSON);
+        this.json = json;
+        this.compressedBodyConsumer = compressedBodyConsumer;
+        this.compressed = compressed;
+        super.setHeader("HTTP/1.1 200 OK");
+    }
+
+    @Override
+    public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        responseHeaders.set("Content-Type", ResponseType.JSON.get());
+
+        if (compressed != null) {
+            sendCompressedContent(exchange, compressed);
+            return;
+        }
+
+        responseHeaders.set("Cache-Control", getCacheControl());
+        responseHeaders.set("Content-Encoding", "gzip");
+        exchange.sendResponseHeaders(200, 0);
+
+        CountingOutputStream body = new CountingOutputStream(exchange.getResponseBody(),
+                compressedBodyConsumer != null ? new ByteArrayOutputStream() : null);
+        try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(body, 8192), StandardCharsets.UTF_8), 8192))) {
+            json.writeTo(writer);
+        }
+        setSentBytes(body.count);
+        if (body.copy != null) {
+            compressedBodyConsumer.accept(body.copy.toByteArray());
+        }
+    }
+
+    /**
+     * Get the JSON as a String, used when the JSON is exported instead of sent.
+     *
+     * @return JSON String.
+     */
+    @Override
+    public String getContent() {
+        try {
+            return compressed != null ? decompress(compressed.getCompressed()) : writeToString(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not thrown by in-memory streams
+        }
+    }
+
+    private static String writeToString(StreamableJSON json) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            json.writeTo(writer);
+        }
+        return out.toString();
+    }
+
+    private static String decompress(byte[] compressed) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private final ByteArrayOutputStream copy;
+        private long count;
+
+        CountingOutputStream(OutputStream out, ByteArrayOutputStream copy) {
+            super(out);
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (copy != null) copy.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null) copy.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.implementation.CallerImplementation;
 import com.djrapitops.plan.extension.implementation.DataProviderExtractor;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ExtensionRegister;
 import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderValueGatherer;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -36,10 +37,10 @@ import com.djrapitops.plugin.logging.error.ErrorHandler;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation for {@link ExtensionService}.
@@ -54,6 +55,7 @@ public class ExtensionServiceImplementation implements ExtensionService {
     private final ServerInfo serverInfo;
     private final Processing processing;
     private final ExtensionRegister extensionRegister;
+    private final ExtensionMethodExecutor methodExecutor;
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
 
@@ -66,6 +68,7 @@ public class ExtensionServiceImplementation implements ExtensionService {
             ServerInfo serverInfo,
             Processing processing,
             ExtensionRegister extensionRegister,
+            ExtensionMethodExecutor methodExecutor,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
@@ -74,10 +77,11 @@ public class ExtensionServiceImplementation implements ExtensionService {
         this.serverInfo = serverInfo;
         this.processing = processing;
         this.extensionRegister = extensionRegister;
+        this.methodExecutor = methodExecutor;
         this.logger = logger;
         this.errorHandler = errorHandler;
 
-        extensionGatherers = new HashMap<>();
+        extensionGatherers = new ConcurrentHashMap<>();
 
         ExtensionService.ExtensionServiceHolder.set(this);
     }
@@ -102,7 +106,8 @@ public class ExtensionServiceImplementation implements ExtensionService {
             logger.warn("DataExtension API implementation mistake for " + pluginName + ": " + warning);
         }
 
-        ProviderValueGatherer gatherer = new ProviderValueGatherer(extension, extractor, dbSystem, serverInfo);
+        methodExecutor.extensionRegistered(pluginName);
+        ProviderValueGatherer gatherer = new ProviderValueGatherer(extension, extractor, dbSystem, serverInfo, methodExecutor);
         gatherer.storeExtensionInformation();
         extensionGatherers.put(pluginName, gatherer);
 
@@ -142,9 +147,8 @@ public class ExtensionServiceImplementation implements ExtensionService {
     }
 
     public void updatePlayerValues(UUID playerUUID, String playerName, CallEvents event) {
-        for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
-            updatePlayerValues(gatherer, playerUUID, playerName, event);
-        }
+        // Gatherers are called concurrently so that a slow extension does not delay the others.
+        methodExecutor.runConcurrently(extensionGatherers.values(), gatherer -> updatePlayerValues(gatherer, playerUUID, playerName, event));
     }
 
     public void updatePlayerValues(ProviderValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
@@ -181,9 +185,7 @@ public class ExtensionServiceImplementation implements ExtensionService {
     }
 
     public void updateServerValues(CallEvents event) {
-        for (ProviderValueGatherer gatherer : extensionGatherers.values()) {
-            updateServerValues(gatherer, event);
-        }
+        methodExecutor.runConcurrently(extensionGatherers.values(), gatherer -> updateServerValues(gatherer, event));
         UUID serverUUID = serverInfo.getServerUUID();
         JSONCache.invalidate(DataID.EXTENSION_NAV, serverUUID);
         JSONCache.invalidate(DataID.EXTENSION_TABS, serverUUID);
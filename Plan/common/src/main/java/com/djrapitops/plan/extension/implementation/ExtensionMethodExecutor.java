@@ -0,0 +1,233 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
+import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Executes DataExtension gatherers concurrently and DataExtension methods with a timeout.
+ * <p>
+ * Each method call runs on its own thread so that a slow or hanging method can be abandoned after the timeout of
+ * the extension, see {@link com.djrapitops.plan.settings.config.ExtensionSettings#getMethodTimeout(String)}.
+ * Latency, timeouts and calls rejected because all method threads were in use are recorded in
+ * {@link MethodCallStatistics}, which also decides when a method that keeps timing out is skipped.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ExtensionMethodExecutor implements SubSystem {
+
+    private static final int GATHERER_THREADS = 4;
+    // Limits the threads a hanging method can occupy, circuit breakers stop calling them before this is reached.
+    static final int MAX_METHOD_THREADS = 16;
+
+    private final PlanConfig config;
+    private final PluginLogger logger;
+    private final ErrorHandler errorHandler;
+
+    private final Map<String, Long> methodTimeouts;
+    private final Map<String, Map<String, MethodCallStatistics>> statistics;
+
+    private ExecutorService gathererExecutor;
+    private ExecutorService methodExecutor;
+
+    @Inject
+    public ExtensionMethodExecutor(
+            PlanConfig config,
+            PluginLogger logger,
+            ErrorHandler errorHandler
+    ) {
+        this.config = config;
+        this.logger = logger;
+        this.errorHandler = errorHandler;
+
+        methodTimeouts = new ConcurrentHashMap<>();
+        statistics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void enable() {
+        if (gathererExecutor == null || gathererExecutor.isShutdown()) {
+            gathererExecutor = Executors.newFixedThreadPool(GATHERER_THREADS, threadFactory("Plan Extension-pool-%d"));
+        }
+        if (methodExecutor == null || methodExecutor.isShutdown()) {
+            methodExecutor = new ThreadPoolExecutor(
+                    0, MAX_METHOD_THREADS,
+                    60L, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(),
+                    threadFactory("Plan Extension method-pool-%d")
+            );
+        }
+    }
+
+    private ThreadFactory threadFactory(String namingPattern) {
+        return new BasicThreadFactory.Builder()
+                .namingPattern(namingPattern)
+                .daemon(true)
+                .uncaughtExceptionHandler((thread, throwable) ->
+                        errorHandler.log(L.WARN, ExtensionMethodExecutor.class, throwable)
+                ).build();
+    }
+
+    @Override
+    public void disable() {
+        if (gathererExecutor != null) {
+            // Queued gatherers are allowed to finish, the method calls they make are no longer accepted.
+            gathererExecutor.shutdown();
+        }
+        if (methodExecutor != null) {
+            methodExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Forget the timeout and statistics of an extension when it is registered again.
+     *
+     * @param pluginName Name of the extension.
+     */
+    public void extensionRegistered(String pluginName) {
+        methodTimeouts.remove(pluginName);
+        statistics.remove(pluginName);
+    }
+
+    /**
+     * Run an action for each item concurrently and wait for all of them to finish.
+     *
+     * @param items  Items to run the action for, usually gatherers of different extensions.
+     * @param action Action to run.
+     * @param <T>    Type of the items.
+     */
+    public <T> void runConcurrently(Collection<T> items, Consumer<T> action) {
+        ExecutorService executor = gathererExecutor;
+        if (items.size() <= 1 || executor == null || executor.isShutdown()) {
+            items.forEach(action);
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (T item : items) {
+            try {
+                futures.add(CompletableFuture.runAsync(() -> action.accept(item), executor));
+            } catch (RejectedExecutionException shutdown) {
+                action.accept(item);
+            }
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException | CancellationException failed) {
+            errorHandler.log(L.WARN, ExtensionMethodExecutor.class, failed.getCause() != null ? failed.getCause() : failed);
+        }
+    }
+
+    /**
+     * Call a DataExtension method with the timeout of the extension.
+     *
+     * @param pluginName Name of the extension.
+     * @param method     Method that is being called.
+     * @param call       Callable that calls the method.
+     * @param <T>        Type of the method result.
+     * @return Result of the method, or null if the method timed out, was skipped or all method threads were in use.
+     * @throws DataExtensionMethodCallException If the method threw an exception.
+     */
+    public <T> T callMethod(String pluginName, MethodWrapper<T> method, Callable<T> call) {
+        MethodCallStatistics methodStatistics = getStatistics(pluginName, method.getMethodName());
+        if (!methodStatistics.allowCall(System.currentTimeMillis())) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = methodExecutor;
+        if (executor == null || executor.isShutdown()) {
+            return callOnCurrentThread(pluginName, method, call, methodStatistics, start);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException allThreadsInUse) {
+            if (methodStatistics.callRejected()) {
+                logger.warn("DataExtension method " + pluginName + "#" + method.getMethodName() + " was not called: all "
+                        + MAX_METHOD_THREADS + " extension method threads are waiting for methods that have not returned.");
+            }
+            return null;
+        }
+
+        try {
+            T result = future.get(getMethodTimeout(pluginName), TimeUnit.MILLISECONDS);
+            methodStatistics.callFinished(System.nanoTime() - start);
+            return result;
+        } catch (TimeoutException timedOut) {
+            future.cancel(true);
+            methodStatistics.callTimedOut(System.currentTimeMillis());
+            return null;
+        } catch (ExecutionException failed) {
+            methodStatistics.callFinished(System.nanoTime() - start);
+            throw new DataExtensionMethodCallException(failed.getCause(), pluginName, method);
+        } catch (InterruptedException interrupted) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private <T> T callOnCurrentThread(String pluginName, MethodWrapper<T> method, Callable<T> call, MethodCallStatistics methodStatistics, long start) {
+        try {
+            return call.call();
+        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
+            throw new DataExtensionMethodCallException(e, pluginName, method);
+        } finally {
+            methodStatistics.callFinished(System.nanoTime() - start);
+        }
+    }
+
+    private long getMethodTimeout(String pluginName) {
+        return methodTimeouts.computeIfAbsent(pluginName, name -> config.getExtensionSettings().getMethodTimeout(name));
+    }
+
+    private MethodCallStatistics getStatistics(String pluginName, String methodName) {
+        return statistics.computeIfAbsent(pluginName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, name -> new MethodCallStatistics(pluginName, name));
+    }
+
+    /**
+     * Get statistics of the called methods, for the /debug page.
+     *
+     * @return Statistics ordered by extension and method name.
+     */
+    public List<MethodCallStatistics> getStatistics() {
+        List<MethodCallStatistics> all = new ArrayList<>();
+        for (Map<String, MethodCallStatistics> ofPlugin : statistics.values()) {
+            all.addAll(ofPlugin.values());
+        }
+        all.sort(Comparator.comparing(MethodCallStatistics::getPluginName, String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(MethodCallStatistics::getMethodName));
+        return all;
+    }
+}
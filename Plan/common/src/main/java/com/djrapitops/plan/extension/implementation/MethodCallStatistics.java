@@ -0,0 +1,192 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram and circuit breaker of a single DataExtension method.
+ * <p>
+ * The circuit opens after a method has timed out {@link #TIMEOUT_THRESHOLD} times in a row, after which the method
+ * is not called until the back off period has passed. The back off doubles each time the method times out again
+ * right after the circuit was closed, and is reset when the method finishes in time.
+ *
+ * @author Rsl1122
+ */
+public class MethodCallStatistics {
+
+    /**
+     * Upper limits of the histogram buckets in milliseconds, calls longer than the last limit go into an extra bucket.
+     */
+    public static final long[] BUCKET_LIMITS_MS = {1, 5, 10, 50, 100, 500, 1000, 5000};
+
+    static final int TIMEOUT_THRESHOLD = 3;
+    static final long INITIAL_BACK_OFF_MS = TimeUnit.MINUTES.toMillis(1L);
+    static final long MAX_BACK_OFF_MS = TimeUnit.HOURS.toMillis(1L);
+
+    private final String pluginName;
+    private final String methodName;
+
+    private final AtomicLongArray buckets;
+    private final AtomicLong totalNanos;
+    private final AtomicLong maxNanos;
+    private final AtomicLong skippedCalls;
+    private final AtomicLong timeouts;
+    private final AtomicLong rejectedCalls;
+
+    private boolean rejecting;
+    private int consecutiveTimeouts;
+    private long backOffMs;
+    private long openUntil;
+
+    public MethodCallStatistics(String pluginName, String methodName) {
+        this.pluginName = pluginName;
+        this.methodName = methodName;
+
+        buckets = new AtomicLongArray(BUCKET_LIMITS_MS.length + 1);
+        totalNanos = new AtomicLong(0);
+        maxNanos = new AtomicLong(0);
+        skippedCalls = new AtomicLong(0);
+        timeouts = new AtomicLong(0);
+        rejectedCalls = new AtomicLong(0);
+
+        rejecting = false;
+        consecutiveTimeouts = 0;
+        backOffMs = INITIAL_BACK_OFF_MS;
+        openUntil = 0;
+    }
+
+    /**
+     * Check if the method can be called, or if the circuit is open.
+     *
+     * @param now Current epoch ms.
+     * @return false if the call should be skipped.
+     */
+    public synchronized boolean allowCall(long now) {
+        if (openUntil > now) {
+            skippedCalls.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record a call that finished, either with a result or with an exception.
+     *
+     * @param nanos How long the call took.
+     */
+    public void callFinished(long nanos) {
+        buckets.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMillis(nanos)));
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        synchronized (this) {
+            rejecting = false;
+            consecutiveTimeouts = 0;
+            backOffMs = INITIAL_BACK_OFF_MS;
+        }
+    }
+
+    /**
+     * Record a call that did not finish before the timeout.
+     *
+     * @param now Current epoch ms.
+     */
+    public synchronized void callTimedOut(long now) {
+        timeouts.incrementAndGet();
+        buckets.incrementAndGet(BUCKET_LIMITS_MS.length);
+        rejecting = false;
+        consecutiveTimeouts++;
+        if (consecutiveTimeouts >= TIMEOUT_THRESHOLD) {
+            openUntil = now + backOffMs;
+            backOffMs = Math.min(backOffMs * 2, MAX_BACK_OFF_MS);
+            // A single timeout after the back off opens the circuit again.
+            consecutiveTimeouts = TIMEOUT_THRESHOLD - 1;
+        }
+    }
+
+    /**
+     * Record a call that could not be started because all method threads were in use.
+     *
+     * @return true if the previous call was started, so that only the first of consecutive rejections is logged.
+     */
+    public synchronized boolean callRejected() {
+        rejectedCalls.incrementAndGet();
+        boolean first = !rejecting;
+        rejecting = true;
+        return first;
+    }
+
+    private static int bucketOf(long ms) {
+        for (int i = 0; i < BUCKET_LIMITS_MS.length; i++) {
+            if (ms < BUCKET_LIMITS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS_MS.length;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public long[] getBuckets() {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    public long getFinishedCallCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count - timeouts.get();
+    }
+
+    public long getAverageMs() {
+        long calls = getFinishedCallCount();
+        return calls != 0 ? TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / calls) : 0L;
+    }
+
+    public long getMaxMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.get();
+    }
+
+    public long getSkippedCallCount() {
+        return skippedCalls.get();
+    }
+
+    public long getRejectedCallCount() {
+        return rejectedCalls.get();
+    }
+
+    public synchronized boolean isCircuitOpen(long now) {
+        return openUntil > now;
+    }
+}
@@ -21,6 +21,8 @@ import com.djrapitops.plan.extension.Group;
 import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -28,6 +30,10 @@ import java.util.UUID;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * The method is bound to a {@link MethodHandle} when the wrapper is created, because calling a MethodHandle is
+ * cheaper than {@link Method#invoke(Object, Object...)}. Methods that are not accessible as MethodHandles are
+ * called with reflection instead.
  *
  * @author Rsl1122
  */
@@ -36,11 +42,38 @@ public class MethodWrapper<T> {
     private final Method method;
     private final Class<T> resultType;
     private final MethodType methodType;
+    private final Invoker invoker;
 
     public MethodWrapper(Method method, Class<T> resultType) {
         this.method = method;
         this.resultType = resultType;
         methodType = MethodType.forMethod(this.method);
+        invoker = bindInvoker();
+    }
+
+    private Invoker bindInvoker() {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException notPublic) {
+            return this::invokeReflectively;
+        }
+        switch (methodType) {
+            case SERVER:
+                MethodHandle serverMethod = handle.asType(java.lang.invoke.MethodType.methodType(Object.class, DataExtension.class));
+                return (extension, playerUUID, playerName, group) -> serverMethod.invokeExact(extension);
+            case PLAYER_UUID:
+                MethodHandle uuidMethod = handle.asType(java.lang.invoke.MethodType.methodType(Object.class, DataExtension.class, UUID.class));
+                return (extension, playerUUID, playerName, group) -> uuidMethod.invokeExact(extension, playerUUID);
+            case PLAYER_NAME:
+                MethodHandle nameMethod = handle.asType(java.lang.invoke.MethodType.methodType(Object.class, DataExtension.class, String.class));
+                return (extension, playerUUID, playerName, group) -> nameMethod.invokeExact(extension, playerName);
+            case GROUP:
+                MethodHandle groupMethod = handle.asType(java.lang.invoke.MethodType.methodType(Object.class, DataExtension.class, Group.class));
+                return (extension, playerUUID, playerName, group) -> groupMethod.invokeExact(extension, group);
+            default:
+                throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " had invalid parameters.");
+        }
     }
 
     public T callMethod(DataExtension extension, UUID playerUUID, String playerName) {
@@ -65,30 +98,43 @@ public class MethodWrapper<T> {
     }
 
     public T callMethod(DataExtension extension, UUID playerUUID, String playerName, Group group) {
+        try {
+            return resultType.cast(invoker.invoke(extension, playerUUID, playerName, group));
+        } catch (NotReadyException notReadyToBeCalled) {
+            return null; // Data or API not available to make the call.
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + e.getMessage(), e);
+        }
+    }
+
+    private Object invokeReflectively(DataExtension extension, UUID playerUUID, String playerName, Group group) throws Throwable {
         try {
             switch (methodType) {
                 case SERVER:
-                    return resultType.cast(method.invoke(extension));
+                    return method.invoke(extension);
                 case PLAYER_UUID:
-                    return resultType.cast(method.invoke(extension, playerUUID));
+                    return method.invoke(extension, playerUUID);
                 case PLAYER_NAME:
-                    return resultType.cast(method.invoke(extension, playerName));
+                    return method.invoke(extension, playerName);
                 case GROUP:
-                    return resultType.cast(method.invoke(extension, group));
+                    return method.invoke(extension, group);
                 default:
                     throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " had invalid parameters.");
             }
-        } catch (InvocationTargetException notReadyToBeCalled) {
-            if (notReadyToBeCalled.getCause() instanceof NotReadyException) {
-                return null; // Data or API not available to make the call.
-            } else {
-                throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + notReadyToBeCalled.getMessage(), notReadyToBeCalled);
-            }
-        } catch (IllegalAccessException e) {
-            throw new IllegalArgumentException(method.getDeclaringClass() + " method " + method.getName() + " could not be called: " + e.getMessage(), e);
+        } catch (InvocationTargetException e) {
+            // Unwrapped so that both ways of calling the method throw the same exceptions.
+            throw e.getCause();
         }
     }
 
+    /**
+     * Calls the method with the parameters that match its {@link MethodType}.
+     */
+    @FunctionalInterface
+    private interface Invoker {
+        Object invoke(DataExtension extension, UUID playerUUID, String playerName, Group group) throws Throwable;
+    }
+
     public String getMethodName() {
         return method.getName();
     }
@@ -16,19 +16,16 @@
  */
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
-import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.BooleanDataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreBooleanProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerBooleanResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerBooleanResultTransaction;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.ProviderValue;
 
 import java.util.*;
 import java.util.concurrent.Callable;
@@ -46,35 +43,35 @@ class BooleanProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
+    private final ExtensionMethodExecutor methodExecutor;
 
     BooleanProviderValueGatherer(
             String pluginName, DataExtension extension,
-            UUID serverUUID, Database database,
-            DataProviders dataProviders
+            UUID serverUUID, DataProviders dataProviders,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = dataProviders;
+        this.methodExecutor = methodExecutor;
     }
 
-    Conditions gatherBooleanDataOfPlayer(UUID playerUUID, String playerName) {
+    Conditions gatherBooleanDataOfPlayer(UUID playerUUID, String playerName, StoreProviderValuesTransaction storeValues) {
         Conditions conditions = new Conditions();
 
         List<DataProvider<Boolean>> unsatisifiedProviders = new ArrayList<>(dataProviders.getPlayerMethodsByType(Boolean.class));
         Set<DataProvider<Boolean>> satisfied;
 
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
-        BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTrancationCreator = (method, result) -> new StorePlayerBooleanResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
+        BiFunction<MethodWrapper<Boolean>, Boolean, ProviderValue> valueCreator = (method, result) -> ProviderValue.ofPlayer(playerUUID, method.getMethodName()).booleanValue(result);
 
         do {
             // Loop through all unsatisfied providers to see if more conditions are satisfied
-            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTrancationCreator, conditions, unsatisifiedProviders);
+            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, valueCreator, conditions, unsatisifiedProviders, storeValues);
             // Remove now satisfied Providers so that they are not called again
             unsatisifiedProviders.removeAll(satisfied);
             // If no new conditions could be satisfied, stop looping.
@@ -83,20 +80,20 @@ class BooleanProviderValueGatherer {
         return conditions;
     }
 
-    Conditions gatherBooleanDataOfServer() {
+    Conditions gatherBooleanDataOfServer(StoreProviderValuesTransaction storeValues) {
         Conditions conditions = new Conditions();
 
         List<DataProvider<Boolean>> unsatisifiedProviders = new ArrayList<>(dataProviders.getServerMethodsByType(Boolean.class));
         Set<DataProvider<Boolean>> satisfied;
 
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller = method -> () -> method.callMethod(extension);
-        BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTransactionCreator = (method, result) -> new StoreServerBooleanResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
+        BiFunction<MethodWrapper<Boolean>, Boolean, ProviderValue> valueCreator = (method, result) -> ProviderValue.ofServer(method.getMethodName()).booleanValue(result);
 
         do {
             // Loop through all unsatisfied providers to see if more conditions are satisfied
-            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, storeTransactionCreator, conditions, unsatisifiedProviders);
+            satisfied = attemptToSatisfyMoreConditionsAndStoreResults(methodCaller, valueCreator, conditions, unsatisifiedProviders, storeValues);
             // Remove now satisfied Providers so that they are not called again
             unsatisifiedProviders.removeAll(satisfied);
             // If no new conditions could be satisfied, stop looping.
@@ -107,8 +104,9 @@ class BooleanProviderValueGatherer {
 
     private Set<DataProvider<Boolean>> attemptToSatisfyMoreConditionsAndStoreResults(
             Function<MethodWrapper<Boolean>, Callable<Boolean>> methodCaller,
-            BiFunction<MethodWrapper<Boolean>, Boolean, Transaction> storeTransactionCreator,
-            Conditions conditions, List<DataProvider<Boolean>> unsatisifiedProviders
+            BiFunction<MethodWrapper<Boolean>, Boolean, ProviderValue> valueCreator,
+            Conditions conditions, List<DataProvider<Boolean>> unsatisifiedProviders,
+            StoreProviderValuesTransaction storeValues
     ) {
         Set<DataProvider<Boolean>> satisfied = new HashSet<>();
         for (DataProvider<Boolean> booleanProvider : unsatisifiedProviders) {
@@ -142,18 +140,14 @@ class BooleanProviderValueGatherer {
             }
 
             satisfied.add(booleanProvider); // Prevents further attempts to call this provider for this player.
-            database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-            database.executeTransaction(new StoreBooleanProviderTransaction(booleanProvider, providedCondition.orElse(null), hidden, serverUUID));
-            database.executeTransaction(storeTransactionCreator.apply(method, result));
+            storeValues.storeIcon(providerInformation.getIcon());
+            storeValues.storeProvider(providerInformation.getName(), new StoreBooleanProviderTransaction(booleanProvider, providedCondition.orElse(null), hidden, serverUUID));
+            storeValues.storeValue(valueCreator.apply(method, result));
         }
         return satisfied;
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
-        try {
-            return callable.call();
-        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-            throw new DataExtensionMethodCallException(e, pluginName, method);
-        }
+        return methodExecutor.callMethod(pluginName, method, callable);
     }
 }
\ No newline at end of file
@@ -16,21 +16,16 @@
  */
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
-import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.PercentageDataProvider;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreDoubleProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerDoubleResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerPercentageResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerDoubleResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerPercentageResultTransaction;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.ProviderValue;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -49,51 +44,51 @@ class DoubleAndPercentageProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
+    private final ExtensionMethodExecutor methodExecutor;
 
     DoubleAndPercentageProviderValueGatherer(
             String pluginName, DataExtension extension,
-            UUID serverUUID, Database database,
-            DataProviders dataProviders
+            UUID serverUUID, DataProviders dataProviders,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = dataProviders;
+        this.methodExecutor = methodExecutor;
     }
 
-    void gatherDoubleDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherDoubleDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<Double>, Callable<Double>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
-        BiFunction<MethodWrapper<Double>, Double, Transaction> percStoreTransactionCreator = (method, result) -> new StorePlayerPercentageResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
-        BiFunction<MethodWrapper<Double>, Double, Transaction> doubleStoreTransactionCreator = (method, result) -> new StorePlayerDoubleResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
+        BiFunction<MethodWrapper<Double>, Double, ProviderValue> percentageValueCreator = (method, result) -> ProviderValue.ofPlayer(playerUUID, method.getMethodName()).percentageValue(result);
+        BiFunction<MethodWrapper<Double>, Double, ProviderValue> doubleValueCreator = (method, result) -> ProviderValue.ofPlayer(playerUUID, method.getMethodName()).doubleValue(result);
 
         for (DataProvider<Double> doubleProvider : dataProviders.getPlayerMethodsByType(Double.class)) {
-            gatherDoubleDataOfProvider(methodCaller, percStoreTransactionCreator, doubleStoreTransactionCreator, conditions, doubleProvider);
+            gatherDoubleDataOfProvider(methodCaller, percentageValueCreator, doubleValueCreator, conditions, doubleProvider, storeValues);
         }
     }
 
-    void gatherDoubleDataOfServer(Conditions conditions) {
+    void gatherDoubleDataOfServer(Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<Double>, Callable<Double>> methodCaller = method -> () -> method.callMethod(extension);
-        BiFunction<MethodWrapper<Double>, Double, Transaction> percStoreTransactionCreator = (method, result) -> new StoreServerPercentageResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
-        BiFunction<MethodWrapper<Double>, Double, Transaction> doubleStoreTransactionCreator = (method, result) -> new StoreServerDoubleResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
+        BiFunction<MethodWrapper<Double>, Double, ProviderValue> percentageValueCreator = (method, result) -> ProviderValue.ofServer(method.getMethodName()).percentageValue(result);
+        BiFunction<MethodWrapper<Double>, Double, ProviderValue> doubleValueCreator = (method, result) -> ProviderValue.ofServer(method.getMethodName()).doubleValue(result);
 
         for (DataProvider<Double> doubleProvider : dataProviders.getServerMethodsByType(Double.class)) {
-            gatherDoubleDataOfProvider(methodCaller, percStoreTransactionCreator, doubleStoreTransactionCreator, conditions, doubleProvider);
+            gatherDoubleDataOfProvider(methodCaller, percentageValueCreator, doubleValueCreator, conditions, doubleProvider, storeValues);
         }
     }
 
     private void gatherDoubleDataOfProvider(
             Function<MethodWrapper<Double>, Callable<Double>> methodCaller,
-            BiFunction<MethodWrapper<Double>, Double, Transaction> percStoreTransactionCreator,
-            BiFunction<MethodWrapper<Double>, Double, Transaction> doubleStoreTransactionCreator,
-            Conditions conditions, DataProvider<Double> doubleProvider
-
+            BiFunction<MethodWrapper<Double>, Double, ProviderValue> percentageValueCreator,
+            BiFunction<MethodWrapper<Double>, Double, ProviderValue> doubleValueCreator,
+            Conditions conditions, DataProvider<Double> doubleProvider,
+            StoreProviderValuesTransaction storeValues
     ) {
         ProviderInformation providerInformation = doubleProvider.getProviderInformation();
         Optional<String> condition = providerInformation.getCondition();
@@ -107,21 +102,17 @@ class DoubleAndPercentageProviderValueGatherer {
             return; // Error during call
         }
 
-        database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-        database.executeTransaction(new StoreDoubleProviderTransaction(doubleProvider, serverUUID));
+        storeValues.storeIcon(providerInformation.getIcon());
+        storeValues.storeProvider(providerInformation.getName(), new StoreDoubleProviderTransaction(doubleProvider, serverUUID));
 
         if (doubleProvider instanceof PercentageDataProvider) {
-            database.executeTransaction(percStoreTransactionCreator.apply(method, result));
+            storeValues.storeValue(percentageValueCreator.apply(method, result));
         } else {
-            database.executeTransaction(doubleStoreTransactionCreator.apply(method, result));
+            storeValues.storeValue(doubleValueCreator.apply(method, result));
         }
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
-        try {
-            return callable.call();
-        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-            throw new DataExtensionMethodCallException(e, pluginName, method);
-        }
+        return methodExecutor.callMethod(pluginName, method, callable);
     }
 }
\ No newline at end of file
@@ -16,16 +16,15 @@
  */
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
-import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreGroupProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerGroupsResultTransaction;
-import com.djrapitops.plan.storage.database.Database;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -41,31 +40,32 @@ class GroupProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
+    private final ExtensionMethodExecutor methodExecutor;
 
     GroupProviderValueGatherer(
             String pluginName, DataExtension extension,
-            UUID serverUUID, Database database,
-            DataProviders dataProviders
+            UUID serverUUID, DataProviders dataProviders,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = dataProviders;
+        this.methodExecutor = methodExecutor;
     }
 
-    void gatherGroupDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherGroupDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, StoreProviderValuesTransaction storeValues) {
         for (DataProvider<String[]> groupProvider : dataProviders.getPlayerMethodsByType(String[].class)) {
-            gatherGroupDataOfProvider(playerUUID, playerName, conditions, groupProvider);
+            gatherGroupDataOfProvider(playerUUID, playerName, conditions, groupProvider, storeValues);
         }
     }
 
     private void gatherGroupDataOfProvider(
             UUID playerUUID, String playerName,
             Conditions conditions,
-            DataProvider<String[]> groupProvider
+            DataProvider<String[]> groupProvider,
+            StoreProviderValuesTransaction storeValues
     ) {
         ProviderInformation providerInformation = groupProvider.getProviderInformation();
         Optional<String> condition = providerInformation.getCondition();
@@ -74,17 +74,13 @@ class GroupProviderValueGatherer {
         }
 
         MethodWrapper<String[]> method = groupProvider.getMethod();
-        try {
-            String[] result = method.callMethod(extension, playerUUID, playerName);
-            if (result == null) {
-                return; // Error during call
-            }
-
-            database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-            database.executeTransaction(new StoreGroupProviderTransaction(groupProvider, serverUUID));
-            database.executeTransaction(new StorePlayerGroupsResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result));
-        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-            throw new DataExtensionMethodCallException(e, pluginName, method);
+        String[] result = methodExecutor.callMethod(pluginName, method, () -> method.callMethod(extension, playerUUID, playerName));
+        if (result == null) {
+            return; // Error during call
         }
+
+        storeValues.storeIcon(providerInformation.getIcon());
+        storeValues.storeProvider(providerInformation.getName(), new StoreGroupProviderTransaction(groupProvider, serverUUID));
+        storeValues.storeResult(new StorePlayerGroupsResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result));
     }
 }
\ No newline at end of file
@@ -16,20 +16,17 @@
  */
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
-import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.FormatType;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.NumberDataProvider;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreNumberProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerNumberResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerNumberResultTransaction;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.ProviderValue;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -48,47 +45,48 @@ class NumberProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
+    private final ExtensionMethodExecutor methodExecutor;
 
     NumberProviderValueGatherer(
             String pluginName, DataExtension extension,
-            UUID serverUUID, Database database,
-            DataProviders dataProviders
+            UUID serverUUID, DataProviders dataProviders,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = dataProviders;
+        this.methodExecutor = methodExecutor;
     }
 
-    void gatherNumberDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherNumberDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<Long>, Callable<Long>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
-        BiFunction<MethodWrapper<Long>, Long, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerNumberResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
+        BiFunction<MethodWrapper<Long>, Long, ProviderValue> valueCreator = (method, result) -> ProviderValue.ofPlayer(playerUUID, method.getMethodName()).longValue(result);
 
         for (DataProvider<Long> numberProvider : dataProviders.getPlayerMethodsByType(Long.class)) {
-            gatherNumberDataOfProvider(methodCaller, storeTransactionCreator, conditions, numberProvider);
+            gatherNumberDataOfProvider(methodCaller, valueCreator, conditions, numberProvider, storeValues);
         }
     }
 
-    void gatherNumberDataOfServer(Conditions conditions) {
+    void gatherNumberDataOfServer(Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<Long>, Callable<Long>> methodCaller = method -> () -> method.callMethod(extension);
-        BiFunction<MethodWrapper<Long>, Long, Transaction> storeTransactionCreator = (method, result) -> new StoreServerNumberResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
+        BiFunction<MethodWrapper<Long>, Long, ProviderValue> valueCreator = (method, result) -> ProviderValue.ofServer(method.getMethodName()).longValue(result);
 
         for (DataProvider<Long> numberProvider : dataProviders.getServerMethodsByType(Long.class)) {
-            gatherNumberDataOfProvider(methodCaller, storeTransactionCreator, conditions, numberProvider);
+            gatherNumberDataOfProvider(methodCaller, valueCreator, conditions, numberProvider, storeValues);
         }
     }
 
     private void gatherNumberDataOfProvider(
             Function<MethodWrapper<Long>, Callable<Long>> methodCaller,
-            BiFunction<MethodWrapper<Long>, Long, Transaction> storeTransactionCreator,
-            Conditions conditions, DataProvider<Long> numberProvider
+            BiFunction<MethodWrapper<Long>, Long, ProviderValue> valueCreator,
+            Conditions conditions, DataProvider<Long> numberProvider,
+            StoreProviderValuesTransaction storeValues
     ) {
         ProviderInformation providerInformation = numberProvider.getProviderInformation();
         Optional<String> condition = providerInformation.getCondition();
@@ -104,16 +102,12 @@ class NumberProviderValueGatherer {
 
         FormatType formatType = NumberDataProvider.getFormatType(numberProvider);
 
-        database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-        database.executeTransaction(new StoreNumberProviderTransaction(numberProvider, formatType, serverUUID));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        storeValues.storeIcon(providerInformation.getIcon());
+        storeValues.storeProvider(providerInformation.getName(), new StoreNumberProviderTransaction(numberProvider, formatType, serverUUID));
+        storeValues.storeValue(valueCreator.apply(method, result));
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
-        try {
-            return callable.call();
-        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-            throw new DataExtensionMethodCallException(e, pluginName, method);
-        }
+        return methodExecutor.callMethod(pluginName, method, callable);
     }
 }
\ No newline at end of file
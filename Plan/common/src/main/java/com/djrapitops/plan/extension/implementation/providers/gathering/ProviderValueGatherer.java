@@ -20,12 +20,15 @@ import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.icon.Icon;
 import com.djrapitops.plan.extension.implementation.DataProviderExtractor;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.TabInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoredExtensionMetadataCache;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveInvalidResultsTransaction;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -58,7 +61,8 @@ public class ProviderValueGatherer {
             DataExtension extension,
             DataProviderExtractor extractor,
             DBSystem dbSystem,
-            ServerInfo serverInfo
+            ServerInfo serverInfo,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.callEvents = extension.callExtensionMethodsOn();
         this.extractor = extractor;
@@ -67,25 +71,26 @@ public class ProviderValueGatherer {
 
         String pluginName = extractor.getPluginName();
         UUID serverUUID = serverInfo.getServerUUID();
-        Database database = dbSystem.getDatabase();
+        // Provider information is stored again once per registration, in case it has changed.
+        StoredExtensionMetadataCache.invalidate(pluginName);
         dataProviders = extractor.getDataProviders();
         booleanGatherer = new BooleanProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, dataProviders, methodExecutor
         );
         numberGatherer = new NumberProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, dataProviders, methodExecutor
         );
         doubleAndPercentageGatherer = new DoubleAndPercentageProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, dataProviders, methodExecutor
         );
         stringGatherer = new StringProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, dataProviders, methodExecutor
         );
         tableGatherer = new TableProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, dataProviders, methodExecutor
         );
         groupGatherer = new GroupProviderValueGatherer(
-                pluginName, extension, serverUUID, database, dataProviders
+                pluginName, extension, serverUUID, dataProviders, methodExecutor
         );
     }
 
@@ -128,19 +133,33 @@ public class ProviderValueGatherer {
     }
 
     public void updateValues(UUID playerUUID, String playerName) {
-        Conditions conditions = booleanGatherer.gatherBooleanDataOfPlayer(playerUUID, playerName);
-        numberGatherer.gatherNumberDataOfPlayer(playerUUID, playerName, conditions);
-        doubleAndPercentageGatherer.gatherDoubleDataOfPlayer(playerUUID, playerName, conditions);
-        stringGatherer.gatherStringDataOfPlayer(playerUUID, playerName, conditions);
-        tableGatherer.gatherTableDataOfPlayer(playerUUID, playerName, conditions);
-        groupGatherer.gatherGroupDataOfPlayer(playerUUID, playerName, conditions);
+        StoreProviderValuesTransaction storeValues = new StoreProviderValuesTransaction(extractor.getPluginName(), serverInfo.getServerUUID());
+
+        Conditions conditions = booleanGatherer.gatherBooleanDataOfPlayer(playerUUID, playerName, storeValues);
+        numberGatherer.gatherNumberDataOfPlayer(playerUUID, playerName, conditions, storeValues);
+        doubleAndPercentageGatherer.gatherDoubleDataOfPlayer(playerUUID, playerName, conditions, storeValues);
+        stringGatherer.gatherStringDataOfPlayer(playerUUID, playerName, conditions, storeValues);
+        tableGatherer.gatherTableDataOfPlayer(playerUUID, playerName, conditions, storeValues);
+        groupGatherer.gatherGroupDataOfPlayer(playerUUID, playerName, conditions, storeValues);
+
+        storeGatheredValues(storeValues);
     }
 
     public void updateValues() {
-        Conditions conditions = booleanGatherer.gatherBooleanDataOfServer();
-        numberGatherer.gatherNumberDataOfServer(conditions);
-        doubleAndPercentageGatherer.gatherDoubleDataOfServer(conditions);
-        stringGatherer.gatherStringDataOfServer(conditions);
-        tableGatherer.gatherTableDataOfServer(conditions);
+        StoreProviderValuesTransaction storeValues = new StoreProviderValuesTransaction(extractor.getPluginName(), serverInfo.getServerUUID());
+
+        Conditions conditions = booleanGatherer.gatherBooleanDataOfServer(storeValues);
+        numberGatherer.gatherNumberDataOfServer(conditions, storeValues);
+        doubleAndPercentageGatherer.gatherDoubleDataOfServer(conditions, storeValues);
+        stringGatherer.gatherStringDataOfServer(conditions, storeValues);
+        tableGatherer.gatherTableDataOfServer(conditions, storeValues);
+
+        storeGatheredValues(storeValues);
+    }
+
+    private void storeGatheredValues(StoreProviderValuesTransaction storeValues) {
+        if (!storeValues.isEmpty()) {
+            dbSystem.getDatabase().executeTransaction(storeValues);
+        }
     }
 }
\ No newline at end of file
@@ -16,19 +16,16 @@
  */
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
-import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.StringDataProvider;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreStringProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerStringResultTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerStringResultTransaction;
-import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.ProviderValue;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Optional;
@@ -48,48 +45,49 @@ class StringProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
+    private final ExtensionMethodExecutor methodExecutor;
 
     StringProviderValueGatherer(
             String pluginName, DataExtension extension,
-            UUID serverUUID, Database database,
-            DataProviders dataProviders
+            UUID serverUUID, DataProviders dataProviders,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = dataProviders;
+        this.methodExecutor = methodExecutor;
     }
 
-    void gatherStringDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherStringDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<String>, Callable<String>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
-        BiFunction<MethodWrapper<String>, String, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerStringResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
+        BiFunction<MethodWrapper<String>, String, ProviderValue> valueCreator = (method, result) -> ProviderValue.ofPlayer(playerUUID, method.getMethodName()).stringValue(result);
 
         for (DataProvider<String> stringProvider : dataProviders.getPlayerMethodsByType(String.class)) {
-            gatherStringDataOfProvider(methodCaller, storeTransactionCreator, conditions, stringProvider);
+            gatherStringDataOfProvider(methodCaller, valueCreator, conditions, stringProvider, storeValues);
         }
     }
 
-    void gatherStringDataOfServer(Conditions conditions) {
+    void gatherStringDataOfServer(Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
-        // Same with Method result store transaction creation
+        // Same with Method result value creation
         Function<MethodWrapper<String>, Callable<String>> methodCaller = method -> () -> method.callMethod(extension);
-        BiFunction<MethodWrapper<String>, String, Transaction> storeTransactionCreator = (method, result) -> new StoreServerStringResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
+        BiFunction<MethodWrapper<String>, String, ProviderValue> valueCreator = (method, result) -> ProviderValue.ofServer(method.getMethodName()).stringValue(result);
 
         for (DataProvider<String> stringProvider : dataProviders.getServerMethodsByType(String.class)) {
-            gatherStringDataOfProvider(methodCaller, storeTransactionCreator, conditions, stringProvider);
+            gatherStringDataOfProvider(methodCaller, valueCreator, conditions, stringProvider, storeValues);
         }
     }
 
     private void gatherStringDataOfProvider(
             Function<MethodWrapper<String>, Callable<String>> methodCaller,
-            BiFunction<MethodWrapper<String>, String, Transaction> storeTransactionCreator,
+            BiFunction<MethodWrapper<String>, String, ProviderValue> valueCreator,
             Conditions conditions,
-            DataProvider<String> stringProvider
+            DataProvider<String> stringProvider,
+            StoreProviderValuesTransaction storeValues
     ) {
         ProviderInformation providerInformation = stringProvider.getProviderInformation();
         Optional<String> condition = providerInformation.getCondition();
@@ -105,17 +103,13 @@ class StringProviderValueGatherer {
 
         result = StringUtils.truncate(result, 50);
 
-        database.executeTransaction(new StoreIconTransaction(providerInformation.getIcon()));
-        database.executeTransaction(new StoreStringProviderTransaction(stringProvider, StringDataProvider.isPlayerName(stringProvider), serverUUID));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        storeValues.storeIcon(providerInformation.getIcon());
+        storeValues.storeProvider(providerInformation.getName(), new StoreStringProviderTransaction(stringProvider, StringDataProvider.isPlayerName(stringProvider), serverUUID));
+        storeValues.storeValue(valueCreator.apply(method, result));
     }
 
-    private <T> T getMethodResult(Callable<T> callable, MethodWrapper<String> method) {
-        try {
-            return callable.call();
-        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-            throw new DataExtensionMethodCallException(e, pluginName, method);
-        }
+    private String getMethodResult(Callable<String> callable, MethodWrapper<String> method) {
+        return methodExecutor.callMethod(pluginName, method, callable);
     }
 
 }
\ No newline at end of file
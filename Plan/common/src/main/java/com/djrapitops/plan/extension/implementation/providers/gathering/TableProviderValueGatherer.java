@@ -16,22 +16,22 @@
  */
 package com.djrapitops.plan.extension.implementation.providers.gathering;
 
-import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ExtensionMethodExecutor;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.providers.DataProvider;
 import com.djrapitops.plan.extension.implementation.providers.DataProviders;
 import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.TableDataProvider;
-import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreProviderValuesTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StorePlayerTableResultTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreServerTableResultTransaction;
 import com.djrapitops.plan.extension.table.Table;
-import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -49,40 +49,40 @@ class TableProviderValueGatherer {
     private final DataExtension extension;
     private final UUID serverUUID;
 
-    private final Database database;
     private final DataProviders dataProviders;
+    private final ExtensionMethodExecutor methodExecutor;
 
     TableProviderValueGatherer(
             String pluginName, DataExtension extension,
-            UUID serverUUID, Database database,
-            DataProviders dataProviders
+            UUID serverUUID, DataProviders dataProviders,
+            ExtensionMethodExecutor methodExecutor
     ) {
         this.pluginName = pluginName;
         this.extension = extension;
         this.serverUUID = serverUUID;
-        this.database = database;
         this.dataProviders = dataProviders;
+        this.methodExecutor = methodExecutor;
     }
 
-    void gatherTableDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions) {
+    void gatherTableDataOfPlayer(UUID playerUUID, String playerName, Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
         Function<MethodWrapper<Table>, Callable<Table>> methodCaller = method -> () -> method.callMethod(extension, playerUUID, playerName);
         BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator = (method, result) -> new StorePlayerTableResultTransaction(pluginName, serverUUID, method.getMethodName(), playerUUID, result);
 
         for (DataProvider<Table> tableProvider : dataProviders.getPlayerMethodsByType(Table.class)) {
-            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider);
+            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider, storeValues);
         }
     }
 
-    void gatherTableDataOfServer(Conditions conditions) {
+    void gatherTableDataOfServer(Conditions conditions, StoreProviderValuesTransaction storeValues) {
         // Method parameters abstracted away so that same method can be used for all parameter types
         // Same with Method result store transaction creation
         Function<MethodWrapper<Table>, Callable<Table>> methodCaller = method -> () -> method.callMethod(extension);
         BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator = (method, result) -> new StoreServerTableResultTransaction(pluginName, serverUUID, method.getMethodName(), result);
 
         for (DataProvider<Table> tableProvider : dataProviders.getServerMethodsByType(Table.class)) {
-            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider);
+            gatherTableDataOfProvider(methodCaller, storeTransactionCreator, conditions, tableProvider, storeValues);
         }
     }
 
@@ -90,7 +90,8 @@ class TableProviderValueGatherer {
             Function<MethodWrapper<Table>, Callable<Table>> methodCaller,
             BiFunction<MethodWrapper<Table>, Table, Transaction> storeTransactionCreator,
             Conditions conditions,
-            DataProvider<Table> tableProvider
+            DataProvider<Table> tableProvider,
+            StoreProviderValuesTransaction storeValues
     ) {
         ProviderInformation providerInformation = tableProvider.getProviderInformation();
         Optional<String> condition = providerInformation.getCondition();
@@ -105,20 +106,16 @@ class TableProviderValueGatherer {
         }
 
         for (Icon icon : result.getIcons()) {
-            if (icon != null) {
-                database.executeTransaction(new StoreIconTransaction(icon));
-            }
+            storeValues.storeIcon(icon);
         }
-        database.executeTransaction(new StoreTableProviderTransaction(serverUUID, providerInformation, TableDataProvider.getTableColor(tableProvider), result));
-        database.executeTransaction(storeTransactionCreator.apply(method, result));
+        // Column names and icons are stored with the provider, so they are a part of the key.
+        String providerKey = providerInformation.getName() + Arrays.toString(result.getColumns()) + Arrays.toString(result.getIcons());
+        storeValues.storeProvider(providerKey, new StoreTableProviderTransaction(serverUUID, providerInformation, TableDataProvider.getTableColor(tableProvider), result));
+        storeValues.storeResult(storeTransactionCreator.apply(method, result));
     }
 
     private <T> T getMethodResult(Callable<T> callable, MethodWrapper<T> method) {
-        try {
-            return callable.call();
-        } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-            throw new DataExtensionMethodCallException(e, pluginName, method);
-        }
+        return methodExecutor.callMethod(pluginName, method, callable);
     }
 
 }
\ No newline at end of file
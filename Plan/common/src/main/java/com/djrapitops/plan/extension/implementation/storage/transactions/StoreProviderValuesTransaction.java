@@ -0,0 +1,166 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.ProviderValue;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionPlayerValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionProviderTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionServerValueTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Transaction that stores all values gathered during one update of a DataExtension.
+ * <p>
+ * Icons, provider information and method results are collected and then stored on one connection with one commit,
+ * instead of a separate transaction for each of them.
+ * Icons and provider information that are already in {@link StoredExtensionMetadataCache} are skipped.
+ * <p>
+ * Boolean, number, double, percentage and String values are stored with one batch of updates and one batch of
+ * inserts per table, inserts skip the values that already existed.
+ *
+ * @author Rsl1122
+ */
+public class StoreProviderValuesTransaction extends ThrowawayTransaction {
+
+    private final String pluginName;
+    private final UUID serverUUID;
+
+    private final Map<String, Icon> icons;
+    private final Map<String, Transaction> providers;
+    private final List<ProviderValue> playerValues;
+    private final List<ProviderValue> serverValues;
+    private final List<Transaction> results;
+
+    public StoreProviderValuesTransaction(String pluginName, UUID serverUUID) {
+        this.pluginName = pluginName;
+        this.serverUUID = serverUUID;
+
+        icons = new LinkedHashMap<>();
+        providers = new LinkedHashMap<>();
+        playerValues = new ArrayList<>();
+        serverValues = new ArrayList<>();
+        results = new ArrayList<>();
+    }
+
+    public void storeIcon(Icon icon) {
+        if (icon != null && !StoredExtensionMetadataCache.isIconStored(icon)) {
+            icons.putIfAbsent(icon.toString(), icon);
+        }
+    }
+
+    /**
+     * Add provider information to store, unless it has already been stored.
+     *
+     * @param providerKey              Name of the provider, and anything else that affects the stored information.
+     * @param storeProviderTransaction Transaction that stores the provider information.
+     */
+    public void storeProvider(String providerKey, Transaction storeProviderTransaction) {
+        if (!StoredExtensionMetadataCache.isProviderStored(pluginName, providerKey)) {
+            providers.putIfAbsent(providerKey, storeProviderTransaction);
+        }
+    }
+
+    public void storeValue(ProviderValue value) {
+        if (value.getPlayerUUID().isPresent()) {
+            playerValues.add(value);
+        } else {
+            serverValues.add(value);
+        }
+    }
+
+    /**
+     * Add a result that is not stored as a {@link ProviderValue}, like a table or groups.
+     *
+     * @param storeResultTransaction Transaction that stores the result.
+     */
+    public void storeResult(Transaction storeResultTransaction) {
+        results.add(storeResultTransaction);
+    }
+
+    public boolean isEmpty() {
+        return icons.isEmpty() && providers.isEmpty()
+                && playerValues.isEmpty() && serverValues.isEmpty() && results.isEmpty();
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        // Order matters: providers refer to icons, and results refer to providers.
+        for (Icon icon : icons.values()) {
+            executeOther(new StoreIconTransaction(icon));
+        }
+        for (Transaction storeProvider : providers.values()) {
+            executeOther(storeProvider);
+        }
+        // Update statements and inserts have the same parameters, inserts skip values that were updated.
+        execute(storePlayerValues(ExtensionPlayerValueTable.UPDATE_VALUES_STATEMENT));
+        execute(storePlayerValues(ExtensionPlayerValueTable.insertIfAbsentStatement(dbType)));
+        execute(storeServerValues(ExtensionServerValueTable.UPDATE_VALUES_STATEMENT));
+        execute(storeServerValues(ExtensionServerValueTable.insertIfAbsentStatement(dbType)));
+        for (Transaction storeResult : results) {
+            executeOther(storeResult);
+        }
+        // Only marked after commit, so that a rolled back transaction does not leave the cache out of sync.
+        afterCommit(this::markMetadataStored);
+    }
+
+    private Executable storePlayerValues(String sql) {
+        if (playerValues.isEmpty()) return Executable.empty();
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (ProviderValue value : playerValues) {
+                    value.setValuesToStatement(statement, 1);
+                    statement.setString(6, value.getPlayerUUID().map(UUID::toString).orElse(null));
+                    ExtensionProviderTable.set3PluginValuesToStatement(statement, 7, value.getProviderName(), pluginName, serverUUID);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable storeServerValues(String sql) {
+        if (serverValues.isEmpty()) return Executable.empty();
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (ProviderValue value : serverValues) {
+                    value.setValuesToStatement(statement, 1);
+                    ExtensionProviderTable.set3PluginValuesToStatement(statement, 6, value.getProviderName(), pluginName, serverUUID);
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private void markMetadataStored() {
+        icons.values().forEach(StoredExtensionMetadataCache::iconStored);
+        providers.keySet().forEach(providerKey -> StoredExtensionMetadataCache.providerStored(pluginName, providerKey));
+    }
+}
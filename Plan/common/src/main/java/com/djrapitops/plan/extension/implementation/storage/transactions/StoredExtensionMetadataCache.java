@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions;
+
+import com.djrapitops.plan.extension.icon.Icon;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of icons and provider information that have already been stored in the database.
+ * <p>
+ * Provider information does not change between method calls, so it only needs to be stored once per registration of
+ * the extension, instead of once per gathered value.
+ *
+ * @author Rsl1122
+ */
+public class StoredExtensionMetadataCache {
+
+    private static final Set<String> storedIcons = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Set<String>> storedProvidersByPlugin = new ConcurrentHashMap<>();
+
+    private StoredExtensionMetadataCache() {
+        // Static class
+    }
+
+    public static boolean isIconStored(Icon icon) {
+        return storedIcons.contains(icon.toString());
+    }
+
+    public static void iconStored(Icon icon) {
+        storedIcons.add(icon.toString());
+    }
+
+    /**
+     * Check if provider information has been stored.
+     *
+     * @param pluginName  Name of the plugin the provider belongs to.
+     * @param providerKey Name of the provider, and anything else that affects the stored information.
+     * @return true if the exact information has already been stored.
+     */
+    public static boolean isProviderStored(String pluginName, String providerKey) {
+        Set<String> storedProviders = storedProvidersByPlugin.get(pluginName);
+        return storedProviders != null && storedProviders.contains(providerKey);
+    }
+
+    public static void providerStored(String pluginName, String providerKey) {
+        storedProvidersByPlugin.computeIfAbsent(pluginName, name -> ConcurrentHashMap.newKeySet()).add(providerKey);
+    }
+
+    /**
+     * Forget stored provider information of a plugin, for example when the extension is registered again.
+     *
+     * @param pluginName Name of the plugin.
+     */
+    public static void invalidate(String pluginName) {
+        storedProvidersByPlugin.remove(pluginName);
+    }
+
+    /**
+     * Forget everything, used when the information might have been removed from the database.
+     */
+    public static void invalidateAll() {
+        storedIcons.clear();
+        storedProvidersByPlugin.clear();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionPlayerValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionServerValueTable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Method result of a boolean, number, double, percentage or String provider.
+ * <p>
+ * Stored to {@link ExtensionPlayerValueTable} or {@link ExtensionServerValueTable} depending on if the value belongs
+ * to a player. Only the value column of the provider type is set, others are stored as null.
+ *
+ * @author Rsl1122
+ */
+public class ProviderValue {
+
+    private final String providerName;
+    private final UUID playerUUID;
+
+    private Boolean booleanValue;
+    private Double doubleValue;
+    private Double percentageValue;
+    private Long longValue;
+    private String stringValue;
+
+    private ProviderValue(String providerName, UUID playerUUID) {
+        this.providerName = providerName;
+        this.playerUUID = playerUUID;
+    }
+
+    public static ProviderValue ofPlayer(UUID playerUUID, String providerName) {
+        return new ProviderValue(providerName, playerUUID);
+    }
+
+    public static ProviderValue ofServer(String providerName) {
+        return new ProviderValue(providerName, null);
+    }
+
+    public ProviderValue booleanValue(boolean value) {
+        booleanValue = value;
+        return this;
+    }
+
+    public ProviderValue doubleValue(double value) {
+        doubleValue = value;
+        return this;
+    }
+
+    public ProviderValue percentageValue(double value) {
+        percentageValue = value;
+        return this;
+    }
+
+    public ProviderValue longValue(long value) {
+        longValue = value;
+        return this;
+    }
+
+    public ProviderValue stringValue(String value) {
+        stringValue = value;
+        return this;
+    }
+
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public Optional<UUID> getPlayerUUID() {
+        return Optional.ofNullable(playerUUID);
+    }
+
+    /**
+     * Set the value columns to a statement, in the order of boolean, double, percentage, long and String value.
+     *
+     * @param statement      Statement to set the values to.
+     * @param parameterIndex Index of the first value column.
+     * @throws SQLException If the statement rejects a value.
+     */
+    public void setValuesToStatement(PreparedStatement statement, int parameterIndex) throws SQLException {
+        if (booleanValue != null) {
+            statement.setBoolean(parameterIndex, booleanValue);
+        } else {
+            statement.setNull(parameterIndex, Types.BOOLEAN);
+        }
+        setDouble(statement, parameterIndex + 1, doubleValue);
+        setDouble(statement, parameterIndex + 2, percentageValue);
+        if (longValue != null) {
+            statement.setLong(parameterIndex + 3, longValue);
+        } else {
+            statement.setNull(parameterIndex + 3, Types.BIGINT);
+        }
+        if (stringValue != null) {
+            statement.setString(parameterIndex + 4, stringValue);
+        } else {
+            statement.setNull(parameterIndex + 4, Types.VARCHAR);
+        }
+    }
+
+    private void setDouble(PreparedStatement statement, int parameterIndex, Double value) throws SQLException {
+        if (value != null) {
+            statement.setDouble(parameterIndex, value);
+        } else {
+            statement.setNull(parameterIndex, Types.DOUBLE);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderValue{" +
+                "providerName='" + providerName + '\'' +
+                ", playerUUID=" + playerUUID +
+                ", booleanValue=" + booleanValue +
+                ", doubleValue=" + doubleValue +
+                ", percentageValue=" + percentageValue +
+                ", longValue=" + longValue +
+                ", stringValue='" + stringValue + '\'' +
+                '}';
+    }
+}
@@ -20,24 +20,34 @@ import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 
-import java.util.*;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Methods are called from the server thread as well as async chat threads, so the state of each player is kept in
+ * atomic fields that are created once per player.
  *
  * @author Rsl1122
  */
 public class AFKTracker {
 
-    private final Set<UUID> usedAFKCommand;
-    private final Map<UUID, Long> lastMovement;
+    // Movement within this time of the last recorded action is not recorded again.
+    static final long MOVEMENT_RESOLUTION_MS = TimeUnit.SECONDS.toMillis(1L);
+    private static final long IGNORES_AFK = -1L;
+
+    private final Map<UUID, PlayerState> playerStates;
     private final PlanConfig config;
-    private Long afkThresholdMs;
+    private volatile Long afkThresholdMs;
 
     public AFKTracker(PlanConfig config) {
         this.config = config;
-        usedAFKCommand = new HashSet<>();
-        lastMovement = new HashMap<>();
+        playerStates = new ConcurrentHashMap<>();
     }
 
     public long getAfkThreshold() {
@@ -47,52 +57,91 @@ public class AFKTracker {
         return afkThresholdMs;
     }
 
+    private PlayerState getState(UUID uuid, long time) {
+        PlayerState state = playerStates.get(uuid);
+        return state != null ? state : playerStates.computeIfAbsent(uuid, key -> new PlayerState(time));
+    }
+
     public void hasIgnorePermission(UUID uuid) {
-        lastMovement.put(uuid, -1L);
+        getState(uuid, IGNORES_AFK).lastMovement.set(IGNORES_AFK);
     }
 
     public void usedAfkCommand(UUID uuid, long time) {
-        usedAFKCommand.add(uuid);
-        lastMovement.put(uuid, time - getAfkThreshold());
+        PlayerState state = getState(uuid, time);
+        state.usedAFKCommand.set(true);
+        state.lastMovement.set(time - getAfkThreshold());
+    }
+
+    /**
+     * Record movement of a player.
+     * <p>
+     * Movement events are fired very often, so movement close to the previous action is not recorded.
+     *
+     * @param uuid UUID of the player.
+     * @param time Epoch ms the player moved.
+     */
+    public void performedMovement(UUID uuid, long time) {
+        PlayerState state = playerStates.get(uuid);
+        if (state != null) {
+            long lastMoved = state.lastMovement.get();
+            if (lastMoved != IGNORES_AFK && time - lastMoved < MOVEMENT_RESOLUTION_MS) {
+                return;
+            }
+        }
+        performedAction(uuid, time);
     }
 
     public void performedAction(UUID uuid, long time) {
-        Long lastMoved = lastMovement.getOrDefault(uuid, time);
+        PlayerState state = getState(uuid, time);
+        long lastMoved = state.lastMovement.get();
         // Ignore afk permission
-        if (lastMoved == -1) {
+        if (lastMoved == IGNORES_AFK) {
+            return;
+        }
+        if (!state.lastMovement.compareAndSet(lastMoved, time)) {
+            // Another thread recorded an action at the same time and took care of the afk time.
             return;
         }
-        lastMovement.put(uuid, time);
 
-        try {
-            if (time - lastMoved < getAfkThreshold()) {
-                // Threshold not crossed, no action required.
-                return;
-            }
+        boolean usedAFKCommand = state.usedAFKCommand.getAndSet(false);
+        if (time - lastMoved < getAfkThreshold()) {
+            // Threshold not crossed, no action required.
+            return;
+        }
 
-            long removeAfkCommandEffect = usedAFKCommand.contains(uuid) ? getAfkThreshold() : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
+        long removeAfkCommandEffect = usedAFKCommand ? getAfkThreshold() : 0;
+        long timeAFK = time - lastMoved - removeAfkCommandEffect;
 
-            SessionCache.getCachedSession(uuid)
-                    .ifPresent(session -> session.addAFKTime(timeAFK));
-        } finally {
-            usedAFKCommand.remove(uuid);
-        }
+        SessionCache.getCachedSession(uuid)
+                .ifPresent(session -> session.addAFKTime(timeAFK));
     }
 
     public void loggedOut(UUID uuid, long time) {
         performedAction(uuid, time);
-        lastMovement.remove(uuid);
-        usedAFKCommand.remove(uuid);
+        playerStates.remove(uuid);
     }
 
     public boolean isAfk(UUID uuid) {
         long time = System.currentTimeMillis();
 
-        Long lastMoved = lastMovement.get(uuid);
-        if (lastMoved == null || lastMoved == -1) {
+        PlayerState state = playerStates.get(uuid);
+        if (state == null) {
+            return false;
+        }
+        long lastMoved = state.lastMovement.get();
+        if (lastMoved == IGNORES_AFK) {
             return false;
         }
         return time - lastMoved > getAfkThreshold();
     }
-}
\ No newline at end of file
+
+    private static class PlayerState {
+        final AtomicLong lastMovement;
+        final AtomicBoolean usedAFKCommand;
+
+        PlayerState(long lastMovement) {
+            this.lastMovement = new AtomicLong(lastMovement);
+            this.usedAFKCommand = new AtomicBoolean(false);
+        }
+    }
+}
@@ -33,27 +33,32 @@ public class CacheSystem implements SubSystem {
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
     private final GeolocationCache geolocationCache;
+    private final TPSCache tpsCache;
 
     @Inject
     public CacheSystem(
             SessionCache sessionCache,
             NicknameCache nicknameCache,
-            GeolocationCache geolocationCache
+            GeolocationCache geolocationCache,
+            TPSCache tpsCache
     ) {
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
         this.geolocationCache = geolocationCache;
+        this.tpsCache = tpsCache;
     }
 
     @Override
     public void enable() throws EnableException {
         nicknameCache.enable();
         geolocationCache.enable();
+        tpsCache.enable();
     }
 
     @Override
     public void disable() {
         geolocationCache.clearCache();
+        tpsCache.disable();
     }
 
     public NicknameCache getNicknameCache() {
@@ -64,6 +69,10 @@ public class CacheSystem implements SubSystem {
         return geolocationCache;
     }
 
+    public TPSCache getTPSCache() {
+        return tpsCache;
+    }
+
     public SessionCache getSessionCache() {
         return sessionCache;
     }
@@ -27,6 +27,8 @@ import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
@@ -44,7 +46,6 @@ import java.net.UnknownHostException;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
-import java.nio.file.Files;
 import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
@@ -65,6 +66,8 @@ public class GeolocationCache implements SubSystem {
     private final Cache<String, String> cache;
 
     private File geolocationDB;
+    private DatabaseReader reader;
+    private long readerFileModified;
 
     @Inject
     public GeolocationCache(
@@ -79,7 +82,8 @@ public class GeolocationCache implements SubSystem {
         this.logger = logger;
 
         this.cache = Caffeine.newBuilder()
-                .expireAfterAccess(1, TimeUnit.MINUTES)
+                .maximumSize(10000)
+                .expireAfterAccess(1, TimeUnit.HOURS)
                 .build();
     }
 
@@ -134,28 +138,52 @@ public class GeolocationCache implements SubSystem {
             return "Local Machine";
         }
         try {
-            checkDB();
+            InetAddress inetAddress = InetAddress.getByName(ipAddress);
 
-            try (
-                    // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
-                    // for why InputStream is being used here instead.
-                    InputStream in = Files.newInputStream(geolocationDB.toPath());
-                    DatabaseReader reader = new DatabaseReader.Builder(in).build()
-            ) {
-                InetAddress inetAddress = InetAddress.getByName(ipAddress);
-
-                CountryResponse response = reader.country(inetAddress);
-                Country country = response.getCountry();
-                String countryName = country.getName();
-
-                return countryName != null ? countryName : "Not Known";
-            }
+            CountryResponse response = getReader().country(inetAddress);
+            Country country = response.getCountry();
+            String countryName = country.getName();
 
+            return countryName != null ? countryName : "Not Known";
         } catch (IOException | GeoIp2Exception e) {
             return "Not Known";
         }
     }
 
+    /**
+     * Get the reader for the GeoLite2 database, opening it again if the file has changed.
+     * <p>
+     * The file is memory mapped so that lookups do not read the file from disk.
+     * The reader keeps the file locked on Windows until {@link #disable()} is called, see
+     * https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
+     *
+     * @return DatabaseReader, safe to use from multiple threads.
+     * @throws IOException If the database could not be downloaded or read.
+     */
+    private synchronized DatabaseReader getReader() throws IOException {
+        checkDB();
+        long lastModified = geolocationDB.lastModified();
+        if (reader == null || lastModified != readerFileModified) {
+            closeReader();
+            reader = new DatabaseReader.Builder(geolocationDB)
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .withCache(new CHMCache())
+                    .build();
+            readerFileModified = lastModified;
+        }
+        return reader;
+    }
+
+    private synchronized void closeReader() {
+        if (reader == null) return;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // Closing only releases the memory mapped file.
+        }
+        reader = null;
+    }
+
     /**
      * Checks if the DB exists, if not, it downloads it
      *
@@ -190,6 +218,7 @@ public class GeolocationCache implements SubSystem {
     @Override
     public void disable() {
         clearCache();
+        closeReader();
     }
 
     /**
@@ -23,6 +23,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class is used to store active sessions of players in memory.
@@ -34,9 +35,19 @@ public class SessionCache {
 
     private static final Map<UUID, Session> ACTIVE_SESSIONS = new ConcurrentHashMap<>();
 
+    private final CopyOnWriteArrayList<SessionEndListener> sessionEndListeners;
+
     @Inject
     public SessionCache() {
-        // Dagger requires empty inject constructor
+        sessionEndListeners = new CopyOnWriteArrayList<>();
+    }
+
+    public void registerSessionEndListener(SessionEndListener listener) {
+        sessionEndListeners.addIfAbsent(listener);
+    }
+
+    public void unregisterSessionEndListener(SessionEndListener listener) {
+        sessionEndListeners.remove(listener);
     }
 
     public static Map<UUID, Session> getActiveSessions() {
@@ -94,6 +105,9 @@ public class SessionCache {
         }
         ACTIVE_SESSIONS.remove(playerUUID);
         session.endSession(time);
+        for (SessionEndListener listener : sessionEndListeners) {
+            listener.sessionEnded(session);
+        }
         return Optional.of(session);
     }
 }
@@ -0,0 +1,200 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseClearListener;
+import com.djrapitops.plan.storage.database.DatabaseClearNotifier;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.djrapitops.plugin.task.AbsRunnable;
+import com.djrapitops.plugin.task.RunnableFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the TPS data of the last 30 days in memory for the server tabs.
+ * <p>
+ * Data of this server is kept in a columnar buffer that the TPS counter appends to every minute, loaded from the
+ * database on enable. The buffer has room for a day of data over the 30 days, when it fills up data older than 30 days
+ * is dropped.
+ * <p>
+ * Data of other servers (on a network) is loaded from the database and kept for a minute.
+ * <p>
+ * The buffer is loaded again when the database is cleared or restored.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class TPSCache implements SubSystem, DatabaseClearListener {
+
+    static final long WINDOW_MS = TimeUnit.DAYS.toMillis(30L);
+    private static final int WINDOW_SAMPLES = (int) TimeUnit.DAYS.toMinutes(30L);
+    private static final int CAPACITY = WINDOW_SAMPLES + (int) TimeUnit.DAYS.toMinutes(1L);
+
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final RunnableFactory runnableFactory;
+    private final ErrorHandler errorHandler;
+    private final DatabaseClearNotifier databaseClearNotifier;
+
+    private final Cache<UUID, TPSColumns> otherServers;
+
+    private TPSColumns.Builder buffer;
+    private volatile TPSColumns serverTPS;
+    private volatile boolean loaded;
+    private long generation;
+
+    @Inject
+    public TPSCache(
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            RunnableFactory runnableFactory,
+            ErrorHandler errorHandler,
+            DatabaseClearNotifier databaseClearNotifier
+    ) {
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.runnableFactory = runnableFactory;
+        this.errorHandler = errorHandler;
+        this.databaseClearNotifier = databaseClearNotifier;
+
+        otherServers = Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .build();
+        buffer = new TPSColumns.Builder(16);
+        serverTPS = buffer.build();
+    }
+
+    @Override
+    public void enable() {
+        databaseClearNotifier.register(this);
+        loadServerTPSAsync();
+    }
+
+    private void loadServerTPSAsync() {
+        runnableFactory.create("Recent TPS Load Task", new AbsRunnable() {
+            @Override
+            public void run() {
+                try {
+                    loadServerTPS();
+                } catch (Exception e) {
+                    errorHandler.log(L.WARN, TPSCache.class, e);
+                }
+            }
+        }).runTaskAsynchronously();
+    }
+
+    @Override
+    public void disable() {
+        databaseClearNotifier.unregister(this);
+        otherServers.invalidateAll();
+        // Data of this database is not carried over if the plugin is enabled again with a different one.
+        reset();
+    }
+
+    @Override
+    public void databaseCleared(Database database) {
+        if (!database.equals(dbSystem.getDatabase())) {
+            return; // A backup was cleared
+        }
+        otherServers.invalidateAll();
+        reset();
+        loadServerTPSAsync();
+    }
+
+    private synchronized void reset() {
+        generation++;
+        loaded = false;
+        buffer = new TPSColumns.Builder(16);
+        serverTPS = buffer.build();
+    }
+
+    private void loadServerTPS() {
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        TPSColumns stored = loadFromDatabase(serverInfo.getServerUUID());
+        synchronized (this) {
+            if (loadGeneration != generation) {
+                return; // Database was cleared while loading, the data is loaded again.
+            }
+            TPSColumns.Builder loadedBuffer = new TPSColumns.Builder(Math.max(CAPACITY, stored.size() + 1));
+            appendTo(loadedBuffer, stored, Long.MIN_VALUE);
+            // Data counted while loading
+            appendTo(loadedBuffer, buffer.build(), loadedBuffer.getLastDate());
+            buffer = loadedBuffer;
+            serverTPS = buffer.build();
+            loaded = true;
+        }
+    }
+
+    private static void appendTo(TPSColumns.Builder builder, TPSColumns data, long after) {
+        for (int i = 0; i < data.size(); i++) {
+            if (data.getDate(i) > after) {
+                builder.add(data, i);
+            }
+        }
+    }
+
+    private TPSColumns loadFromDatabase(UUID serverUUID) {
+        long now = System.currentTimeMillis();
+        return dbSystem.getDatabase().query(TPSQueries.fetchTPSColumnsOfServer(now - WINDOW_MS, now, serverUUID));
+    }
+
+    /**
+     * Add a per-minute TPS data point of this server.
+     *
+     * @param tps Data point, older than the latest data point is ignored.
+     */
+    public synchronized void addServerTPS(TPS tps) {
+        if (tps.getDate() < buffer.getLastDate()) {
+            return;
+        }
+        if (buffer.size() == buffer.capacity() && buffer.size() >= WINDOW_SAMPLES) {
+            buffer.removeBefore(tps.getDate() - WINDOW_MS, CAPACITY);
+        }
+        buffer.add(tps);
+        serverTPS = buffer.build();
+    }
+
+    /**
+     * Get the TPS data of the last 30 days of a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Columns of the TPS data, use {@link TPSColumns#between(long, long)} for shorter time spans.
+     */
+    public TPSColumns getRecentTPS(UUID serverUUID) {
+        long now = System.currentTimeMillis();
+        if (loaded && serverUUID.equals(serverInfo.getServerUUID())) {
+            return serverTPS.between(now - WINDOW_MS, now);
+        }
+        return otherServers.get(serverUUID, this::loadFromDatabase);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.Objects;
+
+/**
+ * TPS data point that holds averages of a longer time span of per-minute data.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable
+ */
+public class AggregatedTPS extends TPS {
+
+    private final long resolution;
+    private final int samples;
+
+    /**
+     * Constructor.
+     *
+     * @param date           start of the time span.
+     * @param resolution     length of the time span in ms.
+     * @param samples        amount of per-minute data points in the time span.
+     * @param ticksPerSecond average ticksPerSecond.
+     * @param players        average players online.
+     * @param cpuUsage       average CPU usage.
+     * @param usedMemory     average used memory (megabytes).
+     * @param entityCount    average amount of entities.
+     * @param chunksLoaded   average amount of chunks loaded.
+     * @param freeDiskSpace  average free megabytes in the partition the server is running in.
+     */
+    public AggregatedTPS(
+            long date,
+            long resolution,
+            int samples,
+            double ticksPerSecond,
+            int players,
+            double cpuUsage,
+            long usedMemory,
+            int entityCount,
+            int chunksLoaded,
+            long freeDiskSpace
+    ) {
+        super(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace);
+        this.resolution = resolution;
+        this.samples = samples;
+    }
+
+    @Override
+    public long getResolution() {
+        return resolution;
+    }
+
+    @Override
+    public int getSamples() {
+        return samples;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        AggregatedTPS that = (AggregatedTPS) o;
+        return resolution == that.resolution &&
+                samples == that.samples;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), resolution, samples);
+    }
+
+    @Override
+    public String toString() {
+        return "AggregatedTPS{" +
+                "resolution=" + resolution + ", " +
+                "samples=" + samples + ", " +
+                super.toString() + '}';
+    }
+}
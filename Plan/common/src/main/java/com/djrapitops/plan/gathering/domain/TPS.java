@@ -19,6 +19,7 @@ package com.djrapitops.plan.gathering.domain;
 import com.djrapitops.plan.delivery.domain.DateHolder;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class containing single datapoint of TPS / Players online / CPU Usage / Used Memory / Entity Count / Chunks loaded.
@@ -136,6 +137,24 @@ public class TPS implements DateHolder {
         return freeDiskSpace;
     }
 
+    /**
+     * Get the length of the time span this data point represents.
+     *
+     * @return One minute in ms, longer for aggregated data.
+     */
+    public long getResolution() {
+        return TimeUnit.MINUTES.toMillis(1L);
+    }
+
+    /**
+     * Get the amount of per-minute samples this data point represents.
+     *
+     * @return 1, more for aggregated data.
+     */
+    public int getSamples() {
+        return 1;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,513 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Columnar representation of TPS data, ordered by date.
+ * <p>
+ * Values are stored in primitive arrays instead of {@link TPS} objects so that large amounts of data points can be
+ * held and calculated over without allocating an object per data point.
+ * <p>
+ * Instances are views to a range of the arrays and are never modified,
+ * {@link #between(long, long)} returns a view to the same arrays without copying.
+ *
+ * @author Rsl1122
+ * @see Builder
+ */
+public class TPSColumns {
+
+    private static final long MAX_GAP_WITHOUT_DOWNTIME = TimeUnit.MINUTES.toMillis(2L);
+    private static final long SAMPLE_LENGTH = TimeUnit.MINUTES.toMillis(1L);
+
+    private final long[] dates;
+    private final double[] tps;
+    private final int[] players;
+    private final double[] cpu;
+    private final long[] ram;
+    private final int[] entities;
+    private final int[] chunks;
+    private final long[] freeDisk;
+    private final long[] resolutions;
+    private final int[] samples;
+
+    // Range of the arrays this view covers, end exclusive.
+    private final int start;
+    private final int end;
+
+    private TPSColumns(Builder builder, int start, int end) {
+        this.dates = builder.dates;
+        this.tps = builder.tps;
+        this.players = builder.players;
+        this.cpu = builder.cpu;
+        this.ram = builder.ram;
+        this.entities = builder.entities;
+        this.chunks = builder.chunks;
+        this.freeDisk = builder.freeDisk;
+        this.resolutions = builder.resolutions;
+        this.samples = builder.samples;
+        this.start = start;
+        this.end = end;
+    }
+
+    private TPSColumns(TPSColumns view, int start, int end) {
+        this.dates = view.dates;
+        this.tps = view.tps;
+        this.players = view.players;
+        this.cpu = view.cpu;
+        this.ram = view.ram;
+        this.entities = view.entities;
+        this.chunks = view.chunks;
+        this.freeDisk = view.freeDisk;
+        this.resolutions = view.resolutions;
+        this.samples = view.samples;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Create columns from TPS objects.
+     *
+     * @param tpsData TPS data in any order.
+     * @return Columns ordered by date.
+     */
+    public static TPSColumns of(Collection<TPS> tpsData) {
+        TPS[] sorted = tpsData.toArray(new TPS[0]);
+        Arrays.sort(sorted, (one, two) -> Long.compare(one.getDate(), two.getDate()));
+        Builder builder = new Builder(sorted.length);
+        for (TPS tps : sorted) {
+            builder.add(tps);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return end == start;
+    }
+
+    /**
+     * Get a view to the data points within a time range, without copying.
+     *
+     * @param after  Epoch ms, inclusive.
+     * @param before Epoch ms, inclusive.
+     * @return View to the same data.
+     */
+    public TPSColumns between(long after, long before) {
+        int from = firstIndexAtOrAfter(after);
+        int to = Math.max(from, firstIndexAtOrAfter(before == Long.MAX_VALUE ? before : before + 1));
+        return new TPSColumns(this, from, to);
+    }
+
+    private int firstIndexAtOrAfter(long date) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (dates[middle] < date) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Copy the data points with TPS within a range.
+     *
+     * @param above TPS has to be above this, exclusive.
+     * @param below TPS has to be below this, exclusive.
+     * @return New columns with the matching data points.
+     */
+    public TPSColumns filterTPSBetween(int above, int below) {
+        Builder filtered = new Builder(16);
+        for (int i = start; i < end; i++) {
+            if (tps[i] > above && tps[i] < below) {
+                filtered.add(dates[i], tps[i], players[i], cpu[i], ram[i], entities[i], chunks[i], freeDisk[i], resolutions[i], samples[i]);
+            }
+        }
+        return filtered.build();
+    }
+
+    /**
+     * Create a TPS object of a data point.
+     *
+     * @param index Index of the data point in this view.
+     * @return {@link AggregatedTPS} if the data point holds more than one sample, TPS otherwise.
+     */
+    public TPS getTPS(int index) {
+        int i = start + index;
+        if (resolutions[i] != SAMPLE_LENGTH || samples[i] != 1) {
+            return new AggregatedTPS(dates[i], resolutions[i], samples[i], tps[i], players[i], cpu[i], ram[i], entities[i], chunks[i], freeDisk[i]);
+        }
+        return new TPS(dates[i], tps[i], players[i], cpu[i], ram[i], entities[i], chunks[i], freeDisk[i]);
+    }
+
+    /**
+     * Create TPS objects of all data points.
+     *
+     * @return New list of TPS in date order.
+     */
+    public List<TPS> toList() {
+        List<TPS> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            list.add(getTPS(i));
+        }
+        return list;
+    }
+
+    public long getDate(int index) {
+        return dates[start + index];
+    }
+
+    public double getTicksPerSecond(int index) {
+        return tps[start + index];
+    }
+
+    public int getPlayers(int index) {
+        return players[start + index];
+    }
+
+    public double getCPUUsage(int index) {
+        return cpu[start + index];
+    }
+
+    public long getUsedMemory(int index) {
+        return ram[start + index];
+    }
+
+    public int getEntityCount(int index) {
+        return entities[start + index];
+    }
+
+    public int getChunksLoaded(int index) {
+        return chunks[start + index];
+    }
+
+    public long getFreeDiskSpace(int index) {
+        return freeDisk[start + index];
+    }
+
+    public long getResolution(int index) {
+        return resolutions[start + index];
+    }
+
+    public int getSamples(int index) {
+        return samples[start + index];
+    }
+
+    /**
+     * Get the players online at a moment.
+     *
+     * @param date Epoch ms.
+     * @return Players online in the latest data point at or before the date, or -1 if there is none.
+     */
+    public int getPlayersOnlineOn(long date) {
+        int index = firstIndexAtOrAfter(date == Long.MAX_VALUE ? date : date + 1) - 1;
+        return index >= start ? players[index] : -1;
+    }
+
+    /**
+     * Get the date of latest data point at or before a moment.
+     *
+     * @param date Epoch ms.
+     * @return Epoch ms of the data point, or -1 if there is none.
+     */
+    public long getLatestDateOn(long date) {
+        int index = firstIndexAtOrAfter(date == Long.MAX_VALUE ? date : date + 1) - 1;
+        return index >= start ? dates[index] : -1;
+    }
+
+    public long serverDownTime() {
+        long downTime = 0;
+        for (int i = start; i < end; i++) {
+            // Aggregated data points with less samples than their time span could hold include some downtime.
+            downTime += Math.max(0L, resolutions[i] - samples[i] * SAMPLE_LENGTH);
+            if (i == start) continue;
+
+            long diff = dates[i] - dates[i - 1];
+            if (diff > resolutions[i - 1] + MAX_GAP_WITHOUT_DOWNTIME) {
+                downTime += diff;
+            }
+        }
+        return downTime;
+    }
+
+    public long serverOccupiedTime() {
+        long activeTime = 0;
+        for (int i = start + 1; i < end; i++) {
+            long diff = dates[i] - dates[i - 1];
+            if (players[i] > 0 && diff <= resolutions[i - 1] + MAX_GAP_WITHOUT_DOWNTIME) {
+                activeTime += diff;
+            }
+        }
+        return activeTime;
+    }
+
+    public double percentageTPSAboveThreshold(int threshold) {
+        if (isEmpty()) {
+            return 1;
+        }
+
+        long count = 0;
+        long sampleCount = 0;
+        for (int i = start; i < end; i++) {
+            if (tps[i] >= threshold) {
+                count += samples[i];
+            }
+            sampleCount += samples[i];
+        }
+        return count * 1.0 / sampleCount;
+    }
+
+    public int lowTpsSpikeCount(int threshold) {
+        boolean wasLow = false;
+        int spikeCount = 0;
+        for (int i = start; i < end; i++) {
+            if (tps[i] < threshold) {
+                if (!wasLow) {
+                    spikeCount++;
+                    wasLow = true;
+                }
+            } else {
+                wasLow = false;
+            }
+        }
+        return spikeCount;
+    }
+
+    public double averageTPS() {
+        return weightedAverage(i -> tps[i]);
+    }
+
+    public double averageCPU() {
+        return weightedAverage(i -> cpu[i]);
+    }
+
+    public double averageRAM() {
+        return weightedAverage(i -> ram[i]);
+    }
+
+    public double averageEntities() {
+        return weightedAverage(i -> entities[i]);
+    }
+
+    public double averageChunks() {
+        return weightedAverage(i -> chunks[i]);
+    }
+
+    public double averageFreeDisk() {
+        return weightedAverage(i -> freeDisk[i]);
+    }
+
+    public double averagePlayersOnline() {
+        return weightedAverage(i -> players[i]);
+    }
+
+    public long maxFreeDisk() {
+        long max = -1;
+        for (int i = start; i < end; i++) {
+            max = Math.max(max, freeDisk[i]);
+        }
+        return max;
+    }
+
+    public long minFreeDisk() {
+        long min = Long.MAX_VALUE;
+        for (int i = start; i < end; i++) {
+            if (freeDisk[i] >= 0) {
+                min = Math.min(min, freeDisk[i]);
+            }
+        }
+        return min != Long.MAX_VALUE ? min : -1;
+    }
+
+    /**
+     * Average of non-negative values, where aggregated data points weigh as much as the samples they hold.
+     *
+     * @param value Function to get the value at an array index.
+     * @return average, or -1 if there are no values.
+     */
+    private double weightedAverage(ValueAt value) {
+        double total = 0;
+        long sampleCount = 0;
+        for (int i = start; i < end; i++) {
+            double num = value.at(i);
+            if (num < 0) continue;
+            total += num * samples[i];
+            sampleCount += samples[i];
+        }
+        return sampleCount > 0 ? total / sampleCount : -1;
+    }
+
+    private interface ValueAt {
+        double at(int index);
+    }
+
+    /**
+     * Appends data points to columns in date order.
+     * <p>
+     * Columns that have already been built keep referring to the arrays they were built from. Data points are only
+     * ever written past the end of built columns, and arrays are replaced instead of modified when the builder grows
+     * or drops old data, so built columns stay unchanged while the builder is appended to.
+     * A builder can be appended to from one thread at a time.
+     */
+    public static class Builder {
+
+        private long[] dates;
+        private double[] tps;
+        private int[] players;
+        private double[] cpu;
+        private long[] ram;
+        private int[] entities;
+        private int[] chunks;
+        private long[] freeDisk;
+        private long[] resolutions;
+        private int[] samples;
+        private int size;
+
+        public Builder(int initialCapacity) {
+            allocate(Math.max(initialCapacity, 0), 0, 0);
+        }
+
+        private void allocate(int capacity, int from, int to) {
+            int length = to - from;
+            long[] oldDates = dates;
+            double[] oldTps = tps;
+            int[] oldPlayers = players;
+            double[] oldCpu = cpu;
+            long[] oldRam = ram;
+            int[] oldEntities = entities;
+            int[] oldChunks = chunks;
+            long[] oldFreeDisk = freeDisk;
+            long[] oldResolutions = resolutions;
+            int[] oldSamples = samples;
+
+            dates = new long[capacity];
+            tps = new double[capacity];
+            players = new int[capacity];
+            cpu = new double[capacity];
+            ram = new long[capacity];
+            entities = new int[capacity];
+            chunks = new int[capacity];
+            freeDisk = new long[capacity];
+            resolutions = new long[capacity];
+            samples = new int[capacity];
+            if (length > 0) {
+                System.arraycopy(oldDates, from, dates, 0, length);
+                System.arraycopy(oldTps, from, tps, 0, length);
+                System.arraycopy(oldPlayers, from, players, 0, length);
+                System.arraycopy(oldCpu, from, cpu, 0, length);
+                System.arraycopy(oldRam, from, ram, 0, length);
+                System.arraycopy(oldEntities, from, entities, 0, length);
+                System.arraycopy(oldChunks, from, chunks, 0, length);
+                System.arraycopy(oldFreeDisk, from, freeDisk, 0, length);
+                System.arraycopy(oldResolutions, from, resolutions, 0, length);
+                System.arraycopy(oldSamples, from, samples, 0, length);
+            }
+            size = length;
+        }
+
+        public Builder add(TPS tps) {
+            return add(tps.getDate(), tps.getTicksPerSecond(), tps.getPlayers(), tps.getCPUUsage(), tps.getUsedMemory(),
+                    tps.getEntityCount(), tps.getChunksLoaded(), tps.getFreeDiskSpace(), tps.getResolution(), tps.getSamples());
+        }
+
+        public Builder addAll(List<TPS> tpsData) {
+            for (TPS tps : tpsData) {
+                add(tps);
+            }
+            return this;
+        }
+
+        /**
+         * Add a data point from other columns.
+         *
+         * @param data  Columns to add from.
+         * @param index Index of the data point in the columns.
+         * @return this builder.
+         */
+        public Builder add(TPSColumns data, int index) {
+            int i = data.start + index;
+            return add(data.dates[i], data.tps[i], data.players[i], data.cpu[i], data.ram[i],
+                    data.entities[i], data.chunks[i], data.freeDisk[i], data.resolutions[i], data.samples[i]);
+        }
+
+        public Builder add(
+                long date, double ticksPerSecond, int playersOnline, double cpuUsage, long usedMemory,
+                int entityCount, int chunksLoaded, long freeDiskSpace, long resolution, int sampleCount
+        ) {
+            if (size > 0 && date < dates[size - 1]) {
+                throw new IllegalArgumentException("TPS data has to be added in date order, " + date + " < " + dates[size - 1]);
+            }
+            if (size == dates.length) {
+                allocate(Math.max(16, size + (size >> 1)), 0, size);
+            }
+            dates[size] = date;
+            tps[size] = ticksPerSecond;
+            players[size] = playersOnline;
+            cpu[size] = cpuUsage;
+            ram[size] = usedMemory;
+            entities[size] = entityCount;
+            chunks[size] = chunksLoaded;
+            freeDisk[size] = freeDiskSpace;
+            resolutions[size] = resolution;
+            samples[size] = sampleCount;
+            size++;
+            return this;
+        }
+
+        /**
+         * Drop data points older than a date, moving the rest to new arrays.
+         *
+         * @param date Epoch ms, data points before this are dropped.
+         * @param capacity Capacity of the new arrays, at least the amount of remaining data points.
+         */
+        public void removeBefore(long date, int capacity) {
+            int from = 0;
+            while (from < size && dates[from] < date) {
+                from++;
+            }
+            allocate(Math.max(capacity, size - from), from, size);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int capacity() {
+            return dates.length;
+        }
+
+        public long getLastDate() {
+            return size > 0 ? dates[size - 1] : -1;
+        }
+
+        public TPSColumns build() {
+            return new TPSColumns(this, 0, size);
+        }
+    }
+}
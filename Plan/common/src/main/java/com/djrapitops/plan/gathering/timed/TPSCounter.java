@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
+import com.djrapitops.plan.gathering.cache.TPSCache;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -42,6 +43,7 @@ public abstract class TPSCounter extends AbsRunnable {
 
     protected final DBSystem dbSystem;
     protected final ServerInfo serverInfo;
+    protected final TPSCache tpsCache;
     protected final PluginLogger logger;
     protected final ErrorHandler errorHandler;
 
@@ -52,11 +54,13 @@ public abstract class TPSCounter extends AbsRunnable {
     public TPSCounter(
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            TPSCache tpsCache,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.tpsCache = tpsCache;
         this.logger = logger;
         this.errorHandler = errorHandler;
         history = new ArrayList<>();
@@ -71,11 +75,10 @@ public abstract class TPSCounter extends AbsRunnable {
             addNewTPSEntry(nanoTime, now);
 
             if (history.size() >= 60) {
-                dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
-                        serverInfo.getServerUUID(),
-                        new ArrayList<>(history)
-                ));
+                TPS minuteTPS = TPSStoreTransaction.calculateTPS(history);
                 history.clear();
+                tpsCache.addServerTPS(minuteTPS);
+                dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(serverInfo.getServerUUID(), minuteTPS));
             }
         } catch (Exception | NoClassDefFoundError | NoSuchMethodError | NoSuchFieldError e) {
             logger.error("TPS Count Task Disabled due to error, reload Plan to re-enable.");
@@ -16,6 +16,9 @@
  */
 package com.djrapitops.plan.settings.config;
 
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.settings.config.paths.key.TimeSetting;
+
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
@@ -58,6 +61,20 @@ public class ExtensionSettings {
         return section.getBoolean(pluginName + ".Enabled");
     }
 
+    /**
+     * Get the time a method of an extension is allowed to take before it is skipped.
+     *
+     * @param pluginName Name of the extension.
+     * @return Plugins.[pluginName].Method_timeout if it is set, or the default timeout, in milliseconds.
+     */
+    public long getMethodTimeout(String pluginName) {
+        Long timeout = new TimeSetting(pluginName + ".Method_timeout").getValueFrom(getPluginsSection());
+        if (timeout != null && timeout > 0) {
+            return timeout;
+        }
+        return config.get(TimeSettings.EXTENSION_METHOD_TIMEOUT);
+    }
+
     public Set<String> getDisabled() {
         ConfigNode section = getPluginsSection();
 
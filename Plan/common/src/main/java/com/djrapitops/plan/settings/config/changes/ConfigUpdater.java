@@ -141,6 +141,7 @@ public class ConfigUpdater {
                 new ConfigChange.Moved("Plugin.Configuration.Allow_bungeecord_to_manage_settings", "Plugin.Configuration.Allow_proxy_to_manage_settings"),
                 new ConfigChange.RemovedComment("Webserver.Disable_Webserver"),
                 new ConfigChange.BooleanToString("Time.Use_server_timezone", FormatSettings.TIMEZONE.getPath(), "server", "UTC"),
+                new ConfigChange.Moved("Time.Thresholds.Remove_time_series_data_after", "Time.Thresholds.Keep_10_minute_time_series_for"),
         };
     }
 
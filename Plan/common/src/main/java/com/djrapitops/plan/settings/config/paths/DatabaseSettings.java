@@ -16,8 +16,11 @@
  */
 package com.djrapitops.plan.settings.config.paths;
 
+import com.djrapitops.plan.settings.config.paths.key.BooleanSetting;
+import com.djrapitops.plan.settings.config.paths.key.IntegerSetting;
 import com.djrapitops.plan.settings.config.paths.key.Setting;
 import com.djrapitops.plan.settings.config.paths.key.StringSetting;
+import com.djrapitops.plan.settings.config.paths.key.TimeSetting;
 import com.djrapitops.plan.storage.database.DBType;
 import org.apache.commons.lang3.math.NumberUtils;
 
@@ -35,6 +38,11 @@ public class DatabaseSettings {
     public static final Setting<String> MYSQL_PASS = new StringSetting("Database.MySQL.Password");
     public static final Setting<String> MYSQL_DATABASE = new StringSetting("Database.MySQL.Database");
     public static final Setting<String> MYSQL_LAUNCH_OPTIONS = new StringSetting("Database.MySQL.Launch_options");
+    public static final Setting<Boolean> GROUP_COMMIT = new BooleanSetting("Database.Group_commit");
+    public static final Setting<Integer> GROUP_COMMIT_MAX_TRANSACTIONS = new IntegerSetting("Database.Group_commit.Max_transactions", Setting::timeValidator);
+    public static final Setting<Boolean> PROFILE_QUERIES = new BooleanSetting("Database.Profile_queries");
+    public static final Setting<Boolean> EXPLAIN_SLOW_QUERIES = new BooleanSetting("Database.Profile_queries.Explain_slow_queries");
+    public static final Setting<Long> SLOW_QUERY_THRESHOLD = new TimeSetting("Database.Profile_queries.Slow_query_threshold");
 
     private DatabaseSettings() {
         /* static variable class */
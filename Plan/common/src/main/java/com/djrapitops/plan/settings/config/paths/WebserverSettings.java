@@ -20,6 +20,7 @@ import com.djrapitops.plan.settings.config.paths.key.BooleanSetting;
 import com.djrapitops.plan.settings.config.paths.key.IntegerSetting;
 import com.djrapitops.plan.settings.config.paths.key.Setting;
 import com.djrapitops.plan.settings.config.paths.key.StringSetting;
+import com.djrapitops.plan.settings.config.paths.key.TimeSetting;
 
 /**
  * {@link Setting} values that are in "Webserver" section.
@@ -39,6 +40,10 @@ public class WebserverSettings {
     public static final Setting<String> CERTIFICATE_ALIAS = new StringSetting("Webserver.Security.SSL_certificate.Alias");
     public static final Setting<Boolean> DISABLED = new BooleanSetting("Webserver.Disable_Webserver");
     public static final Setting<String> EXTERNAL_LINK = new StringSetting("Webserver.External_Webserver_address");
+    public static final Setting<Integer> WORKER_THREADS = new IntegerSetting("Webserver.Performance.Worker_threads", value -> value > 0);
+    public static final Setting<Integer> REQUEST_QUEUE_SIZE = new IntegerSetting("Webserver.Performance.Request_queue_size", value -> value > 0);
+    public static final Setting<Long> LOG_SLOW_REQUESTS_AFTER = new TimeSetting("Webserver.Performance.Log_requests_slower_than");
+    public static final Setting<Integer> CONNECTION_BACKLOG = new IntegerSetting("Webserver.Performance.Connection_backlog", value -> value >= 0);
 
     private WebserverSettings() {
         /* static variable class */
@@ -25,6 +25,7 @@ public enum ManageLang implements Lang {
 
     HOTSWAP_REMINDER("Manage - Remind HotSwap", "§eRemember to swap to the new database (/plan m hotswap ${0}) & reload the plugin."),
     PROGRESS_START("Manage - Start", "> §2Processing data.."),
+    PROGRESS_COPY("Manage - Copy Progress", "> §7${0}: ${1} rows copied (${2} rows/s)"),
     PROGRESS_SUCCESS("Manage - Success", "> §aSuccess!"),
     PROGRESS_FAIL("Manage - Fail", "> §cSomething went wrong: ${0}"),
 
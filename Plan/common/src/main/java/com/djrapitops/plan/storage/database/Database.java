@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database;
 
 import com.djrapitops.plan.exceptions.database.DBInitException;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
@@ -52,6 +53,19 @@ public interface Database {
      */
     <T> T query(Query<T> query);
 
+    /**
+     * Create a batch for executing multiple independent queries together.
+     * <p>
+     * Database implementations that can serve multiple queries at once execute the batch concurrently,
+     * by default the queries are executed one after another on the calling thread.
+     * This method should only be called from an asynchronous thread.
+     *
+     * @return New empty batch.
+     */
+    default QueryBatch batch() {
+        return new QueryBatch(this, Runnable::run);
+    }
+
     /**
      * Execute an SQL Transaction.
      *
@@ -0,0 +1,35 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+/**
+ * Listener for databases that had all of their data removed, see {@link DatabaseClearNotifier}.
+ *
+ * @author Rsl1122
+ */
+public interface DatabaseClearListener {
+
+    /**
+     * Called after a transaction that removed all data of a database was committed.
+     * <p>
+     * Also called after a backup was copied over the removed data.
+     *
+     * @param database Database that was cleared, not necessarily the active database.
+     */
+    void databaseCleared(Database database);
+
+}
@@ -0,0 +1,54 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Notifies {@link DatabaseClearListener}s about databases cleared by committed transactions.
+ * <p>
+ * Allows in-memory data outside storage (like the recent TPS of the server) to be reloaded after the database is
+ * cleared or restored without the transactions depending on it.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class DatabaseClearNotifier {
+
+    private final CopyOnWriteArrayList<DatabaseClearListener> listeners;
+
+    @Inject
+    public DatabaseClearNotifier() {
+        listeners = new CopyOnWriteArrayList<>();
+    }
+
+    public void register(DatabaseClearListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    public void unregister(DatabaseClearListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void databaseCleared(Database database) {
+        for (DatabaseClearListener listener : listeners) {
+            listener.databaseCleared(database);
+        }
+    }
+}
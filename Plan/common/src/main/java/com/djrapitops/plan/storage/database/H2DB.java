@@ -46,6 +46,8 @@ import java.util.Objects;
  */
 public class H2DB extends SQLDB {
 
+    private static final int READ_CONNECTIONS = 4;
+
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
@@ -58,9 +60,12 @@ public class H2DB extends SQLDB {
             Lazy<ServerInfo> serverInfo,
             RunnableFactory runnableFactory,
             PluginLogger logger,
-            ErrorHandler errorHandler
+            ErrorHandler errorHandler,
+            WebUserChangeNotifier webUserChangeNotifier,
+            DatabaseClearNotifier databaseClearNotifier
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, logger, errorHandler);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, logger, errorHandler,
+                webUserChangeNotifier, databaseClearNotifier);
         dbName = databaseFile.getName();
         this.databaseFile = databaseFile;
     }
@@ -69,6 +74,7 @@ public class H2DB extends SQLDB {
     public void setupDataSource() {
         try {
             connection = getNewConnection(databaseFile);
+            setReadConnectionPool(new ReadConnectionPool(this::getNewReadConnection, READ_CONNECTIONS));
         } catch (SQLException e) {
             throw new DBInitException(e.getMessage(), e);
         }
@@ -85,6 +91,14 @@ public class H2DB extends SQLDB {
         return newConnection;
     }
 
+    private Connection getNewReadConnection() throws SQLException {
+        Connection readConnection = getConnectionFor(databaseFile.getAbsolutePath());
+        logger.debug("H2 " + dbName + ": Opened a new read Connection");
+        readConnection.setReadOnly(true);
+        readConnection.setAutoCommit(true);
+        return readConnection;
+    }
+
     private Connection getConnectionFor(String dbFilePath) throws SQLException {
         String username = config.get(DatabaseSettings.MYSQL_USER);
         String password = config.get(DatabaseSettings.MYSQL_PASS);
@@ -174,6 +188,8 @@ public class H2DB extends SQLDB {
         private final RunnableFactory runnableFactory;
         private final PluginLogger logger;
         private final ErrorHandler errorHandler;
+        private final WebUserChangeNotifier webUserChangeNotifier;
+        private final DatabaseClearNotifier databaseClearNotifier;
         private final PlanFiles files;
 
         @Inject
@@ -184,7 +200,9 @@ public class H2DB extends SQLDB {
                 Lazy<ServerInfo> serverInfo,
                 RunnableFactory runnableFactory,
                 PluginLogger logger,
-                ErrorHandler errorHandler
+                ErrorHandler errorHandler,
+                WebUserChangeNotifier webUserChangeNotifier,
+                DatabaseClearNotifier databaseClearNotifier
         ) {
             this.locale = locale;
             this.config = config;
@@ -193,6 +211,8 @@ public class H2DB extends SQLDB {
             this.runnableFactory = runnableFactory;
             this.logger = logger;
             this.errorHandler = errorHandler;
+            this.webUserChangeNotifier = webUserChangeNotifier;
+            this.databaseClearNotifier = databaseClearNotifier;
         }
 
         public H2DB usingDefaultFile() {
@@ -206,7 +226,8 @@ public class H2DB extends SQLDB {
         public H2DB usingFile(File databaseFile) {
             return new H2DB(databaseFile,
                     locale, config, serverInfo,
-                    runnableFactory, logger, errorHandler
+                    runnableFactory, logger, errorHandler,
+                    webUserChangeNotifier, databaseClearNotifier
             );
         }
 
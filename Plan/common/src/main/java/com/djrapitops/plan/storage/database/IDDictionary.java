@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dictionary from UUIDs to the integer IDs of plan_users and plan_servers rows of a {@link SQLDB}.
+ * <p>
+ * IDs differ between databases, so every SQLDB has its own dictionary.
+ * Entries are added when an ID is queried, and removed when the row they point to is removed.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries#fetchUserID(UUID)
+ * @see com.djrapitops.plan.storage.database.queries.objects.ServerQueries#fetchServerID(UUID)
+ */
+public class IDDictionary {
+
+    private final Map<UUID, Integer> userIDs;
+    private final Map<UUID, Integer> serverIDs;
+
+    public IDDictionary() {
+        userIDs = new ConcurrentHashMap<>();
+        serverIDs = new ConcurrentHashMap<>();
+    }
+
+    public Optional<Integer> getUserID(UUID playerUUID) {
+        return Optional.ofNullable(userIDs.get(playerUUID));
+    }
+
+    public Optional<Integer> getServerID(UUID serverUUID) {
+        return Optional.ofNullable(serverIDs.get(serverUUID));
+    }
+
+    public void putUser(UUID playerUUID, int userID) {
+        userIDs.put(playerUUID, userID);
+    }
+
+    public void putServer(UUID serverUUID, int serverID) {
+        serverIDs.put(serverUUID, serverID);
+    }
+
+    public void removeUser(UUID playerUUID) {
+        userIDs.remove(playerUUID);
+    }
+
+    public void clear() {
+        userIDs.clear();
+        serverIDs.clear();
+    }
+}
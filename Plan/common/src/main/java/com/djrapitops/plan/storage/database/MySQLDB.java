@@ -48,6 +48,10 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class MySQLDB extends SQLDB {
 
+    private static final int MAX_CONNECTIONS = 8;
+    // Leaves connections for transactions and queries that are not batched.
+    private static final int QUERY_THREADS = MAX_CONNECTIONS - 2;
+
     private static int increment = 1;
 
     protected DataSource dataSource;
@@ -60,9 +64,12 @@ public class MySQLDB extends SQLDB {
             RunnableFactory runnableFactory,
             PluginLogger pluginLogger,
             Timings timings,
-            ErrorHandler errorHandler
+            ErrorHandler errorHandler,
+            WebUserChangeNotifier webUserChangeNotifier,
+            DatabaseClearNotifier databaseClearNotifier
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, pluginLogger, errorHandler);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, pluginLogger, errorHandler,
+                webUserChangeNotifier, databaseClearNotifier);
     }
 
     private static synchronized void increment() {
@@ -113,11 +120,12 @@ public class MySQLDB extends SQLDB {
             increment();
 
             hikariConfig.setAutoCommit(true);
-            hikariConfig.setMaximumPoolSize(8);
+            hikariConfig.setMaximumPoolSize(MAX_CONNECTIONS);
             hikariConfig.setMaxLifetime(TimeUnit.MINUTES.toMillis(25L));
             hikariConfig.setLeakDetectionThreshold(TimeUnit.MINUTES.toMillis(10L));
 
             this.dataSource = new HikariDataSource(hikariConfig);
+            setQueryThreads(QUERY_THREADS);
         } catch (HikariPool.PoolInitializationException e) {
             throw new DBInitException("Failed to set-up HikariCP Datasource: " + e.getMessage(), e);
         }
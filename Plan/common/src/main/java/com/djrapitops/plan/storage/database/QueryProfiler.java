@@ -0,0 +1,321 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in profiler that records execution statistics of each SQL statement the database executes.
+ * <p>
+ * Statistics are aggregated by SQL, and labeled by the class of the Query or Transaction that executed the statement,
+ * so that slow queries can be found from the debug page without attaching a profiler.
+ * <p>
+ * When explaining is enabled, the query plan of queries slower than the threshold is fetched with EXPLAIN and kept
+ * with the statistics of the query.
+ *
+ * @author Rsl1122
+ */
+public class QueryProfiler {
+
+    static final int MAX_PROFILED_STATEMENTS = 500;
+
+    private final DBType dbType;
+    private final boolean enabled;
+    private final boolean explain;
+    private final long explainThresholdNanos;
+
+    private final Map<String, StatementStatistics> statistics;
+
+    /**
+     * Create a new profiler.
+     *
+     * @param dbType             Type of the database, for EXPLAIN syntax.
+     * @param enabled            Should statements be profiled.
+     * @param explain            Should query plans be fetched for slow queries.
+     * @param explainThresholdMs Queries slower than this are explained.
+     */
+    public QueryProfiler(DBType dbType, boolean enabled, boolean explain, long explainThresholdMs) {
+        this.dbType = dbType;
+        this.enabled = enabled;
+        this.explain = explain;
+        this.explainThresholdNanos = TimeUnit.MILLISECONDS.toNanos(explainThresholdMs);
+        statistics = new ConcurrentHashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a query that was executed.
+     *
+     * @param query               Query that was executed.
+     * @param connection          Connection the query was executed with, used for EXPLAIN.
+     * @param nanos               How long the statement took to execute and process.
+     * @param connectionWaitNanos How long it took to get the connection.
+     * @param rows                How many rows the query fetched.
+     */
+    public void queryExecuted(QueryStatement<?> query, Connection connection, long nanos, long connectionWaitNanos, long rows) {
+        StatementStatistics statement = getStatistics(query.getSql(), query.getClass());
+        if (statement == null) return;
+        statement.record(nanos, connectionWaitNanos, rows, query.getFetchSize());
+
+        if (explain && nanos >= explainThresholdNanos && statement.explainedAt.get() == 0L) {
+            statement.explainedAt.set(System.currentTimeMillis());
+            statement.queryPlan = explain(query, connection);
+        }
+    }
+
+    /**
+     * Record an update statement that was executed in a transaction.
+     *
+     * @param sql         SQL of the statement, or name of the operation if SQL is not available.
+     * @param transaction Class of the transaction that executed the statement.
+     * @param nanos       How long the statement took.
+     */
+    public void statementExecuted(String sql, Class<?> transaction, long nanos) {
+        StatementStatistics statement = getStatistics(sql, transaction);
+        if (statement == null) return;
+        statement.record(nanos, 0L, -1L, 0);
+    }
+
+    private StatementStatistics getStatistics(String sql, Class<?> source) {
+        StatementStatistics statement = statistics.get(sql);
+        if (statement == null) {
+            if (statistics.size() >= MAX_PROFILED_STATEMENTS) {
+                return null;
+            }
+            statement = statistics.computeIfAbsent(sql, key -> new StatementStatistics(key, sourceName(source)));
+        }
+        return statement;
+    }
+
+    private static String sourceName(Class<?> source) {
+        String name = source.getName();
+        // Lambdas and anonymous classes are identified by the class they were defined in.
+        int lambdaIndex = name.indexOf("$$Lambda");
+        if (lambdaIndex != -1) {
+            name = name.substring(0, lambdaIndex);
+        }
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private String explain(QueryStatement<?> query, Connection connection) {
+        String explainPrefix = dbType == DBType.SQLITE ? "EXPLAIN QUERY PLAN " : "EXPLAIN ";
+        try (PreparedStatement statement = connection.prepareStatement(explainPrefix + query.getSql())) {
+            query.prepare(statement);
+            try (ResultSet set = statement.executeQuery()) {
+                int columns = set.getMetaData().getColumnCount();
+                StringBuilder plan = new StringBuilder();
+                while (set.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        if (i > 1) plan.append(" | ");
+                        plan.append(set.getString(i));
+                    }
+                    plan.append('\n');
+                }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Get statistics of the statements that took the most time in total.
+     *
+     * @param limit How many statements to return.
+     * @return Statistics ordered by total time, highest first.
+     */
+    public List<StatementStatistics> getTopByTotalTime(int limit) {
+        return getTop(StatementStatistics::getTotalNanos, limit);
+    }
+
+    /**
+     * Get statistics of the statements with the slowest single execution.
+     *
+     * @param limit How many statements to return.
+     * @return Statistics ordered by maximum time, highest first.
+     */
+    public List<StatementStatistics> getTopByMaxTime(int limit) {
+        return getTop(StatementStatistics::getMaxNanos, limit);
+    }
+
+    /**
+     * Get statistics of the statements that fetched the most rows in total.
+     *
+     * @param limit How many statements to return.
+     * @return Statistics ordered by fetched rows, highest first.
+     */
+    public List<StatementStatistics> getTopByRows(int limit) {
+        return getTop(StatementStatistics::getRows, limit);
+    }
+
+    private List<StatementStatistics> getTop(ToLongFunction<StatementStatistics> orderBy, int limit) {
+        return new ArrayList<>(statistics.values()).stream()
+                .sorted(Comparator.comparingLong(orderBy).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the query plans fetched for slow queries.
+     *
+     * @return Statistics of the statements that have a query plan.
+     */
+    public List<StatementStatistics> getExplainedStatements() {
+        return statistics.values().stream()
+                .filter(statement -> statement.getQueryPlan() != null)
+                .sorted(Comparator.comparingLong(StatementStatistics::getMaxNanos).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public void clear() {
+        statistics.clear();
+    }
+
+    /**
+     * Wrap a ResultSet so that the rows read from it are counted.
+     *
+     * @param set     ResultSet to wrap.
+     * @param counter Counter incremented for each row.
+     * @return ResultSet that counts calls to next that returned a row.
+     */
+    public static ResultSet countRows(ResultSet set, AtomicInteger counter) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(set, args);
+                    } catch (InvocationTargetException e) {
+                        // Throw SQLExceptions as they are, instead of as UndeclaredThrowableException.
+                        throw e.getCause();
+                    }
+                    if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                        counter.incrementAndGet();
+                    }
+                    return result;
+                }
+        );
+    }
+
+    /**
+     * Statistics of a single SQL statement.
+     */
+    public static class StatementStatistics {
+        private final String sql;
+        private final String source;
+
+        private final AtomicLong count;
+        private final AtomicLong totalNanos;
+        private final AtomicLong maxNanos;
+        private final AtomicLong connectionWaitNanos;
+        private final AtomicLong rows;
+        private final AtomicLong explainedAt;
+        private volatile int fetchSize;
+        private volatile String queryPlan;
+
+        StatementStatistics(String sql, String source) {
+            this.sql = sql;
+            this.source = source;
+            count = new AtomicLong(0);
+            totalNanos = new AtomicLong(0);
+            maxNanos = new AtomicLong(0);
+            connectionWaitNanos = new AtomicLong(0);
+            rows = new AtomicLong(0);
+            explainedAt = new AtomicLong(0);
+        }
+
+        void record(long nanos, long waitNanos, long fetchedRows, int fetchSize) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            connectionWaitNanos.addAndGet(waitNanos);
+            if (fetchedRows > 0) rows.addAndGet(fetchedRows);
+            this.fetchSize = fetchSize;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        public long getTotalMs() {
+            return TimeUnit.NANOSECONDS.toMillis(getTotalNanos());
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getMaxMs() {
+            return TimeUnit.NANOSECONDS.toMillis(getMaxNanos());
+        }
+
+        public long getAverageMs() {
+            long executions = getCount();
+            return executions != 0 ? TimeUnit.NANOSECONDS.toMillis(getTotalNanos() / executions) : 0L;
+        }
+
+        public long getAverageConnectionWaitMs() {
+            long executions = getCount();
+            return executions != 0 ? TimeUnit.NANOSECONDS.toMillis(connectionWaitNanos.get() / executions) : 0L;
+        }
+
+        public long getRows() {
+            return rows.get();
+        }
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public String getQueryPlan() {
+            return queryPlan;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL of queries executed on behalf of a thread, so that the queries of a slow operation can be logged.
+ * <p>
+ * Recording is started and stopped on the thread that does the operation. Queries executed in a
+ * {@link com.djrapitops.plan.storage.database.queries.QueryBatch} are recorded into the list of the thread that
+ * created the batch.
+ *
+ * @author Rsl1122
+ */
+public class QueryRecorder {
+
+    private static final int MAX_RECORDED_QUERIES = 100;
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    private QueryRecorder() {
+        /* Static method class */
+    }
+
+    /**
+     * Start recording queries executed on the current thread.
+     */
+    public static void start() {
+        RECORDING.set(Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    /**
+     * Stop recording queries on the current thread.
+     *
+     * @return Recorded queries with their durations, in the order they finished.
+     */
+    public static List<String> stop() {
+        List<String> recorded = RECORDING.get();
+        RECORDING.remove();
+        if (recorded == null) {
+            return Collections.emptyList();
+        }
+        synchronized (recorded) {
+            return new ArrayList<>(recorded);
+        }
+    }
+
+    /**
+     * Record an executed query if recording is on for this thread.
+     *
+     * @param sql   SQL of the query.
+     * @param nanos How long the query took.
+     */
+    public static void record(String sql, long nanos) {
+        List<String> recorded = RECORDING.get();
+        if (recorded == null || recorded.size() >= MAX_RECORDED_QUERIES) {
+            return;
+        }
+        recorded.add(TimeUnit.NANOSECONDS.toMillis(nanos) + " ms | " + sql);
+    }
+
+    /**
+     * Make a task record its queries into the recording of the current thread when it is run on another thread.
+     *
+     * @param task Task to run on another thread.
+     * @return Task that records into the current recording, or the given task if nothing is being recorded.
+     */
+    static Runnable propagate(Runnable task) {
+        List<String> recorded = RECORDING.get();
+        if (recorded == null) {
+            return task;
+        }
+        return () -> {
+            RECORDING.set(recorded);
+            try {
+                task.run();
+            } finally {
+                RECORDING.remove();
+            }
+        };
+    }
+}
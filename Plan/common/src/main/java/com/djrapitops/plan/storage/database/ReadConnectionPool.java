@@ -0,0 +1,151 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.utilities.MiscUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of connections used for queries on file based databases that only have a single writing connection.
+ * <p>
+ * Connections are opened lazily up to the maximum size, after which queries wait for a connection to be returned.
+ *
+ * @author Rsl1122
+ */
+public class ReadConnectionPool {
+
+    private final ConnectionOpener opener;
+    private final int maxSize;
+
+    private final BlockingQueue<Connection> idle;
+    private final Set<Connection> connections;
+    private final AtomicInteger opened;
+    private volatile boolean closed;
+
+    public ReadConnectionPool(ConnectionOpener opener, int maxSize) {
+        this.opener = opener;
+        this.maxSize = maxSize;
+        idle = new LinkedBlockingQueue<>();
+        connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        opened = new AtomicInteger(0);
+        closed = false;
+    }
+
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new DBOpException("Read connection pool has been closed.");
+        }
+        Connection connection = idle.poll();
+        if (connection == null) {
+            connection = openOrWait();
+        }
+        if (connection.isClosed()) {
+            discard(connection);
+            return borrow();
+        }
+        return connection;
+    }
+
+    private Connection openOrWait() throws SQLException {
+        if (opened.incrementAndGet() <= maxSize) {
+            try {
+                Connection connection = opener.open();
+                connections.add(connection);
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                opened.decrementAndGet();
+                throw e;
+            }
+        }
+        opened.decrementAndGet();
+        try {
+            Connection connection = idle.poll(30L, TimeUnit.SECONDS);
+            if (connection == null) {
+                throw new DBOpException("Timed out waiting for a read connection (all " + maxSize + " in use).");
+            }
+            return connection;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DBOpException("Interrupted while waiting for a read connection.", e);
+        }
+    }
+
+    /**
+     * Check if a connection was borrowed from this pool.
+     *
+     * @param connection Connection to check.
+     * @return true if the connection belongs to this pool.
+     */
+    public boolean owns(Connection connection) {
+        return connection != null && connections.contains(connection);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void giveBack(Connection connection) {
+        if (connection == null) return;
+        if (closed) {
+            discard(connection);
+            return;
+        }
+        idle.offer(connection);
+    }
+
+    private void discard(Connection connection) {
+        if (connections.remove(connection)) {
+            opened.decrementAndGet();
+        }
+        MiscUtils.close(connection);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Check if connections of a closed pool have all been given back.
+     *
+     * @return true if no connections are borrowed or idle.
+     */
+    public boolean isDrained() {
+        return connections.isEmpty();
+    }
+
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            discard(connection);
+        }
+    }
+
+    public interface ConnectionOpener {
+        Connection open() throws SQLException;
+    }
+}
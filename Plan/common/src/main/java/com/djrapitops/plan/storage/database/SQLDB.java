@@ -21,10 +21,16 @@ import com.djrapitops.plan.exceptions.database.DBInitException;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
+import com.djrapitops.plan.storage.database.sql.tables.KillsTable;
+import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.WorldTimesTable;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
@@ -41,10 +47,7 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -68,6 +71,21 @@ public abstract class SQLDB extends AbstractDatabase {
     private ExecutorService transactionExecutor;
 
     private final boolean devMode;
+    private volatile boolean groupCommit;
+    private final int groupCommitMaxTransactions;
+    private final BlockingQueue<QueuedTransaction> transactionQueue;
+    private final TransactionQueueStatistics queueStatistics;
+    private final QueryProfiler queryProfiler;
+    private final IDDictionary idDictionary;
+    private final WebUserChangeNotifier webUserChangeNotifier;
+    private final DatabaseClearNotifier databaseClearNotifier;
+    private final ThreadLocal<Boolean> executingTransaction;
+    private final ThreadLocal<Boolean> executingBatchedQuery;
+    private final ThreadLocal<Connection> transactionConnection;
+    // Swapped when the database is set up or closed while other threads execute queries.
+    private volatile ReadConnectionPool readConnectionPool;
+    private final List<ReadConnectionPool> closedReadConnectionPools;
+    private volatile ExecutorService queryExecutor;
 
     public SQLDB(
             Supplier<UUID> serverUUIDSupplier,
@@ -75,7 +93,9 @@ public abstract class SQLDB extends AbstractDatabase {
             PlanConfig config,
             RunnableFactory runnableFactory,
             PluginLogger logger,
-            ErrorHandler errorHandler
+            ErrorHandler errorHandler,
+            WebUserChangeNotifier webUserChangeNotifier,
+            DatabaseClearNotifier databaseClearNotifier
     ) {
         this.serverUUIDSupplier = serverUUIDSupplier;
         this.locale = locale;
@@ -83,8 +103,24 @@ public abstract class SQLDB extends AbstractDatabase {
         this.runnableFactory = runnableFactory;
         this.logger = logger;
         this.errorHandler = errorHandler;
+        this.webUserChangeNotifier = webUserChangeNotifier;
+        this.databaseClearNotifier = databaseClearNotifier;
 
         devMode = config.get(PluginSettings.DEV_MODE);
+        groupCommit = config.getOrDefault(DatabaseSettings.GROUP_COMMIT, false);
+        groupCommitMaxTransactions = config.getOrDefault(DatabaseSettings.GROUP_COMMIT_MAX_TRANSACTIONS, 50);
+        transactionQueue = new LinkedBlockingQueue<>();
+        queueStatistics = new TransactionQueueStatistics();
+        queryProfiler = new QueryProfiler(getType(),
+                config.getOrDefault(DatabaseSettings.PROFILE_QUERIES, false),
+                config.getOrDefault(DatabaseSettings.EXPLAIN_SLOW_QUERIES, false),
+                config.getOrDefault(DatabaseSettings.SLOW_QUERY_THRESHOLD, 500L)
+        );
+        idDictionary = new IDDictionary();
+        executingTransaction = ThreadLocal.withInitial(() -> false);
+        executingBatchedQuery = ThreadLocal.withInitial(() -> false);
+        transactionConnection = new ThreadLocal<>();
+        closedReadConnectionPools = new CopyOnWriteArrayList<>();
 
         this.transactionExecutorServiceProvider = () -> {
             String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-%d";
@@ -169,7 +205,21 @@ public abstract class SQLDB extends AbstractDatabase {
                 new ExtensionShowInPlayersTablePatch(),
                 new ExtensionTableRowValueLengthPatch(),
                 new CommandUsageTableRemovalPatch(),
-                new RegisterDateMinimizationPatch()
+                new RegisterDateMinimizationPatch(),
+                new IntegerIDPatch(SessionsTable.TABLE_NAME)
+                        .userID(SessionsTable.USER_ID, SessionsTable.USER_UUID)
+                        .serverID(SessionsTable.SERVER_ID, SessionsTable.SERVER_UUID),
+                new IntegerIDPatch(KillsTable.TABLE_NAME)
+                        .userID(KillsTable.KILLER_ID, KillsTable.KILLER_UUID)
+                        .userID(KillsTable.VICTIM_ID, KillsTable.VICTIM_UUID)
+                        .serverID(KillsTable.SERVER_ID, KillsTable.SERVER_UUID),
+                new IntegerIDPatch(WorldTimesTable.TABLE_NAME)
+                        .userID(WorldTimesTable.USER_ID, WorldTimesTable.USER_UUID)
+                        .serverID(WorldTimesTable.SERVER_ID, WorldTimesTable.SERVER_UUID),
+                new IntegerIDPatch(PingTable.TABLE_NAME)
+                        .userID(PingTable.USER_ID, PingTable.USER_UUID)
+                        .serverID(PingTable.SERVER_ID, PingTable.SERVER_UUID),
+                new ExtensionValueUniquenessPatch()
         };
     }
 
@@ -217,18 +267,147 @@ public abstract class SQLDB extends AbstractDatabase {
         if (getState() == State.OPEN) setState(State.CLOSING);
         closeTransactionExecutor(transactionExecutor);
         setState(State.CLOSED);
+        setReadConnectionPool(null);
+    }
+
+    private void closeQueryExecutor() {
+        ExecutorService previous = queryExecutor;
+        queryExecutor = null;
+        if (previous != null) {
+            previous.shutdown();
+        }
     }
 
     public abstract Connection getConnection() throws SQLException;
 
     public abstract void returnToPool(Connection connection);
 
+    /**
+     * Get a connection for a query.
+     * <p>
+     * Queries are executed with a connection from the read connection pool if one is in use, so that they don't
+     * wait for transactions that use the writing connection. Queries made during a transaction use the connection
+     * of the transaction, so that the uncommitted changes are visible.
+     *
+     * @return Connection to use for a query, return it with {@link #returnQueryConnection(Connection)}.
+     * @throws SQLException If a connection could not be opened.
+     */
+    public Connection getQueryConnection() throws SQLException {
+        Connection ofTransaction = transactionConnection.get();
+        if (ofTransaction != null) {
+            return ofTransaction;
+        }
+        ReadConnectionPool pool = readConnectionPool;
+        if (pool == null || pool.isClosed() || executingTransaction.get()) {
+            return getConnection();
+        }
+        return pool.borrow();
+    }
+
+    public void returnQueryConnection(Connection connection) {
+        if (connection == null || connection == transactionConnection.get()) {
+            return; // The transaction returns its own connection.
+        }
+        ReadConnectionPool pool = readConnectionPool;
+        if (pool != null && pool.owns(connection)) {
+            pool.giveBack(connection);
+            return;
+        }
+        for (ReadConnectionPool closedPool : closedReadConnectionPools) {
+            if (closedPool.owns(connection)) {
+                closedPool.giveBack(connection); // Closes the connection
+                if (closedPool.isDrained()) closedReadConnectionPools.remove(closedPool);
+                return;
+            }
+        }
+        returnToPool(connection);
+    }
+
+    /**
+     * Mark the connection of the transaction executing on this thread, so that queries made during the transaction
+     * (including queries nested inside other queries) use it.
+     *
+     * @param connection Connection of the transaction, or null when the transaction has finished.
+     */
+    public void setTransactionConnection(Connection connection) {
+        if (connection != null) {
+            transactionConnection.set(connection);
+        } else {
+            transactionConnection.remove();
+        }
+    }
+
+    /**
+     * Set the pool used for queries, closing the previous one.
+     *
+     * @param readConnectionPool Pool to use, or null to use {@link #getConnection()} for queries.
+     */
+    protected synchronized void setReadConnectionPool(ReadConnectionPool readConnectionPool) {
+        ReadConnectionPool previous = this.readConnectionPool;
+        if (previous != null) {
+            previous.close();
+            // Connections still borrowed from the previous pool are closed when they are returned.
+            closedReadConnectionPools.removeIf(ReadConnectionPool::isDrained);
+            closedReadConnectionPools.add(previous);
+        }
+        setQueryThreads(readConnectionPool != null ? readConnectionPool.getMaxSize() : 0);
+        this.readConnectionPool = readConnectionPool;
+    }
+
+    /**
+     * Set the number of threads that execute queries of a {@link QueryBatch} concurrently, closing the previous threads.
+     * <p>
+     * Each thread holds one connection while it executes a query, so there should be fewer threads than connections.
+     *
+     * @param threads Number of threads, or 0 to execute batches on the calling thread.
+     */
+    protected synchronized void setQueryThreads(int threads) {
+        closeQueryExecutor();
+        if (threads > 0) {
+            String nameFormat = "Plan " + getClass().getSimpleName() + "-query-thread-%d";
+            queryExecutor = Executors.newFixedThreadPool(threads, new BasicThreadFactory.Builder()
+                    .namingPattern(nameFormat)
+                    .daemon(true)
+                    .build());
+        }
+    }
+
     @Override
     public <T> T query(Query<T> query) {
         accessLock.checkAccess();
         return query.executeQuery(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Batches are executed concurrently with the threads set with {@link #setQueryThreads(int)}, using connections of
+     * the read connection pool when one is in use.
+     * Batches created during a transaction or inside another batch are executed on the calling thread,
+     * the former so that the queries see the uncommitted changes of the transaction.
+     */
+    @Override
+    public QueryBatch batch() {
+        ExecutorService executor = queryExecutor;
+        if (executor == null || executingTransaction.get() || executingBatchedQuery.get()) {
+            return new QueryBatch(this, Runnable::run);
+        }
+        return new QueryBatch(this, runnable -> {
+            try {
+                executor.execute(QueryRecorder.propagate(() -> {
+                    executingBatchedQuery.set(true);
+                    try {
+                        runnable.run();
+                    } finally {
+                        executingBatchedQuery.remove();
+                    }
+                }));
+            } catch (RejectedExecutionException closedMeanwhile) {
+                runnable.run();
+            }
+        });
+    }
+
     @Override
     public Future<?> executeTransaction(Transaction transaction) {
         if (getState() == State.CLOSED) {
@@ -237,31 +416,163 @@ public abstract class SQLDB extends AbstractDatabase {
 
         Exception origin = new Exception();
 
+        if (shouldGroupCommit(transaction)) {
+            QueuedTransaction queued = new QueuedTransaction(transaction, origin);
+            transactionQueue.add(queued);
+            queueStatistics.transactionQueued();
+            getTransactionExecutor().submit(this::executeQueuedTransactions);
+            return queued.future;
+        }
+
         return CompletableFuture.supplyAsync(() -> {
             accessLock.checkAccess(transaction);
             if (devMode) {
                 logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + transaction.getClass().getSimpleName());
             }
-            transaction.executeTransaction(this);
+            executingTransaction.set(true);
+            try {
+                transaction.executeTransaction(this);
+            } finally {
+                executingTransaction.remove();
+            }
             return CompletableFuture.completedFuture(null);
         }, getTransactionExecutor()).handle(errorHandler(origin));
     }
 
+    private boolean shouldGroupCommit(Transaction transaction) {
+        // Schema is patched one transaction at a time, and critical transactions need to fail on their own.
+        // Transactions that commit by themselves would commit the rest of the group too.
+        return groupCommit && getState() == State.OPEN && !(transaction instanceof OperationCriticalTransaction)
+                && transaction.isGroupable();
+    }
+
+    /**
+     * Executes transactions from the queue with a single connection and commit.
+     * <p>
+     * Each transaction has its own savepoint, so a failing transaction is rolled back without losing the rest.
+     * If a failure can not be rolled back to a savepoint, the whole group is rolled back and executed one by one.
+     * Once the commit has succeeded the transactions are only finished, failures of their after-commit actions are logged.
+     */
+    private void executeQueuedTransactions() {
+        List<QueuedTransaction> group = new ArrayList<>();
+        transactionQueue.drainTo(group, groupCommitMaxTransactions);
+        if (group.isEmpty()) {
+            return; // An earlier task executed these transactions already.
+        }
+        for (QueuedTransaction queued : group) {
+            queueStatistics.transactionDequeued(queued.queuedAtNanos);
+        }
+        if (devMode) {
+            logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing group of " + group.size() + ": " + group);
+        }
+
+        long start = System.nanoTime();
+        List<QueuedTransaction> executed = new ArrayList<>();
+        executingTransaction.set(true);
+        try {
+            if (!executeAndCommitGroup(group, executed)) {
+                executeSeparately(group);
+                return;
+            }
+            queueStatistics.groupCommitted(group.size(), System.nanoTime() - start);
+            // The group is committed, so nothing is executed again even if an after-commit action fails.
+            for (QueuedTransaction queued : executed) {
+                finishCommitted(queued);
+            }
+        } finally {
+            executingTransaction.remove();
+        }
+    }
+
+    private boolean executeAndCommitGroup(List<QueuedTransaction> group, List<QueuedTransaction> executed) {
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            for (QueuedTransaction queued : group) {
+                executeInGroup(queued, connection, executed);
+            }
+            connection.commit();
+            return true;
+        } catch (SQLException | RuntimeException groupFailure) {
+            queueStatistics.groupRolledBack();
+            rollbackGroup(connection);
+            return false;
+        } finally {
+            returnToPool(connection);
+        }
+    }
+
+    private void finishCommitted(QueuedTransaction queued) {
+        try {
+            queued.transaction.groupCommitted();
+        } catch (RuntimeException afterCommitFailure) {
+            handleFailure(afterCommitFailure, queued.origin);
+        } finally {
+            queued.future.complete(null);
+        }
+    }
+
+    private void executeInGroup(QueuedTransaction queued, Connection connection, List<QueuedTransaction> executed) {
+        Transaction transaction = queued.transaction;
+        accessLock.checkAccess(transaction);
+        try {
+            transaction.executeInGroup(this, connection);
+            executed.add(queued);
+        } catch (DBOpException failed) {
+            if (transaction.isGroupRollbackRequired()) {
+                throw failed;
+            }
+            queueStatistics.transactionFailed();
+            handleFailure(failed, queued.origin);
+            queued.future.complete(null);
+        }
+    }
+
+    private void rollbackGroup(Connection connection) {
+        if (connection == null) return;
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackFail) {
+            logger.warn("Rollback of a transaction group failed: " + rollbackFail.getMessage());
+        }
+    }
+
+    private void executeSeparately(List<QueuedTransaction> group) {
+        for (QueuedTransaction queued : group) {
+            if (queued.future.isDone()) {
+                continue; // Already failed on its own
+            }
+            try {
+                accessLock.checkAccess(queued.transaction);
+                queued.transaction.groupRolledBack();
+                queued.transaction.executeTransaction(this);
+            } catch (RuntimeException failed) {
+                queueStatistics.transactionFailed();
+                handleFailure(failed, queued.origin);
+            }
+            queued.future.complete(null);
+        }
+    }
+
     private BiFunction<CompletableFuture<Object>, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
         return (obj, throwable) -> {
             if (throwable == null) {
                 return CompletableFuture.completedFuture(null);
             }
-            if (throwable instanceof FatalDBException) {
-                setState(State.CLOSED);
-            }
-            ThrowableUtils.appendEntryPointToCause(throwable, origin);
-
-            errorHandler.log(L.ERROR, getClass(), throwable);
+            handleFailure(throwable, origin);
             return CompletableFuture.completedFuture(null);
         };
     }
 
+    private void handleFailure(Throwable throwable, Exception origin) {
+        if (throwable instanceof FatalDBException) {
+            setState(State.CLOSED);
+        }
+        ThrowableUtils.appendEntryPointToCause(throwable, origin);
+
+        errorHandler.log(L.ERROR, getClass(), throwable);
+    }
+
     private ExecutorService getTransactionExecutor() {
         if (transactionExecutor == null) {
             transactionExecutor = transactionExecutorServiceProvider.get();
@@ -286,7 +597,50 @@ public abstract class SQLDB extends AbstractDatabase {
         return serverUUIDSupplier;
     }
 
+    public TransactionQueueStatistics getQueueStatistics() {
+        return queueStatistics;
+    }
+
+    public QueryProfiler getQueryProfiler() {
+        return queryProfiler;
+    }
+
+    public IDDictionary getIDDictionary() {
+        return idDictionary;
+    }
+
+    public WebUserChangeNotifier getWebUserChangeNotifier() {
+        return webUserChangeNotifier;
+    }
+
+    public DatabaseClearNotifier getDatabaseClearNotifier() {
+        return databaseClearNotifier;
+    }
+
+    void setGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
     public void setTransactionExecutorServiceProvider(Supplier<ExecutorService> transactionExecutorServiceProvider) {
         this.transactionExecutorServiceProvider = transactionExecutorServiceProvider;
     }
+
+    private static class QueuedTransaction {
+        private final Transaction transaction;
+        private final Exception origin;
+        private final long queuedAtNanos;
+        private final CompletableFuture<Object> future;
+
+        private QueuedTransaction(Transaction transaction, Exception origin) {
+            this.transaction = transaction;
+            this.origin = origin;
+            this.queuedAtNanos = System.nanoTime();
+            this.future = new CompletableFuture<>();
+        }
+
+        @Override
+        public String toString() {
+            return transaction.getClass().getSimpleName();
+        }
+    }
 }
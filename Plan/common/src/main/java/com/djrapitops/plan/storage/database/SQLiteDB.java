@@ -35,9 +35,7 @@ import dagger.Lazy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.File;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
+import java.sql.*;
 import java.util.Objects;
 
 /**
@@ -45,6 +43,8 @@ import java.util.Objects;
  */
 public class SQLiteDB extends SQLDB {
 
+    private static final int READ_CONNECTIONS = 4;
+
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
@@ -57,9 +57,12 @@ public class SQLiteDB extends SQLDB {
             Lazy<ServerInfo> serverInfo,
             RunnableFactory runnableFactory,
             PluginLogger logger,
-            ErrorHandler errorHandler
+            ErrorHandler errorHandler,
+            WebUserChangeNotifier webUserChangeNotifier,
+            DatabaseClearNotifier databaseClearNotifier
     ) {
-        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, logger, errorHandler);
+        super(() -> serverInfo.get().getServerUUID(), locale, config, runnableFactory, logger, errorHandler,
+                webUserChangeNotifier, databaseClearNotifier);
         dbName = databaseFile.getName();
         this.databaseFile = databaseFile;
     }
@@ -70,12 +73,36 @@ public class SQLiteDB extends SQLDB {
             if (connection != null) connection.close();
 
             connection = getNewConnection(databaseFile);
+            // Readers only run in parallel with the writer in WAL mode, otherwise they would get locked out.
+            setReadConnectionPool(isWALMode(connection) ? new ReadConnectionPool(this::getNewReadConnection, READ_CONNECTIONS) : null);
         } catch (SQLException e) {
             throw new DBInitException(e.getMessage(), e);
         }
         startConnectionPingTask();
     }
 
+    private boolean isWALMode(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet set = statement.executeQuery("PRAGMA journal_mode")) {
+            return set.next() && "wal".equalsIgnoreCase(set.getString(1));
+        }
+    }
+
+    private Connection getNewReadConnection() throws SQLException {
+        // Journal mode is stored in the database file, so it doesn't need to be set again.
+        String dbFilePath = databaseFile.getAbsolutePath();
+        Connection readConnection;
+        try {
+            readConnection = DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?open_mode=1");
+        } catch (SQLException readOnlyUnsupported) {
+            readConnection = DriverManager.getConnection("jdbc:sqlite:" + dbFilePath);
+        }
+        logger.debug("SQLite " + dbName + ": Opened a new read Connection");
+        // Auto-commit avoids holding a read transaction open, which would keep the reader on an old snapshot.
+        readConnection.setAutoCommit(true);
+        return readConnection;
+    }
+
     public Connection getNewConnection(File dbFile) throws SQLException {
         try {
             Class.forName("org.sqlite.JDBC");
@@ -178,6 +205,8 @@ public class SQLiteDB extends SQLDB {
         private final RunnableFactory runnableFactory;
         private final PluginLogger logger;
         private final ErrorHandler errorHandler;
+        private final WebUserChangeNotifier webUserChangeNotifier;
+        private final DatabaseClearNotifier databaseClearNotifier;
         private final PlanFiles files;
 
         @Inject
@@ -188,7 +217,9 @@ public class SQLiteDB extends SQLDB {
                 Lazy<ServerInfo> serverInfo,
                 RunnableFactory runnableFactory,
                 PluginLogger logger,
-                ErrorHandler errorHandler
+                ErrorHandler errorHandler,
+                WebUserChangeNotifier webUserChangeNotifier,
+                DatabaseClearNotifier databaseClearNotifier
         ) {
             this.locale = locale;
             this.config = config;
@@ -197,6 +228,8 @@ public class SQLiteDB extends SQLDB {
             this.runnableFactory = runnableFactory;
             this.logger = logger;
             this.errorHandler = errorHandler;
+            this.webUserChangeNotifier = webUserChangeNotifier;
+            this.databaseClearNotifier = databaseClearNotifier;
         }
 
         public SQLiteDB usingDefaultFile() {
@@ -210,7 +243,8 @@ public class SQLiteDB extends SQLDB {
         public SQLiteDB usingFile(File databaseFile) {
             return new SQLiteDB(databaseFile,
                     locale, config, serverInfo,
-                    runnableFactory, logger, errorHandler
+                    runnableFactory, logger, errorHandler,
+                    webUserChangeNotifier, databaseClearNotifier
             );
         }
 
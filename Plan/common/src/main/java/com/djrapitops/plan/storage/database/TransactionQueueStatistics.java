@@ -0,0 +1,131 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the transaction queue and group commits of a {@link SQLDB}.
+ * <p>
+ * Used for displaying the effect of group commits on the /debug page.
+ *
+ * @author Rsl1122
+ */
+public class TransactionQueueStatistics {
+
+    private final AtomicInteger queueDepth;
+    private final AtomicInteger maxQueueDepth;
+
+    private final AtomicLong groupCount;
+    private final AtomicLong transactionCount;
+    private final AtomicLong failedTransactionCount;
+    private final AtomicLong groupRollbackCount;
+
+    private final AtomicLong totalCommitNanos;
+    private final AtomicLong maxCommitNanos;
+    private final AtomicLong totalQueueWaitNanos;
+    private final AtomicLong maxQueueWaitNanos;
+
+    public TransactionQueueStatistics() {
+        queueDepth = new AtomicInteger(0);
+        maxQueueDepth = new AtomicInteger(0);
+        groupCount = new AtomicLong(0);
+        transactionCount = new AtomicLong(0);
+        failedTransactionCount = new AtomicLong(0);
+        groupRollbackCount = new AtomicLong(0);
+        totalCommitNanos = new AtomicLong(0);
+        maxCommitNanos = new AtomicLong(0);
+        totalQueueWaitNanos = new AtomicLong(0);
+        maxQueueWaitNanos = new AtomicLong(0);
+    }
+
+    void transactionQueued() {
+        int depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    void transactionDequeued(long queuedAtNanos) {
+        queueDepth.decrementAndGet();
+        long waited = System.nanoTime() - queuedAtNanos;
+        totalQueueWaitNanos.addAndGet(waited);
+        maxQueueWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    void transactionFailed() {
+        failedTransactionCount.incrementAndGet();
+    }
+
+    void groupRolledBack() {
+        groupRollbackCount.incrementAndGet();
+    }
+
+    void groupCommitted(int transactions, long commitNanos) {
+        groupCount.incrementAndGet();
+        transactionCount.addAndGet(transactions);
+        totalCommitNanos.addAndGet(commitNanos);
+        maxCommitNanos.accumulateAndGet(commitNanos, Math::max);
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getGroupCount() {
+        return groupCount.get();
+    }
+
+    public long getTransactionCount() {
+        return transactionCount.get();
+    }
+
+    public long getFailedTransactionCount() {
+        return failedTransactionCount.get();
+    }
+
+    public long getGroupRollbackCount() {
+        return groupRollbackCount.get();
+    }
+
+    public double getAverageGroupSize() {
+        long groups = groupCount.get();
+        return groups != 0 ? (double) transactionCount.get() / groups : 0.0;
+    }
+
+    public long getAverageCommitMs() {
+        long groups = groupCount.get();
+        return groups != 0 ? TimeUnit.NANOSECONDS.toMillis(totalCommitNanos.get() / groups) : 0L;
+    }
+
+    public long getMaxCommitMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxCommitNanos.get());
+    }
+
+    public long getAverageQueueWaitMs() {
+        long transactions = transactionCount.get();
+        return transactions != 0 ? TimeUnit.NANOSECONDS.toMillis(totalQueueWaitNanos.get() / transactions) : 0L;
+    }
+
+    public long getMaxQueueWaitMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos.get());
+    }
+}
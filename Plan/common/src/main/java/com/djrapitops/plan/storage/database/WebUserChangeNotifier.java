@@ -0,0 +1,60 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Notifies {@link WebUserChangeListener}s about web users changed by committed transactions.
+ * <p>
+ * Allows systems outside storage (like caches of verified credentials) to react to changes without the
+ * transactions depending on them.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class WebUserChangeNotifier {
+
+    private final CopyOnWriteArrayList<WebUserChangeListener> listeners;
+
+    @Inject
+    public WebUserChangeNotifier() {
+        listeners = new CopyOnWriteArrayList<>();
+    }
+
+    public void register(WebUserChangeListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    public void unregister(WebUserChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void webUserChanged(String username) {
+        for (WebUserChangeListener listener : listeners) {
+            listener.webUserChanged(username);
+        }
+    }
+
+    public void allWebUsersChanged() {
+        for (WebUserChangeListener listener : listeners) {
+            listener.allWebUsersChanged();
+        }
+    }
+}
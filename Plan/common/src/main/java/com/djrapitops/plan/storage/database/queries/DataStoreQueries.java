@@ -69,6 +69,8 @@ public class DataStoreQueries {
                 statement.setInt(5, session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0));
                 statement.setLong(6, session.getValue(SessionKeys.AFK_TIME).orElse(0L));
                 statement.setString(7, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
+                statement.setString(8, session.getUnsafe(SessionKeys.UUID).toString());
+                statement.setString(9, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
             }
         };
     }
@@ -233,6 +235,8 @@ public class DataStoreQueries {
                 statement.setInt(4, ping.getMin());
                 statement.setInt(5, ping.getMax());
                 statement.setDouble(6, ping.getAverage());
+                statement.setString(7, playerUUID.toString());
+                statement.setString(8, serverUUID.toString());
             }
         };
     }
@@ -308,6 +308,8 @@ public class LargeStoreQueries {
                     statement.setInt(5, session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0));
                     statement.setLong(6, session.getValue(SessionKeys.AFK_TIME).orElse(0L));
                     statement.setString(7, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
+                    statement.setString(8, session.getUnsafe(SessionKeys.UUID).toString());
+                    statement.setString(9, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
                     statement.addBatch();
                 }
             }
@@ -378,6 +380,8 @@ public class LargeStoreQueries {
                         statement.setInt(4, minPing);
                         statement.setInt(5, maxPing);
                         statement.setDouble(6, avgPing);
+                        statement.setString(7, uuid.toString());
+                        statement.setString(8, serverUUID.toString());
                         statement.addBatch();
                     }
                 }
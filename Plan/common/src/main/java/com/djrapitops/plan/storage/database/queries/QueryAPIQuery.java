@@ -41,14 +41,14 @@ public class QueryAPIQuery<T> implements Query<T> {
     public T executeQuery(SQLDB db) {
         Connection connection = null;
         try {
-            connection = db.getConnection();
+            connection = db.getQueryConnection();
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
                 return performQuery.apply(preparedStatement);
             }
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
         } finally {
-            db.returnToPool(connection);
+            db.returnQueryConnection(connection);
         }
     }
 }
@@ -0,0 +1,143 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.Database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Group of independent queries that are executed together.
+ * <p>
+ * Queries are added with {@link #add(Query)}, which returns a handle for reading the result after
+ * {@link #execute()} has returned. Depending on the {@link Executor} the queries run concurrently,
+ * in which case the batch takes as long as the slowest query instead of the sum of all of them.
+ * <p>
+ * Obtain a batch with {@link Database#batch()}.
+ *
+ * @author Rsl1122
+ */
+public class QueryBatch {
+
+    private final Database db;
+    private final Executor executor;
+    private final List<BatchedQuery<?>> queries;
+    private boolean executed;
+
+    /**
+     * Create a new batch.
+     *
+     * @param db       Database the queries are executed against.
+     * @param executor Executor to run the queries with, use {@code Runnable::run} to run them on the calling thread.
+     */
+    public QueryBatch(Database db, Executor executor) {
+        this.db = db;
+        this.executor = executor;
+        queries = new ArrayList<>();
+        executed = false;
+    }
+
+    /**
+     * Add a query to the batch.
+     *
+     * @param query Query to execute.
+     * @param <T>   Type of the result.
+     * @return Supplier for the result, only usable after {@link #execute()}.
+     * @throws IllegalStateException If the batch has already been executed.
+     */
+    public <T> Supplier<T> add(Query<T> query) {
+        if (executed) {
+            throw new IllegalStateException("Query added to a batch that was already executed");
+        }
+        BatchedQuery<T> batched = new BatchedQuery<>(query);
+        queries.add(batched);
+        return batched;
+    }
+
+    /**
+     * Execute all queries of the batch and wait for them to finish.
+     *
+     * @throws DBOpException If any of the queries fails, after all queries have finished.
+     */
+    public void execute() {
+        if (executed) {
+            throw new IllegalStateException("Batch was already executed");
+        }
+        executed = true;
+        if (queries.isEmpty()) return;
+
+        // Last query is executed on the calling thread since it would be waiting anyway.
+        int last = queries.size() - 1;
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (BatchedQuery<?> query : queries.subList(0, last)) {
+            futures.add(CompletableFuture.runAsync(query::run, executor));
+        }
+        RuntimeException failure = null;
+        try {
+            queries.get(last).run();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) failure = unwrap(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        return new DBOpException("Batched query failed: " + cause, cause);
+    }
+
+    public int size() {
+        return queries.size();
+    }
+
+    private class BatchedQuery<T> implements Supplier<T> {
+        private final Query<T> query;
+        private volatile T result;
+        private volatile boolean done;
+
+        BatchedQuery(Query<T> query) {
+            this.query = query;
+        }
+
+        void run() {
+            result = db.query(query);
+            done = true;
+        }
+
+        @Override
+        public T get() {
+            if (!done) {
+                throw new IllegalStateException("Result of a batched query was requested before the batch was executed");
+            }
+            return result;
+        }
+    }
+}
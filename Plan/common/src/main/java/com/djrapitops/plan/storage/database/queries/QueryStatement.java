@@ -17,12 +17,15 @@
 package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.QueryProfiler;
+import com.djrapitops.plan.storage.database.QueryRecorder;
 import com.djrapitops.plan.storage.database.SQLDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SQL query that closes proper elements.
@@ -47,18 +50,35 @@ public abstract class QueryStatement<T> implements Query<T> {
     public T executeQuery(SQLDB db) {
         Connection connection = null;
         try {
-            connection = db.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-                return executeQuery(preparedStatement);
-            }
+            long waitStart = System.nanoTime();
+            connection = db.getQueryConnection();
+            long connectionWait = System.nanoTime() - waitStart;
+
+            QueryProfiler profiler = db.getQueryProfiler();
+            return profiler.isEnabled() ? executeProfiled(connection, profiler, connectionWait) : executeQuery(connection);
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
         } finally {
-            db.returnToPool(connection);
+            db.returnQueryConnection(connection);
+        }
+    }
+
+    /**
+     * Execute the query using a connection that is already in use, such as the one of an ongoing transaction.
+     *
+     * @param connection Connection to use, not returned to pool by this method.
+     * @return Result of the query.
+     */
+    public T executeQuery(Connection connection) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            return executeQuery(preparedStatement);
+        } catch (SQLException e) {
+            throw DBOpException.forCause(sql, e);
         }
     }
 
     public T executeQuery(PreparedStatement statement) throws SQLException {
+        long start = System.nanoTime();
         try {
             statement.setFetchSize(fetchSize);
             prepare(statement);
@@ -67,7 +87,35 @@ public abstract class QueryStatement<T> implements Query<T> {
             }
         } finally {
             statement.close();
+            QueryRecorder.record(sql, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Execute the query and record its statistics to the profiler.
+     *
+     * @param connection          Connection to use, not returned to pool by this method.
+     * @param profiler            Profiler to record the statistics to.
+     * @param connectionWaitNanos How long it took to get the connection.
+     * @return Result of the query.
+     */
+    public T executeProfiled(Connection connection, QueryProfiler profiler, long connectionWaitNanos) {
+        AtomicInteger rows = new AtomicInteger(0);
+        long start = System.nanoTime();
+        T result;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setFetchSize(fetchSize);
+            prepare(statement);
+            try (ResultSet set = statement.executeQuery()) {
+                result = processResults(QueryProfiler.countRows(set, rows));
+            }
+        } catch (SQLException e) {
+            throw DBOpException.forCause(sql, e);
         }
+        long took = System.nanoTime() - start;
+        QueryRecorder.record(sql, took);
+        profiler.queryExecuted(this, connection, took, connectionWaitNanos, rows.get());
+        return result;
     }
 
     public abstract void prepare(PreparedStatement statement) throws SQLException;
@@ -78,6 +126,10 @@ public abstract class QueryStatement<T> implements Query<T> {
         return sql;
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     @Override
     public String toString() {
         return "Query (" + sql + ')';
@@ -0,0 +1,282 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ActivitySnapshotTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for Activity Index that use the weekly playtime stored in {@link ActivitySnapshotTable}.
+ * <p>
+ * The formula is the same as in {@link ActivityIndexQueries}, but the three weeks of active playtime are read from a
+ * snapshot instead of being calculated from the sessions table on every query.
+ * If there is no snapshot close enough to the requested date, {@link ActivityIndexQueries} are used instead.
+ *
+ * @author Rsl1122
+ */
+public class ActivitySnapshotQueries {
+
+    /**
+     * How old a snapshot can be compared to the requested date before the sessions table is used instead.
+     */
+    public static final long MAX_SNAPSHOT_AGE = TimeUnit.DAYS.toMillis(1L);
+
+    private static final long WEEK_MS = TimeUnit.DAYS.toMillis(7L);
+
+    private ActivitySnapshotQueries() {
+        // Static method class
+    }
+
+    /**
+     * Calculate active playtime of each player during the three weeks before the given date.
+     *
+     * @param serverUUID UUID of the Plan server
+     * @param date       Date of the snapshot
+     * @return Map: Player UUID - Active playtime of [week before date, second week, third week], null if the player did not play that week.
+     */
+    public static Query<Map<UUID, Long[]>> calculateWeeklyActivePlaytime(UUID serverUUID, long date) {
+        String activePlaytime = SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME;
+        String sql = SELECT + SessionsTable.USER_UUID + ',' +
+                "SUM(CASE WHEN " + SessionsTable.SESSION_START + ">=? THEN " + activePlaytime + " END) as week_1," +
+                "SUM(CASE WHEN " + SessionsTable.SESSION_START + ">=?" + AND + SessionsTable.SESSION_END + "<=? THEN " + activePlaytime + " END) as week_2," +
+                "SUM(CASE WHEN " + SessionsTable.SESSION_END + "<=? THEN " + activePlaytime + " END) as week_3" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_START + ">=?" +
+                AND + SessionsTable.SESSION_END + "<=?" +
+                GROUP_BY + SessionsTable.USER_UUID;
+
+        return new QueryStatement<Map<UUID, Long[]>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                // Sessions that cross a week boundary are not counted, same as in ActivityIndexQueries
+                statement.setLong(1, date - WEEK_MS);
+                statement.setLong(2, date - 2 * WEEK_MS);
+                statement.setLong(3, date - WEEK_MS);
+                statement.setLong(4, date - 2 * WEEK_MS);
+                statement.setString(5, serverUUID.toString());
+                statement.setLong(6, date - 3 * WEEK_MS);
+                statement.setLong(7, date);
+            }
+
+            @Override
+            public Map<UUID, Long[]> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Long[]> weeklyPlaytime = new HashMap<>();
+                while (set.next()) {
+                    Long[] weeks = new Long[]{getLong(set, "week_1"), getLong(set, "week_2"), getLong(set, "week_3")};
+                    if (weeks[0] != null || weeks[1] != null || weeks[2] != null) {
+                        weeklyPlaytime.put(UUID.fromString(set.getString(SessionsTable.USER_UUID)), weeks);
+                    }
+                }
+                return weeklyPlaytime;
+            }
+
+            private Long getLong(ResultSet set, String column) throws SQLException {
+                long value = set.getLong(column);
+                return set.wasNull() ? null : value;
+            }
+        };
+    }
+
+    public static Query<Set<Long>> fetchSnapshotDates(UUID serverUUID, long after) {
+        String sql = SELECT + DISTINCT + ActivitySnapshotTable.DATE +
+                FROM + ActivitySnapshotTable.TABLE_NAME +
+                WHERE + ActivitySnapshotTable.SERVER_UUID + "=?" +
+                AND + ActivitySnapshotTable.DATE + ">=?";
+
+        return new QueryStatement<Set<Long>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public Set<Long> processResults(ResultSet set) throws SQLException {
+                Set<Long> dates = new HashSet<>();
+                while (set.next()) {
+                    dates.add(set.getLong(ActivitySnapshotTable.DATE));
+                }
+                return dates;
+            }
+        };
+    }
+
+    /**
+     * Find the latest snapshot that can be used in place of Activity Index calculation on a date.
+     *
+     * @param serverUUID UUID of the Plan server
+     * @param date       Date the Activity Index is needed for
+     * @return Date of the snapshot, empty if there is no snapshot within {@link #MAX_SNAPSHOT_AGE} before the date.
+     */
+    public static Query<Optional<Long>> fetchSnapshotDate(UUID serverUUID, long date) {
+        String sql = SELECT + "MAX(" + ActivitySnapshotTable.DATE + ") as snapshot_date" +
+                FROM + ActivitySnapshotTable.TABLE_NAME +
+                WHERE + ActivitySnapshotTable.SERVER_UUID + "=?" +
+                AND + ActivitySnapshotTable.DATE + "<=?" +
+                AND + ActivitySnapshotTable.DATE + ">=?";
+
+        return new QueryStatement<Optional<Long>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, date);
+                statement.setLong(3, date - MAX_SNAPSHOT_AGE);
+            }
+
+            @Override
+            public Optional<Long> processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    long snapshotDate = set.getLong("snapshot_date");
+                    return set.wasNull() ? Optional.empty() : Optional.of(snapshotDate);
+                }
+                return Optional.empty();
+            }
+        };
+    }
+
+    private static String weekActivity(String weekColumn) {
+        // 2.0 keeps the division decimal on H2, which would otherwise type the ? as an integer here.
+        return "COALESCE(1 / (?/2.0 * (" + weekColumn + "/?) +1), 0)";
+    }
+
+    private static String weekCount(String weekColumn) {
+        return "CASE WHEN " + weekColumn + IS_NULL + " THEN 0 ELSE 1 END";
+    }
+
+    /**
+     * Create SQL that selects uuid and activity_index of players in a snapshot.
+     * <p>
+     * Only players who played during the three weeks are included, others have Activity Index of 0.
+     *
+     * @return SQL with parameters set by {@link #setSelectActivityIndexSQLParameters(PreparedStatement, int, long, UUID, long)}
+     */
+    public static String selectActivityIndexSQL() {
+        return SELECT + ActivitySnapshotTable.USER_UUID + ',' +
+                "5.0 - 5.0 * (" +
+                weekActivity(ActivitySnapshotTable.WEEK_1) + '+' +
+                weekActivity(ActivitySnapshotTable.WEEK_2) + '+' +
+                weekActivity(ActivitySnapshotTable.WEEK_3) + ") / (" +
+                weekCount(ActivitySnapshotTable.WEEK_1) + '+' +
+                weekCount(ActivitySnapshotTable.WEEK_2) + '+' +
+                weekCount(ActivitySnapshotTable.WEEK_3) + ") as activity_index" +
+                FROM + ActivitySnapshotTable.TABLE_NAME +
+                WHERE + ActivitySnapshotTable.SERVER_UUID + "=?" +
+                AND + ActivitySnapshotTable.DATE + "=?";
+    }
+
+    /**
+     * Set parameters of {@link #selectActivityIndexSQL()}.
+     *
+     * @return Index of the next parameter after the set parameters.
+     */
+    public static int setSelectActivityIndexSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, UUID serverUUID, long snapshotDate) throws SQLException {
+        for (int week = 0; week < 3; week++) {
+            statement.setDouble(index++, Math.PI);
+            statement.setLong(index++, playtimeThreshold);
+        }
+        statement.setString(index++, serverUUID.toString());
+        statement.setLong(index++, snapshotDate);
+        return index;
+    }
+
+    private static Query<List<Double>> fetchActivityIndexes(long snapshotDate, UUID serverUUID, long playtimeThreshold) {
+        String sql = SELECT + "a.activity_index" +
+                FROM + '(' + selectActivityIndexSQL() + ") a" +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " u on u." + UserInfoTable.USER_UUID + "=a." + ActivitySnapshotTable.USER_UUID +
+                WHERE + "u." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + "u." + UserInfoTable.REGISTERED + "<=?";
+
+        return new QueryStatement<List<Double>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = setSelectActivityIndexSQLParameters(statement, 1, playtimeThreshold, serverUUID, snapshotDate);
+                statement.setString(index, serverUUID.toString());
+                statement.setLong(index + 1, snapshotDate);
+            }
+
+            @Override
+            public List<Double> processResults(ResultSet set) throws SQLException {
+                List<Double> indexes = new ArrayList<>();
+                while (set.next()) {
+                    indexes.add(set.getDouble("activity_index"));
+                }
+                return indexes;
+            }
+        };
+    }
+
+    public static Query<Integer> fetchRegularPlayerCount(long date, UUID serverUUID, long playtimeThreshold) {
+        return db -> {
+            Optional<Long> snapshotDate = db.query(fetchSnapshotDate(serverUUID, date));
+            if (!snapshotDate.isPresent()) {
+                return db.query(ActivityIndexQueries.fetchRegularPlayerCount(date, serverUUID, playtimeThreshold));
+            }
+            return (int) db.query(fetchActivityIndexes(snapshotDate.get(), serverUUID, playtimeThreshold)).stream()
+                    .filter(activityIndex -> activityIndex >= ActivityIndex.REGULAR)
+                    .count();
+        };
+    }
+
+    public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, UUID serverUUID, long threshold) {
+        return db -> {
+            Optional<Long> snapshotDate = db.query(fetchSnapshotDate(serverUUID, date));
+            if (!snapshotDate.isPresent()) {
+                return db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID, threshold));
+            }
+            List<Double> activityIndexes = db.query(fetchActivityIndexes(snapshotDate.get(), serverUUID, threshold));
+            int registered = db.query(PlayerCountQueries.newPlayerCount(0L, snapshotDate.get(), serverUUID));
+
+            Map<String, Integer> groups = new HashMap<>();
+            for (Double activityIndex : activityIndexes) {
+                groups.merge(getGroup(activityIndex), 1, Integer::sum);
+            }
+            // Players without sessions during the three weeks are not in the snapshot.
+            int notInSnapshot = registered - activityIndexes.size();
+            if (notInSnapshot > 0) {
+                groups.merge("Inactive", notInSnapshot, Integer::sum);
+            }
+            return groups;
+        };
+    }
+
+    private static String getGroup(double activityIndex) {
+        if (activityIndex >= ActivityIndex.VERY_ACTIVE) {
+            return "Very Active";
+        } else if (activityIndex >= ActivityIndex.ACTIVE) {
+            return "Active";
+        } else if (activityIndex >= ActivityIndex.REGULAR) {
+            return "Regular";
+        } else if (activityIndex >= ActivityIndex.IRREGULAR) {
+            return "Irregular";
+        } else {
+            return "Inactive";
+        }
+    }
+}
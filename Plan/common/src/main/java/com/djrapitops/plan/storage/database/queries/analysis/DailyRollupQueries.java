@@ -0,0 +1,366 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyRollupTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for the pre-aggregated per day data in {@link DailyRollupTable}.
+ * <p>
+ * The per day maps have the same format as the ones in {@link PlayerCountQueries}, so they can be used in their place.
+ * If the time zone offset has no rollups yet the queries fall back to the raw data in the sessions, users and tps
+ * tables, so the results are correct before {@code DailyRollupBackfillTransaction} has run.
+ *
+ * @author Rsl1122
+ */
+public class DailyRollupQueries {
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    private DailyRollupQueries() {
+        // Static method class
+    }
+
+    /**
+     * Calculate the day a date belongs to, grouped the same way as the per day SQL queries do.
+     *
+     * @param epochMs        Date in epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the date before grouping.
+     * @return Epoch ms (Start of day at 0 AM, no offset)
+     */
+    public static long toDayStamp(long epochMs, long timeZoneOffset) {
+        return Math.floorDiv(epochMs + timeZoneOffset, DAY_MS) * DAY_MS;
+    }
+
+    public static Query<Set<Long>> fetchTrackedTimeZoneOffsets() {
+        String sql = SELECT + DISTINCT + DailyRollupTable.TIME_ZONE_OFFSET + FROM + DailyRollupTable.TABLE_NAME;
+        return new QueryAllStatement<Set<Long>>(sql) {
+            @Override
+            public Set<Long> processResults(ResultSet set) throws SQLException {
+                Set<Long> offsets = new HashSet<>();
+                while (set.next()) {
+                    offsets.add(set.getLong(DailyRollupTable.TIME_ZONE_OFFSET));
+                }
+                return offsets;
+            }
+        };
+    }
+
+    public static Query<Boolean> hasRollups(long timeZoneOffset) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + DailyRollupTable.TABLE_NAME +
+                WHERE + DailyRollupTable.TIME_ZONE_OFFSET + "=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, timeZoneOffset);
+            }
+        };
+    }
+
+    public static Query<Boolean> hasRollupOfDay(UUID serverUUID, long date, long timeZoneOffset) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + DailyRollupTable.TABLE_NAME +
+                WHERE + DailyRollupTable.SERVER_UUID + "=?" +
+                AND + DailyRollupTable.DATE + "=?" +
+                AND + DailyRollupTable.TIME_ZONE_OFFSET + "=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, date);
+                statement.setLong(3, timeZoneOffset);
+            }
+        };
+    }
+
+    /**
+     * Check if a player has a stored session that started on the given day.
+     *
+     * @param playerUUID     UUID of the player
+     * @param serverUUID     UUID of the Plan server
+     * @param date           Epoch ms (Start of day at 0 AM, no offset), from {@link #toDayStamp(long, long)}
+     * @param timeZoneOffset Offset that was used to calculate the date.
+     * @return true if a session exists.
+     */
+    public static Query<Boolean> hasPlayedOnDay(UUID playerUUID, UUID serverUUID, long date, long timeZoneOffset) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_UUID + "=?" +
+                AND + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_START + ">=?" +
+                AND + SessionsTable.SESSION_START + "<?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setString(2, serverUUID.toString());
+                statement.setLong(3, date - timeZoneOffset);
+                statement.setLong(4, date - timeZoneOffset + DAY_MS);
+            }
+        };
+    }
+
+    private static <T> Query<T> rollupsOrRaw(long timeZoneOffset, Query<T> rollups, Query<T> raw) {
+        return db -> db.query(hasRollups(timeZoneOffset)) ? db.query(rollups) : db.query(raw);
+    }
+
+    private static Query<NavigableMap<Long, Long>> valuesPerDay(String column, long after, long before, long timeZoneOffset, UUID serverUUID) {
+        String sql = SELECT + DailyRollupTable.DATE + ',' + column +
+                FROM + DailyRollupTable.TABLE_NAME +
+                WHERE + DailyRollupTable.SERVER_UUID + "=?" +
+                AND + DailyRollupTable.TIME_ZONE_OFFSET + "=?" +
+                AND + DailyRollupTable.DATE + ">=?" +
+                AND + DailyRollupTable.DATE + "<=?" +
+                AND + column + ">0";
+
+        return new QueryStatement<NavigableMap<Long, Long>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, timeZoneOffset);
+                statement.setLong(3, toDayStamp(after, timeZoneOffset));
+                statement.setLong(4, toDayStamp(before, timeZoneOffset));
+            }
+
+            @Override
+            public NavigableMap<Long, Long> processResults(ResultSet set) throws SQLException {
+                NavigableMap<Long, Long> perDay = new TreeMap<>();
+                while (set.next()) {
+                    perDay.put(set.getLong(DailyRollupTable.DATE), set.getLong(column));
+                }
+                return perDay;
+            }
+        };
+    }
+
+    private static Query<NavigableMap<Long, Integer>> countsPerDay(String column, long after, long before, long timeZoneOffset, UUID serverUUID) {
+        return db -> {
+            NavigableMap<Long, Integer> perDay = new TreeMap<>();
+            db.query(valuesPerDay(column, after, before, timeZoneOffset, serverUUID))
+                    .forEach((date, value) -> perDay.put(date, value.intValue()));
+            return perDay;
+        };
+    }
+
+    /**
+     * Fetch a EpochMs - Count map of unique players on a server.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server
+     * @return Map: Epoch ms (Start of day at 0 AM, no offset) - How many unique players played that day
+     */
+    public static Query<NavigableMap<Long, Integer>> uniquePlayerCounts(long after, long before, long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                countsPerDay(DailyRollupTable.UNIQUE_PLAYERS, after, before, timeZoneOffset, serverUUID),
+                PlayerCountQueries.uniquePlayerCounts(after, before, timeZoneOffset, serverUUID)
+        );
+    }
+
+    /**
+     * Fetch a EpochMs - Count map of new players on a server.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server
+     * @return Map: Epoch ms (Start of day at 0 AM, no offset) - How many new players joined that day
+     */
+    public static Query<NavigableMap<Long, Integer>> newPlayerCounts(long after, long before, long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                countsPerDay(DailyRollupTable.NEW_PLAYERS, after, before, timeZoneOffset, serverUUID),
+                PlayerCountQueries.newPlayerCounts(after, before, timeZoneOffset, serverUUID)
+        );
+    }
+
+    /**
+     * Fetch a EpochMs - Count map of sessions on a server.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server
+     * @return Map: Epoch ms (Start of day at 0 AM, no offset) - Session count of that day
+     */
+    public static Query<NavigableMap<Long, Integer>> sessionCountPerDay(long after, long before, long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                countsPerDay(DailyRollupTable.SESSION_COUNT, after, before, timeZoneOffset, serverUUID),
+                SessionQueries.sessionCountPerDay(after, before, timeZoneOffset, serverUUID)
+        );
+    }
+
+    /**
+     * Fetch a EpochMs - Playtime map of sessions on a server.
+     *
+     * @param after          After epoch ms
+     * @param before         Before epoch ms
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, applied to the dates before grouping.
+     * @param serverUUID     UUID of the Plan server
+     * @return Map: Epoch ms (Start of day at 0 AM, no offset) - Playtime of that day
+     */
+    public static Query<NavigableMap<Long, Long>> playtimePerDay(long after, long before, long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                valuesPerDay(DailyRollupTable.PLAYTIME, after, before, timeZoneOffset, serverUUID),
+                SessionQueries.playtimePerDay(after, before, timeZoneOffset, serverUUID)
+        );
+    }
+
+    public static Query<Integer> averageUniquePlayerCount(long after, long before, long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                averageUniquePlayerCountOfRollups(after, before, timeZoneOffset, serverUUID),
+                PlayerCountQueries.averageUniquePlayerCount(after, before, timeZoneOffset, serverUUID)
+        );
+    }
+
+    private static Query<Integer> averageUniquePlayerCountOfRollups(long after, long before, long timeZoneOffset, UUID serverUUID) {
+        String sql = SELECT + "AVG(" + DailyRollupTable.UNIQUE_PLAYERS + ") as average" +
+                FROM + DailyRollupTable.TABLE_NAME +
+                WHERE + DailyRollupTable.SERVER_UUID + "=?" +
+                AND + DailyRollupTable.TIME_ZONE_OFFSET + "=?" +
+                AND + DailyRollupTable.DATE + ">=?" +
+                AND + DailyRollupTable.DATE + "<=?" +
+                AND + DailyRollupTable.UNIQUE_PLAYERS + ">0";
+
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, timeZoneOffset);
+                statement.setLong(3, toDayStamp(after, timeZoneOffset));
+                statement.setLong(4, toDayStamp(before, timeZoneOffset));
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? (int) set.getDouble("average") : 0;
+            }
+        };
+    }
+
+    private static Query<Long> total(String column, long timeZoneOffset, UUID serverUUID) {
+        String sql = SELECT + "SUM(" + column + ") as total" +
+                FROM + DailyRollupTable.TABLE_NAME +
+                WHERE + DailyRollupTable.TIME_ZONE_OFFSET + "=?" +
+                (serverUUID != null ? AND + DailyRollupTable.SERVER_UUID + "=?" : "");
+
+        return new QueryStatement<Long>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, timeZoneOffset);
+                if (serverUUID != null) {
+                    statement.setString(2, serverUUID.toString());
+                }
+            }
+
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getLong("total") : 0L;
+            }
+        };
+    }
+
+    /**
+     * Query the total playtime of all sessions on a server.
+     *
+     * @param timeZoneOffset Offset the rollups were grouped with, does not affect the total.
+     * @param serverUUID     UUID of the Plan server
+     * @return Playtime in ms
+     */
+    public static Query<Long> playtime(long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                total(DailyRollupTable.PLAYTIME, timeZoneOffset, serverUUID),
+                SessionQueries.playtime(0L, System.currentTimeMillis(), serverUUID)
+        );
+    }
+
+    /**
+     * Query the total playtime of all sessions on all servers.
+     *
+     * @param timeZoneOffset Offset the rollups were grouped with, does not affect the total.
+     * @return Playtime in ms
+     */
+    public static Query<Long> playtime(long timeZoneOffset) {
+        return rollupsOrRaw(timeZoneOffset,
+                total(DailyRollupTable.PLAYTIME, timeZoneOffset, null),
+                SessionQueries.playtime(0L, System.currentTimeMillis())
+        );
+    }
+
+    public static Query<Long> sessionCount(long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                total(DailyRollupTable.SESSION_COUNT, timeZoneOffset, serverUUID),
+                SessionQueries.sessionCount(0L, System.currentTimeMillis(), serverUUID)
+        );
+    }
+
+    public static Query<Long> sessionCount(long timeZoneOffset) {
+        return rollupsOrRaw(timeZoneOffset,
+                total(DailyRollupTable.SESSION_COUNT, timeZoneOffset, null),
+                SessionQueries.sessionCount(0L, System.currentTimeMillis())
+        );
+    }
+
+    public static Query<Optional<DateObj<Integer>>> fetchAllTimePeakPlayerCount(long timeZoneOffset, UUID serverUUID) {
+        return rollupsOrRaw(timeZoneOffset,
+                fetchAllTimePeakPlayerCountOfRollups(timeZoneOffset, serverUUID),
+                TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)
+        );
+    }
+
+    private static Query<Optional<DateObj<Integer>>> fetchAllTimePeakPlayerCountOfRollups(long timeZoneOffset, UUID serverUUID) {
+        String sql = SELECT + DailyRollupTable.PEAK_DATE + ',' + DailyRollupTable.PEAK_PLAYERS +
+                FROM + DailyRollupTable.TABLE_NAME +
+                WHERE + DailyRollupTable.SERVER_UUID + "=?" +
+                AND + DailyRollupTable.TIME_ZONE_OFFSET + "=?" +
+                AND + DailyRollupTable.PEAK_PLAYERS + ">0" +
+                ORDER_BY + DailyRollupTable.PEAK_PLAYERS + " DESC, " + DailyRollupTable.PEAK_DATE + " DESC LIMIT 1";
+
+        return new QueryStatement<Optional<DateObj<Integer>>>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, timeZoneOffset);
+            }
+
+            @Override
+            public Optional<DateObj<Integer>> processResults(ResultSet set) throws SQLException {
+                if (set.next()) {
+                    return Optional.of(new DateObj<>(
+                            set.getLong(DailyRollupTable.PEAK_DATE),
+                            set.getInt(DailyRollupTable.PEAK_PLAYERS)
+                    ));
+                }
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -27,10 +27,7 @@ import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -41,19 +38,21 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class KillQueries {
 
+    private static final String SELECT_PLAYER_KILLS = SELECT + KillsTable.VICTIM_UUID + ", " +
+            "v." + UsersTable.USER_NAME + " as victim_name, " +
+            "k." + UsersTable.USER_NAME + " as killer_name," +
+            KillsTable.DATE + ", " +
+            KillsTable.WEAPON +
+            FROM + KillsTable.TABLE_NAME +
+            INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.ID + "=" + KillsTable.VICTIM_ID +
+            INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.ID + "=" + KillsTable.KILLER_ID;
+
     private KillQueries() {
         // Static method class
     }
 
     public static Query<List<PlayerKill>> fetchPlayerKillsOnServer(UUID serverUUID, int limit) {
-        String sql = SELECT + KillsTable.VICTIM_UUID + ", " +
-                "v." + UsersTable.USER_NAME + " as victim_name, " +
-                "k." + UsersTable.USER_NAME + " as killer_name," +
-                KillsTable.DATE + ", " +
-                KillsTable.WEAPON +
-                FROM + KillsTable.TABLE_NAME +
-                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
-                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=" + KillsTable.KILLER_UUID +
+        String sql = SELECT_PLAYER_KILLS +
                 WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.SERVER_UUID + "=?" +
                 ORDER_BY + KillsTable.DATE + " DESC LIMIT ?";
 
@@ -76,14 +75,7 @@ public class KillQueries {
     }
 
     public static Query<List<PlayerKill>> fetchPlayerKillsOfPlayer(UUID playerUUID) {
-        String sql = SELECT + KillsTable.VICTIM_UUID + ", " +
-                "v." + UsersTable.USER_NAME + " as victim_name, " +
-                "k." + UsersTable.USER_NAME + " as killer_name," +
-                KillsTable.DATE + ", " +
-                KillsTable.WEAPON +
-                FROM + KillsTable.TABLE_NAME +
-                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
-                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=" + KillsTable.KILLER_UUID +
+        String sql = SELECT_PLAYER_KILLS +
                 WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.KILLER_UUID + "=?" +
                 ORDER_BY + KillsTable.DATE + " DESC";
 
@@ -105,14 +97,7 @@ public class KillQueries {
     }
 
     public static Query<List<PlayerKill>> fetchPlayerDeathsOfPlayer(UUID playerUUID) {
-        String sql = SELECT + KillsTable.VICTIM_UUID + ", " +
-                "v." + UsersTable.USER_NAME + " as victim_name, " +
-                "k." + UsersTable.USER_NAME + " as killer_name," +
-                KillsTable.DATE + ", " +
-                KillsTable.WEAPON +
-                FROM + KillsTable.TABLE_NAME +
-                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=" + KillsTable.VICTIM_UUID +
-                INNER_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=" + KillsTable.KILLER_UUID +
+        String sql = SELECT_PLAYER_KILLS +
                 WHERE + KillsTable.TABLE_NAME + '.' + KillsTable.VICTIM_UUID + "=?" +
                 ORDER_BY + KillsTable.DATE + " DESC";
 
@@ -133,6 +118,54 @@ public class KillQueries {
         };
     }
 
+    /**
+     * Query a page of the most recent kills a player has made.
+     *
+     * @param playerUUID UUID of the killer.
+     * @param limit      How many kills to fetch at most.
+     * @param offset     How many of the most recent kills to skip.
+     * @return List of kills, most recent first.
+     */
+    public static Query<List<PlayerKill>> fetchPlayerKillsOfPlayer(UUID playerUUID, int limit, int offset) {
+        return fetchKillsOfPlayerPage(KillsTable.KILLER_UUID, playerUUID, limit, offset);
+    }
+
+    /**
+     * Query a page of the most recent kills a player has been the victim of.
+     *
+     * @param playerUUID UUID of the victim.
+     * @param limit      How many deaths to fetch at most.
+     * @param offset     How many of the most recent deaths to skip.
+     * @return List of kills, most recent first.
+     */
+    public static Query<List<PlayerKill>> fetchPlayerDeathsOfPlayer(UUID playerUUID, int limit, int offset) {
+        return fetchKillsOfPlayerPage(KillsTable.VICTIM_UUID, playerUUID, limit, offset);
+    }
+
+    private static Query<List<PlayerKill>> fetchKillsOfPlayerPage(String uuidColumn, UUID playerUUID, int limit, int offset) {
+        String sql = SELECT_PLAYER_KILLS +
+                WHERE + KillsTable.TABLE_NAME + '.' + uuidColumn + "=?" +
+                ORDER_BY + KillsTable.DATE + " DESC LIMIT ? OFFSET ?";
+
+        return new QueryStatement<List<PlayerKill>>(sql, limit) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setInt(2, limit);
+                statement.setInt(3, offset);
+            }
+
+            @Override
+            public List<PlayerKill> processResults(ResultSet set) throws SQLException {
+                List<PlayerKill> kills = new ArrayList<>();
+                while (set.next()) {
+                    extractKillFromResults(set).ifPresent(kills::add);
+                }
+                return kills;
+            }
+        };
+    }
+
     private static Optional<PlayerKill> extractKillFromResults(ResultSet set) throws SQLException {
         String victimName = set.getString("victim_name");
         String killerName = set.getString("killer_name");
@@ -166,6 +199,61 @@ public class KillQueries {
         };
     }
 
+    /**
+     * Query how many players a player has killed on each server.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param playerUUID UUID of the killer.
+     * @return Map: Server UUID - Player kill count
+     */
+    public static Query<Map<UUID, Integer>> playerKillCountOfPlayerPerServer(long after, long before, UUID playerUUID) {
+        String sql = SELECT + KillsTable.SERVER_UUID + ", COUNT(1) as count" +
+                FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.KILLER_UUID + "=?" +
+                AND + KillsTable.DATE + ">=?" +
+                AND + KillsTable.DATE + "<=?" +
+                GROUP_BY + KillsTable.SERVER_UUID;
+        return new QueryStatement<Map<UUID, Integer>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public Map<UUID, Integer> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Integer> killCounts = new HashMap<>();
+                while (set.next()) {
+                    killCounts.put(UUID.fromString(set.getString(KillsTable.SERVER_UUID)), set.getInt("count"));
+                }
+                return killCounts;
+            }
+        };
+    }
+
+    public static Query<Integer> playerDeathCountOfPlayer(long after, long before, UUID playerUUID) {
+        String sql = SELECT + "COUNT(1) as count" +
+                FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.VICTIM_UUID + "=?" +
+                AND + KillsTable.DATE + ">=?" +
+                AND + KillsTable.DATE + "<=?";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("count") : 0;
+            }
+        };
+    }
+
     public static Query<Double> averageKDR(long after, long before, UUID serverUUID) {
         String selectKillCounts = SELECT + "COUNT(1) as kills," + KillsTable.KILLER_UUID +
                 FROM + KillsTable.TABLE_NAME +
@@ -122,7 +122,93 @@ public class PingQueries {
         };
     }
 
+    /**
+     * Query database for Ping data of a specific player within a time range.
+     *
+     * @param playerUUID UUID of the player.
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @return List of Ping entries for this player.
+     */
+    public static Query<List<Ping>> fetchPingDataOfPlayer(UUID playerUUID, long after, long before) {
+        String sql = SELECT + '*' + FROM + PingTable.TABLE_NAME +
+                WHERE + PingTable.USER_UUID + "=?" +
+                AND + PingTable.DATE + ">=?" +
+                AND + PingTable.DATE + "<=?";
+
+        return new QueryStatement<List<Ping>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public List<Ping> processResults(ResultSet set) throws SQLException {
+                List<Ping> pings = new ArrayList<>();
+
+                while (set.next()) {
+                    pings.add(new Ping(
+                                    set.getLong(PingTable.DATE),
+                                    UUID.fromString(set.getString(PingTable.SERVER_UUID)),
+                                    set.getInt(PingTable.MIN_PING),
+                                    set.getInt(PingTable.MAX_PING),
+                                    set.getDouble(PingTable.AVG_PING)
+                            )
+                    );
+                }
+
+                return pings;
+            }
+        };
+    }
+
+    /**
+     * Query database for the average, worst and best ping of a player.
+     * <p>
+     * Values outside 1-4000 ms are ignored like in {@link com.djrapitops.plan.delivery.domain.mutators.PingMutator}.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Ping with min, max and average of all entries, -1 for a value if there is no data.
+     */
+    public static Query<Ping> pingSummaryOfPlayer(UUID playerUUID) {
+        String sql = SELECT +
+                "MIN(CASE WHEN " + PingTable.MIN_PING + ">0" + AND + PingTable.MIN_PING + "<=4000 THEN " + PingTable.MIN_PING + " END) as minPing," +
+                "MAX(CASE WHEN " + PingTable.MAX_PING + ">0" + AND + PingTable.MAX_PING + "<=4000 THEN " + PingTable.MAX_PING + " END) as maxPing," +
+                "AVG(CASE WHEN " + PingTable.AVG_PING + ">0" + AND + PingTable.AVG_PING + "<=4000 THEN " + PingTable.AVG_PING + " END) as avgPing" +
+                FROM + PingTable.TABLE_NAME +
+                WHERE + PingTable.USER_UUID + "=?";
+
+        return new QueryStatement<Ping>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public Ping processResults(ResultSet set) throws SQLException {
+                if (!set.next()) {
+                    return new Ping(0L, null, -1, -1, -1.0);
+                }
+                int min = set.getInt("minPing");
+                if (set.wasNull()) min = -1;
+                int max = set.getInt("maxPing");
+                if (set.wasNull()) max = -1;
+                double average = set.getDouble("avgPing");
+                if (set.wasNull()) average = -1.0;
+                return new Ping(0L, null, min, max, average);
+            }
+        };
+    }
+
     public static Query<Map<UUID, List<Ping>>> fetchPingDataOfServer(UUID serverUUID) {
+        return db -> db.query(ServerQueries.fetchServerID(serverUUID))
+                .map(serverID -> db.query(fetchPingDataOfServer(serverID)))
+                .orElseGet(HashMap::new);
+    }
+
+    private static Query<Map<UUID, List<Ping>>> fetchPingDataOfServer(int serverID) {
         String sql = SELECT +
                 PingTable.DATE + ',' +
                 PingTable.MAX_PING + ',' +
@@ -131,11 +217,11 @@ public class PingQueries {
                 PingTable.USER_UUID + ',' +
                 PingTable.SERVER_UUID +
                 FROM + PingTable.TABLE_NAME +
-                WHERE + PingTable.SERVER_UUID + "=?";
+                WHERE + PingTable.SERVER_ID + "=?";
         return new QueryStatement<Map<UUID, List<Ping>>>(sql, 100000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
+                statement.setInt(1, serverID);
             }
 
             @Override
@@ -146,20 +232,25 @@ public class PingQueries {
     }
 
     public static Query<List<Ping>> fetchPingDataOfServer(long after, long before, UUID serverUUID) {
+        return db -> db.query(ServerQueries.fetchServerID(serverUUID))
+                .map(serverID -> db.query(fetchPingDataOfServer(after, before, serverID, serverUUID)))
+                .orElseGet(ArrayList::new);
+    }
+
+    private static Query<List<Ping>> fetchPingDataOfServer(long after, long before, int serverID, UUID serverUUID) {
         String sql = SELECT +
                 PingTable.DATE + ", " +
                 PingTable.MAX_PING + ", " +
                 PingTable.MIN_PING + ", " +
-                PingTable.AVG_PING + ", " +
-                PingTable.SERVER_UUID +
+                PingTable.AVG_PING +
                 FROM + PingTable.TABLE_NAME +
-                WHERE + PingTable.SERVER_UUID + "=?" +
+                WHERE + PingTable.SERVER_ID + "=?" +
                 AND + PingTable.DATE + ">=?" +
                 AND + PingTable.DATE + "<=?";
         return new QueryStatement<List<Ping>>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
+                statement.setInt(1, serverID);
                 statement.setLong(2, after);
                 statement.setLong(3, before);
             }
@@ -169,7 +260,6 @@ public class PingQueries {
                 List<Ping> pings = new ArrayList<>();
 
                 while (set.next()) {
-                    UUID serverUUID = UUID.fromString(set.getString(PingTable.SERVER_UUID));
                     long date = set.getLong(PingTable.DATE);
                     double avgPing = set.getDouble(PingTable.AVG_PING);
                     int minPing = set.getInt(PingTable.MIN_PING);
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.storage.database.IDDictionary;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -134,4 +135,38 @@ public class ServerQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Query database for the integer ID of a Plan server.
+     * <p>
+     * The ID is kept in the {@link com.djrapitops.plan.storage.database.IDDictionary} of the database after the first query.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return Optional: ID in plan_servers table, empty if the server is not registered.
+     */
+    public static Query<Optional<Integer>> fetchServerID(UUID serverUUID) {
+        return db -> {
+            IDDictionary dictionary = db.getIDDictionary();
+            Optional<Integer> cached = dictionary.getServerID(serverUUID);
+            if (cached.isPresent()) {
+                return cached;
+            }
+
+            String sql = SELECT + ServerTable.SERVER_ID + FROM + ServerTable.TABLE_NAME +
+                    WHERE + ServerTable.SERVER_UUID + "=? LIMIT 1";
+            Optional<Integer> found = db.query(new QueryStatement<Optional<Integer>>(sql) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setString(1, serverUUID.toString());
+                }
+
+                @Override
+                public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                    return set.next() ? Optional.of(set.getInt(ServerTable.SERVER_ID)) : Optional.empty();
+                }
+            });
+            found.ifPresent(serverID -> dictionary.putServer(serverUUID, serverID));
+            return found;
+        };
+    }
+}
@@ -22,6 +22,7 @@ import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivitySnapshotQueries;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
@@ -32,6 +33,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -65,6 +67,11 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        Optional<Long> snapshotDate = db.query(ActivitySnapshotQueries.fetchSnapshotDate(serverUUID, date));
+        String selectActivityIndex = snapshotDate.isPresent()
+                ? ActivitySnapshotQueries.selectActivityIndexSQL()
+                : ActivityIndexQueries.selectActivityIndexSQL();
+
         String selectGeolocations = SELECT + DISTINCT +
                 GeoInfoTable.USER_UUID + ", " +
                 GeoInfoTable.GEOLOCATION + ", " +
@@ -104,7 +111,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_UUID +
                 LEFT_JOIN + '(' + selectLatestGeolocations + ") geoloc on geoloc." + GeoInfoTable.USER_UUID + "=u." + UsersTable.USER_UUID +
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_UUID + "=u." + UsersTable.USER_UUID +
-                LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + SessionsTable.USER_UUID + "=act." + UserInfoTable.USER_UUID +
+                LEFT_JOIN + '(' + selectActivityIndex + ") act on u." + SessionsTable.USER_UUID + "=act." + UserInfoTable.USER_UUID +
                 WHERE + UserInfoTable.SERVER_UUID + "=?" +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
 
@@ -112,9 +119,15 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, serverUUID.toString()); // Session query
-                ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, date);
-                statement.setString(13, serverUUID.toString()); // Session query
-                statement.setInt(14, xMostRecentPlayers);
+                int index;
+                if (snapshotDate.isPresent()) {
+                    index = ActivitySnapshotQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, snapshotDate.get());
+                } else {
+                    ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, date);
+                    index = 13;
+                }
+                statement.setString(index, serverUUID.toString()); // Session query
+                statement.setInt(index + 1, xMostRecentPlayers);
             }
 
             @Override
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.delivery.domain.DateHolder;
+import com.djrapitops.plan.delivery.domain.SessionSummary;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.GMTimes;
@@ -71,11 +72,11 @@ public class SessionQueries {
             KillsTable.DATE + ',' +
             KillsTable.WEAPON +
             FROM + SessionsTable.TABLE_NAME + " s" +
-            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=s." + SessionsTable.USER_UUID +
-            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_UUID + "=s." + SessionsTable.SERVER_UUID +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID +
             LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_UUID + "=s." + SessionsTable.USER_UUID + AND + "u_info." + UserInfoTable.SERVER_UUID + "=s." + SessionsTable.SERVER_UUID + ')' +
             LEFT_JOIN + KillsTable.TABLE_NAME + " ON " + "s." + SessionsTable.ID + '=' + KillsTable.TABLE_NAME + '.' + KillsTable.SESSION_ID +
-            LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + '=' + KillsTable.VICTIM_UUID +
+            LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.ID + '=' + KillsTable.VICTIM_ID +
             INNER_JOIN + WorldTimesTable.TABLE_NAME + " ON s." + SessionsTable.ID + '=' + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SESSION_ID +
             INNER_JOIN + WorldTable.TABLE_NAME + " ON " + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID + '=' + WorldTable.TABLE_NAME + '.' + WorldTable.ID;
 
@@ -107,14 +108,20 @@ public class SessionQueries {
         return db -> SessionsMutator.sortByPlayers(db.query(fetchSessionsOfServerFlat(serverUUID)));
     }
 
-    public static QueryStatement<List<Session>> fetchSessionsOfServerFlat(UUID serverUUID) {
+    public static Query<List<Session>> fetchSessionsOfServerFlat(UUID serverUUID) {
+        return db -> db.query(ServerQueries.fetchServerID(serverUUID))
+                .map(serverID -> db.query(fetchSessionsOfServerFlat(serverID)))
+                .orElseGet(ArrayList::new);
+    }
+
+    private static Query<List<Session>> fetchSessionsOfServerFlat(int serverID) {
         String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.SERVER_UUID + "=?" +
+                WHERE + "s." + SessionsTable.SERVER_ID + "=?" +
                 ORDER_BY_SESSION_START_DESC;
         return new QueryStatement<List<Session>>(sql, 50000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
+                statement.setInt(1, serverID);
             }
 
             @Override
@@ -131,13 +138,17 @@ public class SessionQueries {
      * @return Map: Server UUID - List of sessions on the server.
      */
     public static Query<Map<UUID, List<Session>>> fetchSessionsOfPlayer(UUID playerUUID) {
+        return UserIdentifierQueries.queryWithUserID(playerUUID, SessionQueries::fetchSessionsOfPlayer, Map::isEmpty, HashMap::new);
+    }
+
+    private static Query<Map<UUID, List<Session>>> fetchSessionsOfPlayer(int userID) {
         String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.USER_UUID + "=?" +
+                WHERE + "s." + SessionsTable.USER_ID + "=?" +
                 ORDER_BY_SESSION_START_DESC;
         return new QueryStatement<Map<UUID, List<Session>>>(sql, 50000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
+                statement.setInt(1, userID);
             }
 
             @Override
@@ -148,6 +159,67 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for the most recent Sessions of a player with kill and world data.
+     * <p>
+     * The sessions of the page are selected by their ID so that the joined kill and world rows do not affect the page size,
+     * and sessions that share a start time are not split between two pages.
+     *
+     * @param playerUUID UUID of the Player.
+     * @param limit      How many sessions to fetch at most.
+     * @param offset     How many of the most recent sessions to skip.
+     * @return List of sessions, most recent first.
+     */
+    public static Query<List<Session>> fetchLatestSessionsOfPlayer(UUID playerUUID, int limit, int offset) {
+        return db -> {
+            List<Integer> sessionIDs = db.query(fetchSessionIDsOfPlayer(playerUUID, limit, offset));
+            if (sessionIDs.isEmpty()) {
+                return new ArrayList<>();
+            }
+            String sql = SELECT_SESSIONS_STATEMENT +
+                    WHERE + "s." + SessionsTable.ID + " IN (" +
+                    sessionIDs.stream().map(id -> "?").collect(Collectors.joining(",")) + ')' +
+                    ORDER_BY_SESSION_START_DESC;
+            return db.query(new QueryStatement<List<Session>>(sql, 1000) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    for (int i = 0; i < sessionIDs.size(); i++) {
+                        statement.setInt(i + 1, sessionIDs.get(i));
+                    }
+                }
+
+                @Override
+                public List<Session> processResults(ResultSet set) throws SQLException {
+                    return extractDataFromSessionSelectStatement(set);
+                }
+            });
+        };
+    }
+
+    private static Query<List<Integer>> fetchSessionIDsOfPlayer(UUID playerUUID, int limit, int offset) {
+        String sql = SELECT + SessionsTable.ID + FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_UUID + "=?" +
+                ORDER_BY_SESSION_START_DESC + ',' + SessionsTable.ID + " DESC LIMIT ? OFFSET ?";
+
+        return new QueryStatement<List<Integer>>(sql, limit) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setInt(2, limit);
+                statement.setInt(3, offset);
+            }
+
+            @Override
+            public List<Integer> processResults(ResultSet set) throws SQLException {
+                List<Integer> sessionIDs = new ArrayList<>();
+                while (set.next()) {
+                    sessionIDs.add(set.getInt(SessionsTable.ID));
+                }
+                return sessionIDs;
+            }
+        };
+    }
+
     private static List<Session> extractDataFromSessionSelectStatement(ResultSet set) throws SQLException {
         // Server UUID - Player UUID - Session Start - Session
         Map<UUID, Map<UUID, SortedMap<Long, Session>>> tempSessionMap = new HashMap<>();
@@ -262,6 +334,46 @@ public class SessionQueries {
         };
     }
 
+    public static Query<List<Session>> fetchPlayerSessionsWithoutKillOrWorldData(UUID playerUUID) {
+        String sql = SELECT +
+                SessionsTable.ID + ',' +
+                SessionsTable.SERVER_UUID + ',' +
+                SessionsTable.SESSION_START + ',' +
+                SessionsTable.SESSION_END + ',' +
+                SessionsTable.DEATHS + ',' +
+                SessionsTable.MOB_KILLS + ',' +
+                SessionsTable.AFK_TIME +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_UUID + "=?" +
+                ORDER_BY_SESSION_START_DESC;
+
+        return new QueryStatement<List<Session>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public List<Session> processResults(ResultSet set) throws SQLException {
+                List<Session> sessions = new ArrayList<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+                    long start = set.getLong(SessionsTable.SESSION_START);
+                    long end = set.getLong(SessionsTable.SESSION_END);
+
+                    int deaths = set.getInt(SessionsTable.DEATHS);
+                    int mobKills = set.getInt(SessionsTable.MOB_KILLS);
+                    int id = set.getInt(SessionsTable.ID);
+
+                    long timeAFK = set.getLong(SessionsTable.AFK_TIME);
+
+                    sessions.add(new Session(id, playerUUID, serverUUID, start, end, mobKills, deaths, timeAFK));
+                }
+                return sessions;
+            }
+        };
+    }
+
     private static Query<Long> fetchLatestSessionStartLimitForServer(UUID serverUUID, int limit) {
         String sql = SELECT + SessionsTable.SESSION_START + FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SERVER_UUID + "=?" +
@@ -482,6 +594,55 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query totals of the sessions of a player on each server.
+     *
+     * @param after      After epoch ms
+     * @param before     Before epoch ms
+     * @param playerUUID UUID of the Player.
+     * @return Map: Server UUID - Summary of the sessions on that server.
+     */
+    public static Query<Map<UUID, SessionSummary>> summaryOfPlayerPerServer(long after, long before, UUID playerUUID) {
+        String sql = SELECT + SessionsTable.SERVER_UUID + ',' +
+                "COUNT(1) as session_count," +
+                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime," +
+                "SUM(" + SessionsTable.AFK_TIME + ") as afk_time," +
+                "MAX(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as longest_session," +
+                "SUM(" + SessionsTable.MOB_KILLS + ") as mob_kills," +
+                "SUM(" + SessionsTable.DEATHS + ") as deaths," +
+                "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_UUID + "=?" +
+                AND + SessionsTable.SESSION_END + ">=?" +
+                AND + SessionsTable.SESSION_START + "<=?" +
+                GROUP_BY + SessionsTable.SERVER_UUID;
+        return new QueryStatement<Map<UUID, SessionSummary>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public Map<UUID, SessionSummary> processResults(ResultSet set) throws SQLException {
+                Map<UUID, SessionSummary> summaries = new HashMap<>();
+                while (set.next()) {
+                    summaries.put(UUID.fromString(set.getString(SessionsTable.SERVER_UUID)), new SessionSummary(
+                            set.getInt("session_count"),
+                            set.getLong("playtime"),
+                            set.getLong("afk_time"),
+                            set.getLong("longest_session"),
+                            set.getInt("mob_kills"),
+                            set.getInt("deaths"),
+                            set.getLong("last_seen")
+                    ));
+                }
+                return summaries;
+            }
+        };
+    }
+
     public static Query<Long> playtime(long after, long before) {
         String sql = SELECT + "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime" +
                 FROM + SessionsTable.TABLE_NAME +
@@ -742,7 +903,7 @@ public class SessionQueries {
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime," +
                 ServerTable.NAME +
                 FROM + SessionsTable.TABLE_NAME +
-                INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.SERVER_UUID + '=' + SessionsTable.TABLE_NAME + '.' + SessionsTable.SERVER_UUID +
+                INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.SERVER_ID + '=' + SessionsTable.TABLE_NAME + '.' + SessionsTable.SERVER_ID +
                 WHERE + SessionsTable.SESSION_END + ">=?" +
                 AND + SessionsTable.SESSION_START + "<=?" +
                 GROUP_BY + ServerTable.NAME;
@@ -17,17 +17,22 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.domain.ServerStability;
+import com.djrapitops.plan.gathering.domain.AggregatedTPS;
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.building.Select;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 import static com.djrapitops.plan.storage.database.sql.tables.TPSTable.*;
@@ -43,29 +48,16 @@ public class TPSQueries {
         /* Static method class */
     }
 
+    /**
+     * Fetch all TPS data of a server.
+     * <p>
+     * Older data is included as aggregated data points, see {@link #fetchAggregatedTPSDataOfServer(long, long, UUID)}.
+     *
+     * @param serverUUID UUID of the server.
+     * @return List of TPS, aggregated data points first.
+     */
     public static Query<List<TPS>> fetchTPSDataOfServer(UUID serverUUID) {
-        String sql = Select.all(TABLE_NAME)
-                .where(SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID)
-                .toString();
-
-        return new QueryStatement<List<TPS>>(sql, 50000) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-            }
-
-            @Override
-            public List<TPS> processResults(ResultSet set) throws SQLException {
-                List<TPS> data = new ArrayList<>();
-                while (set.next()) {
-
-                    com.djrapitops.plan.gathering.domain.TPS tps = extractTPS(set);
-
-                    data.add(tps);
-                }
-                return data;
-            }
-        };
+        return fetchTPSDataOfServer(Long.MIN_VALUE, Long.MAX_VALUE, serverUUID);
     }
 
     public static TPS extractTPS(ResultSet set) throws SQLException {
@@ -81,7 +73,94 @@ public class TPSQueries {
                 .toTPS();
     }
 
+    /**
+     * Add a row of the TPS table to columns without creating a {@link TPS} object.
+     *
+     * @param set     ResultSet at the row to add.
+     * @param columns Builder to add the row to.
+     * @throws SQLException If the row can not be read.
+     */
+    public static void extractTPS(ResultSet set, TPSColumns.Builder columns) throws SQLException {
+        columns.add(
+                set.getLong(DATE),
+                set.getDouble(TPS),
+                set.getInt(PLAYERS_ONLINE),
+                set.getDouble(CPU_USAGE),
+                set.getLong(RAM_USAGE),
+                set.getInt(ENTITIES),
+                set.getInt(CHUNKS),
+                set.getLong(FREE_DISK),
+                TimeUnit.MINUTES.toMillis(1L),
+                1
+        );
+    }
+
+    /**
+     * Fetch TPS data of a server within a time range.
+     * <p>
+     * Parts of the range that are no longer stored per-minute are included as aggregated data points,
+     * see {@link #fetchAggregatedTPSDataOfServer(long, long, UUID)}.
+     *
+     * @param after      Epoch ms, start of the time range.
+     * @param before     Epoch ms, end of the time range.
+     * @param serverUUID UUID of the server.
+     * @return List of TPS, aggregated data points first.
+     */
     public static Query<List<TPS>> fetchTPSDataOfServer(long after, long before, UUID serverUUID) {
+        return db -> {
+            List<TPS> data = db.query(fetchAggregatedTPSDataOfServer(after, before, serverUUID));
+            data.addAll(db.query(fetchPerMinuteTPSDataOfServer(after, before, serverUUID)));
+            return data;
+        };
+    }
+
+    /**
+     * Fetch TPS data of a server that has been turned into 10 minute or hourly averages.
+     *
+     * @param after      Epoch ms, start of the time range.
+     * @param before     Epoch ms, end of the time range.
+     * @param serverUUID UUID of the server.
+     * @return List of {@link AggregatedTPS} in date order.
+     * @see TPSAggregateTable
+     */
+    public static Query<List<TPS>> fetchAggregatedTPSDataOfServer(long after, long before, UUID serverUUID) {
+        String sql = SELECT + '*' + FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.SERVER_UUID + "=?" +
+                AND + TPSAggregateTable.DATE + ">=?" +
+                AND + TPSAggregateTable.DATE + "<=?" +
+                ORDER_BY + TPSAggregateTable.DATE;
+
+        return new QueryStatement<List<TPS>>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public List<TPS> processResults(ResultSet set) throws SQLException {
+                List<TPS> data = new ArrayList<>();
+                while (set.next()) {
+                    data.add(new AggregatedTPS(
+                            set.getLong(TPSAggregateTable.DATE),
+                            set.getLong(TPSAggregateTable.RESOLUTION),
+                            set.getInt(TPSAggregateTable.SAMPLES),
+                            set.getDouble(TPSAggregateTable.TPS_AVG),
+                            (int) Math.round(set.getDouble(TPSAggregateTable.PLAYERS_AVG)),
+                            set.getDouble(TPSAggregateTable.CPU_AVG),
+                            Math.round(set.getDouble(TPSAggregateTable.RAM_AVG)),
+                            (int) Math.round(set.getDouble(TPSAggregateTable.ENTITIES_AVG)),
+                            (int) Math.round(set.getDouble(TPSAggregateTable.CHUNKS_AVG)),
+                            Math.round(set.getDouble(TPSAggregateTable.FREE_DISK_AVG))
+                    ));
+                }
+                return data;
+            }
+        };
+    }
+
+    private static Query<List<TPS>> fetchPerMinuteTPSDataOfServer(long after, long before, UUID serverUUID) {
         String sql = Select.all(TABLE_NAME)
                 .where(SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID)
                 .and(DATE + ">=?").and(DATE + "<=?")
@@ -107,7 +186,110 @@ public class TPSQueries {
         };
     }
 
+    /**
+     * Fetch TPS data of a server within a time range as columns.
+     * <p>
+     * Same data as {@link #fetchTPSDataOfServer(long, long, UUID)}, without creating an object per data point.
+     *
+     * @param after      Epoch ms, start of the time range.
+     * @param before     Epoch ms, end of the time range.
+     * @param serverUUID UUID of the server.
+     * @return Columns of the TPS data in date order.
+     */
+    public static Query<TPSColumns> fetchTPSColumnsOfServer(long after, long before, UUID serverUUID) {
+        return db -> {
+            TPSColumns.Builder columns = new TPSColumns.Builder(1024);
+            for (TPS aggregated : db.query(fetchAggregatedTPSDataOfServer(after, before, serverUUID))) {
+                columns.add(aggregated);
+            }
+            // Per-minute data is newer than the aggregated data, unless it is still being aggregated.
+            long perMinuteAfter = Math.max(after, columns.getLastDate());
+            return db.query(fetchPerMinuteTPSColumnsOfServer(perMinuteAfter, before, serverUUID, columns));
+        };
+    }
+
+    private static Query<TPSColumns> fetchPerMinuteTPSColumnsOfServer(long after, long before, UUID serverUUID, TPSColumns.Builder columns) {
+        String sql = Select.all(TABLE_NAME)
+                .where(SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID)
+                .and(DATE + ">=?").and(DATE + "<=?")
+                .toString() + ORDER_BY + DATE;
+
+        return new QueryStatement<TPSColumns>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public TPSColumns processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    extractTPS(set, columns);
+                }
+                return columns.build();
+            }
+        };
+    }
+
     public static Query<List<DateObj<Integer>>> fetchPlayersOnlineOfServer(long after, long before, UUID serverUUID) {
+        return db -> {
+            List<DateObj<Integer>> playersOnline = new ArrayList<>();
+            for (TPS aggregated : db.query(fetchAggregatedTPSDataOfServer(after, before, serverUUID))) {
+                playersOnline.add(new DateObj<>(aggregated.getDate(), aggregated.getPlayers()));
+            }
+            playersOnline.addAll(db.query(fetchPerMinutePlayersOnlineOfServer(after, before, serverUUID)));
+            return playersOnline;
+        };
+    }
+
+    /**
+     * Fetch the most players online within each data point of a server.
+     * <p>
+     * Same as {@link #fetchPlayersOnlineOfServer(long, long, UUID)}, but aggregated data points give the maximum player
+     * count of their time span instead of the average, so that peaks calculated from the data are not too low.
+     *
+     * @param after      Epoch ms, start of the time range.
+     * @param before     Epoch ms, end of the time range.
+     * @param serverUUID UUID of the server.
+     * @return List of players online, aggregated data points (start date of the time span) first.
+     */
+    public static Query<List<DateObj<Integer>>> fetchPeakPlayersOnlineOfServer(long after, long before, UUID serverUUID) {
+        return db -> {
+            List<DateObj<Integer>> playersOnline = db.query(fetchAggregatedMaxPlayersOnlineOfServer(after, before, serverUUID));
+            playersOnline.addAll(db.query(fetchPerMinutePlayersOnlineOfServer(after, before, serverUUID)));
+            return playersOnline;
+        };
+    }
+
+    private static Query<List<DateObj<Integer>>> fetchAggregatedMaxPlayersOnlineOfServer(long after, long before, UUID serverUUID) {
+        String sql = SELECT + TPSAggregateTable.DATE + ',' + TPSAggregateTable.PLAYERS_MAX +
+                FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.SERVER_UUID + "=?" +
+                AND + TPSAggregateTable.DATE + ">=?" +
+                AND + TPSAggregateTable.DATE + "<=?" +
+                ORDER_BY + TPSAggregateTable.DATE;
+
+        return new QueryStatement<List<DateObj<Integer>>>(sql, 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public List<DateObj<Integer>> processResults(ResultSet set) throws SQLException {
+                List<DateObj<Integer>> playersOnline = new ArrayList<>();
+                while (set.next()) {
+                    playersOnline.add(new DateObj<>(set.getLong(TPSAggregateTable.DATE), set.getInt(TPSAggregateTable.PLAYERS_MAX)));
+                }
+                return playersOnline;
+            }
+        };
+    }
+
+    private static Query<List<DateObj<Integer>>> fetchPerMinutePlayersOnlineOfServer(long after, long before, UUID serverUUID) {
         String sql = SELECT + ServerTable.SERVER_UUID + ',' + DATE + ',' + PLAYERS_ONLINE +
                 FROM + TABLE_NAME +
                 INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SERVER_ID +
@@ -169,6 +351,65 @@ public class TPSQueries {
     }
 
     public static Query<Optional<DateObj<Integer>>> fetchPeakPlayerCount(UUID serverUUID, long afterDate) {
+        return db -> {
+            Optional<DateObj<Integer>> perMinutePeak = db.query(fetchPerMinutePeakPlayerCount(serverUUID, afterDate));
+            Optional<DateObj<Integer>> aggregatedPeak = db.query(fetchAggregatedPeakPlayerCounts(afterDate)).stream()
+                    .filter(peak -> serverUUID.equals(peak.getKey()))
+                    .map(Map.Entry::getValue)
+                    .findFirst();
+            if (!aggregatedPeak.isPresent()) return perMinutePeak;
+            if (!perMinutePeak.isPresent()) return aggregatedPeak;
+            return Optional.of(laterPeak(perMinutePeak.get(), aggregatedPeak.get()));
+        };
+    }
+
+    private static DateObj<Integer> laterPeak(DateObj<Integer> one, DateObj<Integer> other) {
+        int comparison = Integer.compare(one.getValue(), other.getValue());
+        if (comparison == 0) {
+            return one.getDate() >= other.getDate() ? one : other;
+        }
+        return comparison > 0 ? one : other;
+    }
+
+    /**
+     * Fetch peak player counts from the aggregated TPS data.
+     *
+     * @param afterDate Epoch ms, only peaks after this date are considered.
+     * @return List of Server UUID - Latest aggregated data point with the most players online (start date of the time span).
+     */
+    private static Query<List<Map.Entry<UUID, DateObj<Integer>>>> fetchAggregatedPeakPlayerCounts(long afterDate) {
+        String peaks = '(' + SELECT + TPSAggregateTable.SERVER_UUID + ",MAX(" + TPSAggregateTable.PLAYERS_MAX + ") as peak" +
+                FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.DATE + ">=?" +
+                GROUP_BY + TPSAggregateTable.SERVER_UUID + ") p";
+        String sql = SELECT + "a." + TPSAggregateTable.SERVER_UUID + ",MAX(a." + TPSAggregateTable.DATE + ") as peak_date,p.peak" +
+                FROM + TPSAggregateTable.TABLE_NAME + " a" +
+                INNER_JOIN + peaks + " on p." + TPSAggregateTable.SERVER_UUID + "=a." + TPSAggregateTable.SERVER_UUID +
+                AND + "p.peak=a." + TPSAggregateTable.PLAYERS_MAX +
+                WHERE + "a." + TPSAggregateTable.DATE + ">=?" +
+                GROUP_BY + "a." + TPSAggregateTable.SERVER_UUID + ",p.peak";
+
+        return new QueryStatement<List<Map.Entry<UUID, DateObj<Integer>>>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, afterDate);
+                statement.setLong(2, afterDate);
+            }
+
+            @Override
+            public List<Map.Entry<UUID, DateObj<Integer>>> processResults(ResultSet set) throws SQLException {
+                List<Map.Entry<UUID, DateObj<Integer>>> peaks = new ArrayList<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(TPSAggregateTable.SERVER_UUID));
+                    DateObj<Integer> peak = new DateObj<>(set.getLong("peak_date"), set.getInt("peak"));
+                    peaks.add(new AbstractMap.SimpleImmutableEntry<>(serverUUID, peak));
+                }
+                return peaks;
+            }
+        };
+    }
+
+    private static Query<Optional<DateObj<Integer>>> fetchPerMinutePeakPlayerCount(UUID serverUUID, long afterDate) {
         String subQuery = '(' + SELECT + "MAX(" + PLAYERS_ONLINE + ')' + FROM + TABLE_NAME + WHERE + SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + DATE + ">= ?)";
         String sql = SELECT +
@@ -205,6 +446,241 @@ public class TPSQueries {
         return fetchPeakPlayerCount(serverUUID, 0);
     }
 
+    /**
+     * Fetch the peak player count of every server with a single query.
+     *
+     * @param afterDate Epoch ms, only peaks after this date are considered.
+     * @return Map: Server UUID - Latest moment with the most players online.
+     */
+    public static Query<Map<UUID, DateObj<Integer>>> fetchPeakPlayerCountsOfAllServers(long afterDate) {
+        return db -> {
+            Map<UUID, DateObj<Integer>> peaks = db.query(fetchPerMinutePeakPlayerCountsOfAllServers(afterDate));
+            for (Map.Entry<UUID, DateObj<Integer>> aggregatedPeak : db.query(fetchAggregatedPeakPlayerCounts(afterDate))) {
+                peaks.merge(aggregatedPeak.getKey(), aggregatedPeak.getValue(), TPSQueries::laterPeak);
+            }
+            return peaks;
+        };
+    }
+
+    private static Query<Map<UUID, DateObj<Integer>>> fetchPerMinutePeakPlayerCountsOfAllServers(long afterDate) {
+        String peaks = '(' + SELECT + SERVER_ID + ",MAX(" + PLAYERS_ONLINE + ") as peak" +
+                FROM + TABLE_NAME +
+                WHERE + DATE + ">=?" +
+                GROUP_BY + SERVER_ID + ") p";
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' +
+                TABLE_NAME + '.' + DATE + ',' +
+                TABLE_NAME + '.' + PLAYERS_ONLINE +
+                FROM + TABLE_NAME +
+                INNER_JOIN + peaks + " on p." + SERVER_ID + '=' + TABLE_NAME + '.' + SERVER_ID +
+                AND + "p.peak=" + TABLE_NAME + '.' + PLAYERS_ONLINE +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + TABLE_NAME + '.' + SERVER_ID +
+                WHERE + TABLE_NAME + '.' + DATE + ">=?";
+
+        return new QueryStatement<Map<UUID, DateObj<Integer>>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, afterDate);
+                statement.setLong(2, afterDate);
+            }
+
+            @Override
+            public Map<UUID, DateObj<Integer>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, DateObj<Integer>> peaks = new HashMap<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(ServerTable.SERVER_UUID));
+                    long date = set.getLong(DATE);
+                    DateObj<Integer> previous = peaks.get(serverUUID);
+                    // Peak might have been reached multiple times, latest one is used.
+                    if (previous == null || previous.getDate() < date) {
+                        peaks.put(serverUUID, new DateObj<>(date, set.getInt(PLAYERS_ONLINE)));
+                    }
+                }
+                return peaks;
+            }
+        };
+    }
+
+    public static Query<Map<UUID, DateObj<Integer>>> fetchAllTimePeakPlayerCountsOfAllServers() {
+        return fetchPeakPlayerCountsOfAllServers(0);
+    }
+
+    /**
+     * Fetch the latest players online value of every server with a single query.
+     *
+     * @param afterDate Epoch ms, only data after this date is considered.
+     * @return Map: Server UUID - Date and players online of the latest TPS entry.
+     */
+    public static Query<Map<UUID, DateObj<Integer>>> fetchLatestPlayersOnlineOfAllServers(long afterDate) {
+        String latest = '(' + SELECT + SERVER_ID + ",MAX(" + DATE + ") as last_date" +
+                FROM + TABLE_NAME +
+                WHERE + DATE + ">=?" +
+                GROUP_BY + SERVER_ID + ") l";
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' +
+                TABLE_NAME + '.' + DATE + ',' +
+                TABLE_NAME + '.' + PLAYERS_ONLINE +
+                FROM + TABLE_NAME +
+                INNER_JOIN + latest + " on l." + SERVER_ID + '=' + TABLE_NAME + '.' + SERVER_ID +
+                AND + "l.last_date=" + TABLE_NAME + '.' + DATE +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + TABLE_NAME + '.' + SERVER_ID;
+
+        return new QueryStatement<Map<UUID, DateObj<Integer>>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, afterDate);
+            }
+
+            @Override
+            public Map<UUID, DateObj<Integer>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, DateObj<Integer>> latest = new HashMap<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(ServerTable.SERVER_UUID));
+                    latest.put(serverUUID, new DateObj<>(set.getLong(DATE), set.getInt(PLAYERS_ONLINE)));
+                }
+                return latest;
+            }
+        };
+    }
+
+    /**
+     * Fetch players online of every server reduced to fixed size time buckets in the database.
+     * <p>
+     * Amount of returned points depends only on the time range and resolution, not on the amount of stored TPS data.
+     *
+     * @param after      Epoch ms, start of the time range.
+     * @param before     Epoch ms, end of the time range.
+     * @param resolution Size of a bucket in ms.
+     * @return Map: Server UUID - Maximum players online at the start of each bucket, in date order.
+     */
+    public static Query<Map<UUID, List<DateObj<Integer>>>> fetchDownsampledPlayersOnlineOfAllServers(long after, long before, long resolution) {
+        String bucket = '(' + DATE + '-' + DATE + '%' + resolution + ')';
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' +
+                bucket + " as bucket," +
+                "MAX(" + PLAYERS_ONLINE + ") as players" +
+                FROM + TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SERVER_ID +
+                WHERE + DATE + "<?" +
+                AND + DATE + ">?" +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' + bucket +
+                ORDER_BY + "bucket";
+
+        return new QueryStatement<Map<UUID, List<DateObj<Integer>>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, before);
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public Map<UUID, List<DateObj<Integer>>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<DateObj<Integer>>> byServer = new HashMap<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(ServerTable.SERVER_UUID));
+                    byServer.computeIfAbsent(serverUUID, k -> new ArrayList<>())
+                            .add(new DateObj<>(set.getLong("bucket"), set.getInt("players")));
+                }
+                return byServer;
+            }
+        };
+    }
+
+    public static Query<Map<UUID, Double>> averageTPSOfAllServers(long after, long before) {
+        String sql = SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' +
+                "AVG(" + TPS + ") as average" +
+                FROM + TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SERVER_ID +
+                WHERE + TPS + ">=0" +
+                AND + DATE + "<?" +
+                AND + DATE + ">?" +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID;
+
+        return new QueryStatement<Map<UUID, Double>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, before);
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public Map<UUID, Double> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Double> averages = new HashMap<>();
+                while (set.next()) {
+                    averages.put(UUID.fromString(set.getString(ServerTable.SERVER_UUID)), set.getDouble("average"));
+                }
+                return averages;
+            }
+        };
+    }
+
+    private static String selectTPSOfAllServersInOrder() {
+        return SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' + DATE + ',' + TPS +
+                FROM + TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + SERVER_ID +
+                WHERE + DATE + "<?" +
+                AND + DATE + ">?" +
+                ORDER_BY + SERVER_ID + ',' + DATE;
+    }
+
+    /**
+     * Count low TPS spikes and calculate downtime of every server in a single pass over the data,
+     * without keeping TPS objects in memory.
+     *
+     * @param after     Epoch ms, start of the time range.
+     * @param before    Epoch ms, end of the time range.
+     * @param threshold TPS value that counts as low.
+     * @return Map: Server UUID - Number of times TPS dropped below the threshold and total ms of gaps longer than 3 minutes between TPS entries.
+     * @see com.djrapitops.plan.delivery.domain.mutators.TPSMutator#lowTpsSpikeCount(int)
+     * @see com.djrapitops.plan.delivery.domain.mutators.TPSMutator#serverDownTime()
+     */
+    public static Query<Map<UUID, ServerStability>> fetchServerStabilityOfAllServers(long after, long before, int threshold) {
+        long gapThreshold = TimeUnit.MINUTES.toMillis(3L);
+        return new QueryStatement<Map<UUID, ServerStability>>(selectTPSOfAllServersInOrder(), 10000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, before);
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public Map<UUID, ServerStability> processResults(ResultSet set) throws SQLException {
+                Map<UUID, ServerStability> stability = new HashMap<>();
+                String currentServer = null;
+                boolean wasLow = false;
+                int spikeCount = 0;
+                long lastDate = -1;
+                long downTime = 0;
+                while (set.next()) {
+                    String serverUUID = set.getString(ServerTable.SERVER_UUID);
+                    long date = set.getLong(DATE);
+                    if (!serverUUID.equals(currentServer)) {
+                        if (currentServer != null) {
+                            stability.put(UUID.fromString(currentServer), new ServerStability(spikeCount, downTime));
+                        }
+                        currentServer = serverUUID;
+                        wasLow = false;
+                        spikeCount = 0;
+                        downTime = 0;
+                    } else if (date - lastDate > gapThreshold) {
+                        downTime += date - lastDate;
+                    }
+                    lastDate = date;
+
+                    if (set.getDouble(TPS) < threshold) {
+                        if (!wasLow) {
+                            spikeCount++;
+                            wasLow = true;
+                        }
+                    } else {
+                        wasLow = false;
+                    }
+                }
+                if (currentServer != null) {
+                    stability.put(UUID.fromString(currentServer), new ServerStability(spikeCount, downTime));
+                }
+                return stability;
+            }
+        };
+    }
+
     public static Query<Optional<TPS>> fetchLatestTPSEntryForServer(UUID serverUUID) {
         String sql = SELECT + "*" +
                 FROM + TABLE_NAME +
@@ -236,17 +712,52 @@ public class TPSQueries {
         };
     }
 
-    public static Query<Double> averageTPS(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "AVG(" + TPS + ") as average" + FROM + TABLE_NAME +
+    /**
+     * Create SQL that combines values of per-minute and aggregated TPS data of a server in a time range.
+     * <p>
+     * Parameters are set with {@link #prepareTieredStatement(PreparedStatement, long, long, UUID)}.
+     *
+     * @param outerSelect       Columns selected from the combined rows (named 'q').
+     * @param perMinuteColumns  Columns selected from per-minute data.
+     * @param aggregatedColumns Columns selected from aggregated data, in same order as per-minute columns.
+     * @return SQL statement.
+     */
+    private static String tieredSQL(String outerSelect, String perMinuteColumns, String aggregatedColumns) {
+        return SELECT + outerSelect + FROM + '(' +
+                SELECT + perMinuteColumns + FROM + TABLE_NAME +
                 WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
                 AND + DATE + "<?" +
-                AND + DATE + ">?";
+                AND + DATE + ">?" +
+                UNION + "ALL " +
+                SELECT + aggregatedColumns + FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.SERVER_UUID + "=?" +
+                AND + TPSAggregateTable.DATE + "<?" +
+                AND + TPSAggregateTable.DATE + ">?" +
+                ") q";
+    }
+
+    private static String tieredAverageSQL(String column, String averageColumn) {
+        // Aggregated averages are weighted by the amount of per-minute samples they represent.
+        return tieredSQL("SUM(total)*1.0/NULLIF(SUM(samples),0) as average",
+                "SUM(" + column + ") as total,COUNT(1) as samples",
+                "SUM(" + averageColumn + '*' + TPSAggregateTable.SAMPLES + "),SUM(" + TPSAggregateTable.SAMPLES + ')');
+    }
+
+    private static void prepareTieredStatement(PreparedStatement statement, long after, long before, UUID serverUUID) throws SQLException {
+        statement.setString(1, serverUUID.toString());
+        statement.setLong(2, before);
+        statement.setLong(3, after);
+        statement.setString(4, serverUUID.toString());
+        statement.setLong(5, before);
+        statement.setLong(6, after);
+    }
+
+    public static Query<Double> averageTPS(long after, long before, UUID serverUUID) {
+        String sql = tieredAverageSQL(TPS, TPSAggregateTable.TPS_AVG);
         return new QueryStatement<Double>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -257,16 +768,11 @@ public class TPSQueries {
     }
 
     public static Query<Double> averageCPU(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "AVG(" + CPU_USAGE + ") as average" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredAverageSQL(CPU_USAGE, TPSAggregateTable.CPU_AVG);
         return new QueryStatement<Double>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -277,16 +783,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> averageRAM(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "AVG(" + RAM_USAGE + ") as average" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredAverageSQL(RAM_USAGE, TPSAggregateTable.RAM_AVG);
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -297,16 +798,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> averageChunks(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "AVG(" + CHUNKS + ") as average" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredAverageSQL(CHUNKS, TPSAggregateTable.CHUNKS_AVG);
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -317,16 +813,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> averageEntities(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "AVG(" + ENTITIES + ") as average" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredAverageSQL(ENTITIES, TPSAggregateTable.ENTITIES_AVG);
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -337,16 +828,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> maxFreeDisk(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "MAX(" + FREE_DISK + ") as free" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredSQL("MAX(free) as free", "MAX(" + FREE_DISK + ") as free", "MAX(" + TPSAggregateTable.FREE_DISK_MAX + ')');
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -357,16 +843,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> minFreeDisk(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "MIN(" + FREE_DISK + ") as free" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredSQL("MIN(free) as free", "MIN(" + FREE_DISK + ") as free", "MIN(" + TPSAggregateTable.FREE_DISK_MIN + ')');
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
@@ -377,16 +858,11 @@ public class TPSQueries {
     }
 
     public static Query<Long> averageFreeDisk(long after, long before, UUID serverUUID) {
-        String sql = SELECT + "AVG(" + FREE_DISK + ") as average" + FROM + TABLE_NAME +
-                WHERE + SERVER_ID + '=' + ServerTable.STATEMENT_SELECT_SERVER_ID +
-                AND + DATE + "<?" +
-                AND + DATE + ">?";
+        String sql = tieredAverageSQL(FREE_DISK, TPSAggregateTable.FREE_DISK_AVG);
         return new QueryStatement<Long>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-                statement.setLong(2, before);
-                statement.setLong(3, after);
+                prepareTieredStatement(statement, after, before, serverUUID);
             }
 
             @Override
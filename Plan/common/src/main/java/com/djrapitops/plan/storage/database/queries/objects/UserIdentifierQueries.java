@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries.objects;
 
+import com.djrapitops.plan.storage.database.IDDictionary;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -28,6 +29,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -201,4 +205,85 @@ public class UserIdentifierQueries {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Query database for the integer ID of a player.
+     * <p>
+     * The ID is kept in the {@link com.djrapitops.plan.storage.database.IDDictionary} of the database after the first query.
+     * The kept ID can be stale on a network if another server removed the player and the player registered again,
+     * so use {@link #queryWithUserID(UUID, IntFunction, Predicate, Supplier)} for queries that filter by the ID.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Optional: ID in plan_users table, empty if the player is not registered.
+     */
+    public static Query<Optional<Integer>> fetchUserID(UUID playerUUID) {
+        return db -> {
+            Optional<Integer> cached = db.getIDDictionary().getUserID(playerUUID);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            return db.query(fetchUserIDFromDatabase(playerUUID));
+        };
+    }
+
+    private static Query<Optional<Integer>> fetchUserIDFromDatabase(UUID playerUUID) {
+        return db -> {
+            String sql = SELECT + UsersTable.ID + FROM + UsersTable.TABLE_NAME +
+                    WHERE + UsersTable.USER_UUID + "=? LIMIT 1";
+            Optional<Integer> found = db.query(new QueryStatement<Optional<Integer>>(sql) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setString(1, playerUUID.toString());
+                }
+
+                @Override
+                public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                    return set.next() ? Optional.of(set.getInt(UsersTable.ID)) : Optional.empty();
+                }
+            });
+            IDDictionary dictionary = db.getIDDictionary();
+            if (found.isPresent()) {
+                dictionary.putUser(playerUUID, found.get());
+            } else {
+                dictionary.removeUser(playerUUID);
+            }
+            return found;
+        };
+    }
+
+    /**
+     * Run a query that filters by the integer ID of a player.
+     * <p>
+     * If the ID in the {@link com.djrapitops.plan.storage.database.IDDictionary} gives an empty result, the ID is
+     * fetched again from the database, because the player might have been removed and registered again with a new ID
+     * by another server on the network.
+     *
+     * @param playerUUID        UUID of the player.
+     * @param query             Creates the query for an ID.
+     * @param isEmpty           Tells if a result is empty.
+     * @param whenNotRegistered Result to give if the player is not registered.
+     * @param <T>               Type of the result.
+     * @return Result of the query with the current ID of the player.
+     */
+    public static <T> Query<T> queryWithUserID(UUID playerUUID, IntFunction<Query<T>> query, Predicate<T> isEmpty, Supplier<T> whenNotRegistered) {
+        return db -> {
+            Optional<Integer> cached = db.getIDDictionary().getUserID(playerUUID);
+            T result = null;
+            if (cached.isPresent()) {
+                result = db.query(query.apply(cached.get()));
+                if (!isEmpty.test(result)) {
+                    return result;
+                }
+            }
+
+            Optional<Integer> userID = db.query(fetchUserIDFromDatabase(playerUUID));
+            if (!userID.isPresent()) {
+                return whenNotRegistered.get();
+            }
+            if (userID.equals(cached)) {
+                return result; // The ID was not stale, the result is really empty.
+            }
+            return db.query(query.apply(userID.get()));
+        };
+    }
+}
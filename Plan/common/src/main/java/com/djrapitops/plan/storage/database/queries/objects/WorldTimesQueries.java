@@ -61,15 +61,21 @@ public class WorldTimesQueries {
      * @return WorldTimes with world name - playtime ms information.
      */
     public static Query<WorldTimes> fetchServerTotalWorldTimes(UUID serverUUID) {
+        return db -> db.query(ServerQueries.fetchServerID(serverUUID))
+                .map(serverID -> db.query(fetchServerTotalWorldTimes(serverID)))
+                .orElseGet(WorldTimes::new);
+    }
+
+    private static Query<WorldTimes> fetchServerTotalWorldTimes(int serverID) {
         String sql = SELECT_WORLD_TIMES_STATEMENT_START +
                 SELECT_WORLD_TIMES_JOIN_WORLD_NAME +
-                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_UUID + "=?" +
+                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SERVER_ID + "=?" +
                 GROUP_BY + WORLD_COLUMN;
 
         return new QueryStatement<WorldTimes>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
+                statement.setInt(1, serverID);
             }
 
             @Override
@@ -96,15 +102,20 @@ public class WorldTimesQueries {
      * @return WorldTimes with world name - playtime ms information.
      */
     public static Query<WorldTimes> fetchPlayerTotalWorldTimes(UUID playerUUID) {
+        return UserIdentifierQueries.queryWithUserID(playerUUID, WorldTimesQueries::fetchPlayerTotalWorldTimes,
+                worldTimes -> worldTimes.getWorldTimes().isEmpty(), WorldTimes::new);
+    }
+
+    private static Query<WorldTimes> fetchPlayerTotalWorldTimes(int userID) {
         String sql = SELECT_WORLD_TIMES_STATEMENT_START +
                 SELECT_WORLD_TIMES_JOIN_WORLD_NAME +
-                WHERE + WorldTimesTable.USER_UUID + "=?" +
+                WHERE + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.USER_ID + "=?" +
                 GROUP_BY + WORLD_COLUMN;
 
         return new QueryStatement<WorldTimes>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
+                statement.setInt(1, userID);
             }
 
             @Override
@@ -172,6 +183,12 @@ public class WorldTimesQueries {
     }
 
     public static Query<GMTimes> fetchGMTimes(long after, long before, UUID serverUUID) {
+        return db -> db.query(ServerQueries.fetchServerID(serverUUID))
+                .map(serverID -> db.query(fetchGMTimes(after, before, serverID)))
+                .orElseGet(GMTimes::new);
+    }
+
+    private static Query<GMTimes> fetchGMTimes(long after, long before, int serverID) {
         String sql = SELECT +
                 "SUM(" + WorldTimesTable.SURVIVAL + ") as SURVIVAL," +
                 "SUM(" + WorldTimesTable.CREATIVE + ") as CREATIVE," +
@@ -179,14 +196,14 @@ public class WorldTimesQueries {
                 "SUM(" + WorldTimesTable.SPECTATOR + ") as SPECTATOR" +
                 FROM + WorldTimesTable.TABLE_NAME + " w1" +
                 INNER_JOIN + SessionsTable.TABLE_NAME + " s1 on s1." + SessionsTable.ID + '=' + WorldTimesTable.SESSION_ID +
-                WHERE + "w1." + WorldTimesTable.SERVER_UUID + "=?" +
+                WHERE + "w1." + WorldTimesTable.SERVER_ID + "=?" +
                 AND + SessionsTable.SESSION_START + ">=?" +
                 AND + SessionsTable.SESSION_END + "<=?";
 
         return new QueryStatement<GMTimes>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
+                statement.setInt(1, serverID);
                 statement.setLong(2, after);
                 statement.setLong(3, before);
             }
@@ -47,6 +47,18 @@ public class H2SchemaQueries {
         };
     }
 
+    public static Query<Boolean> doesIndexExist(String indexName, String tableName) {
+        String sql = SELECT + "COUNT(1) as c FROM INFORMATION_SCHEMA.INDEXES" +
+                " WHERE TABLE_NAME=? AND INDEX_NAME=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, tableName);
+                statement.setString(2, indexName);
+            }
+        };
+    }
+
     public static Query<Boolean> doesColumnExist(String tableName, String columnName) {
         String sql = SELECT + "COUNT(1) as c FROM INFORMATION_SCHEMA.COLUMNS" +
                 " WHERE TABLE_NAME=? AND COLUMN_NAME=?";
@@ -48,6 +48,18 @@ public class SQLiteSchemaQueries {
         };
     }
 
+    public static Query<Boolean> doesIndexExist(String indexName, String tableName) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + "sqlite_master" + WHERE + "type='index'" + AND + "tbl_name=?" + AND + "name=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, tableName);
+                statement.setString(2, indexName);
+            }
+        };
+    }
+
     public static Query<Boolean> doesColumnExist(String tableName, String columnName) {
         return new QueryAllStatement<Boolean>("PRAGMA table_info(" + tableName + ')') {
             @Override
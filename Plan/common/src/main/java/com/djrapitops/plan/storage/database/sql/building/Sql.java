@@ -71,6 +71,13 @@ public abstract class Sql {
 
     public abstract String dateToHour(String sql);
 
+    /**
+     * Start of an INSERT statement that skips rows that would violate a unique constraint.
+     *
+     * @return "INSERT ... INTO " with the keyword of the database.
+     */
+    public abstract String insertOrIgnore();
+
     // https://dev.mysql.com/doc/refman/5.7/en/date-and-time-functions.html
     public static class MySQL extends Sql {
 
@@ -98,6 +105,11 @@ public abstract class Sql {
         public String dateToHour(String sql) {
             return "HOUR(" + sql + ") % 24";
         }
+
+        @Override
+        public String insertOrIgnore() {
+            return "INSERT IGNORE INTO ";
+        }
     }
 
     // https://h2database.com/html/functions.html
@@ -151,5 +163,10 @@ public abstract class Sql {
         public String dateToHour(String sql) {
             return "strftime('%H'," + sql + ')';
         }
+
+        @Override
+        public String insertOrIgnore() {
+            return "INSERT OR IGNORE INTO ";
+        }
     }
 }
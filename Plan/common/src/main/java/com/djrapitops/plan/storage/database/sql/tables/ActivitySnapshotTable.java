@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+/**
+ * Table information about 'plan_activity_snapshots'.
+ * <p>
+ * Each row holds the active playtime of a player during the three weeks before the snapshot date,
+ * which is all that is needed for calculating the Activity Index of the player on that date.
+ * Weeks without any sessions are stored as null.
+ *
+ * @author Rsl1122
+ */
+public class ActivitySnapshotTable {
+
+    public static final String TABLE_NAME = "plan_activity_snapshots";
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String USER_UUID = "uuid";
+    public static final String DATE = "date";
+    public static final String WEEK_1 = "week_1_playtime";
+    public static final String WEEK_2 = "week_2_playtime";
+    public static final String WEEK_3 = "week_3_playtime";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_UUID + ',' +
+            USER_UUID + ',' +
+            DATE + ',' +
+            WEEK_1 + ',' +
+            WEEK_2 + ',' +
+            WEEK_3 +
+            ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    private ActivitySnapshotTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(USER_UUID, Sql.varchar(36)).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(WEEK_1, Sql.LONG)
+                .column(WEEK_2, Sql.LONG)
+                .column(WEEK_3, Sql.LONG)
+                .toString();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+/**
+ * Table information about 'plan_daily_rollups'.
+ * <p>
+ * Each row holds pre-aggregated session, player and TPS numbers of a single day on a server.
+ * Days are grouped with the time zone offset in {@link #TIME_ZONE_OFFSET}, rows of different offsets are kept separate
+ * so that a time zone (or daylight saving) change does not mix differently grouped days together.
+ * <p>
+ * There is only one row per server, day and offset, so rows are inserted with {@link #insertIfAbsentStatement(DBType)}
+ * and then incremented. Multiple servers can write to the same table on MySQL.
+ *
+ * @author Rsl1122
+ */
+public class DailyRollupTable {
+
+    public static final String TABLE_NAME = "plan_daily_rollups";
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String DATE = "date";
+    public static final String TIME_ZONE_OFFSET = "tz_offset";
+    public static final String UNIQUE_PLAYERS = "unique_players";
+    public static final String NEW_PLAYERS = "new_players";
+    public static final String PLAYTIME = "playtime";
+    public static final String SESSION_COUNT = "session_count";
+    public static final String PEAK_PLAYERS = "peak_players";
+    public static final String PEAK_DATE = "peak_date";
+
+    /**
+     * Date of the row that marks a time zone offset as tracked, inserted by the server that calculates the rollups.
+     */
+    public static final long TRACKED_MARKER_DATE = -1L;
+
+    private static final String INSERT_INTO_COLUMNS = TABLE_NAME + " (" +
+            SERVER_UUID + ',' +
+            DATE + ',' +
+            TIME_ZONE_OFFSET + ',' +
+            UNIQUE_PLAYERS + ',' +
+            NEW_PLAYERS + ',' +
+            PLAYTIME + ',' +
+            SESSION_COUNT + ',' +
+            PEAK_PLAYERS + ',' +
+            PEAK_DATE +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String WHERE_DAY = " WHERE " + SERVER_UUID + "=?" +
+            " AND " + DATE + "=?" +
+            " AND " + TIME_ZONE_OFFSET + "=?";
+
+    public static final String INCREMENT_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            UNIQUE_PLAYERS + '=' + UNIQUE_PLAYERS + "+?," +
+            NEW_PLAYERS + '=' + NEW_PLAYERS + "+?," +
+            PLAYTIME + '=' + PLAYTIME + "+?," +
+            SESSION_COUNT + '=' + SESSION_COUNT + "+?" +
+            WHERE_DAY;
+
+    public static final String UPDATE_PEAK_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            PEAK_DATE + "=CASE WHEN " + PEAK_PLAYERS + "<? THEN ? ELSE " + PEAK_DATE + " END," +
+            PEAK_PLAYERS + "=CASE WHEN " + PEAK_PLAYERS + "<? THEN ? ELSE " + PEAK_PLAYERS + " END" +
+            WHERE_DAY;
+
+    private DailyRollupTable() {
+        /* Static information class */
+    }
+
+    public static String insertIfAbsentStatement(DBType dbType) {
+        return dbType.getSql().insertOrIgnore() + INSERT_INTO_COLUMNS;
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(TIME_ZONE_OFFSET, Sql.LONG).notNull()
+                .column(UNIQUE_PLAYERS, Sql.INT).notNull()
+                .column(NEW_PLAYERS, Sql.INT).notNull()
+                .column(PLAYTIME, Sql.LONG).notNull()
+                .column(SESSION_COUNT, Sql.INT).notNull()
+                .column(PEAK_PLAYERS, Sql.INT).notNull()
+                .column(PEAK_DATE, Sql.LONG).notNull()
+                .uniqueKey(SERVER_UUID, TIME_ZONE_OFFSET, DATE)
+                .toString();
+    }
+}
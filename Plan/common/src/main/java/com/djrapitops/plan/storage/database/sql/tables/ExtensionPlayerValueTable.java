@@ -20,6 +20,9 @@ import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
+
 /**
  * Table information about 'plan_extension_user_values'.
  *
@@ -40,10 +43,34 @@ public class ExtensionPlayerValueTable {
     public static final String STRING_VALUE = "string_value";
     public static final String GROUP_VALUE = "group_value";
 
+    private static final String VALUE_COLUMNS = BOOLEAN_VALUE + ',' +
+            DOUBLE_VALUE + ',' +
+            PERCENTAGE_VALUE + ',' +
+            LONG_VALUE + ',' +
+            STRING_VALUE;
+
+    /**
+     * Values are updated with this statement, and then inserted with {@link #insertIfAbsentStatement(DBType)} if the
+     * player did not have a value for the provider. There is only one row per player and provider.
+     */
+    public static final String UPDATE_VALUES_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            BOOLEAN_VALUE + "=?," +
+            DOUBLE_VALUE + "=?," +
+            PERCENTAGE_VALUE + "=?," +
+            LONG_VALUE + "=?," +
+            STRING_VALUE + "=?" +
+            WHERE + USER_UUID + "=?" +
+            AND + PROVIDER_ID + "=" + ExtensionProviderTable.STATEMENT_SELECT_PROVIDER_ID;
+
     private ExtensionPlayerValueTable() {
         /* Static information class */
     }
 
+    public static String insertIfAbsentStatement(DBType dbType) {
+        return dbType.getSql().insertOrIgnore() + TABLE_NAME + " (" + VALUE_COLUMNS + ',' + USER_UUID + ',' + PROVIDER_ID +
+                ") VALUES (?,?,?,?,?,?," + ExtensionProviderTable.STATEMENT_SELECT_PROVIDER_ID + ')';
+    }
+
     public static String createTableSQL(DBType dbType) {
         return CreateTableBuilder.create(TABLE_NAME, dbType)
                 .column(ID, Sql.INT).primaryKey()
@@ -20,6 +20,8 @@ import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
+
 /**
  * Table information about 'plan_extension_server_values'.
  *
@@ -40,10 +42,33 @@ public class ExtensionServerValueTable {
     public static final String STRING_VALUE = "string_value";
     public static final String GROUP_VALUE = "group_value";
 
+    private static final String VALUE_COLUMNS = BOOLEAN_VALUE + ',' +
+            DOUBLE_VALUE + ',' +
+            PERCENTAGE_VALUE + ',' +
+            LONG_VALUE + ',' +
+            STRING_VALUE;
+
+    /**
+     * Values are updated with this statement, and then inserted with {@link #insertIfAbsentStatement(DBType)} if the
+     * provider did not have a value. There is only one row per provider.
+     */
+    public static final String UPDATE_VALUES_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            BOOLEAN_VALUE + "=?," +
+            DOUBLE_VALUE + "=?," +
+            PERCENTAGE_VALUE + "=?," +
+            LONG_VALUE + "=?," +
+            STRING_VALUE + "=?" +
+            WHERE + PROVIDER_ID + "=" + ExtensionProviderTable.STATEMENT_SELECT_PROVIDER_ID;
+
     private ExtensionServerValueTable() {
         /* Static information class */
     }
 
+    public static String insertIfAbsentStatement(DBType dbType) {
+        return dbType.getSql().insertOrIgnore() + TABLE_NAME + " (" + VALUE_COLUMNS + ',' + PROVIDER_ID +
+                ") VALUES (?,?,?,?,?," + ExtensionProviderTable.STATEMENT_SELECT_PROVIDER_ID + ')';
+    }
+
     public static String createTableSQL(DBType dbType) {
         return CreateTableBuilder.create(TABLE_NAME, dbType)
                 .column(ID, Sql.INT).primaryKey()
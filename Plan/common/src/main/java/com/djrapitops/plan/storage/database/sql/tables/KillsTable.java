@@ -22,6 +22,7 @@ import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.IntegerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.KillsOptimizationPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.KillsServerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
@@ -37,6 +38,7 @@ import java.util.UUID;
  * {@link Version10Patch}
  * {@link KillsServerIDPatch}
  * {@link KillsOptimizationPatch}
+ * {@link IntegerIDPatch}
  *
  * @author Rsl1122
  */
@@ -48,6 +50,9 @@ public class KillsTable {
     public static final String KILLER_UUID = "killer_uuid";
     public static final String VICTIM_UUID = "victim_uuid";
     public static final String SERVER_UUID = "server_uuid";
+    public static final String KILLER_ID = "killer_id";
+    public static final String VICTIM_ID = "victim_id";
+    public static final String SERVER_ID = "server_id";
     public static final String SESSION_ID = "session_id";
     public static final String WEAPON = "weapon";
     public static final String DATE = "date";
@@ -58,8 +63,14 @@ public class KillsTable {
             + VICTIM_UUID + ','
             + SERVER_UUID + ','
             + DATE + ','
-            + WEAPON
-            + ") VALUES (" + SessionsTable.SELECT_SESSION_ID_STATEMENT + ", ?, ?, ?, ?, ?)";
+            + WEAPON + ','
+            + KILLER_ID + ','
+            + VICTIM_ID + ','
+            + SERVER_ID
+            + ") VALUES (" + SessionsTable.SELECT_SESSION_ID_STATEMENT + ", ?, ?, ?, ?, ?, "
+            + UsersTable.SELECT_USER_ID_STATEMENT + ", "
+            + UsersTable.SELECT_USER_ID_STATEMENT + ", "
+            + ServerTable.STATEMENT_SELECT_SERVER_ID + ')';
 
     private KillsTable() {
         /* Static information class */
@@ -74,6 +85,9 @@ public class KillsTable {
                 .column(WEAPON, Sql.varchar(30)).notNull()
                 .column(DATE, Sql.LONG).notNull()
                 .column(SESSION_ID, Sql.INT).notNull()
+                .column(KILLER_ID, Sql.INT)
+                .column(VICTIM_ID, Sql.INT)
+                .column(SERVER_ID, Sql.INT)
                 .foreignKey(SESSION_ID, SessionsTable.TABLE_NAME, SessionsTable.ID)
                 .toString();
     }
@@ -95,6 +109,10 @@ public class KillsTable {
             statement.setString(7, serverUUID.toString());
             statement.setLong(8, kill.getDate());
             statement.setString(9, kill.getWeapon());
+            // User and Server ID select statements
+            statement.setString(10, uuid.toString());
+            statement.setString(11, kill.getVictim().toString());
+            statement.setString(12, serverUUID.toString());
             statement.addBatch();
         }
     }
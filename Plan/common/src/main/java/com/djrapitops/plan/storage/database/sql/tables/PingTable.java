@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database.sql.tables;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.IntegerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.PingOptimizationPatch;
 
 /**
@@ -26,6 +27,7 @@ import com.djrapitops.plan.storage.database.transactions.patches.PingOptimizatio
  * <p>
  * Patches related to this table:
  * {@link PingOptimizationPatch}
+ * {@link IntegerIDPatch}
  *
  * @author Rsl1122
  */
@@ -36,6 +38,8 @@ public class PingTable {
     public static final String ID = "id";
     public static final String USER_UUID = "uuid";
     public static final String SERVER_UUID = "server_uuid";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
     public static final String DATE = "date";
     public static final String MAX_PING = "max_ping";
     public static final String AVG_PING = "avg_ping";
@@ -47,8 +51,12 @@ public class PingTable {
             DATE + ',' +
             MIN_PING + ',' +
             MAX_PING + ',' +
-            AVG_PING +
-            ") VALUES (?, ?, ?, ?, ?, ?)";
+            AVG_PING + ',' +
+            USER_ID + ',' +
+            SERVER_ID +
+            ") VALUES (?, ?, ?, ?, ?, ?, " +
+            UsersTable.SELECT_USER_ID_STATEMENT + ", " +
+            ServerTable.STATEMENT_SELECT_SERVER_ID + ')';
 
     private PingTable() {
         /* Static information class */
@@ -63,6 +71,8 @@ public class PingTable {
                 .column(MAX_PING, Sql.INT).notNull()
                 .column(MIN_PING, Sql.INT).notNull()
                 .column(AVG_PING, Sql.DOUBLE).notNull()
+                .column(USER_ID, Sql.INT)
+                .column(SERVER_ID, Sql.INT)
                 .toString();
     }
 }
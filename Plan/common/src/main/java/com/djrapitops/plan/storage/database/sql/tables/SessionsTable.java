@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database.sql.tables;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.IntegerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.SessionAFKTimePatch;
 import com.djrapitops.plan.storage.database.transactions.patches.SessionsOptimizationPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
@@ -32,6 +33,7 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  * {@link Version10Patch}
  * {@link SessionAFKTimePatch}
  * {@link SessionsOptimizationPatch}
+ * {@link IntegerIDPatch}
  *
  * @author Rsl1122
  */
@@ -42,6 +44,8 @@ public class SessionsTable {
     public static final String ID = "id";
     public static final String USER_UUID = "uuid";
     public static final String SERVER_UUID = "server_uuid";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
     public static final String SESSION_START = "session_start";
     public static final String SESSION_END = "session_end";
     public static final String MOB_KILLS = "mob_kills";
@@ -55,8 +59,12 @@ public class SessionsTable {
             + DEATHS + ','
             + MOB_KILLS + ','
             + AFK_TIME + ','
-            + SERVER_UUID
-            + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+            + SERVER_UUID + ','
+            + USER_ID + ','
+            + SERVER_ID
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, "
+            + UsersTable.SELECT_USER_ID_STATEMENT + ", "
+            + ServerTable.STATEMENT_SELECT_SERVER_ID + ')';
 
     public static final String SELECT_SESSION_ID_STATEMENT = "(SELECT " + TABLE_NAME + '.' + ID + FROM + TABLE_NAME +
             WHERE + TABLE_NAME + '.' + USER_UUID + "=?" +
@@ -78,6 +86,8 @@ public class SessionsTable {
                 .column(MOB_KILLS, Sql.INT).notNull()
                 .column(DEATHS, Sql.INT).notNull()
                 .column(AFK_TIME, Sql.LONG).notNull()
+                .column(USER_ID, Sql.INT)
+                .column(SERVER_ID, Sql.INT)
                 .toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table information about 'plan_tps_aggregates'.
+ * <p>
+ * Holds older {@link TPSTable} data as minimum, average and maximum values of fixed size time buckets.
+ * Per-minute rows are turned into {@link #TEN_MINUTES} rows, which are later turned into {@link #HOURLY} rows.
+ * Each time range is stored in only one of the tables or resolutions, so the tiers can be combined without overlap.
+ *
+ * @author Rsl1122
+ */
+public class TPSAggregateTable {
+
+    public static final String TABLE_NAME = "plan_tps_aggregates";
+
+    public static final long TEN_MINUTES = TimeUnit.MINUTES.toMillis(10L);
+    public static final long HOURLY = TimeUnit.HOURS.toMillis(1L);
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String RESOLUTION = "resolution";
+    public static final String DATE = "date";
+    public static final String SAMPLES = "samples";
+    public static final String TPS_MIN = "tps_min";
+    public static final String TPS_AVG = "tps_avg";
+    public static final String TPS_MAX = "tps_max";
+    public static final String PLAYERS_MIN = "players_min";
+    public static final String PLAYERS_AVG = "players_avg";
+    public static final String PLAYERS_MAX = "players_max";
+    public static final String CPU_MIN = "cpu_min";
+    public static final String CPU_AVG = "cpu_avg";
+    public static final String CPU_MAX = "cpu_max";
+    public static final String RAM_MIN = "ram_min";
+    public static final String RAM_AVG = "ram_avg";
+    public static final String RAM_MAX = "ram_max";
+    public static final String ENTITIES_MIN = "entities_min";
+    public static final String ENTITIES_AVG = "entities_avg";
+    public static final String ENTITIES_MAX = "entities_max";
+    public static final String CHUNKS_MIN = "chunks_min";
+    public static final String CHUNKS_AVG = "chunks_avg";
+    public static final String CHUNKS_MAX = "chunks_max";
+    public static final String FREE_DISK_MIN = "free_disk_min";
+    public static final String FREE_DISK_AVG = "free_disk_avg";
+    public static final String FREE_DISK_MAX = "free_disk_max";
+
+    /**
+     * Columns in the order they are given in insert statements, after {@link #SERVER_UUID}.
+     */
+    public static final String VALUE_COLUMNS = RESOLUTION + ',' + DATE + ',' + SAMPLES + ',' +
+            TPS_MIN + ',' + TPS_AVG + ',' + TPS_MAX + ',' +
+            PLAYERS_MIN + ',' + PLAYERS_AVG + ',' + PLAYERS_MAX + ',' +
+            CPU_MIN + ',' + CPU_AVG + ',' + CPU_MAX + ',' +
+            RAM_MIN + ',' + RAM_AVG + ',' + RAM_MAX + ',' +
+            ENTITIES_MIN + ',' + ENTITIES_AVG + ',' + ENTITIES_MAX + ',' +
+            CHUNKS_MIN + ',' + CHUNKS_AVG + ',' + CHUNKS_MAX + ',' +
+            FREE_DISK_MIN + ',' + FREE_DISK_AVG + ',' + FREE_DISK_MAX;
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_UUID + ',' + VALUE_COLUMNS +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private TPSAggregateTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(RESOLUTION, Sql.LONG).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(SAMPLES, Sql.INT).notNull()
+                .column(TPS_MIN, Sql.DOUBLE).notNull()
+                .column(TPS_AVG, Sql.DOUBLE).notNull()
+                .column(TPS_MAX, Sql.DOUBLE).notNull()
+                .column(PLAYERS_MIN, Sql.INT).notNull()
+                .column(PLAYERS_AVG, Sql.DOUBLE).notNull()
+                .column(PLAYERS_MAX, Sql.INT).notNull()
+                .column(CPU_MIN, Sql.DOUBLE).notNull()
+                .column(CPU_AVG, Sql.DOUBLE).notNull()
+                .column(CPU_MAX, Sql.DOUBLE).notNull()
+                .column(RAM_MIN, Sql.LONG).notNull()
+                .column(RAM_AVG, Sql.DOUBLE).notNull()
+                .column(RAM_MAX, Sql.LONG).notNull()
+                .column(ENTITIES_MIN, Sql.INT).notNull()
+                .column(ENTITIES_AVG, Sql.DOUBLE).notNull()
+                .column(ENTITIES_MAX, Sql.INT).notNull()
+                .column(CHUNKS_MIN, Sql.INT).notNull()
+                .column(CHUNKS_AVG, Sql.DOUBLE).notNull()
+                .column(CHUNKS_MAX, Sql.INT).notNull()
+                .column(FREE_DISK_MIN, Sql.LONG).notNull()
+                .column(FREE_DISK_AVG, Sql.DOUBLE).notNull()
+                .column(FREE_DISK_MAX, Sql.LONG).notNull()
+                .toString();
+    }
+}
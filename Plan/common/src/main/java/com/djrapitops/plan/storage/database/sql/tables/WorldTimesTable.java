@@ -22,6 +22,7 @@ import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.IntegerIDPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.Version10Patch;
 import com.djrapitops.plan.storage.database.transactions.patches.WorldTimesOptimizationPatch;
 import com.djrapitops.plan.storage.database.transactions.patches.WorldTimesSeverIDPatch;
@@ -40,6 +41,7 @@ import java.util.UUID;
  * {@link WorldTimesSeverIDPatch}
  * {@link WorldsServerIDPatch}
  * {@link WorldTimesOptimizationPatch}
+ * {@link IntegerIDPatch}
  *
  * @author Rsl1122
  */
@@ -50,6 +52,8 @@ public class WorldTimesTable {
     public static final String ID = "id";
     public static final String USER_UUID = "uuid";
     public static final String SERVER_UUID = "server_uuid";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
     public static final String SESSION_ID = "session_id";
     public static final String WORLD_ID = "world_id";
     public static final String SURVIVAL = "survival_time";
@@ -65,11 +69,15 @@ public class WorldTimesTable {
             WorldTimesTable.SURVIVAL + ',' +
             WorldTimesTable.CREATIVE + ',' +
             WorldTimesTable.ADVENTURE + ',' +
-            WorldTimesTable.SPECTATOR +
+            WorldTimesTable.SPECTATOR + ',' +
+            WorldTimesTable.USER_ID + ',' +
+            WorldTimesTable.SERVER_ID +
             ") VALUES ( " +
             SessionsTable.SELECT_SESSION_ID_STATEMENT + ',' +
             WorldTable.SELECT_WORLD_ID_STATEMENT + ',' +
-            "?, ?, ?, ?, ?, ?)";
+            "?, ?, ?, ?, ?, ?," +
+            UsersTable.SELECT_USER_ID_STATEMENT + ',' +
+            ServerTable.STATEMENT_SELECT_SERVER_ID + ')';
 
     private WorldTimesTable() {
         /* Static information class */
@@ -86,6 +94,8 @@ public class WorldTimesTable {
                 .column(CREATIVE, Sql.LONG).notNull().defaultValue("0")
                 .column(ADVENTURE, Sql.LONG).notNull().defaultValue("0")
                 .column(SPECTATOR, Sql.LONG).notNull().defaultValue("0")
+                .column(USER_ID, Sql.INT)
+                .column(SERVER_ID, Sql.INT)
                 .foreignKey(WORLD_ID, WorldTable.TABLE_NAME, WorldTable.ID)
                 .foreignKey(SESSION_ID, SessionsTable.TABLE_NAME, SessionsTable.ID)
                 .toString();
@@ -115,6 +125,9 @@ public class WorldTimesTable {
             statement.setLong(10, gmTimes.getTime(gms[1]));
             statement.setLong(11, gmTimes.getTime(gms[2]));
             statement.setLong(12, gmTimes.getTime(gms[3]));
+            // User and Server ID select statements
+            statement.setString(13, uuid.toString());
+            statement.setString(14, serverUUID.toString());
             statement.addBatch();
         }
     }
@@ -16,28 +16,47 @@
  */
 package com.djrapitops.plan.storage.database.transactions;
 
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
-import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
-import com.djrapitops.plan.storage.database.queries.Query;
-import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 
-import java.util.function.Function;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Tables are streamed row by row from the source database and written in bounded batches,
+ * so the memory use of the copy does not depend on the size of the database.
+ * <p>
+ * Each batch is committed, so the destination database does not need to hold the whole copy in one transaction.
+ * If the copy fails, the destination is left with the rows copied before the failure.
  *
  * @author Rsl1122
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    private static final int BATCH_SIZE = 10000;
+    private static final long PROGRESS_INTERVAL_MS = TimeUnit.SECONDS.toMillis(5L);
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final ProgressListener progressListener;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, (table, rowsCopied, rowsPerSecond) -> { /* Progress not reported */ });
+    }
+
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, ProgressListener progressListener) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -45,6 +64,11 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         return super.shouldBeExecuted() && !sourceDB.equals(destinationDB) && sourceDB.getState() != Database.State.CLOSED;
     }
 
+    @Override
+    public boolean isGroupable() {
+        return false; // Commits every batch
+    }
+
     @Override
     protected void performOperations() {
         // Clear the database.
@@ -54,56 +78,241 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copyCommonUserInformation();
         copyWorldNames();
         copyTPSData();
+        copyTPSAggregates();
         copyPlanWebUsers();
         copyGeoInformation();
         copyNicknameData();
         copySessionsWithKillAndWorldData();
         copyPerServerUserInformation();
         copyPingData();
+        // Clearing was committed before the data was copied, listeners load the copied data when notified again.
+        notifyDatabaseClearedAfterCommit();
+    }
+
+    /**
+     * Copy rows of a table without holding the whole table in memory.
+     *
+     * @param tableName Name of the table for progress reports.
+     * @param selectSql SELECT statement with the columns in the same order as the parameters of the insert.
+     * @param insertSql INSERT statement for the destination database.
+     */
+    private void copy(String tableName, String selectSql, String insertSql) {
+        execute(new ExecBatchStatement(insertSql) {
+            @Override
+            public void prepare(PreparedStatement insert) {
+                sourceDB.query(new QueryAllStatement<Long>(selectSql, getStreamingFetchSize()) {
+                    @Override
+                    public Long processResults(ResultSet set) throws SQLException {
+                        return copyRows(tableName, set, insert);
+                    }
+                });
+            }
+        });
+        commitProgress();
+    }
+
+    private long copyRows(String tableName, ResultSet set, PreparedStatement insert) throws SQLException {
+        int columnCount = set.getMetaData().getColumnCount();
+        long start = System.currentTimeMillis();
+        long lastReport = start;
+        long rowsCopied = 0;
+        int batchSize = 0;
+        while (set.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                insert.setObject(i, set.getObject(i));
+            }
+            insert.addBatch();
+            rowsCopied++;
+            batchSize++;
+
+            if (batchSize >= BATCH_SIZE) {
+                // Flush so that the batch does not grow with the table.
+                insert.executeBatch();
+                insert.clearBatch();
+                commitProgress();
+                batchSize = 0;
+
+                long now = System.currentTimeMillis();
+                if (now - lastReport >= PROGRESS_INTERVAL_MS) {
+                    lastReport = now;
+                    progressListener.onProgress(tableName, rowsCopied, rowsPerSecond(rowsCopied, now - start));
+                }
+            }
+        }
+        // Rest of the batch is executed by ExecBatchStatement.
+        progressListener.onProgress(tableName, rowsCopied, rowsPerSecond(rowsCopied, System.currentTimeMillis() - start));
+        return rowsCopied;
+    }
+
+    private long rowsPerSecond(long rows, long elapsedMs) {
+        return elapsedMs > 0 ? rows * 1000L / elapsedMs : rows;
     }
 
-    private <T> void copy(Function<T, Executable> executableCreator, Query<T> dataQuery) {
-        // Creates a new Executable from the queried data of the source database
-        execute(executableCreator.apply(sourceDB.query(dataQuery)));
+    private int getStreamingFetchSize() {
+        // MySQL driver only streams the results with this special fetch size, otherwise the whole result set is loaded.
+        return sourceDB.getType() == DBType.MYSQL ? Integer.MIN_VALUE : BATCH_SIZE;
     }
 
     private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
+        copy(PingTable.TABLE_NAME, SELECT +
+                PingTable.USER_UUID + ',' +
+                PingTable.SERVER_UUID + ',' +
+                PingTable.DATE + ',' +
+                PingTable.MIN_PING + ',' +
+                PingTable.MAX_PING + ',' +
+                PingTable.AVG_PING + ',' +
+                // User and Server IDs differ between the databases, so they are resolved again with the UUIDs.
+                PingTable.USER_UUID + ',' +
+                PingTable.SERVER_UUID +
+                FROM + PingTable.TABLE_NAME, PingTable.INSERT_STATEMENT);
     }
 
     private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
+        copy(GeoInfoTable.TABLE_NAME, SELECT +
+                GeoInfoTable.USER_UUID + ',' +
+                GeoInfoTable.GEOLOCATION + ',' +
+                GeoInfoTable.LAST_USED +
+                FROM + GeoInfoTable.TABLE_NAME, GeoInfoTable.INSERT_STATEMENT);
     }
 
     private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
+        copy(NicknamesTable.TABLE_NAME, SELECT +
+                NicknamesTable.USER_UUID + ',' +
+                NicknamesTable.SERVER_UUID + ',' +
+                NicknamesTable.NICKNAME + ',' +
+                NicknamesTable.LAST_USED +
+                FROM + NicknamesTable.TABLE_NAME, NicknamesTable.INSERT_STATEMENT);
     }
 
     private void copyPlanWebUsers() {
-        copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllPlanWebUsers());
+        copy(SecurityTable.TABLE_NAME, SELECT +
+                SecurityTable.USERNAME + ',' +
+                SecurityTable.SALT_PASSWORD_HASH + ',' +
+                SecurityTable.PERMISSION_LEVEL +
+                FROM + SecurityTable.TABLE_NAME, SecurityTable.INSERT_STATEMENT);
     }
 
     private void copyPlanServerInformation() {
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
+        copy(ServerTable.TABLE_NAME, SELECT +
+                ServerTable.SERVER_UUID + ',' +
+                ServerTable.NAME + ',' +
+                ServerTable.WEB_ADDRESS + ',' +
+                ServerTable.INSTALLED + ',' +
+                ServerTable.MAX_PLAYERS +
+                FROM + ServerTable.TABLE_NAME, ServerTable.INSERT_STATEMENT);
     }
 
     private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
+        copy(TPSTable.TABLE_NAME, SELECT +
+                ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' +
+                TPSTable.DATE + ',' +
+                TPSTable.TPS + ',' +
+                TPSTable.PLAYERS_ONLINE + ',' +
+                TPSTable.CPU_USAGE + ',' +
+                TPSTable.RAM_USAGE + ',' +
+                TPSTable.ENTITIES + ',' +
+                TPSTable.CHUNKS + ',' +
+                TPSTable.FREE_DISK +
+                FROM + TPSTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " +
+                ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + TPSTable.TABLE_NAME + '.' + TPSTable.SERVER_ID,
+                TPSTable.INSERT_STATEMENT);
+    }
+
+    private void copyTPSAggregates() {
+        copy(TPSAggregateTable.TABLE_NAME, SELECT +
+                TPSAggregateTable.SERVER_UUID + ',' +
+                TPSAggregateTable.VALUE_COLUMNS +
+                FROM + TPSAggregateTable.TABLE_NAME, TPSAggregateTable.INSERT_STATEMENT);
     }
 
     private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
+        copy(UserInfoTable.TABLE_NAME, SELECT +
+                UserInfoTable.USER_UUID + ',' +
+                UserInfoTable.REGISTERED + ',' +
+                UserInfoTable.SERVER_UUID + ',' +
+                UserInfoTable.BANNED + ',' +
+                UserInfoTable.OP +
+                FROM + UserInfoTable.TABLE_NAME, UserInfoTable.INSERT_STATEMENT);
     }
 
     private void copyWorldNames() {
-        copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
+        copy(WorldTable.TABLE_NAME, SELECT +
+                WorldTable.NAME + ',' +
+                WorldTable.SERVER_UUID +
+                FROM + WorldTable.TABLE_NAME, WorldTable.INSERT_STATEMENT);
     }
 
     private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+        copy(UsersTable.TABLE_NAME, SELECT +
+                UsersTable.USER_UUID + ',' +
+                UsersTable.USER_NAME + ',' +
+                UsersTable.REGISTERED + ',' +
+                UsersTable.TIMES_KICKED +
+                FROM + UsersTable.TABLE_NAME, UsersTable.INSERT_STATEMENT);
     }
 
     private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+        copy(SessionsTable.TABLE_NAME, SELECT +
+                SessionsTable.USER_UUID + ',' +
+                SessionsTable.SESSION_START + ',' +
+                SessionsTable.SESSION_END + ',' +
+                SessionsTable.DEATHS + ',' +
+                SessionsTable.MOB_KILLS + ',' +
+                SessionsTable.AFK_TIME + ',' +
+                SessionsTable.SERVER_UUID + ',' +
+                SessionsTable.USER_UUID + ',' +
+                SessionsTable.SERVER_UUID +
+                FROM + SessionsTable.TABLE_NAME, SessionsTable.INSERT_STATEMENT);
+
+        // Session, User and Server IDs differ between the databases, so they are resolved with the session columns and UUIDs.
+        String sessionColumns = "s." + SessionsTable.USER_UUID + ',' +
+                "s." + SessionsTable.SERVER_UUID + ',' +
+                "s." + SessionsTable.SESSION_START + ',' +
+                "s." + SessionsTable.SESSION_END + ',';
+
+        copy(KillsTable.TABLE_NAME, SELECT + sessionColumns +
+                "k." + KillsTable.KILLER_UUID + ',' +
+                "k." + KillsTable.VICTIM_UUID + ',' +
+                "k." + KillsTable.SERVER_UUID + ',' +
+                "k." + KillsTable.DATE + ',' +
+                "k." + KillsTable.WEAPON + ',' +
+                "k." + KillsTable.KILLER_UUID + ',' +
+                "k." + KillsTable.VICTIM_UUID + ',' +
+                "k." + KillsTable.SERVER_UUID +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.ID + "=k." + KillsTable.SESSION_ID,
+                KillsTable.INSERT_STATEMENT);
+
+        copy(WorldTimesTable.TABLE_NAME, SELECT + sessionColumns +
+                "w." + WorldTable.NAME + ',' +
+                "w." + WorldTable.SERVER_UUID + ',' +
+                "t." + WorldTimesTable.USER_UUID + ',' +
+                "t." + WorldTimesTable.SERVER_UUID + ',' +
+                "t." + WorldTimesTable.SURVIVAL + ',' +
+                "t." + WorldTimesTable.CREATIVE + ',' +
+                "t." + WorldTimesTable.ADVENTURE + ',' +
+                "t." + WorldTimesTable.SPECTATOR + ',' +
+                "t." + WorldTimesTable.USER_UUID + ',' +
+                "t." + WorldTimesTable.SERVER_UUID +
+                FROM + WorldTimesTable.TABLE_NAME + " t" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.ID + "=t." + WorldTimesTable.SESSION_ID +
+                INNER_JOIN + WorldTable.TABLE_NAME + " w on w." + WorldTable.ID + "=t." + WorldTimesTable.WORLD_ID,
+                WorldTimesTable.INSERT_STATEMENT);
+    }
+
+    /**
+     * Listener for the progress of the copy operation.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called every few seconds while a table is being copied, and when the table has been copied.
+         *
+         * @param tableName     Name of the table being copied.
+         * @param rowsCopied    Number of rows copied from the table so far.
+         * @param rowsPerSecond Throughput of the copy for this table.
+         */
+        void onProgress(String tableName, long rowsCopied, long rowsPerSecond);
     }
-}
\ No newline at end of file
+}
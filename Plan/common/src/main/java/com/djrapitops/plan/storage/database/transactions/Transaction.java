@@ -19,11 +19,17 @@ package com.djrapitops.plan.storage.database.transactions;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseClearNotifier;
+import com.djrapitops.plan.storage.database.IDDictionary;
+import com.djrapitops.plan.storage.database.QueryProfiler;
 import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.WebUserChangeNotifier;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -38,12 +44,16 @@ public abstract class Transaction {
     private static final AtomicBoolean SUPPORTS_SAVE_POINTS = new AtomicBoolean(true);
     // Limit for Deadlock attempts.
     private static final int ATTEMPT_LIMIT = 3;
+    private static final String ROLLED_BACK_MSG = ", Transaction was rolled back.";
 
     private SQLDB db;
     protected DBType dbType;
 
     private Connection connection;
     private Savepoint savepoint;
+    private boolean groupRollbackRequired;
+    private Transaction parent;
+    private final List<Runnable> afterCommit;
 
     protected boolean success;
     protected int attempts;
@@ -51,6 +61,7 @@ public abstract class Transaction {
     protected Transaction() {
         success = false;
         attempts = 0;
+        afterCommit = new ArrayList<>();
     }
 
     public void executeTransaction(SQLDB db) {
@@ -68,26 +79,131 @@ public abstract class Transaction {
         attempts++; // Keeps track how many attempts have been made to avoid infinite recursion.
 
         try {
+            afterCommit.clear(); // Actions of an earlier attempt were rolled back.
             initializeTransaction(db);
+            db.setTransactionConnection(connection);
             performOperations();
             if (connection != null) connection.commit();
             success = true;
         } catch (SQLException statementFail) {
             manageFailure(statementFail); // Throws a DBOpException.
         } finally {
+            db.setTransactionConnection(null);
             db.returnToPool(connection);
         }
+        runAfterCommit();
     }
 
-    private void manageFailure(SQLException statementFail) {
+    /**
+     * Execute the transaction as a part of a group that shares one connection and one commit.
+     * <p>
+     * Operations are isolated with a savepoint, so that a failing transaction can be rolled back without losing the
+     * rest of the group. Committing the connection is left to the caller, who should call {@link #groupCommitted()}
+     * afterwards.
+     *
+     * @param db              Database the group is executed on.
+     * @param groupConnection Connection shared by the group, not committed or returned to pool by this method.
+     * @throws DBOpException If the transaction failed. See {@link #isGroupRollbackRequired()} if the savepoint rollback failed.
+     */
+    public void executeInGroup(SQLDB db, Connection groupConnection) {
+        Verify.nullCheck(db, () -> new IllegalArgumentException("Given database was null"));
+        Verify.isFalse(success, () -> new IllegalStateException("Transaction has already been executed"));
+
+        this.db = db;
+        this.dbType = db.getType();
+        this.groupRollbackRequired = false;
+        // Queries of shouldBeExecuted should see the changes of the group too.
+        db.setTransactionConnection(groupConnection);
+        try {
+            if (shouldBeExecuted()) {
+                attempts++;
+                performInGroup(groupConnection);
+            }
+        } finally {
+            db.setTransactionConnection(null);
+        }
+    }
+
+    private void performInGroup(Connection groupConnection) {
+        try {
+            afterCommit.clear();
+            this.connection = groupConnection;
+            createSavePoint();
+            performOperations();
+            releaseSavePoint();
+        } catch (SQLException | RuntimeException statementFail) {
+            manageGroupFailure(statementFail);
+        } finally {
+            this.connection = null;
+            this.savepoint = null;
+        }
+    }
+
+    private void manageGroupFailure(Exception statementFail) {
         String failMsg = getClass().getSimpleName() + " failed: " + statementFail.getMessage();
         String rollbackStatusMsg = rollbackTransaction();
+        // Deadlocks roll back the whole connection on MySQL, so the savepoint no longer exists after one.
+        groupRollbackRequired = savepoint == null || !rollbackStatusMsg.equals(ROLLED_BACK_MSG) || isDeadlock(statementFail);
+        throw new DBOpException(failMsg + rollbackStatusMsg, statementFail);
+    }
 
-        // Retry if deadlock occurs.
-        int errorCode = statementFail.getErrorCode();
+    /**
+     * Check if the whole group needs to be rolled back after {@link #executeInGroup(SQLDB, Connection)} failed.
+     *
+     * @return true if the transaction could not be rolled back to its own savepoint.
+     */
+    public boolean isGroupRollbackRequired() {
+        return groupRollbackRequired;
+    }
+
+    /**
+     * Check if the transaction can share a connection and a commit with other transactions.
+     *
+     * @return false if the transaction commits by itself with {@link #commitProgress()}.
+     * @see #executeInGroup(SQLDB, Connection)
+     */
+    public boolean isGroupable() {
+        return true;
+    }
+
+    /**
+     * Mark the transaction finished after the group it was executed in was committed.
+     */
+    public void groupCommitted() {
+        success = true;
+        runAfterCommit();
+    }
+
+    /**
+     * Reset the transaction after the group it was a part of was rolled back, so that it can be executed separately.
+     */
+    public void groupRolledBack() {
+        success = false;
+        attempts = 0;
+        groupRollbackRequired = false;
+        afterCommit.clear();
+    }
+
+    private boolean isDeadlock(Exception statementFail) {
+        Throwable cause = statementFail instanceof SQLException ? statementFail : statementFail.getCause();
+        if (!(cause instanceof SQLException)) {
+            return false;
+        }
+        return isDeadlock(((SQLException) cause).getErrorCode());
+    }
+
+    private boolean isDeadlock(int errorCode) {
         boolean mySQLDeadlock = dbType == DBType.MYSQL && errorCode == 1213;
         boolean h2Deadlock = dbType == DBType.H2 && errorCode == 40001;
-        boolean deadlocked = mySQLDeadlock || h2Deadlock;
+        return mySQLDeadlock || h2Deadlock;
+    }
+
+    private void manageFailure(SQLException statementFail) {
+        String failMsg = getClass().getSimpleName() + " failed: " + statementFail.getMessage();
+        String rollbackStatusMsg = rollbackTransaction();
+
+        // Retry if deadlock occurs.
+        boolean deadlocked = isDeadlock(statementFail.getErrorCode());
         if (deadlocked && attempts < ATTEMPT_LIMIT) {
             executeTransaction(db); // Recurse to attempt again.
             return;
@@ -100,7 +216,7 @@ public abstract class Transaction {
     }
 
     private String rollbackTransaction() {
-        String rollbackStatusMsg = ", Transaction was rolled back.";
+        String rollbackStatusMsg = ROLLED_BACK_MSG;
         boolean hasNoSavepoints = !SUPPORTS_SAVE_POINTS.get();
         if (hasNoSavepoints) {
             rollbackStatusMsg = ", additionally rollbacks are not supported on this server version.";
@@ -153,6 +269,16 @@ public abstract class Transaction {
         }
     }
 
+    private void releaseSavePoint() throws SQLException {
+        if (savepoint == null) return;
+        try {
+            // Keeps the savepoints of a long group from piling up until the commit.
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLFeatureNotSupportedException ignored) {
+            // Released at commit instead.
+        }
+    }
+
     private void handleUnsupportedSQLiteSavePoints(SQLException sqlException) throws SQLException {
         String errorMsg = sqlException.getMessage();
         if (errorMsg.contains("unsupported") && errorMsg.contains("savepoints")) {
@@ -162,12 +288,48 @@ public abstract class Transaction {
         }
     }
 
+    /**
+     * Commit the operations performed so far, so that a large transaction does not need to hold all of them uncommitted.
+     * <p>
+     * Committed operations are not rolled back if the transaction fails later.
+     * Transactions using this should not be groupable, see {@link #isGroupable()}.
+     *
+     * @throws DBOpException If the commit fails.
+     */
+    protected void commitProgress() {
+        if (parent != null) {
+            parent.commitProgress();
+            return;
+        }
+        try {
+            connection.commit();
+            // Earlier savepoint ended with the commit, later failures roll back to this one.
+            createSavePoint();
+        } catch (SQLException e) {
+            throw new DBOpException(getClass().getSimpleName() + " commit failed: " + e.getMessage(), e);
+        }
+        runAfterCommitActions();
+    }
+
     protected <T> T query(Query<T> query) {
+        // SQLDB gives the connection of this transaction to all queries on this thread, see SQLDB#getQueryConnection
         return query.executeQuery(db);
     }
 
     protected boolean execute(Executable executable) {
-        return executable.execute(connection);
+        QueryProfiler profiler = db.getQueryProfiler();
+        if (!profiler.isEnabled()) {
+            return executable.execute(connection);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return executable.execute(connection);
+        } finally {
+            String sql = executable instanceof ExecStatement ? ((ExecStatement) executable).getSql()
+                    : "Executable of " + getClass().getName();
+            profiler.statementExecuted(sql, getClass(), System.nanoTime() - start);
+        }
     }
 
     protected boolean execute(String sql) {
@@ -190,11 +352,41 @@ public abstract class Transaction {
         }
     }
 
+    /**
+     * Run an action after the transaction has been committed.
+     * <p>
+     * Use for updating in-memory state (like caches) that should not change if the transaction is rolled back.
+     * Actions of a transaction run with {@link #executeOther(Transaction)} run after the outer transaction commits.
+     *
+     * @param action Action to run on the thread that committed the transaction.
+     */
+    protected void afterCommit(Runnable action) {
+        if (parent != null) {
+            parent.afterCommit(action);
+        } else {
+            afterCommit.add(action);
+        }
+    }
+
+    private void runAfterCommit() {
+        if (success) runAfterCommitActions();
+    }
+
+    private void runAfterCommitActions() {
+        List<Runnable> actions = new ArrayList<>(afterCommit);
+        afterCommit.clear(); // Clear before running so that a retried attempt does not run the actions twice.
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+
     protected void executeOther(Transaction transaction) {
         transaction.db = db;
         transaction.dbType = dbType;
         transaction.connection = this.connection;
+        transaction.parent = this;
         transaction.performOperations();
+        transaction.parent = null;
         transaction.connection = null;
         transaction.dbType = null;
         transaction.db = null;
@@ -208,6 +400,24 @@ public abstract class Transaction {
         return db.getServerUUIDSupplier().get();
     }
 
+    protected IDDictionary getIDDictionary() {
+        return db.getIDDictionary();
+    }
+
+    protected WebUserChangeNotifier getWebUserChangeNotifier() {
+        return db.getWebUserChangeNotifier();
+    }
+
+    /**
+     * Notify {@link com.djrapitops.plan.storage.database.DatabaseClearListener}s after the transaction has been
+     * committed that all data of the database was removed or replaced.
+     */
+    protected void notifyDatabaseClearedAfterCommit() {
+        SQLDB cleared = db;
+        DatabaseClearNotifier notifier = db.getDatabaseClearNotifier();
+        afterCommit(() -> notifier.databaseCleared(cleared));
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + (success ? " (finished)" : "");
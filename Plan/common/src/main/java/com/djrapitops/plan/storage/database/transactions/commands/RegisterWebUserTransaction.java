@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.delivery.domain.WebUser;
+import com.djrapitops.plan.storage.database.WebUserChangeNotifier;
 import com.djrapitops.plan.storage.database.sql.tables.SecurityTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -47,5 +48,8 @@ public class RegisterWebUserTransaction extends Transaction {
                 statement.setInt(3, webUser.getPermLevel());
             }
         });
+
+        WebUserChangeNotifier notifier = getWebUserChangeNotifier();
+        afterCommit(() -> notifier.webUserChanged(webUser.getName()));
     }
 }
\ No newline at end of file
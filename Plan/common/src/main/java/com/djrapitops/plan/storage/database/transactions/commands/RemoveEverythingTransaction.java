@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoredExtensionMetadataCache;
+import com.djrapitops.plan.storage.database.WebUserChangeNotifier;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
@@ -43,6 +45,9 @@ public class RemoveEverythingTransaction extends ThrowawayTransaction {
         clearTable(UserInfoTable.TABLE_NAME);
         clearTable(UsersTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
+        clearTable(TPSAggregateTable.TABLE_NAME);
+        clearTable(DailyRollupTable.TABLE_NAME);
+        clearTable(ActivitySnapshotTable.TABLE_NAME);
         clearTable(SecurityTable.TABLE_NAME);
         clearTable(ServerTable.TABLE_NAME);
         clearTable(ExtensionPlayerValueTable.TABLE_NAME);
@@ -55,6 +60,12 @@ public class RemoveEverythingTransaction extends ThrowawayTransaction {
         clearTable(ExtensionTabTable.TABLE_NAME);
         clearTable(ExtensionPluginTable.TABLE_NAME);
         clearTable(ExtensionIconTable.TABLE_NAME);
+
+        WebUserChangeNotifier notifier = getWebUserChangeNotifier();
+        afterCommit(notifier::allWebUsersChanged);
+        afterCommit(StoredExtensionMetadataCache::invalidateAll);
+        afterCommit(getIDDictionary()::clear);
+        notifyDatabaseClearedAfterCommit();
     }
 
     private void clearTable(String tableName) {
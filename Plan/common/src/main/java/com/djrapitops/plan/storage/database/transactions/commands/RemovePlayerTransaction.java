@@ -16,10 +16,12 @@
  */
 package com.djrapitops.plan.storage.database.transactions.commands;
 
+import com.djrapitops.plan.storage.database.IDDictionary;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.rollups.PlayerRemovalRollupTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -48,6 +50,7 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
     @Override
     protected void performOperations() {
         query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
+        executeOther(new PlayerRemovalRollupTransaction(playerUUID));
 
         deleteFromTable(GeoInfoTable.TABLE_NAME);
         deleteFromTable(NicknamesTable.TABLE_NAME);
@@ -55,12 +58,16 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromTable(WorldTimesTable.TABLE_NAME);
         deleteFromTable(SessionsTable.TABLE_NAME);
         deleteFromTable(PingTable.TABLE_NAME);
+        deleteFromTable(ActivitySnapshotTable.TABLE_NAME);
         deleteFromTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
 
         deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
         deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME);
         deleteFromTable(ExtensionGroupsTable.TABLE_NAME);
+
+        IDDictionary dictionary = getIDDictionary();
+        afterCommit(() -> dictionary.removeUser(playerUUID));
     }
 
     private void deleteWebUser(String username) {
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.delivery.domain.WebUser;
+import com.djrapitops.plan.storage.database.WebUserChangeNotifier;
 import com.djrapitops.plan.storage.database.sql.tables.SecurityTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
@@ -50,5 +51,8 @@ public class RemoveWebUserTransaction extends Transaction {
                 statement.setString(1, username);
             }
         });
+
+        WebUserChangeNotifier notifier = getWebUserChangeNotifier();
+        afterCommit(() -> notifier.webUserChanged(username));
     }
 }
\ No newline at end of file
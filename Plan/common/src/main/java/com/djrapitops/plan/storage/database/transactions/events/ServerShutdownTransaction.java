@@ -19,6 +19,7 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.rollups.SessionRollupTransaction;
 
 import java.util.Collection;
 
@@ -37,6 +38,7 @@ public class ServerShutdownTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        executeOther(new SessionRollupTransaction(unsavedSessions));
         execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions));
     }
 }
\ No newline at end of file
@@ -22,6 +22,9 @@ import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
 import com.djrapitops.plan.gathering.domain.Session;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.rollups.SessionRollupTransaction;
+
+import java.util.Collections;
 
 /**
  * Transaction for storing a session after a session has ended.
@@ -38,6 +41,7 @@ public class SessionEndTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        executeOther(new SessionRollupTransaction(Collections.singletonList(session)));
         execute(DataStoreQueries.storeSession(session));
 
         session.getValue(SessionKeys.SERVER_UUID)
@@ -20,6 +20,7 @@ import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.rollups.TPSRollupTransaction;
 
 import java.util.List;
 import java.util.UUID;
@@ -32,20 +33,36 @@ import java.util.UUID;
 public class TPSStoreTransaction extends Transaction {
 
     private final UUID serverUUID;
-    private final List<TPS> tpsList;
+    private final TPS tps;
 
     public TPSStoreTransaction(UUID serverUUID, List<TPS> tpsList) {
+        this(serverUUID, calculateTPS(tpsList));
+    }
+
+    /**
+     * Store a per-minute data point.
+     *
+     * @param serverUUID UUID of the server.
+     * @param tps        Data point calculated with {@link #calculateTPS(List)}.
+     */
+    public TPSStoreTransaction(UUID serverUUID, TPS tps) {
         this.serverUUID = serverUUID;
-        this.tpsList = tpsList;
+        this.tps = tps;
     }
 
     @Override
     protected void performOperations() {
-        TPS tps = calculateTPS();
         execute(DataStoreQueries.storeTPS(serverUUID, tps));
+        executeOther(new TPSRollupTransaction(serverUUID, tps));
     }
 
-    private TPS calculateTPS() {
+    /**
+     * Calculate a per-minute data point from data points counted during the minute.
+     *
+     * @param tpsList Data points of the minute.
+     * @return Averages of the data points, peak players online.
+     */
+    public static TPS calculateTPS(List<TPS> tpsList) {
         long lastDate = tpsList.get(tpsList.size() - 1).getDate();
         double averageTPS = tpsList.stream().mapToDouble(TPS::getTicksPerSecond).average().orElse(0);
         int peakPlayersOnline = tpsList.stream().mapToInt(TPS::getPlayers).max().orElse(0);
@@ -42,6 +42,10 @@ public class CreateIndexTransaction extends Transaction {
                 SessionsTable.USER_UUID,
                 SessionsTable.SERVER_UUID
         );
+        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_id_index",
+                SessionsTable.USER_ID,
+                SessionsTable.SERVER_ID
+        );
         createIndex(SessionsTable.TABLE_NAME, "plan_sessions_date_index",
                 SessionsTable.SESSION_START
         );
@@ -49,11 +53,20 @@ public class CreateIndexTransaction extends Transaction {
                 WorldTimesTable.USER_UUID,
                 WorldTimesTable.SERVER_UUID
         );
+        createIndex(WorldTimesTable.TABLE_NAME, "plan_world_times_id_index",
+                WorldTimesTable.USER_ID,
+                WorldTimesTable.SERVER_ID
+        );
         createIndex(KillsTable.TABLE_NAME, "plan_kills_uuid_index",
                 KillsTable.KILLER_UUID,
                 KillsTable.VICTIM_UUID,
                 KillsTable.SERVER_UUID
         );
+        createIndex(KillsTable.TABLE_NAME, "plan_kills_id_index",
+                KillsTable.KILLER_ID,
+                KillsTable.VICTIM_ID,
+                KillsTable.SERVER_ID
+        );
         createIndex(KillsTable.TABLE_NAME, "plan_kills_date_index",
                 KillsTable.DATE
         );
@@ -61,12 +74,25 @@ public class CreateIndexTransaction extends Transaction {
                 PingTable.USER_UUID,
                 PingTable.SERVER_UUID
         );
+        createIndex(PingTable.TABLE_NAME, "plan_ping_id_index",
+                PingTable.SERVER_ID,
+                PingTable.DATE
+        );
         createIndex(PingTable.TABLE_NAME, "plan_ping_date_index",
                 PingTable.DATE
         );
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(TPSAggregateTable.TABLE_NAME, "plan_tps_aggregates_date_index",
+                TPSAggregateTable.SERVER_UUID,
+                TPSAggregateTable.RESOLUTION,
+                TPSAggregateTable.DATE
+        );
+        createIndex(ActivitySnapshotTable.TABLE_NAME, "plan_activity_snapshots_date_index",
+                ActivitySnapshotTable.SERVER_UUID,
+                ActivitySnapshotTable.DATE
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
@@ -40,10 +40,13 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(KillsTable.createTableSQL(dbType));
         execute(PingTable.createTableSQL(dbType));
         execute(TPSTable.createTableSQL(dbType));
+        execute(TPSAggregateTable.createTableSQL(dbType));
         execute(WorldTable.createTableSQL(dbType));
         execute(WorldTimesTable.createTableSQL(dbType));
         execute(SecurityTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
+        execute(DailyRollupTable.createTableSQL(dbType));
+        execute(ActivitySnapshotTable.createTableSQL(dbType));
 
         // DataExtension tables
         execute(ExtensionIconTable.createTableSQL(dbType));
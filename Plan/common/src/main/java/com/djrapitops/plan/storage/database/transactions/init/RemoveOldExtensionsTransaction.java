@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.init;
 
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoredExtensionMetadataCache;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.*;
@@ -55,6 +56,8 @@ public class RemoveOldExtensionsTransaction extends ThrowawayTransaction {
             removeTableValues(providerID);
         }
         removeProviders();
+        // Removed providers need to be stored again if the extension is still in use.
+        afterCommit(StoredExtensionMetadataCache::invalidateAll);
     }
 
     private void removeValues(int providerID) {
@@ -16,9 +16,9 @@
  */
 package com.djrapitops.plan.storage.database.transactions.init;
 
-import com.djrapitops.plan.delivery.domain.DateObj;
-import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSAggregateTable;
 import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
@@ -26,50 +26,141 @@ import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Optional;
-import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
 /**
  * Transaction for cleaning up old data from the database.
+ * <p>
+ * TPS data is not removed, but kept at a lower resolution as it gets older:
+ * per-minute rows are turned into 10 minute aggregates, and those into hourly aggregates that are kept indefinitely.
  *
  * @author Rsl1122
+ * @see TPSAggregateTable
  */
 public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
 
-    private final UUID serverUUID;
-    private final long deleteTPSOlderThanMs;
+    private final long keepPerMinuteTPSForMs;
+    private final long keepTenMinuteTPSForMs;
     private final long deletePingOlderThanMs;
 
     public RemoveOldSampledDataTransaction(
-            UUID serverUUID,
-            long deleteTPSOlderThanMs,
+            long keepPerMinuteTPSForMs,
+            long keepTenMinuteTPSForMs,
             long deletePingOlderThanMs
     ) {
-        this.serverUUID = serverUUID;
-        this.deleteTPSOlderThanMs = deleteTPSOlderThanMs;
+        this.keepPerMinuteTPSForMs = keepPerMinuteTPSForMs;
+        this.keepTenMinuteTPSForMs = keepTenMinuteTPSForMs;
         this.deletePingOlderThanMs = deletePingOlderThanMs;
     }
 
     @Override
     protected void performOperations() {
-        Optional<Integer> allTimePeak = query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).map(DateObj::getValue);
+        long now = System.currentTimeMillis();
+        // Cut-off points are aligned to the buckets, so that a bucket is never aggregated partially.
+        long tenMinuteCutoff = alignTo(now - keepPerMinuteTPSForMs, TPSAggregateTable.TEN_MINUTES);
+        long hourlyCutoff = alignTo(now - keepTenMinuteTPSForMs, TPSAggregateTable.HOURLY);
 
-        execute(cleanTPSTable(allTimePeak.orElse(-1)));
+        execute(aggregatePerMinuteTPS(tenMinuteCutoff));
+        execute(deletePerMinuteTPS(tenMinuteCutoff));
+        execute(aggregateTenMinuteTPS(hourlyCutoff));
+        execute(deleteTenMinuteTPS(hourlyCutoff));
         execute(cleanPingTable());
     }
 
-    private Executable cleanTPSTable(int allTimePlayerPeak) {
+    private long alignTo(long date, long resolution) {
+        return date - date % resolution;
+    }
+
+    private String bucket(String dateColumn, long resolution) {
+        return '(' + dateColumn + '-' + dateColumn + '%' + resolution + ')';
+    }
+
+    private String minAvgMax(String column) {
+        return "MIN(" + column + "),AVG(" + column + "),MAX(" + column + ')';
+    }
+
+    private Executable aggregatePerMinuteTPS(long before) {
+        String bucket = bucket(TPSTable.DATE, TPSAggregateTable.TEN_MINUTES);
+        String sql = "INSERT INTO " + TPSAggregateTable.TABLE_NAME + " (" +
+                TPSAggregateTable.SERVER_UUID + ',' + TPSAggregateTable.VALUE_COLUMNS + ')' +
+                SELECT + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' +
+                TPSAggregateTable.TEN_MINUTES + ',' + bucket + ",COUNT(1)," +
+                minAvgMax(TPSTable.TPS) + ',' +
+                minAvgMax(TPSTable.PLAYERS_ONLINE) + ',' +
+                minAvgMax(TPSTable.CPU_USAGE) + ',' +
+                minAvgMax(TPSTable.RAM_USAGE) + ',' +
+                minAvgMax(TPSTable.ENTITIES) + ',' +
+                minAvgMax(TPSTable.CHUNKS) + ',' +
+                minAvgMax(TPSTable.FREE_DISK) +
+                FROM + TPSTable.TABLE_NAME +
+                INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_ID + '=' + TPSTable.SERVER_ID +
+                WHERE + TPSTable.DATE + "<?" +
+                GROUP_BY + ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + ',' + bucket;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, before);
+            }
+        };
+    }
+
+    private Executable deletePerMinuteTPS(long before) {
         String sql = DELETE_FROM + TPSTable.TABLE_NAME +
-                WHERE + '(' + TPSTable.DATE + "<?)" +
-                AND + '(' + TPSTable.PLAYERS_ONLINE + "!=?)";
+                WHERE + TPSTable.DATE + "<?";
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, before);
+            }
+        };
+    }
+
+    private String weightedAverage(String averageColumn) {
+        return "SUM(" + averageColumn + '*' + TPSAggregateTable.SAMPLES + ")/SUM(" + TPSAggregateTable.SAMPLES + ')';
+    }
+
+    private String minAvgMax(String minColumn, String averageColumn, String maxColumn) {
+        return "MIN(" + minColumn + ")," + weightedAverage(averageColumn) + ",MAX(" + maxColumn + ')';
+    }
+
+    private Executable aggregateTenMinuteTPS(long before) {
+        String bucket = bucket(TPSAggregateTable.DATE, TPSAggregateTable.HOURLY);
+        String sql = "INSERT INTO " + TPSAggregateTable.TABLE_NAME + " (" +
+                TPSAggregateTable.SERVER_UUID + ',' + TPSAggregateTable.VALUE_COLUMNS + ')' +
+                SELECT + TPSAggregateTable.SERVER_UUID + ',' +
+                TPSAggregateTable.HOURLY + ',' + bucket + ",SUM(" + TPSAggregateTable.SAMPLES + ")," +
+                minAvgMax(TPSAggregateTable.TPS_MIN, TPSAggregateTable.TPS_AVG, TPSAggregateTable.TPS_MAX) + ',' +
+                minAvgMax(TPSAggregateTable.PLAYERS_MIN, TPSAggregateTable.PLAYERS_AVG, TPSAggregateTable.PLAYERS_MAX) + ',' +
+                minAvgMax(TPSAggregateTable.CPU_MIN, TPSAggregateTable.CPU_AVG, TPSAggregateTable.CPU_MAX) + ',' +
+                minAvgMax(TPSAggregateTable.RAM_MIN, TPSAggregateTable.RAM_AVG, TPSAggregateTable.RAM_MAX) + ',' +
+                minAvgMax(TPSAggregateTable.ENTITIES_MIN, TPSAggregateTable.ENTITIES_AVG, TPSAggregateTable.ENTITIES_MAX) + ',' +
+                minAvgMax(TPSAggregateTable.CHUNKS_MIN, TPSAggregateTable.CHUNKS_AVG, TPSAggregateTable.CHUNKS_MAX) + ',' +
+                minAvgMax(TPSAggregateTable.FREE_DISK_MIN, TPSAggregateTable.FREE_DISK_AVG, TPSAggregateTable.FREE_DISK_MAX) +
+                FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.RESOLUTION + '=' + TPSAggregateTable.TEN_MINUTES +
+                AND + TPSAggregateTable.DATE + "<?" +
+                GROUP_BY + TPSAggregateTable.SERVER_UUID + ',' + bucket;
+
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, before);
+            }
+        };
+    }
+
+    private Executable deleteTenMinuteTPS(long before) {
+        String sql = DELETE_FROM + TPSAggregateTable.TABLE_NAME +
+                WHERE + TPSAggregateTable.RESOLUTION + '=' + TPSAggregateTable.TEN_MINUTES +
+                AND + TPSAggregateTable.DATE + "<?";
 
         return new ExecStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, System.currentTimeMillis() - deleteTPSOlderThanMs);
-                statement.setInt(2, allTimePlayerPeak);
+                statement.setLong(1, before);
             }
         };
     }
@@ -86,4 +177,4 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
             }
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.schema.H2SchemaQueries;
+import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
+import com.djrapitops.plan.storage.database.queries.schema.SQLiteSchemaQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionPlayerValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionServerValueTable;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Patch that makes values of DataExtension providers unique per player (or server) and provider.
+ * <p>
+ * Duplicate values are removed, keeping the latest one, so that the values can be inserted if absent.
+ *
+ * @author Rsl1122
+ */
+public class ExtensionValueUniquenessPatch extends Patch {
+
+    private static final String PLAYER_VALUE_INDEX = "plan_extension_user_values_unique_index";
+    private static final String SERVER_VALUE_INDEX = "plan_extension_server_values_unique_index";
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasIndex(PLAYER_VALUE_INDEX, ExtensionPlayerValueTable.TABLE_NAME)
+                && hasIndex(SERVER_VALUE_INDEX, ExtensionServerValueTable.TABLE_NAME);
+    }
+
+    private boolean hasIndex(String indexName, String tableName) {
+        switch (dbType) {
+            case H2:
+                return query(H2SchemaQueries.doesIndexExist(indexName, tableName));
+            case SQLITE:
+                return query(SQLiteSchemaQueries.doesIndexExist(indexName, tableName));
+            case MYSQL:
+                return query(MySQLSchemaQueries.doesIndexExist(indexName, tableName));
+            default:
+                throw new IllegalStateException("Unsupported Database Type: " + dbType.getName());
+        }
+    }
+
+    @Override
+    protected void applyPatch() {
+        if (!hasIndex(PLAYER_VALUE_INDEX, ExtensionPlayerValueTable.TABLE_NAME)) {
+            removeDuplicates(ExtensionPlayerValueTable.TABLE_NAME, ExtensionPlayerValueTable.ID,
+                    ExtensionPlayerValueTable.PROVIDER_ID, ExtensionPlayerValueTable.USER_UUID);
+            createUniqueIndex(PLAYER_VALUE_INDEX, ExtensionPlayerValueTable.TABLE_NAME,
+                    ExtensionPlayerValueTable.PROVIDER_ID, ExtensionPlayerValueTable.USER_UUID);
+        }
+        if (!hasIndex(SERVER_VALUE_INDEX, ExtensionServerValueTable.TABLE_NAME)) {
+            removeDuplicates(ExtensionServerValueTable.TABLE_NAME, ExtensionServerValueTable.ID,
+                    ExtensionServerValueTable.PROVIDER_ID);
+            createUniqueIndex(SERVER_VALUE_INDEX, ExtensionServerValueTable.TABLE_NAME,
+                    ExtensionServerValueTable.PROVIDER_ID);
+        }
+    }
+
+    private void removeDuplicates(String tableName, String idColumn, String... uniqueColumns) {
+        // The extra sub query is required by MySQL, which does not allow selecting from the table that is deleted from.
+        execute(DELETE_FROM + tableName + WHERE + idColumn + " NOT IN (" +
+                SELECT + idColumn + FROM + '(' +
+                SELECT + "MAX(" + idColumn + ") as " + idColumn + FROM + tableName +
+                GROUP_BY + String.join(",", uniqueColumns) +
+                ") latest)");
+    }
+
+    private void createUniqueIndex(String indexName, String tableName, String... columns) {
+        execute("CREATE UNIQUE INDEX " + indexName + " ON " + tableName + " (" + String.join(",", columns) + ')');
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Patch that adds integer user and server ID columns next to the UUID columns of a table.
+ * <p>
+ * The IDs are filled from plan_users and plan_servers, so that queries can join on integers instead of UUID strings.
+ * UUID columns are kept as is, rows that can not be matched to a user or server are left with NULL ID.
+ *
+ * @author Rsl1122
+ */
+public class IntegerIDPatch extends Patch {
+
+    private final String tableName;
+    private final List<IDColumn> idColumns;
+
+    public IntegerIDPatch(String tableName) {
+        this.tableName = tableName;
+        idColumns = new ArrayList<>();
+    }
+
+    public IntegerIDPatch userID(String idColumn, String uuidColumn) {
+        idColumns.add(new IDColumn(idColumn, uuidColumn, UsersTable.TABLE_NAME, UsersTable.ID, UsersTable.USER_UUID));
+        return this;
+    }
+
+    public IntegerIDPatch serverID(String idColumn, String uuidColumn) {
+        idColumns.add(new IDColumn(idColumn, uuidColumn, ServerTable.TABLE_NAME, ServerTable.SERVER_ID, ServerTable.SERVER_UUID));
+        return this;
+    }
+
+    @Override
+    public boolean hasBeenApplied() {
+        for (IDColumn column : idColumns) {
+            if (!hasColumn(tableName, column.idColumn) || hasUnresolvedIDs(column)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasUnresolvedIDs(IDColumn column) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + tableName + " t" +
+                INNER_JOIN + column.referencedTable + " r on r." + column.referencedUUIDColumn + "=t." + column.uuidColumn +
+                WHERE + "t." + column.idColumn + IS_NULL;
+        return query(new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        for (IDColumn column : idColumns) {
+            if (!hasColumn(tableName, column.idColumn)) {
+                addColumn(tableName, column.idColumn + ' ' + INT);
+            }
+        }
+        for (IDColumn column : idColumns) {
+            execute("UPDATE " + tableName + " SET " + column.idColumn + "=(" +
+                    SELECT + column.referencedTable + '.' + column.referencedIDColumn +
+                    FROM + column.referencedTable +
+                    WHERE + column.referencedTable + '.' + column.referencedUUIDColumn + '=' + tableName + '.' + column.uuidColumn +
+                    " LIMIT 1)" +
+                    WHERE + column.idColumn + IS_NULL);
+        }
+    }
+
+    private static class IDColumn {
+        private final String idColumn;
+        private final String uuidColumn;
+        private final String referencedTable;
+        private final String referencedIDColumn;
+        private final String referencedUUIDColumn;
+
+        IDColumn(String idColumn, String uuidColumn, String referencedTable, String referencedIDColumn, String referencedUUIDColumn) {
+            this.idColumn = idColumn;
+            this.uuidColumn = uuidColumn;
+            this.referencedTable = referencedTable;
+            this.referencedIDColumn = referencedIDColumn;
+            this.referencedUUIDColumn = referencedUUIDColumn;
+        }
+    }
+}
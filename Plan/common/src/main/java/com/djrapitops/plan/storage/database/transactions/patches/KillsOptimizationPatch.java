@@ -33,12 +33,10 @@ public class KillsOptimizationPatch extends Patch {
 
     @Override
     public boolean hasBeenApplied() {
+        // ID columns were added back by IntegerIDPatch, so only the UUID columns tell the old schema apart.
         return hasColumn(tableName, KillsTable.VICTIM_UUID)
                 && hasColumn(tableName, KillsTable.KILLER_UUID)
                 && hasColumn(tableName, KillsTable.SERVER_UUID)
-                && !hasColumn(tableName, "killer_id")
-                && !hasColumn(tableName, "victim_id")
-                && !hasColumn(tableName, "server_id")
                 && !hasTable(tempTableName); // If this table exists the patch has failed to finish.
     }
 
@@ -33,10 +33,9 @@ public class SessionsOptimizationPatch extends Patch {
 
     @Override
     public boolean hasBeenApplied() {
+        // ID columns were added back by IntegerIDPatch, so only the UUID columns tell the old schema apart.
         return hasColumn(tableName, SessionsTable.USER_UUID)
                 && hasColumn(tableName, SessionsTable.SERVER_UUID)
-                && !hasColumn(tableName, "user_id")
-                && !hasColumn(tableName, "server_id")
                 && !hasTable(tempTableName); // If this table exists the patch has failed to finish.
     }
 
@@ -33,11 +33,10 @@ public class WorldTimesOptimizationPatch extends Patch {
 
     @Override
     public boolean hasBeenApplied() {
+        // ID columns were added back by IntegerIDPatch, so only the UUID columns tell the old schema apart.
         return hasColumn(tableName, WorldTimesTable.ID)
                 && hasColumn(tableName, WorldTimesTable.USER_UUID)
                 && hasColumn(tableName, WorldTimesTable.SERVER_UUID)
-                && !hasColumn(tableName, "user_id")
-                && !hasColumn(tableName, "server_id")
                 && !hasTable(tempTableName); // If this table exists the patch has failed to finish.
     }
 
@@ -0,0 +1,121 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.storage.database.queries.analysis.ActivitySnapshotQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ActivitySnapshotTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction that stores Activity Index snapshots of a server to {@link ActivitySnapshotTable}.
+ * <p>
+ * A snapshot is kept for the start of the current hour and the start of every day (UTC) for the past 9 weeks,
+ * which covers the Activity graphs of the server page. Missing day snapshots are calculated as well,
+ * so the first execution fills the whole history.
+ *
+ * @author Rsl1122
+ */
+public class ActivitySnapshotTransaction extends Transaction {
+
+    private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1L);
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+    private static final int KEEP_DAYS = 63;
+
+    private final UUID serverUUID;
+    private final long date;
+
+    public ActivitySnapshotTransaction(UUID serverUUID, long date) {
+        this.serverUUID = serverUUID;
+        this.date = date;
+    }
+
+    @Override
+    protected void performOperations() {
+        long latest = date - Math.floorMod(date, HOUR_MS);
+        long today = date - Math.floorMod(date, DAY_MS);
+        long keepAfter = today - KEEP_DAYS * DAY_MS;
+
+        Set<Long> existing = query(ActivitySnapshotQueries.fetchSnapshotDates(serverUUID, 0L));
+
+        Set<Long> needed = new TreeSet<>();
+        needed.add(latest);
+        for (int day = 0; day <= KEEP_DAYS; day++) {
+            needed.add(today - day * DAY_MS);
+        }
+
+        for (Long snapshotDate : existing) {
+            if (!needed.contains(snapshotDate) || snapshotDate < keepAfter) {
+                execute(deleteSnapshot(snapshotDate));
+            }
+        }
+        for (Long snapshotDate : needed) {
+            if (!existing.contains(snapshotDate)) {
+                execute(storeSnapshot(snapshotDate, query(ActivitySnapshotQueries.calculateWeeklyActivePlaytime(serverUUID, snapshotDate))));
+            }
+        }
+    }
+
+    private Executable deleteSnapshot(long snapshotDate) {
+        String sql = DELETE_FROM + ActivitySnapshotTable.TABLE_NAME +
+                WHERE + ActivitySnapshotTable.SERVER_UUID + "=?" +
+                AND + ActivitySnapshotTable.DATE + "=?";
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, snapshotDate);
+            }
+        };
+    }
+
+    private Executable storeSnapshot(long snapshotDate, Map<UUID, Long[]> weeklyPlaytime) {
+        if (weeklyPlaytime.isEmpty()) {
+            return Executable.empty();
+        }
+
+        return new ExecBatchStatement(ActivitySnapshotTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<UUID, Long[]> entry : weeklyPlaytime.entrySet()) {
+                    Long[] weeks = entry.getValue();
+                    statement.setString(1, serverUUID.toString());
+                    statement.setString(2, entry.getKey().toString());
+                    statement.setLong(3, snapshotDate);
+                    for (int week = 0; week < 3; week++) {
+                        if (weeks[week] != null) {
+                            statement.setLong(4 + week, weeks[week]);
+                        } else {
+                            statement.setNull(4 + week, Types.BIGINT);
+                        }
+                    }
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyRollupTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Transaction that calculates the daily rollups of existing data for a time zone offset that has no rollups yet.
+ * <p>
+ * After the rollups exist they are kept up to date by {@link SessionRollupTransaction},
+ * {@link NewPlayerRollupTransaction} and {@link TPSRollupTransaction}.
+ * <p>
+ * The offset is claimed with a marker row before calculating, so that only one server on a network backfills it.
+ *
+ * @author Rsl1122
+ */
+public class DailyRollupBackfillTransaction extends DailyRollupTransaction {
+
+    private final UUID serverUUID;
+    private final long timeZoneOffset;
+
+    public DailyRollupBackfillTransaction(UUID serverUUID, long timeZoneOffset) {
+        this.serverUUID = serverUUID;
+        this.timeZoneOffset = timeZoneOffset;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !query(DailyRollupQueries.hasRollups(timeZoneOffset));
+    }
+
+    @Override
+    protected void performOperations() {
+        if (!claimTimeZoneOffset(serverUUID, timeZoneOffset)) {
+            return; // Another server is calculating or has calculated the rollups.
+        }
+
+        long now = System.currentTimeMillis();
+
+        Map<UUID, Map<Long, DayRollup>> rollups = new HashMap<>();
+        for (UUID server : query(ServerQueries.fetchPlanServerInformation()).keySet()) {
+            rollups.put(server, calculateRollups(server, now));
+        }
+        execute(storeRollups(rollups));
+    }
+
+    private Map<Long, DayRollup> calculateRollups(UUID server, long now) {
+        Map<Long, DayRollup> days = new HashMap<>();
+        query(PlayerCountQueries.uniquePlayerCounts(0L, now, timeZoneOffset, server))
+                .forEach((date, count) -> getDay(days, date).uniquePlayers = count);
+        query(PlayerCountQueries.newPlayerCounts(0L, now, timeZoneOffset, server))
+                .forEach((date, count) -> getDay(days, date).newPlayers = count);
+        query(SessionQueries.playtimePerDay(0L, now, timeZoneOffset, server))
+                .forEach((date, playtime) -> getDay(days, date).playtime = playtime);
+        query(SessionQueries.sessionCountPerDay(0L, now, timeZoneOffset, server))
+                .forEach((date, count) -> getDay(days, date).sessionCount = count);
+
+        for (DateObj<Integer> playersOnline : query(TPSQueries.fetchPeakPlayersOnlineOfServer(0L, now, server))) {
+            long date = DailyRollupQueries.toDayStamp(playersOnline.getDate(), timeZoneOffset);
+            DayRollup day = getDay(days, date);
+            if (playersOnline.getValue() >= day.peakPlayers) {
+                day.peakPlayers = playersOnline.getValue();
+                day.peakDate = playersOnline.getDate();
+            }
+        }
+        return days;
+    }
+
+    private DayRollup getDay(Map<Long, DayRollup> days, long date) {
+        return days.computeIfAbsent(date, DayRollup::new);
+    }
+
+    private Executable storeRollups(Map<UUID, Map<Long, DayRollup>> rollups) {
+        if (rollups.values().stream().allMatch(Map::isEmpty)) {
+            return Executable.empty();
+        }
+
+        return new ExecBatchStatement(DailyRollupTable.insertIfAbsentStatement(dbType)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Map.Entry<UUID, Map<Long, DayRollup>> entry : rollups.entrySet()) {
+                    String server = entry.getKey().toString();
+                    for (DayRollup day : entry.getValue().values()) {
+                        statement.setString(1, server);
+                        statement.setLong(2, day.date);
+                        statement.setLong(3, timeZoneOffset);
+                        statement.setInt(4, day.uniquePlayers);
+                        statement.setInt(5, day.newPlayers);
+                        statement.setLong(6, day.playtime);
+                        statement.setInt(7, day.sessionCount);
+                        statement.setInt(8, day.peakPlayers);
+                        statement.setLong(9, day.peakDate);
+                        statement.addBatch();
+                    }
+                }
+            }
+        };
+    }
+
+    private static class DayRollup {
+        private final long date;
+        private int uniquePlayers;
+        private int newPlayers;
+        private long playtime;
+        private int sessionCount;
+        private int peakPlayers;
+        private long peakDate;
+
+        DayRollup(long date) {
+            this.date = date;
+            this.peakDate = date;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+import com.djrapitops.plan.storage.database.sql.tables.DailyRollupTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Base for transactions that keep {@link DailyRollupTable} up to date.
+ * <p>
+ * Rows are updated for every time zone offset that has rollups. Missing rows are inserted empty if absent before the
+ * update, so that concurrent writers never insert the same day twice.
+ *
+ * @author Rsl1122
+ */
+public abstract class DailyRollupTransaction extends Transaction {
+
+    protected Set<Long> getTrackedTimeZoneOffsets() {
+        return query(DailyRollupQueries.fetchTrackedTimeZoneOffsets());
+    }
+
+    protected void addToDay(UUID serverUUID, long date, long timeZoneOffset, int uniquePlayers, int newPlayers, long playtime, int sessionCount) {
+        execute(insertDayIfAbsent(serverUUID, date, timeZoneOffset, 0, 0, 0L, 0, 0, date));
+        execute(incrementDay(serverUUID, date, timeZoneOffset, uniquePlayers, newPlayers, playtime, sessionCount));
+    }
+
+    protected void subtractFromDay(UUID serverUUID, long date, long timeZoneOffset, int uniquePlayers, int newPlayers, long playtime, int sessionCount) {
+        execute(incrementDay(serverUUID, date, timeZoneOffset, -uniquePlayers, -newPlayers, -playtime, -sessionCount));
+    }
+
+    protected void updatePeakOfDay(UUID serverUUID, long date, long timeZoneOffset, int playersOnline, long peakDate) {
+        execute(insertDayIfAbsent(serverUUID, date, timeZoneOffset, 0, 0, 0L, 0, 0, date));
+        execute(updatePeak(serverUUID, date, timeZoneOffset, playersOnline, peakDate));
+    }
+
+    /**
+     * Insert an empty row that marks the time zone offset as tracked.
+     *
+     * @param serverUUID     UUID of the server inserting the row.
+     * @param timeZoneOffset Time zone offset to claim.
+     * @return true if this transaction claimed the offset, false if another server already had.
+     */
+    protected boolean claimTimeZoneOffset(UUID serverUUID, long timeZoneOffset) {
+        long marker = DailyRollupTable.TRACKED_MARKER_DATE;
+        return execute(insertDayIfAbsent(serverUUID, marker, timeZoneOffset, 0, 0, 0L, 0, 0, marker));
+    }
+
+    private Executable incrementDay(UUID serverUUID, long date, long timeZoneOffset, int uniquePlayers, int newPlayers, long playtime, int sessionCount) {
+        return new ExecStatement(DailyRollupTable.INCREMENT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, uniquePlayers);
+                statement.setInt(2, newPlayers);
+                statement.setLong(3, playtime);
+                statement.setInt(4, sessionCount);
+                statement.setString(5, serverUUID.toString());
+                statement.setLong(6, date);
+                statement.setLong(7, timeZoneOffset);
+            }
+        };
+    }
+
+    private Executable updatePeak(UUID serverUUID, long date, long timeZoneOffset, int playersOnline, long peakDate) {
+        return new ExecStatement(DailyRollupTable.UPDATE_PEAK_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, playersOnline);
+                statement.setLong(2, peakDate);
+                statement.setInt(3, playersOnline);
+                statement.setInt(4, playersOnline);
+                statement.setString(5, serverUUID.toString());
+                statement.setLong(6, date);
+                statement.setLong(7, timeZoneOffset);
+            }
+        };
+    }
+
+    private Executable insertDayIfAbsent(
+            UUID serverUUID, long date, long timeZoneOffset,
+            int uniquePlayers, int newPlayers, long playtime, int sessionCount,
+            int peakPlayers, long peakDate
+    ) {
+        return new ExecStatement(DailyRollupTable.insertIfAbsentStatement(dbType)) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, date);
+                statement.setLong(3, timeZoneOffset);
+                statement.setInt(4, uniquePlayers);
+                statement.setInt(5, newPlayers);
+                statement.setLong(6, playtime);
+                statement.setInt(7, sessionCount);
+                statement.setInt(8, peakPlayers);
+                statement.setLong(9, peakDate);
+            }
+        };
+    }
+}
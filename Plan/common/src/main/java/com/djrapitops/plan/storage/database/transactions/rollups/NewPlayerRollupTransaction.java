@@ -0,0 +1,45 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+
+import java.util.UUID;
+
+/**
+ * Transaction that adds a player registered to a server to the daily rollups.
+ *
+ * @author Rsl1122
+ */
+public class NewPlayerRollupTransaction extends DailyRollupTransaction {
+
+    private final UUID serverUUID;
+    private final long registered;
+
+    public NewPlayerRollupTransaction(UUID serverUUID, long registered) {
+        this.serverUUID = serverUUID;
+        this.registered = registered;
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Long timeZoneOffset : getTrackedTimeZoneOffsets()) {
+            long date = DailyRollupQueries.toDayStamp(registered, timeZoneOffset);
+            addToDay(serverUUID, date, timeZoneOffset, 0, 1, 0L, 0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.gathering.domain.UserInfo;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
+
+import java.util.*;
+
+/**
+ * Transaction that removes the data of a player from the daily rollups.
+ * <p>
+ * Needs to be executed before the sessions and user information of the player are removed.
+ *
+ * @author Rsl1122
+ */
+public class PlayerRemovalRollupTransaction extends DailyRollupTransaction {
+
+    private final UUID playerUUID;
+
+    public PlayerRemovalRollupTransaction(UUID playerUUID) {
+        this.playerUUID = playerUUID;
+    }
+
+    @Override
+    protected void performOperations() {
+        Set<Long> timeZoneOffsets = getTrackedTimeZoneOffsets();
+        if (timeZoneOffsets.isEmpty()) {
+            return;
+        }
+
+        List<Session> sessions = query(SessionQueries.fetchPlayerSessionsWithoutKillOrWorldData(playerUUID));
+        List<UserInfo> registrations = query(UserInfoQueries.fetchUserInformationOfUser(playerUUID));
+        for (Long timeZoneOffset : timeZoneOffsets) {
+            removeSessions(sessions, timeZoneOffset);
+            for (UserInfo registration : registrations) {
+                long date = DailyRollupQueries.toDayStamp(registration.getRegistered(), timeZoneOffset);
+                subtractFromDay(registration.getServerUUID(), date, timeZoneOffset, 0, 1, 0L, 0);
+            }
+        }
+    }
+
+    private void removeSessions(List<Session> sessions, long timeZoneOffset) {
+        Map<UUID, Map<Long, List<Session>>> byServerAndDay = new HashMap<>();
+        for (Session session : sessions) {
+            UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
+            long date = DailyRollupQueries.toDayStamp(session.getUnsafe(SessionKeys.START), timeZoneOffset);
+            byServerAndDay.computeIfAbsent(serverUUID, key -> new HashMap<>())
+                    .computeIfAbsent(date, key -> new ArrayList<>())
+                    .add(session);
+        }
+
+        for (Map.Entry<UUID, Map<Long, List<Session>>> server : byServerAndDay.entrySet()) {
+            for (Map.Entry<Long, List<Session>> day : server.getValue().entrySet()) {
+                long playtime = 0L;
+                for (Session session : day.getValue()) {
+                    playtime += session.getUnsafe(SessionKeys.END) - session.getUnsafe(SessionKeys.START);
+                }
+                subtractFromDay(server.getKey(), day.getKey(), timeZoneOffset, 1, 0, playtime, day.getValue().size());
+            }
+        }
+    }
+}
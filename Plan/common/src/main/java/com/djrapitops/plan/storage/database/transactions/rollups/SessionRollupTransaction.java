@@ -0,0 +1,60 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Transaction that adds ended sessions to the daily rollups.
+ * <p>
+ * Needs to be executed before the sessions are stored, so that the first session of a player on a day can be detected.
+ *
+ * @author Rsl1122
+ */
+public class SessionRollupTransaction extends DailyRollupTransaction {
+
+    private final Collection<Session> sessions;
+
+    public SessionRollupTransaction(Collection<Session> sessions) {
+        this.sessions = sessions;
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Long timeZoneOffset : getTrackedTimeZoneOffsets()) {
+            for (Session session : sessions) {
+                addSession(session, timeZoneOffset);
+            }
+        }
+    }
+
+    private void addSession(Session session, long timeZoneOffset) {
+        UUID playerUUID = session.getUnsafe(SessionKeys.UUID);
+        UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
+        long start = session.getUnsafe(SessionKeys.START);
+        long end = session.getUnsafe(SessionKeys.END);
+
+        long date = DailyRollupQueries.toDayStamp(start, timeZoneOffset);
+        boolean firstSessionOfDay = !query(DailyRollupQueries.hasPlayedOnDay(playerUUID, serverUUID, date, timeZoneOffset));
+        addToDay(serverUUID, date, timeZoneOffset, firstSessionOfDay ? 1 : 0, 0, end - start, 1);
+    }
+}
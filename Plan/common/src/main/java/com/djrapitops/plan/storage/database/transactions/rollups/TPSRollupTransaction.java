@@ -0,0 +1,46 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.rollups;
+
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+
+import java.util.UUID;
+
+/**
+ * Transaction that updates the peak player count of the daily rollups with a TPS data point.
+ *
+ * @author Rsl1122
+ */
+public class TPSRollupTransaction extends DailyRollupTransaction {
+
+    private final UUID serverUUID;
+    private final TPS tps;
+
+    public TPSRollupTransaction(UUID serverUUID, TPS tps) {
+        this.serverUUID = serverUUID;
+        this.tps = tps;
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Long timeZoneOffset : getTrackedTimeZoneOffsets()) {
+            long date = DailyRollupQueries.toDayStamp(tps.getDate(), timeZoneOffset);
+            updatePeakOfDay(serverUUID, date, timeZoneOffset, tps.getPlayers(), tps.getDate());
+        }
+    }
+}
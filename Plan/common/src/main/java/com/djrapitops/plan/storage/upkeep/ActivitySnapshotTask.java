@@ -0,0 +1,66 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.upkeep;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.rollups.ActivitySnapshotTransaction;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.djrapitops.plugin.task.AbsRunnable;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Task for storing Activity Index snapshots of the current server.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ActivitySnapshotTask extends AbsRunnable {
+
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final ErrorHandler errorHandler;
+
+    @Inject
+    public ActivitySnapshotTask(
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            ErrorHandler errorHandler
+    ) {
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public void run() {
+        Database database = dbSystem.getDatabase();
+        try {
+            if (database.getState() != Database.State.CLOSED) {
+                database.executeTransaction(new ActivitySnapshotTransaction(serverInfo.getServerUUID(), System.currentTimeMillis()));
+            }
+        } catch (DBOpException e) {
+            errorHandler.log(L.ERROR, this.getClass(), e);
+            cancel();
+        }
+    }
+}
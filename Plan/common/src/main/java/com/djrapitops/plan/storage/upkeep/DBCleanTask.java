@@ -98,8 +98,8 @@ public class DBCleanTask extends AbsRunnable {
         try {
             if (database.getState() != Database.State.CLOSED) {
                 database.executeTransaction(new RemoveOldSampledDataTransaction(
-                        serverInfo.getServerUUID(),
-                        config.get(TimeSettings.DELETE_TPS_DATA_AFTER),
+                        config.get(TimeSettings.KEEP_PER_MINUTE_TPS_DATA_FOR),
+                        config.get(TimeSettings.KEEP_TEN_MINUTE_TPS_DATA_FOR),
                         config.get(TimeSettings.DELETE_PING_DATA_AFTER)
                 ));
                 database.executeTransaction(new RemoveDuplicateUserInfoTransaction());
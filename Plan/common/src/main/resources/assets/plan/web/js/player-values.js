@@ -227,4 +227,70 @@ function createserverAccordionBody(i, server) {
         '<div id="worldpie_server_' + i + '" class="chart-pie"></div>' +
         '</div>' +
         '</div></td></tr>'
-}
\ No newline at end of file
+}
+function loadPlayerSessionsPage(json, error, loadNextPage) {
+    var sessionTable = $("#sessions-overview").find("#tableAccordion").find("tbody");
+    var loadMore = $('#sessionsLoadMore');
+    loadMore.hide();
+
+    if (error) {
+        sessionTable.append('<tr><td>Error: ' + error + '</td><td>-</td><td>-</td><td>-</td></tr>');
+        return;
+    }
+
+    var sessions = json.sessions;
+
+    if (!sessions.length && !json.page) {
+        sessionTable.append('<tr><td>No Data</td><td>-</td><td>-</td><td>-</td></tr>');
+        return;
+    }
+
+    // Sessions are indexed across pages so that ids of earlier pages are not reused.
+    var first = json.page * json.sessions_per_page;
+    var pageSessions = {};
+    var sessionsHtml = '';
+    for (var i = 0; i < sessions.length; i++) {
+        var index = first + i;
+        pageSessions[index] = sessions[i];
+        sessionsHtml += createAccordionTitle(index, sessions[i]) + createAccordionBody(index, sessions[i]);
+    }
+
+    sessionTable.append(sessionsHtml);
+
+    for (var j = first; j < first + sessions.length; j++) {
+        $('#session_h_' + j).click(onOpenSession(j, pageSessions));
+    }
+
+    if (json.has_more) {
+        loadMore.off('click').click(function () {
+            loadMore.hide();
+            loadNextPage(json.page + 1);
+        }).show();
+    }
+}
+
+var loadedPlayerKills = [];
+var loadedPlayerDeaths = [];
+
+function loadPlayerKillsPage(json, error, loadNextPage) {
+    var loadMore = $('#killsLoadMore');
+    loadMore.hide();
+
+    if (error) {
+        $('#playerKillTable').html('<p>Failed to load player kills: ' + error + '</p>');
+        $('#playerDeathTable').html('<p>Failed to load player deaths: ' + error + '</p>');
+        return;
+    }
+
+    loadedPlayerKills = loadedPlayerKills.concat(json.player_kills);
+    loadedPlayerDeaths = loadedPlayerDeaths.concat(json.player_deaths);
+    $('#playerKillTable').html(createKillsTable(loadedPlayerKills));
+    $('#playerDeathTable').html(createKillsTable(loadedPlayerDeaths));
+
+    if (json.has_more) {
+        loadMore.off('click').click(function () {
+            loadMore.hide();
+            loadNextPage(json.page + 1);
+        }).show();
+    }
+}
@@ -26,8 +26,11 @@ import org.junit.runner.RunWith;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test class for {@link LineGraph}.
@@ -71,6 +74,59 @@ class LineGraphTest {
         }
     }
 
+    @Test
+    void downsampledGraphKeepsEndsAndPeaks() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            points.add(new Point(i * 60000L, i == 5000 ? 100.0 : i % 3));
+        }
+
+        List<Point> downsampled = LargestTriangleThreeBuckets.downsample(points, 100);
+
+        assertEquals(100, downsampled.size());
+        assertEquals(points.get(0), downsampled.get(0));
+        assertEquals(points.get(9999), downsampled.get(99));
+        assertTrue(downsampled.contains(points.get(5000)));
+        for (int i = 1; i < downsampled.size(); i++) {
+            assertTrue(downsampled.get(i - 1).getX() < downsampled.get(i).getX());
+        }
+        assertBracketMatch(new LineGraph(points, true).downsample(100).toHighChartsSeries().toCharArray());
+    }
+
+    @Test
+    void downsampledGraphKeepsOutagesOfLongRanges() {
+        long minute = 60000L;
+        long outageStart = 20000L * minute;
+        long outageEnd = outageStart + 120L * minute;
+        List<Point> points = new ArrayList<>();
+        for (long date = 0; date < 43200L * minute; date += minute) {
+            if (date < outageStart || date >= outageEnd) {
+                points.add(new Point(date, 20.0));
+            }
+        }
+
+        List<Point> downsampled = new LineGraph(points, true).downsample(500).getPoints();
+
+        assertTrue(downsampled.size() < 600, () -> "Too many points: " + downsampled.size());
+        List<Point> gaps = downsampled.stream().filter(point -> point.getY() == null).collect(Collectors.toList());
+        assertEquals(1, gaps.size(), () -> "Expected one gap: " + gaps);
+        assertTrue(gaps.get(0).getX() > outageStart - minute && gaps.get(0).getX() < outageEnd);
+    }
+
+    @Test
+    void aggregatedDataIsNotDisplayedAsGaps() {
+        long hour = 3600000L;
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 24 * 90; i++) {
+            points.add(new Point(i * hour, 20.0));
+        }
+
+        List<Point> downsampled = new LineGraph(points, true).downsample(500).getPoints();
+
+        assertTrue(downsampled.stream().noneMatch(point -> point.getY() == null));
+        assertFalse(new LineGraph(points, true).toHighChartsSeries().contains("null"));
+    }
+
     private void assertBracketMatch(char[] chars) {
         Stack<Character> bracketStack = new Stack<>();
         for (int i = 0; i < chars.length; i++) {
@@ -0,0 +1,168 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver;
+
+import com.djrapitops.plan.delivery.webserver.response.ResponseFactory;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.settings.theme.Theme;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for back-pressure of {@link RequestExecutor}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class RequestExecutorTest {
+
+    private HttpServer server;
+    private RequestExecutor underTest;
+    private ExecutorService clients;
+    private CountDownLatch release;
+    private CountDownLatch workerBusy;
+    private CountDownLatch overloadBusy;
+    private volatile boolean blockOverloaded;
+    private AtomicInteger executedExchanges;
+    private URL address;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        release = new CountDownLatch(1);
+        workerBusy = new CountDownLatch(1);
+        overloadBusy = new CountDownLatch(1);
+        blockOverloaded = false;
+        executedExchanges = new AtomicInteger();
+        clients = Executors.newFixedThreadPool(4);
+
+        RequestHandler requestHandler = new RequestHandler(
+                mock(Locale.class), mock(PlanConfig.class), mock(Theme.class), mock(DBSystem.class),
+                mock(ResponseResolver.class), mock(ResponseFactory.class), mock(PluginLogger.class),
+                mock(ErrorHandler.class), new WebServerMetrics()
+        );
+        underTest = new RequestExecutor(1, 1, new WebServerMetrics(), (thread, throwable) -> { /* Ignored */ });
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            if (RequestExecutor.isDropped()) {
+                requestHandler.handle(exchange);
+                return;
+            }
+            if (RequestExecutor.isOverloaded()) {
+                if (blockOverloaded) {
+                    overloadBusy.countDown();
+                    awaitRelease();
+                }
+                requestHandler.handle(exchange);
+                return;
+            }
+            workerBusy.countDown();
+            awaitRelease();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.setExecutor(exchange -> {
+            underTest.execute(exchange);
+            executedExchanges.incrementAndGet();
+        });
+        server.start();
+        address = new URL("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+        underTest.shutdownNow();
+        clients.shutdownNow();
+    }
+
+    private HttpURLConnection request() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) address.openConnection();
+        connection.setConnectTimeout(5000);
+        connection.setReadTimeout(10000);
+        return connection;
+    }
+
+    private void awaitExecutedExchanges(int expected) throws InterruptedException {
+        long waitUntil = System.currentTimeMillis() + 5000L;
+        while (executedExchanges.get() < expected && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, executedExchanges.get(), "Request " + expected + " was not queued");
+    }
+
+    @Test
+    void saturatedExecutorAnswersWithServiceUnavailable() throws Exception {
+        Future<Integer> handled = clients.submit(() -> request().getResponseCode());
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS), "Worker did not start handling the first request");
+        Future<Integer> queued = clients.submit(() -> request().getResponseCode());
+        awaitExecutedExchanges(2);
+
+        HttpURLConnection overloaded = request();
+        assertEquals(503, overloaded.getResponseCode());
+        assertEquals("1", overloaded.getHeaderField("Retry-After"));
+
+        release.countDown();
+        assertEquals(204, (int) handled.get(10, TimeUnit.SECONDS));
+        assertEquals(204, (int) queued.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void saturatedOverloadResponderClosesConnection() throws Exception {
+        blockOverloaded = true;
+        clients.submit(() -> request().getResponseCode());
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS), "Worker did not start handling the first request");
+        clients.submit(() -> request().getResponseCode());
+        awaitExecutedExchanges(2);
+        clients.submit(() -> request().getResponseCode());
+        assertTrue(overloadBusy.await(5, TimeUnit.SECONDS), "Overload thread did not start handling the third request");
+        clients.submit(() -> request().getResponseCode());
+        awaitExecutedExchanges(4);
+
+        IOException dropped = assertThrows(IOException.class, () -> request().getResponseCode());
+        assertFalse(dropped instanceof SocketTimeoutException, "Connection was left open: " + dropped);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.domain.WebUser;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.utilities.Base64Util;
+import com.djrapitops.plan.utilities.PassEncryptUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for caching of credentials verified by {@link BasicAuthentication}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class BasicAuthenticationTest {
+
+    private static final String USERNAME = "TestUser";
+    private static final String PASSWORD = "testPass";
+
+    private WebUser webUser;
+    private String authenticationString;
+    private Database database;
+
+    @BeforeEach
+    void setUp() throws PassEncryptUtil.CannotPerformOperationException {
+        VerifiedCredentialCache.invalidateAll();
+        webUser = new WebUser(USERNAME, PassEncryptUtil.createHash(PASSWORD), 0);
+        authenticationString = Base64Util.encode(USERNAME + ':' + PASSWORD);
+        database = mock(Database.class);
+        when(database.getState()).thenReturn(Database.State.OPEN);
+    }
+
+    @AfterEach
+    void clearCache() {
+        VerifiedCredentialCache.invalidateAll();
+    }
+
+    @Test
+    void verifiedCredentialsAreCached() throws Exception {
+        when(database.query(any())).thenReturn(Optional.of(webUser));
+
+        assertEquals(webUser, new BasicAuthentication(authenticationString, database).getWebUser());
+        assertEquals(Optional.of(webUser), VerifiedCredentialCache.get(authenticationString));
+
+        assertEquals(webUser, new BasicAuthentication(authenticationString, database).getWebUser());
+        verify(database, times(1)).query(any());
+    }
+
+    @Test
+    void credentialsAreNotCachedIfUserChangedAfterItWasFetched() throws Exception {
+        // The change is committed (and the cache invalidated) after the old state was read, but before it is cached
+        when(database.query(any())).thenAnswer(invocation -> {
+            VerifiedCredentialCache.invalidate(USERNAME);
+            return Optional.of(webUser);
+        });
+
+        new BasicAuthentication(authenticationString, database).getWebUser();
+
+        assertFalse(VerifiedCredentialCache.get(authenticationString).isPresent());
+    }
+
+    @Test
+    void credentialsAreNotCachedIfAllUsersChangedAfterFetch() {
+        long generation = VerifiedCredentialCache.generation();
+        VerifiedCredentialCache.invalidateAll();
+
+        VerifiedCredentialCache.put(authenticationString, webUser, generation);
+
+        assertFalse(VerifiedCredentialCache.get(authenticationString).isPresent());
+    }
+}
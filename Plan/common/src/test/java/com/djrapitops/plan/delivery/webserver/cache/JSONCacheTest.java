@@ -25,6 +25,7 @@ import org.junit.runner.RunWith;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -115,4 +116,16 @@ class JSONCacheTest {
         assertNotContains();
         assertNotContainsUUID();
     }
-}
\ No newline at end of file
+
+    @Test
+    void lookupsAreCountedUnderDataID() {
+        long hitsBefore = JSONCache.getHitCounts().getOrDefault(TEST_ID.name(), 0L);
+        long missesBefore = JSONCache.getMissCounts().getOrDefault(TEST_ID.name(), 0L);
+
+        cachedByServerUUID();
+        cachedByServerUUID();
+
+        assertEquals(hitsBefore + 1, JSONCache.getHitCounts().get(TEST_ID.name()));
+        assertEquals(missesBefore + 1, JSONCache.getMissCounts().get(TEST_ID.name()));
+    }
+}
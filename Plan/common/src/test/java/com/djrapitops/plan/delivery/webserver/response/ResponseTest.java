@@ -0,0 +1,151 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.response;
+
+import com.djrapitops.plan.delivery.webserver.cache.CompressedContentCache;
+import com.djrapitops.plan.delivery.webserver.cache.DataID;
+import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.delivery.webserver.response.data.JSONResponse;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.storage.file.Resource;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ETag, If-None-Match and compression cache handling of {@link Response}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ResponseTest {
+
+    private Headers responseHeaders;
+    private ByteArrayOutputStream body;
+
+    @BeforeEach
+    void cleanCache() {
+        JSONCache.invalidateAll();
+        CompressedContentCache.invalidateAll();
+        CompressedContentCache.cleanUp();
+    }
+
+    private HttpExchange send(Response response, String ifNoneMatch) throws IOException {
+        HttpExchange exchange = mock(HttpExchange.class);
+        Headers requestHeaders = new Headers();
+        if (ifNoneMatch != null) {
+            requestHeaders.set("If-None-Match", ifNoneMatch);
+        }
+        responseHeaders = new Headers();
+        body = new ByteArrayOutputStream();
+        when(exchange.getRequestHeaders()).thenReturn(requestHeaders);
+        when(exchange.getResponseBody()).thenReturn(body);
+
+        response.setResponseHeaders(responseHeaders);
+        response.send(exchange, null, null);
+        return exchange;
+    }
+
+    @Test
+    void successfulResponseIsSentWithETag() throws IOException {
+        HttpExchange exchange = send(new TextResponse("Content"), null);
+
+        verify(exchange).sendResponseHeaders(eq(200), anyLong());
+        assertNotNull(responseHeaders.getFirst("ETag"));
+        assertEquals("no-cache", responseHeaders.getFirst("Cache-Control"));
+        assertEquals("gzip", responseHeaders.getFirst("Content-Encoding"));
+        assertTrue(body.size() > 0);
+    }
+
+    @Test
+    void matchingETagIsNotModified() throws IOException {
+        send(new TextResponse("Content"), null);
+        String etag = responseHeaders.getFirst("ETag");
+
+        HttpExchange exchange = send(new TextResponse("Content"), "\"other\", " + etag);
+
+        verify(exchange).sendResponseHeaders(304, -1);
+        assertEquals(0, body.size());
+    }
+
+    @Test
+    void wildcardIsNotModified() throws IOException {
+        HttpExchange exchange = send(new TextResponse("Content"), "*");
+
+        verify(exchange).sendResponseHeaders(304, -1);
+    }
+
+    @Test
+    void changedContentIsSentAgain() throws IOException {
+        send(new TextResponse("Content"), null);
+        String etag = responseHeaders.getFirst("ETag");
+
+        HttpExchange exchange = send(new TextResponse("Changed content"), etag);
+
+        verify(exchange).sendResponseHeaders(eq(200), anyLong());
+        assertNotEquals(etag, responseHeaders.getFirst("ETag"));
+        assertTrue(body.size() > 0);
+    }
+
+    @Test
+    void cachedJSONKeepsETagUntilInvalidated() throws IOException {
+        send(JSONCache.getOrCache(DataID.SESSIONS, () -> new JSONResponse("[1]")), null);
+        String etag = responseHeaders.getFirst("ETag");
+        assertNotNull(etag);
+
+        HttpExchange cached = send(JSONCache.getOrCache(DataID.SESSIONS, () -> new JSONResponse("[2]")), etag);
+        verify(cached).sendResponseHeaders(304, -1);
+
+        JSONCache.invalidate(DataID.SESSIONS);
+        HttpExchange changed = send(JSONCache.getOrCache(DataID.SESSIONS, () -> new JSONResponse("[2]")), etag);
+        verify(changed).sendResponseHeaders(eq(200), anyLong());
+        assertNotEquals(etag, responseHeaders.getFirst("ETag"));
+    }
+
+    @Test
+    void dynamicContentIsNotCached() throws IOException {
+        send(new TextResponse("Content"), null);
+
+        CompressedContentCache.cleanUp();
+        assertEquals(0, CompressedContentCache.getCachedSize());
+    }
+
+    @Test
+    void fileContentIsCached() throws IOException {
+        Resource resource = mock(Resource.class);
+        when(resource.asString()).thenReturn("File content");
+        PlanFiles files = mock(PlanFiles.class);
+        when(files.getCustomizableResourceOrDefault("web/file.txt")).thenReturn(resource);
+
+        send(new FileResponse("web/file.txt", files), null);
+        String etag = responseHeaders.getFirst("ETag");
+        HttpExchange exchange = send(new FileResponse("web/file.txt", files), etag);
+
+        verify(exchange).sendResponseHeaders(304, -1);
+        CompressedContentCache.cleanUp();
+        assertEquals(1, CompressedContentCache.getCachedSize());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.response.data;
+
+import com.djrapitops.plan.delivery.rendering.json.StreamableJSON;
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
+import com.djrapitops.plan.delivery.rendering.json.graphs.line.Point;
+import com.djrapitops.plan.delivery.webserver.cache.DataID;
+import com.djrapitops.plan.delivery.webserver.cache.JSONCache;
+import com.djrapitops.plan.delivery.webserver.response.Response;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link JSONStreamResponse} output and its caching in {@link JSONCache}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class JSONStreamResponseTest {
+
+    private static final DataID TEST_ID = DataID.GRAPH_PERFORMANCE;
+
+    @BeforeEach
+    void cleanCache() {
+        JSONCache.invalidateAll();
+    }
+
+    private static class SentResponse {
+        private final HttpExchange exchange;
+        private final Headers responseHeaders = new Headers();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        SentResponse(Response response, String ifNoneMatch) throws IOException {
+            exchange = mock(HttpExchange.class);
+            Headers requestHeaders = new Headers();
+            if (ifNoneMatch != null) {
+                requestHeaders.set("If-None-Match", ifNoneMatch);
+            }
+            when(exchange.getRequestHeaders()).thenReturn(requestHeaders);
+            when(exchange.getResponseHeaders()).thenReturn(responseHeaders);
+            when(exchange.getResponseBody()).thenReturn(body);
+
+            response.setResponseHeaders(responseHeaders);
+            response.send(exchange, null, null);
+        }
+
+        String decompressedBody() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void stringsAreEscaped() throws IOException {
+        StreamableJSON json = writer -> writer.beginObject().name("name").value("Quote\" Backslash\\ Line\n").endObject();
+
+        String sent = new SentResponse(new JSONStreamResponse(json), null).decompressedBody();
+        assertEquals("{\"name\":\"Quote\\\" Backslash\\\\ Line\\n\"}", sent);
+    }
+
+    @Test
+    void nonFiniteValuesAreWrittenAsNull() throws IOException {
+        LineGraph graph = new LineGraph(Arrays.asList(
+                new Point(1000, Double.NaN),
+                new Point(2000, Double.POSITIVE_INFINITY),
+                new Point(3000, 5.0)
+        ), false);
+
+        String sent = new SentResponse(new JSONStreamResponse(graph::writeHighChartsSeries), null).decompressedBody();
+        assertEquals("[[1000,null],[2000,null],[3000,5.0]]", sent);
+    }
+
+    @Test
+    void cachedBodyIsNotSentAgainForMatchingETag() throws IOException {
+        StreamableJSON json = writer -> writer.beginArray().value(1).endArray();
+        SentResponse first = new SentResponse(JSONCache.getOrCacheStreamed(TEST_ID, () -> json), null);
+        assertNull(first.responseHeaders.getFirst("ETag"));
+
+        SentResponse second = new SentResponse(JSONCache.getOrCacheStreamed(TEST_ID, () -> json), null);
+        String etag = second.responseHeaders.getFirst("ETag");
+        assertNotNull(etag);
+        assertEquals("[1]", second.decompressedBody());
+
+        SentResponse revalidated = new SentResponse(JSONCache.getOrCacheStreamed(TEST_ID, () -> json), etag);
+        verify(revalidated.exchange).sendResponseHeaders(304, -1);
+        assertEquals(0, revalidated.body.size());
+    }
+
+    @Test
+    void bodyInvalidatedWhileSendingIsNotCached() throws IOException {
+        StreamableJSON json = writer -> {
+            writer.beginArray().value(1);
+            JSONCache.invalidate(TEST_ID);
+            writer.endArray();
+        };
+        new SentResponse(JSONCache.getOrCacheStreamed(TEST_ID, () -> json), null);
+
+        assertFalse(JSONCache.getCachedIDs().contains(TEST_ID.name()));
+    }
+
+    @Test
+    void bodyIsNotCachedAfterMatchingInvalidationWhileSending() throws IOException {
+        StreamableJSON json = writer -> {
+            writer.beginArray().value(1);
+            JSONCache.invalidateMatching(TEST_ID);
+            writer.endArray();
+        };
+        new SentResponse(JSONCache.getOrCacheStreamed(TEST_ID, () -> json), null);
+
+        assertFalse(JSONCache.getCachedIDs().contains(TEST_ID.name()));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation;
+
+import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
+import com.djrapitops.plan.settings.config.ExtensionSettings;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for timeouts, circuit breaker and rejected calls of {@link ExtensionMethodExecutor}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ExtensionMethodExecutorTest {
+
+    private static final String PLUGIN_NAME = "TestExtension";
+    private static final long TIMEOUT_MS = 50L;
+
+    private ExtensionMethodExecutor underTest;
+    private PluginLogger logger;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void enableExecutor() {
+        ExtensionSettings extensionSettings = mock(ExtensionSettings.class);
+        when(extensionSettings.getMethodTimeout(anyString())).thenReturn(TIMEOUT_MS);
+        PlanConfig config = mock(PlanConfig.class);
+        when(config.getExtensionSettings()).thenReturn(extensionSettings);
+        logger = mock(PluginLogger.class);
+
+        underTest = new ExtensionMethodExecutor(config, logger, mock(ErrorHandler.class));
+        underTest.enable();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void disableExecutor() {
+        release.countDown();
+        underTest.disable();
+    }
+
+    private MethodWrapper<String> method(String methodName) {
+        @SuppressWarnings("unchecked")
+        MethodWrapper<String> method = mock(MethodWrapper.class);
+        when(method.getMethodName()).thenReturn(methodName);
+        return method;
+    }
+
+    private Callable<String> blockUntilReleased(AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            while (true) {
+                try {
+                    release.await();
+                    return "Released";
+                } catch (InterruptedException ignored) {
+                    // Keeps the thread in use like a method that does not react to interrupts.
+                }
+            }
+        };
+    }
+
+    private MethodCallStatistics statisticsOf(String methodName) {
+        return underTest.getStatistics().stream()
+                .filter(statistics -> statistics.getMethodName().equals(methodName))
+                .findFirst().orElseThrow(AssertionError::new);
+    }
+
+    @Test
+    void resultIsReturnedWhenMethodFinishesInTime() {
+        assertEquals("Value", underTest.callMethod(PLUGIN_NAME, method("fast"), () -> "Value"));
+        assertEquals(1L, statisticsOf("fast").getFinishedCallCount());
+    }
+
+    @Test
+    void timedOutCallReturnsNull() {
+        AtomicInteger calls = new AtomicInteger();
+        assertNull(underTest.callMethod(PLUGIN_NAME, method("slow"), blockUntilReleased(calls)));
+
+        MethodCallStatistics statistics = statisticsOf("slow");
+        assertEquals(1L, statistics.getTimeoutCount());
+        assertFalse(statistics.isCircuitOpen(System.currentTimeMillis()));
+    }
+
+    @Test
+    void methodIsNotCalledAfterConsecutiveTimeouts() {
+        MethodWrapper<String> method = method("hanging");
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < MethodCallStatistics.TIMEOUT_THRESHOLD; i++) {
+            assertNull(underTest.callMethod(PLUGIN_NAME, method, blockUntilReleased(calls)));
+        }
+        assertTrue(statisticsOf("hanging").isCircuitOpen(System.currentTimeMillis()));
+
+        assertNull(underTest.callMethod(PLUGIN_NAME, method, blockUntilReleased(calls)));
+        assertEquals(MethodCallStatistics.TIMEOUT_THRESHOLD, calls.get(), "Method was called while the circuit was open");
+        assertEquals(1L, statisticsOf("hanging").getSkippedCallCount());
+    }
+
+    @Test
+    void callIsRejectedWhenAllThreadsAreInUse() {
+        AtomicInteger calls = new AtomicInteger();
+        // Different methods so that the circuit breaker of one method does not stop the calls.
+        for (int i = 0; i < ExtensionMethodExecutor.MAX_METHOD_THREADS; i++) {
+            underTest.callMethod(PLUGIN_NAME, method("hanging" + i), blockUntilReleased(calls));
+        }
+        assertEquals(ExtensionMethodExecutor.MAX_METHOD_THREADS, calls.get());
+
+        assertNull(underTest.callMethod(PLUGIN_NAME, method("rejected"), blockUntilReleased(calls)));
+        assertNull(underTest.callMethod(PLUGIN_NAME, method("rejected"), blockUntilReleased(calls)));
+
+        assertEquals(ExtensionMethodExecutor.MAX_METHOD_THREADS, calls.get());
+        assertEquals(2L, statisticsOf("rejected").getRejectedCallCount());
+        verify(logger, times(1)).warn(anyString());
+    }
+}
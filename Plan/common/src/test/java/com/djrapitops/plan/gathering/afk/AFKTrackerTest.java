@@ -0,0 +1,134 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.afk;
+
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.Session;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import utilities.TestConstants;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AFKTracker}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class AFKTrackerTest {
+
+    private static final long THRESHOLD = TimeUnit.MINUTES.toMillis(5L);
+    private static final long START = 1_000_000L;
+
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+    private AFKTracker underTest;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(TimeSettings.AFK_THRESHOLD)).thenReturn(THRESHOLD);
+        underTest = new AFKTracker(config);
+
+        session = new Session(uuid, TestConstants.SERVER_UUID, START, "World", "SURVIVAL");
+        new SessionCache().cacheSession(uuid, session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionCache.clear();
+    }
+
+    private long afkTime() {
+        return session.getUnsafe(SessionKeys.AFK_TIME);
+    }
+
+    @Test
+    void movementRightAfterActionIsNotRecorded() {
+        underTest.performedAction(uuid, START);
+        underTest.performedMovement(uuid, START + AFKTracker.MOVEMENT_RESOLUTION_MS - 1);
+        underTest.performedMovement(uuid, START + THRESHOLD + 500L);
+
+        // The ignored movement did not reset the time of the last action.
+        assertEquals(THRESHOLD + 500L, afkTime());
+    }
+
+    @Test
+    void movementAfterResolutionIsRecorded() {
+        underTest.performedAction(uuid, START);
+        underTest.performedMovement(uuid, START + AFKTracker.MOVEMENT_RESOLUTION_MS);
+        underTest.performedMovement(uuid, START + THRESHOLD + 500L);
+
+        assertEquals(0L, afkTime());
+    }
+
+    @Test
+    void playerWithIgnorePermissionIsNeverAfk() {
+        underTest.hasIgnorePermission(uuid);
+        underTest.performedAction(uuid, START);
+        underTest.performedMovement(uuid, START + THRESHOLD * 2);
+        underTest.performedAction(uuid, START + THRESHOLD * 4);
+        underTest.loggedOut(uuid, START + THRESHOLD * 6);
+
+        assertEquals(0L, afkTime());
+    }
+
+    @Test
+    void afkCommandCountsAsAfkFromTheCommand() {
+        underTest.performedAction(uuid, START);
+        long commandTime = START + TimeUnit.MINUTES.toMillis(1L);
+        underTest.usedAfkCommand(uuid, commandTime);
+        long afkLength = TimeUnit.MINUTES.toMillis(2L);
+        underTest.performedAction(uuid, commandTime + afkLength);
+
+        assertEquals(afkLength, afkTime());
+    }
+
+    @Test
+    void actionAfterAfkCommandEndsTheAfkTime() {
+        underTest.performedAction(uuid, START);
+        underTest.usedAfkCommand(uuid, START);
+        underTest.performedAction(uuid, START + THRESHOLD);
+        underTest.performedAction(uuid, START + THRESHOLD + TimeUnit.MINUTES.toMillis(1L));
+
+        // Only the time between the command and the next action counts.
+        assertEquals(THRESHOLD, afkTime());
+    }
+
+    @Test
+    void logoutAddsAfkTimeAndForgetsPlayer() {
+        underTest.performedAction(uuid, START);
+        underTest.loggedOut(uuid, START + THRESHOLD * 2);
+        assertEquals(THRESHOLD * 2, afkTime());
+
+        // Next session starts from the first action, not from the logout.
+        underTest.performedAction(uuid, START + THRESHOLD * 10);
+        assertEquals(THRESHOLD * 2, afkTime());
+    }
+}
@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.gathering.cache;
 
+import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
+import com.djrapitops.plan.delivery.export.PlayerChangeQueue;
 import com.djrapitops.plan.gathering.domain.Session;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,16 +26,15 @@ import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 import utilities.TestConstants;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @RunWith(JUnitPlatform.class)
 class SessionCacheTest {
 
     private Session session;
+    private SessionCache sessionCache;
     private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
     private final UUID serverUUID = TestConstants.SERVER_UUID;
 
@@ -41,7 +42,7 @@ class SessionCacheTest {
     void setUp() {
         session = new Session(uuid, serverUUID, 12345L, "World1", "SURVIVAL");
 
-        SessionCache sessionCache = new SessionCache();
+        sessionCache = new SessionCache();
         sessionCache.cacheSession(uuid, session);
     }
 
@@ -56,4 +57,36 @@ class SessionCacheTest {
         assertTrue(cachedSession.isPresent());
         assertEquals(session, cachedSession.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void endedSessionMarksPlayerForExport() {
+        PlayerChangeQueue playerChangeQueue = new PlayerChangeQueue();
+        sessionCache.registerSessionEndListener(playerChangeQueue);
+        sessionCache.endSession(uuid, 23456L);
+
+        assertTrue(playerChangeQueue.pollChangedBefore(23456L).isEmpty(), "Session might not be stored yet");
+        assertEquals(Collections.singleton(uuid), playerChangeQueue.pollChangedBefore(23457L));
+        assertTrue(playerChangeQueue.pollChangedBefore(Long.MAX_VALUE).isEmpty(), "Player was exported already");
+    }
+
+    @Test
+    void endedSessionIsNotTrackedWithoutExport() {
+        PlayerChangeQueue playerChangeQueue = new PlayerChangeQueue();
+        sessionCache.registerSessionEndListener(playerChangeQueue);
+        sessionCache.unregisterSessionEndListener(playerChangeQueue);
+        sessionCache.endSession(uuid, 23456L);
+
+        assertTrue(playerChangeQueue.pollChangedBefore(Long.MAX_VALUE).isEmpty());
+        assertFalse(SessionCache.getCachedSession(uuid).isPresent());
+    }
+
+    @Test
+    void listenersAreNotifiedOfEndedSession() {
+        List<Session> ended = new ArrayList<>();
+        sessionCache.registerSessionEndListener(ended::add);
+        sessionCache.endSession(uuid, 23456L);
+
+        assertEquals(Collections.singletonList(session), ended);
+        assertEquals(23456L, (long) ended.get(0).getUnsafe(SessionKeys.END));
+    }
+}
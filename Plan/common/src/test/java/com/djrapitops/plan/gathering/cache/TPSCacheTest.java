@@ -0,0 +1,163 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSColumns;
+import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseClearNotifier;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.djrapitops.plugin.task.AbsRunnable;
+import com.djrapitops.plugin.task.PluginRunnable;
+import com.djrapitops.plugin.task.RunnableFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for reloading the in-memory TPS data of {@link TPSCache}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class TPSCacheTest {
+
+    private final UUID serverUUID = TestConstants.SERVER_UUID;
+
+    private Database database;
+    private DatabaseClearNotifier databaseClearNotifier;
+    private TPSCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        database = mock(Database.class);
+        DBSystem dbSystem = mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        ServerInfo serverInfo = mock(ServerInfo.class);
+        when(serverInfo.getServerUUID()).thenReturn(serverUUID);
+        databaseClearNotifier = new DatabaseClearNotifier();
+
+        underTest = new TPSCache(dbSystem, serverInfo, new SynchronousRunnableFactory(), mock(ErrorHandler.class),
+                databaseClearNotifier);
+    }
+
+    private static TPS tpsAt(long date) {
+        return TPSBuilder.get().date(date).tps(20.0).playersOnline(0).usedCPU(0.0)
+                .usedMemory(0L).entities(0).chunksLoaded(0).freeDiskSpace(0L).toTPS();
+    }
+
+    private void storedTPS(TPS... tpsData) {
+        TPSColumns.Builder stored = new TPSColumns.Builder(tpsData.length);
+        for (TPS tps : tpsData) {
+            stored.add(tps);
+        }
+        doReturn(stored.build()).when(database).query(any());
+    }
+
+    @Test
+    void storedDataIsLoadedOnEnable() {
+        long now = System.currentTimeMillis();
+        storedTPS(tpsAt(now - 60000L));
+        underTest.enable();
+        underTest.addServerTPS(tpsAt(now));
+
+        assertEquals(2, underTest.getRecentTPS(serverUUID).size());
+    }
+
+    @Test
+    void clearedDatabaseIsLoadedAgain() {
+        long now = System.currentTimeMillis();
+        storedTPS(tpsAt(now - 60000L));
+        underTest.enable();
+        underTest.addServerTPS(tpsAt(now));
+
+        storedTPS();
+        databaseClearNotifier.databaseCleared(database);
+
+        assertEquals(0, underTest.getRecentTPS(serverUUID).size());
+    }
+
+    @Test
+    void restoredDatabaseIsLoadedAgain() {
+        long now = System.currentTimeMillis();
+        storedTPS(tpsAt(now - 60000L));
+        underTest.enable();
+
+        storedTPS(tpsAt(now - 120000L), tpsAt(now - 60000L));
+        databaseClearNotifier.databaseCleared(database);
+
+        assertEquals(2, underTest.getRecentTPS(serverUUID).size());
+    }
+
+    @Test
+    void clearedBackupDoesNotChangeData() {
+        long now = System.currentTimeMillis();
+        storedTPS(tpsAt(now - 60000L));
+        underTest.enable();
+        underTest.addServerTPS(tpsAt(now));
+
+        databaseClearNotifier.databaseCleared(mock(Database.class));
+
+        assertEquals(2, underTest.getRecentTPS(serverUUID).size());
+    }
+
+    @Test
+    void dataIsNotCarriedOverToNextEnable() {
+        long now = System.currentTimeMillis();
+        storedTPS(tpsAt(now - 60000L));
+        underTest.enable();
+        underTest.addServerTPS(tpsAt(now));
+        underTest.disable();
+
+        storedTPS();
+        underTest.enable();
+
+        assertEquals(0, underTest.getRecentTPS(serverUUID).size());
+    }
+
+    /**
+     * {@link RunnableFactory} that runs the asynchronous tasks right away.
+     */
+    private static class SynchronousRunnableFactory extends RunnableFactory {
+
+        @Override
+        protected PluginRunnable createNewRunnable(String name, AbsRunnable absRunnable, long l) {
+            PluginRunnable runnable = mock(PluginRunnable.class);
+            doAnswer(invocation -> {
+                absRunnable.run();
+                return null;
+            }).when(runnable).runTaskAsynchronously();
+            return runnable;
+        }
+
+        @Override
+        public void cancelAllKnownTasks() {
+            /* Tasks are run right away. */
+        }
+    }
+}
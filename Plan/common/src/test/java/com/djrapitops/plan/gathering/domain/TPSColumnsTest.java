@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
+import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
+import com.djrapitops.plugin.api.TimeAmount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link TPSColumns}
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class TPSColumnsTest {
+
+    private static List<TPS> testData;
+    private static long time;
+
+    @BeforeAll
+    static void setUpTestData() {
+        testData = new ArrayList<>();
+
+        time = System.currentTimeMillis();
+        long twoMonthsAgo = time - TimeAmount.MONTH.toMillis(2L);
+
+        int i = 0;
+        for (long date = twoMonthsAgo; date < time; date += TimeUnit.MINUTES.toMillis(1L)) {
+            i++;
+            // Gaps of 30 minutes every ~day
+            if (i % 1500 < 30) continue;
+            testData.add(
+                    TPSBuilder.get().date(date)
+                            .tps(i % 100 < 5 ? 10.0 : 20.0)
+                            .playersOnline(i % 7)
+                            .usedCPU(i % 50)
+                            .usedMemory(i % 1000)
+                            .entities(i % 300)
+                            .chunksLoaded(i % 400)
+                            .freeDiskSpace(i % 500)
+                            .toTPS()
+            );
+        }
+    }
+
+    @Test
+    void sameResultsAsMutator() {
+        long monthAgo = time - TimeAmount.MONTH.toMillis(1L);
+        List<TPS> randomOrder = new ArrayList<>(testData);
+        Collections.shuffle(randomOrder);
+
+        TPSMutator mutator = new TPSMutator(new ArrayList<>(testData)).filterDataBetween(monthAgo, time);
+        TPSColumns columns = TPSColumns.of(randomOrder).between(monthAgo, time);
+
+        assertEquals(mutator.all().size(), columns.size());
+        assertEquals(mutator.serverDownTime(), columns.serverDownTime());
+        assertEquals(mutator.serverOccupiedTime(), columns.serverOccupiedTime());
+        assertEquals(mutator.lowTpsSpikeCount(18), columns.lowTpsSpikeCount(18));
+        assertEquals(mutator.percentageTPSAboveThreshold(18), columns.percentageTPSAboveThreshold(18), 0.0001);
+        assertEquals(mutator.averageTPS(), columns.averageTPS(), 0.0001);
+        assertEquals(mutator.averageCPU(), columns.averageCPU(), 0.0001);
+        assertEquals(mutator.averageRAM(), columns.averageRAM(), 0.0001);
+        assertEquals(mutator.averageEntities(), columns.averageEntities(), 0.0001);
+        assertEquals(mutator.averageChunks(), columns.averageChunks(), 0.0001);
+        assertEquals(mutator.averagePlayersOnline(), columns.averagePlayersOnline(), 0.0001);
+        assertEquals(mutator.maxFreeDisk(), columns.maxFreeDisk());
+        assertEquals(mutator.minFreeDisk(), columns.minFreeDisk());
+
+        TPSMutator lowTPS = mutator.filterTPSBetween(-1, 18);
+        TPSColumns lowTPSColumns = columns.filterTPSBetween(-1, 18);
+        assertEquals(lowTPS.all().size(), lowTPSColumns.size());
+        assertEquals(lowTPS.averagePlayersOnline(), lowTPSColumns.averagePlayersOnline(), 0.0001);
+    }
+
+    @Test
+    void betweenIncludesBothEnds() {
+        TPS first = testData.get(10);
+        TPS last = testData.get(20);
+        TPSColumns between = TPSColumns.of(testData).between(first.getDate(), last.getDate());
+
+        assertEquals(11, between.size());
+        assertEquals(first.getDate(), between.getDate(0));
+        assertEquals(last.getDate(), between.getDate(10));
+    }
+
+    @Test
+    void builtColumnsDoNotChangeWhenBuilderIsAppendedTo() {
+        TPSColumns.Builder builder = new TPSColumns.Builder(4);
+        builder.addAll(testData.subList(0, 4));
+        TPSColumns built = builder.build();
+
+        builder.addAll(testData.subList(4, 100));
+        builder.removeBefore(testData.get(50).getDate(), 100);
+
+        assertEquals(4, built.size());
+        assertEquals(testData.get(3).getDate(), built.getDate(3));
+        assertEquals(50, builder.size());
+        assertEquals(testData.get(50).getDate(), builder.build().getDate(0));
+    }
+
+    @Test
+    void playersOnlineIsResolvedFromPreviousDataPoint() {
+        TPSColumns columns = TPSColumns.of(testData);
+        TPS tps = testData.get(100);
+
+        assertEquals(tps.getPlayers(), columns.getPlayersOnlineOn(tps.getDate()));
+        assertEquals(tps.getPlayers(), columns.getPlayersOnlineOn(tps.getDate() + 1));
+        assertEquals(-1, columns.getPlayersOnlineOn(testData.get(0).getDate() - 1));
+    }
+}
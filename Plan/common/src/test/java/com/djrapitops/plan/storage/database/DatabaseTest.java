@@ -20,6 +20,8 @@ import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.data.element.TableContainer;
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.delivery.domain.ServerStability;
+import com.djrapitops.plan.delivery.domain.SessionSummary;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.WebUser;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
@@ -30,6 +32,9 @@ import com.djrapitops.plan.delivery.domain.keys.ServerKeys;
 import com.djrapitops.plan.delivery.domain.keys.SessionKeys;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.delivery.webserver.auth.BasicAuthentication;
+import com.djrapitops.plan.delivery.webserver.auth.FailReason;
+import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.ExtensionService;
@@ -45,6 +50,7 @@ import com.djrapitops.plan.extension.implementation.storage.transactions.results
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalServerResultsTransaction;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.query.QueryServiceImplementation;
 import com.djrapitops.plan.settings.config.Config;
@@ -52,20 +58,31 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.queries.*;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivitySnapshotQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.DailyRollupQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.storage.database.queries.containers.ServerPlayerContainersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionPlayerValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.ExtensionServerValueTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.transactions.*;
 import com.djrapitops.plan.storage.database.transactions.commands.*;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveDuplicateUserInfoTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.RemoveOldSampledDataTransaction;
 import com.djrapitops.plan.storage.database.transactions.patches.Patch;
 import com.djrapitops.plan.storage.database.transactions.patches.RegisterDateMinimizationPatch;
+import com.djrapitops.plan.storage.database.transactions.rollups.ActivitySnapshotTransaction;
+import com.djrapitops.plan.storage.database.transactions.rollups.DailyRollupBackfillTransaction;
 import com.djrapitops.plan.storage.upkeep.DBCleanTask;
+import com.djrapitops.plan.utilities.Base64Util;
+import com.djrapitops.plan.utilities.PassEncryptUtil;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plugin.logging.console.TestPluginLogger;
 import com.djrapitops.plugin.logging.error.ConsoleErrorLogger;
@@ -79,12 +96,18 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
 import static org.junit.jupiter.api.Assertions.*;
@@ -230,6 +253,22 @@ public interface DatabaseTest {
         assertFalse(db().query(WebUserQueries.fetchWebUser(TestConstants.PLAYER_ONE_NAME)).isPresent());
     }
 
+    @Test
+    default void removedWebUserIsRejectedAfterCredentialsWereCached() throws Exception {
+        String password = "testPass";
+        WebUser webUser = new WebUser(TestConstants.PLAYER_ONE_NAME, PassEncryptUtil.createHash(password), 0);
+        db().executeTransaction(new RegisterWebUserTransaction(webUser));
+
+        String authenticationString = Base64Util.encode(TestConstants.PLAYER_ONE_NAME + ':' + password);
+        assertEquals(webUser, new BasicAuthentication(authenticationString, db()).getWebUser());
+
+        db().executeTransaction(new RemoveWebUserTransaction(TestConstants.PLAYER_ONE_NAME));
+
+        WebUserAuthException rejected = assertThrows(WebUserAuthException.class,
+                () -> new BasicAuthentication(authenticationString, db()).getWebUser());
+        assertEquals(FailReason.USER_DOES_NOT_EXIST, rejected.getFailReason());
+    }
+
     @Test
     default void worldNamesAreStored() {
         String[] expected = {"Test", "Test2", "Test3"};
@@ -347,6 +386,58 @@ public interface DatabaseTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    default void mostRecentSessionsOfPlayerCanBeQueriedByPage() {
+        sessionsAreStoredWithAllData();
+
+        Session session = new Session(playerUUID, serverUUID(), 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+
+        List<Session> expected = Collections.singletonList(session);
+        assertEquals(expected, db().query(SessionQueries.fetchLatestSessionsOfPlayer(playerUUID, 1, 0)));
+        assertTrue(db().query(SessionQueries.fetchLatestSessionsOfPlayer(playerUUID, 1, 1)).isEmpty());
+    }
+
+    @Test
+    default void sessionsWithSameStartAreNotRepeatedOnNextPage() {
+        saveUserOne();
+        UUID secondServerUUID = UUID.randomUUID();
+        db().executeTransaction(new StoreServerInformationTransaction(new Server(-1, secondServerUUID, "ServerName2", "", 20)));
+        db().executeTransaction(new WorldNameStoreTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new WorldNameStoreTransaction(secondServerUUID, worlds[0]));
+
+        Session session = new Session(playerUUID, serverUUID(), 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        execute(DataStoreQueries.storeSession(session));
+        Session sameStart = new Session(playerUUID, secondServerUUID, 12345L, worlds[0], "SURVIVAL");
+        sameStart.endSession(22345L);
+        execute(DataStoreQueries.storeSession(sameStart));
+
+        List<Session> firstPage = db().query(SessionQueries.fetchLatestSessionsOfPlayer(playerUUID, 1, 0));
+        List<Session> secondPage = db().query(SessionQueries.fetchLatestSessionsOfPlayer(playerUUID, 1, 1));
+        assertEquals(1, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertNotEquals(firstPage.get(0).getUnsafe(SessionKeys.SERVER_UUID), secondPage.get(0).getUnsafe(SessionKeys.SERVER_UUID));
+        assertTrue(db().query(SessionQueries.fetchLatestSessionsOfPlayer(playerUUID, 1, 2)).isEmpty());
+    }
+
+    @Test
+    default void sessionSummaryOfPlayerIsCalculated() {
+        sessionsAreStoredWithAllData();
+
+        Map<UUID, SessionSummary> summaries = db().query(SessionQueries.summaryOfPlayerPerServer(0L, System.currentTimeMillis(), playerUUID));
+        SessionSummary summary = summaries.get(serverUUID());
+
+        assertNotNull(summary);
+        assertEquals(1, summary.getSessionCount());
+        assertEquals(10000L, summary.getPlaytime());
+        assertEquals(10000L, summary.getLongestSession());
+        assertEquals(22345L, summary.getLastSeen());
+        assertTrue(db().query(SessionQueries.summaryOfPlayerPerServer(30000L, System.currentTimeMillis(), playerUUID)).isEmpty());
+    }
+
     @Test
     default void userInfoTableStoresCorrectUserInformation() {
         saveUserOne();
@@ -437,6 +528,54 @@ public interface DatabaseTest {
         assertQueryIsEmpty(db(), SessionQueries.fetchSessionsOfPlayer(playerUUID));
     }
 
+    @Test
+    default void userIDIsForgottenWhenPlayerIsRemoved() {
+        saveUserOne();
+        // SQLite reuses the largest removed ID, a later user makes sure the ID changes.
+        saveUserTwo();
+        Optional<Integer> userID = db().query(UserIdentifierQueries.fetchUserID(playerUUID));
+        assertTrue(userID.isPresent());
+
+        db().executeTransaction(new RemovePlayerTransaction(playerUUID));
+        assertFalse(db().query(UserIdentifierQueries.fetchUserID(playerUUID)).isPresent());
+
+        saveUserOne();
+        Optional<Integer> newUserID = db().query(UserIdentifierQueries.fetchUserID(playerUUID));
+        assertTrue(newUserID.isPresent());
+        assertNotEquals(userID.get(), newUserID.get());
+
+        saveTwoWorlds();
+        Session session = new Session(playerUUID, serverUUID(), 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        execute(DataStoreQueries.storeSession(session));
+        assertEquals(1, db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID()).size());
+    }
+
+    @Test
+    default void staleUserIDIsResolvedAgainWhenPlayerWasRegisteredAgainElsewhere() {
+        saveUserOne();
+        saveUserTwo();
+        Optional<Integer> userID = db().query(UserIdentifierQueries.fetchUserID(playerUUID));
+        assertTrue(userID.isPresent());
+
+        // Another server of the network removes the player, the ID stays in the dictionary of this database
+        execute(new ExecStatement("DELETE FROM " + UsersTable.TABLE_NAME + WHERE + UsersTable.USER_UUID + "=?") {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+        });
+        db().executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME, serverUUID()));
+
+        saveTwoWorlds();
+        Session session = new Session(playerUUID, serverUUID(), 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        execute(DataStoreQueries.storeSession(session));
+
+        assertEquals(1, db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID()).size());
+        assertNotEquals(userID, db().query(UserIdentifierQueries.fetchUserID(playerUUID)));
+    }
+
     @Test
     default void testRemovalEverything() throws NoSuchAlgorithmException {
         saveAllData();
@@ -455,6 +594,21 @@ public interface DatabaseTest {
         assertTrue(db().query(WebUserQueries.fetchAllPlanWebUsers()).isEmpty());
     }
 
+    @Test
+    default void removalOfEverythingNotifiesDatabaseClearListenersAfterCommit() {
+        List<Database> cleared = new ArrayList<>();
+        DatabaseClearListener listener = cleared::add;
+        DatabaseClearNotifier notifier = ((SQLDB) db()).getDatabaseClearNotifier();
+        notifier.register(listener);
+        try {
+            db().executeTransaction(new RemoveEverythingTransaction());
+        } finally {
+            notifier.unregister(listener);
+        }
+
+        assertEquals(Collections.singletonList(db()), cleared);
+    }
+
     default <T extends Map> void assertQueryIsEmpty(Database database, Query<T> query) {
         assertTrue(database.query(query).isEmpty());
     }
@@ -971,6 +1125,166 @@ public interface DatabaseTest {
         assertEquals(expected, actual, () -> "Wrong return value. " + tpsData.stream().map(TPS::getPlayers).collect(Collectors.toList()).toString());
     }
 
+    @Test
+    default void lowTpsSpikesAndDowntimeAreCalculatedInOnePass() {
+        long minute = TimeUnit.MINUTES.toMillis(1L);
+        double[] tpsValues = {20.0, 20.0, 5.0, 5.0, 20.0};
+        List<TPS> tpsData = new ArrayList<>();
+        for (int i = 0; i < tpsValues.length; i++) {
+            tpsData.add(TPSBuilder.get().date((i + 1) * minute).tps(tpsValues[i]).playersOnline(0).usedCPU(0.0)
+                    .usedMemory(0L).entities(0).chunksLoaded(0).freeDiskSpace(0L).toTPS());
+        }
+        // Server was down for 10 minutes and had low TPS after starting again.
+        tpsData.add(TPSBuilder.get().date(15 * minute).tps(5.0).playersOnline(0).usedCPU(0.0)
+                .usedMemory(0L).entities(0).chunksLoaded(0).freeDiskSpace(0L).toTPS());
+        for (TPS tps : tpsData) {
+            db().executeTransaction(new TPSStoreTransaction(serverUUID(), tps));
+        }
+
+        ServerStability stability = db().query(TPSQueries.fetchServerStabilityOfAllServers(0L, 20 * minute, 10))
+                .get(serverUUID());
+        assertNotNull(stability);
+        assertEquals(2, stability.getLowTpsSpikeCount());
+        assertEquals(10 * minute, stability.getDownTime());
+    }
+
+    @Test
+    default void batchedPeakPlayerCountMatchesSingleServerQuery() {
+        List<TPS> tpsData = RandomData.randomTPS();
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), tpsData));
+
+        Optional<DateObj<Integer>> expected = db().query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID()));
+        DateObj<Integer> actual = db().query(TPSQueries.fetchAllTimePeakPlayerCountsOfAllServers()).get(serverUUID());
+        assertTrue(expected.isPresent());
+        assertNotNull(actual);
+        assertEquals(expected.get().getDate(), actual.getDate());
+        assertEquals(expected.get().getValue(), actual.getValue());
+    }
+
+    @Test
+    default void oldTPSDataIsAggregatedInsteadOfRemoved() {
+        long twoDaysAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2L);
+        long start = twoDaysAgo - twoDaysAgo % TimeUnit.HOURS.toMillis(1L);
+        for (int i = 0; i < 60; i++) {
+            TPS perMinute = new TPS(start + TimeUnit.MINUTES.toMillis(i), 20.0, i == 42 ? 100 : 5, 10.0, 1000L, 50, 30, 5000L);
+            db().executeTransaction(new TPSStoreTransaction(serverUUID(), perMinute));
+        }
+        assertEquals(60, db().query(TPSQueries.fetchTPSDataOfServer(serverUUID())).size());
+
+        db().executeTransaction(new RemoveOldSampledDataTransaction(
+                TimeUnit.DAYS.toMillis(1L), TimeUnit.DAYS.toMillis(1L), TimeUnit.DAYS.toMillis(1L)
+        ));
+
+        List<TPS> stored = db().query(TPSQueries.fetchTPSDataOfServer(serverUUID()));
+        assertEquals(1, stored.size(), () -> "Expected one hourly data point: " + stored);
+        TPS hourly = stored.get(0);
+        assertEquals(start, hourly.getDate());
+        assertEquals(TimeUnit.HOURS.toMillis(1L), hourly.getResolution());
+        assertEquals(60, hourly.getSamples());
+
+        int peak = db().query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID())).map(DateObj::getValue).orElse(-1);
+        assertEquals(100, peak);
+        assertEquals(20.0, db().query(TPSQueries.averageTPS(0, System.currentTimeMillis(), serverUUID())), 0.001);
+    }
+
+    @Test
+    default void dailyRollupBackfillUsesMaximumPlayerCountOfAggregatedTPSData() {
+        long twoDaysAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2L);
+        long start = twoDaysAgo - twoDaysAgo % TimeUnit.HOURS.toMillis(1L);
+        for (int i = 0; i < 60; i++) {
+            TPS perMinute = new TPS(start + TimeUnit.MINUTES.toMillis(i), 20.0, i == 42 ? 100 : 5, 10.0, 1000L, 50, 30, 5000L);
+            db().executeTransaction(new TPSStoreTransaction(serverUUID(), perMinute));
+        }
+        db().executeTransaction(new RemoveOldSampledDataTransaction(
+                TimeUnit.DAYS.toMillis(1L), TimeUnit.DAYS.toMillis(1L), TimeUnit.DAYS.toMillis(1L)
+        ));
+
+        long timeZoneOffset = 0L;
+        db().executeTransaction(new DailyRollupBackfillTransaction(serverUUID(), timeZoneOffset));
+
+        Optional<DateObj<Integer>> peak = db().query(DailyRollupQueries.fetchAllTimePeakPlayerCount(timeZoneOffset, serverUUID()));
+        assertTrue(peak.isPresent());
+        assertEquals(100, peak.get().getValue());
+        assertEquals(start, peak.get().getDate());
+    }
+
+    @Test
+    default void queriesOfGroupedTransactionSeeChangesOfEarlierTransactionsInGroup() throws SQLException {
+        SQLDB sqldb = (SQLDB) db();
+        Transaction register = new PlayerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME);
+        AtomicBoolean registeredInGroup = new AtomicBoolean(false);
+        Transaction check = new Transaction() {
+            @Override
+            protected void performOperations() {
+                // Queries made inside lambda queries need to use the group connection too
+                registeredInGroup.set(query(database -> database.query(PlayerFetchQueries.isPlayerRegistered(playerUUID))));
+            }
+        };
+
+        Connection connection = sqldb.getConnection();
+        try {
+            register.executeInGroup(sqldb, connection);
+            check.executeInGroup(sqldb, connection);
+            connection.commit();
+            register.groupCommitted();
+            check.groupCommitted();
+        } finally {
+            sqldb.returnToPool(connection);
+        }
+
+        assertTrue(registeredInGroup.get());
+        assertTrue(register.wasSuccessful());
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+    }
+
+    @Test
+    default void groupedTransactionIsExecutedAgainAfterGroupRollback() throws SQLException {
+        SQLDB sqldb = (SQLDB) db();
+        Transaction register = new PlayerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME);
+
+        Connection connection = sqldb.getConnection();
+        try {
+            register.executeInGroup(sqldb, connection);
+            connection.rollback();
+            register.groupRolledBack();
+        } finally {
+            sqldb.returnToPool(connection);
+        }
+        assertFalse(register.wasSuccessful());
+        assertFalse(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+
+        db().executeTransaction(register);
+        assertTrue(register.wasSuccessful());
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+    }
+
+    @Test
+    default void committedGroupIsNotExecutedAgainWhenAfterCommitActionFails() throws Exception {
+        SQLDB sqldb = (SQLDB) db();
+        AtomicInteger executions = new AtomicInteger();
+        Transaction failsAfterCommit = new Transaction() {
+            @Override
+            protected void performOperations() {
+                executions.incrementAndGet();
+                executeOther(new PlayerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME));
+                afterCommit(() -> {
+                    throw new IllegalStateException("Test after-commit failure");
+                });
+            }
+        };
+
+        sqldb.setGroupCommit(true);
+        try {
+            db().executeTransaction(failsAfterCommit).get(10, TimeUnit.SECONDS);
+        } finally {
+            sqldb.setGroupCommit(false);
+        }
+
+        assertEquals(1, executions.get());
+        assertTrue(failsAfterCommit.wasSuccessful());
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+    }
+
     @Test
     default void playerCountForServersIsCorrect() {
         Map<UUID, Integer> expected = Collections.singletonMap(serverUUID(), 1);
@@ -980,6 +1294,22 @@ public interface DatabaseTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    default void batchedQueriesReturnSameResultsAsSingleQueries() {
+        saveUserOne();
+        saveUserTwo();
+
+        QueryBatch batch = db().batch();
+        Supplier<Map<UUID, Integer>> userCounts = batch.add(ServerAggregateQueries.serverUserCounts());
+        Supplier<Integer> userCount = batch.add(ServerAggregateQueries.serverUserCount(serverUUID()));
+        Supplier<Optional<Integer>> userID = batch.add(UserIdentifierQueries.fetchUserID(playerUUID));
+        batch.execute();
+
+        assertEquals(db().query(ServerAggregateQueries.serverUserCounts()), userCounts.get());
+        assertEquals(db().query(ServerAggregateQueries.serverUserCount(serverUUID())), userCount.get());
+        assertEquals(db().query(UserIdentifierQueries.fetchUserID(playerUUID)), userID.get());
+    }
+
     default void executeTransactions(Transaction... transactions) {
         for (Transaction transaction : transactions) {
             db().executeTransaction(transaction);
@@ -1295,6 +1625,36 @@ public interface DatabaseTest {
         OptionalAssert.equals("Something", tabData.getString("stringVal").map(ExtensionStringData::getFormattedValue));
     }
 
+    @Test
+    default void extensionValuesAreUpdatedInsteadOfDuplicated() {
+        ExtensionServiceImplementation extensionService = (ExtensionServiceImplementation) system().getExtensionService();
+
+        ChangingExtension extension = new ChangingExtension();
+        extensionService.register(extension);
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        extensionService.updateServerValues(CallEvents.MANUAL);
+        extension.value = 10L;
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        extensionService.updateServerValues(CallEvents.MANUAL);
+
+        assertEquals(1, countRows(ExtensionPlayerValueTable.TABLE_NAME));
+        assertEquals(1, countRows(ExtensionServerValueTable.TABLE_NAME));
+
+        ExtensionTabData playerTab = db().query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID()).get(0).getTabs().get(0);
+        OptionalAssert.equals("10", playerTab.getNumber("playerValue").map(data -> data.getFormattedValue(Object::toString)));
+        ExtensionTabData serverTab = db().query(new ExtensionServerDataQuery(serverUUID())).get(0).getTabs().get(0);
+        OptionalAssert.equals("10", serverTab.getNumber("serverValue").map(data -> data.getFormattedValue(Object::toString)));
+    }
+
+    default int countRows(String tableName) {
+        return db().query(new QueryAllStatement<Integer>(SELECT + "COUNT(1) as c" + FROM + tableName) {
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        });
+    }
+
     @Test
     default void extensionServerAggregateQueriesWork() {
         ExtensionServiceImplementation extensionService = (ExtensionServiceImplementation) system().getExtensionService();
@@ -1531,6 +1891,138 @@ public interface DatabaseTest {
         assertEquals(1.0, result, 0.1);
     }
 
+    @Test
+    default void dailyRollupsMatchPerDayQueries() {
+        saveTwoWorlds();
+        saveUserOne();
+        long day = TimeUnit.DAYS.toMillis(1L);
+        long timeZoneOffset = TimeUnit.HOURS.toMillis(3L);
+
+        // Stored before backfill
+        Session session = new Session(playerUUID, serverUUID(), day + 1000L, worlds[0], "SURVIVAL");
+        session.endSession(day + 5000L);
+        db().executeTransaction(new SessionEndTransaction(session));
+
+        db().executeTransaction(new DailyRollupBackfillTransaction(serverUUID(), timeZoneOffset));
+
+        // Stored after backfill
+        Session sameDay = new Session(playerUUID, serverUUID(), day + 10000L, worlds[0], "SURVIVAL");
+        sameDay.endSession(day + 20000L);
+        db().executeTransaction(new SessionEndTransaction(sameDay));
+        db().executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> 3 * day, "Test", serverUUID()));
+        Session nextDay = new Session(player2UUID, serverUUID(), 3 * day, worlds[0], "SURVIVAL");
+        nextDay.endSession(3 * day + 10000L);
+        db().executeTransaction(new SessionEndTransaction(nextDay));
+
+        long now = System.currentTimeMillis();
+        assertEquals(
+                db().query(PlayerCountQueries.uniquePlayerCounts(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.uniquePlayerCounts(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(PlayerCountQueries.newPlayerCounts(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.newPlayerCounts(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(SessionQueries.playtimePerDay(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.playtimePerDay(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(SessionQueries.sessionCountPerDay(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.sessionCountPerDay(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(SessionQueries.playtime(0L, now, serverUUID())),
+                db().query(DailyRollupQueries.playtime(timeZoneOffset, serverUUID()))
+        );
+    }
+
+    @Test
+    default void dailyRollupQueriesFallBackToRawDataWithoutRollups() {
+        saveTwoWorlds();
+        saveUserOne();
+        long timeZoneOffset = TimeUnit.HOURS.toMillis(3L);
+        Session session = new Session(playerUUID, serverUUID(), TimeUnit.DAYS.toMillis(1L), worlds[0], "SURVIVAL");
+        session.endSession(TimeUnit.DAYS.toMillis(1L) + 5000L);
+        db().executeTransaction(new SessionEndTransaction(session));
+
+        assertFalse(db().query(DailyRollupQueries.hasRollups(timeZoneOffset)));
+
+        long now = System.currentTimeMillis();
+        assertEquals(
+                db().query(PlayerCountQueries.uniquePlayerCounts(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.uniquePlayerCounts(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(SessionQueries.sessionCount(0L, now, serverUUID())),
+                db().query(DailyRollupQueries.sessionCount(timeZoneOffset, serverUUID()))
+        );
+    }
+
+    @Test
+    default void dailyRollupsAreAdjustedWhenPlayerIsRemoved() {
+        saveTwoWorlds();
+        saveUserOne();
+        saveUserTwo();
+        long day = TimeUnit.DAYS.toMillis(1L);
+        long timeZoneOffset = TimeUnit.HOURS.toMillis(3L);
+
+        Session session = new Session(playerUUID, serverUUID(), day + 1000L, worlds[0], "SURVIVAL");
+        session.endSession(day + 5000L);
+        db().executeTransaction(new SessionEndTransaction(session));
+        Session otherPlayer = new Session(player2UUID, serverUUID(), day + 2000L, worlds[0], "SURVIVAL");
+        otherPlayer.endSession(day + 8000L);
+        db().executeTransaction(new SessionEndTransaction(otherPlayer));
+
+        db().executeTransaction(new DailyRollupBackfillTransaction(serverUUID(), timeZoneOffset));
+        // A second backfill of the same offset must not insert the rows again
+        db().executeTransaction(new DailyRollupBackfillTransaction(serverUUID(), timeZoneOffset));
+
+        db().executeTransaction(new RemovePlayerTransaction(playerUUID));
+
+        long now = System.currentTimeMillis();
+        assertEquals(
+                db().query(PlayerCountQueries.uniquePlayerCounts(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.uniquePlayerCounts(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(PlayerCountQueries.newPlayerCounts(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.newPlayerCounts(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(SessionQueries.playtimePerDay(0L, now, timeZoneOffset, serverUUID())),
+                db().query(DailyRollupQueries.playtimePerDay(0L, now, timeZoneOffset, serverUUID()))
+        );
+        assertEquals(
+                db().query(SessionQueries.sessionCount(0L, now, serverUUID())),
+                db().query(DailyRollupQueries.sessionCount(timeZoneOffset, serverUUID()))
+        );
+    }
+
+    @Test
+    default void activitySnapshotMatchesActivityIndexQueries() {
+        saveTwoWorlds();
+        saveUserOne();
+        long now = System.currentTimeMillis();
+        long threshold = TimeUnit.HOURS.toMillis(2L);
+
+        Session session = new Session(playerUUID, serverUUID(), now - TimeUnit.DAYS.toMillis(3L), worlds[0], "SURVIVAL");
+        session.endSession(now - TimeUnit.DAYS.toMillis(3L) + TimeUnit.HOURS.toMillis(3L));
+        db().executeTransaction(new SessionEndTransaction(session));
+
+        long snapshotDate = now - Math.floorMod(now, TimeUnit.HOURS.toMillis(1L));
+        Map<String, Integer> expected = db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(snapshotDate, serverUUID(), threshold));
+
+        db().executeTransaction(new ActivitySnapshotTransaction(serverUUID(), now));
+
+        assertEquals(Optional.of(snapshotDate), db().query(ActivitySnapshotQueries.fetchSnapshotDate(serverUUID(), snapshotDate)));
+        assertEquals(expected, db().query(ActivitySnapshotQueries.fetchActivityIndexGroupingsOn(snapshotDate, serverUUID(), threshold)));
+        assertEquals(
+                db().query(ActivityIndexQueries.fetchRegularPlayerCount(snapshotDate, serverUUID(), threshold)),
+                db().query(ActivitySnapshotQueries.fetchRegularPlayerCount(snapshotDate, serverUUID(), threshold))
+        );
+    }
+
     @PluginInfo(name = "ConditionalExtension")
     class ConditionalExtension implements DataExtension {
 
@@ -1648,6 +2140,21 @@ public interface DatabaseTest {
         }
     }
 
+    @PluginInfo(name = "ChangingExtension")
+    class ChangingExtension implements DataExtension {
+        long value = 5L;
+
+        @NumberProvider(text = "a number")
+        public long playerValue(UUID playerUUID) {
+            return value;
+        }
+
+        @NumberProvider(text = "a number")
+        public long serverValue() {
+            return value;
+        }
+    }
+
     @PluginInfo(name = "TableExtension")
     class TableExtension implements DataExtension {
         @TableProvider(tableColor = Color.AMBER)
@@ -18,6 +18,8 @@ package com.djrapitops.plan.storage.database;
 
 import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryBatch;
 import com.djrapitops.plan.storage.database.queries.objects.GeoInfoQueries;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import org.junit.jupiter.api.AfterAll;
@@ -38,8 +40,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for {@link MySQLDB}.
@@ -120,4 +126,26 @@ class MySQLTest implements DatabaseTest {
 
         assertEquals(expected, got);
     }
+
+    @Test
+    void batchedQueriesAreExecutedConcurrently() {
+        CountDownLatch bothExecuting = new CountDownLatch(2);
+        Query<Boolean> waitForOtherQuery = db -> {
+            bothExecuting.countDown();
+            try {
+                return bothExecuting.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        QueryBatch batch = database.batch();
+        Supplier<Boolean> first = batch.add(waitForOtherQuery);
+        Supplier<Boolean> second = batch.add(waitForOtherQuery);
+        batch.execute();
+
+        assertTrue(first.get());
+        assertTrue(second.get());
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link QueryProfiler} aggregation and row counting.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class QueryProfilerTest {
+
+    private QueryProfiler underTest;
+
+    @BeforeEach
+    void createProfiler() {
+        underTest = new QueryProfiler(DBType.SQLITE, true, false, 500L);
+    }
+
+    private QueryStatement<Object> query(String sql) {
+        return new QueryAllStatement<Object>(sql) {
+            @Override
+            public Object processResults(ResultSet set) {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    void executionsOfSameSQLAreAggregated() {
+        underTest.queryExecuted(query("SELECT 1"), null, 10L, 2L, 5L);
+        underTest.queryExecuted(query("SELECT 1"), null, 30L, 4L, 7L);
+
+        List<QueryProfiler.StatementStatistics> top = underTest.getTopByTotalTime(10);
+        assertEquals(1, top.size());
+        QueryProfiler.StatementStatistics statistics = top.get(0);
+        assertEquals(2L, statistics.getCount());
+        assertEquals(40L, statistics.getTotalNanos());
+        assertEquals(30L, statistics.getMaxNanos());
+        assertEquals(12L, statistics.getRows());
+        assertTrue(statistics.getSource().startsWith(getClass().getSimpleName()), statistics::getSource);
+    }
+
+    @Test
+    void updateStatementsDoNotCountRows() {
+        underTest.statementExecuted("DELETE FROM plan_tps", getClass(), 10L);
+
+        QueryProfiler.StatementStatistics statistics = underTest.getTopByTotalTime(1).get(0);
+        assertEquals(1L, statistics.getCount());
+        assertEquals(0L, statistics.getRows());
+    }
+
+    @Test
+    void topStatementsAreOrderedAndLimited() {
+        underTest.statementExecuted("A", getClass(), 50L);
+        underTest.statementExecuted("A", getClass(), 50L);
+        underTest.statementExecuted("B", getClass(), 80L);
+        underTest.queryExecuted(query("C"), null, 10L, 0L, 1000L);
+
+        assertEquals("A,B", sqlOf(underTest.getTopByTotalTime(2)));
+        assertEquals("B,A", sqlOf(underTest.getTopByMaxTime(2)));
+        assertEquals("C", sqlOf(underTest.getTopByRows(1)));
+    }
+
+    private String sqlOf(List<QueryProfiler.StatementStatistics> statistics) {
+        return statistics.stream().map(QueryProfiler.StatementStatistics::getSql).collect(Collectors.joining(","));
+    }
+
+    @Test
+    void profiledStatementCountIsLimited() {
+        for (int i = 0; i < QueryProfiler.MAX_PROFILED_STATEMENTS + 10; i++) {
+            underTest.statementExecuted("SELECT " + i, getClass(), 1L);
+        }
+        assertEquals(QueryProfiler.MAX_PROFILED_STATEMENTS, underTest.getTopByTotalTime(Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    void rowsReadFromResultSetAreCounted() throws SQLException {
+        ResultSet set = mock(ResultSet.class);
+        when(set.next()).thenReturn(true, true, false);
+
+        AtomicInteger counter = new AtomicInteger();
+        ResultSet counting = QueryProfiler.countRows(set, counter);
+        while (counting.next()) {
+            // Read all rows
+        }
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void countingResultSetThrowsSQLExceptionOfTheResultSet() throws SQLException {
+        ResultSet set = mock(ResultSet.class);
+        SQLException expected = new SQLException("Column not found");
+        when(set.getString("missing")).thenThrow(expected);
+
+        ResultSet counting = QueryProfiler.countRows(set, new AtomicInteger());
+        SQLException thrown = assertThrows(SQLException.class, () -> counting.getString("missing"));
+        assertSame(expected, thrown);
+    }
+}
@@ -19,9 +19,12 @@ package com.djrapitops.plan.storage.database;
 import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.objects.GeoInfoQueries;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -37,12 +40,18 @@ import utilities.RandomData;
 import utilities.mocks.PluginMockComponent;
 
 import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * @author Rsl1122
@@ -84,6 +93,46 @@ public class SQLiteTest implements DatabaseTest {
         return system;
     }
 
+    @Test
+    void queriesDoNotWaitForRunningTransactionInWALMode() throws InterruptedException {
+        SQLDB sqldb = (SQLDB) database;
+        String journalMode = sqldb.query(new QueryAllStatement<String>("PRAGMA journal_mode") {
+            @Override
+            public String processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getString(1) : null;
+            }
+        });
+        assumeTrue("wal".equalsIgnoreCase(journalMode), () -> "SQLite was not in WAL mode: " + journalMode);
+
+        UUID playerUUID = UUID.randomUUID();
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Transaction blocking = new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new PlayerRegisterTransaction(playerUUID, () -> 1000L, "Test"));
+                written.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Thread writer = new Thread(() -> blocking.executeTransaction(sqldb));
+        writer.start();
+        try {
+            assertTrue(written.await(5, TimeUnit.SECONDS));
+            boolean registered = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> sqldb.query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+            assertFalse(registered, "Query saw uncommitted changes");
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+        assertTrue(sqldb.query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+    }
+
     @Test
     void testServerTableBungeeSave() {
         Optional<Server> bungeeInfo = database.query(ServerQueries.fetchProxyServerInformation());
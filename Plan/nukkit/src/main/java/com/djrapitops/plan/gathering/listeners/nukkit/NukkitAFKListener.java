@@ -28,9 +28,9 @@ import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 
 import javax.inject.Inject;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -51,7 +51,7 @@ public class NukkitAFKListener implements Listener {
     @Inject
     public NukkitAFKListener(PlanConfig config, ErrorHandler errorHandler) {
         this.errorHandler = errorHandler;
-        this.ignorePermissionInfo = new HashMap<>();
+        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         NukkitAFKListener.assignAFKTracker(config);
     }
@@ -62,7 +62,7 @@ public class NukkitAFKListener implements Listener {
         }
     }
 
-    private void event(PlayerEvent event) {
+    private void event(PlayerEvent event, boolean movement) {
         try {
             Player player = event.getPlayer();
             UUID uuid = player.getUniqueId();
@@ -71,16 +71,18 @@ public class NukkitAFKListener implements Listener {
             Boolean ignored = ignorePermissionInfo.get(uuid);
             if (ignored == null) {
                 ignored = player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+                ignorePermissionInfo.put(uuid, ignored);
             }
             if (ignored) {
                 AFK_TRACKER.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
                 return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
-            AFK_TRACKER.performedAction(uuid, time);
+            if (movement) {
+                AFK_TRACKER.performedMovement(uuid, time);
+            } else {
+                AFK_TRACKER.performedAction(uuid, time);
+            }
         } catch (Exception e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
         }
@@ -88,17 +90,17 @@ public class NukkitAFKListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onMove(PlayerMoveEvent event) {
-        event(event);
+        event(event, true);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerChat(PlayerChatEvent event) {
-        event(event);
+        event(event, false);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
-        event(event);
+        event(event, false);
         boolean isAfkCommand = event.getMessage().substring(1).toLowerCase().startsWith("afk");
         if (isAfkCommand) {
             UUID uuid = event.getPlayer().getUniqueId();
@@ -25,7 +25,9 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.upkeep.ConfigStoreTask;
+import com.djrapitops.plan.storage.upkeep.ActivitySnapshotTask;
 import com.djrapitops.plan.storage.upkeep.DBCleanTask;
+import com.djrapitops.plan.storage.upkeep.DailyRollupTask;
 import com.djrapitops.plan.storage.upkeep.LogsFolderCleanTask;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -48,6 +50,8 @@ public class SpongeTaskSystem extends TaskSystem {
     private final LogsFolderCleanTask logsFolderCleanTask;
     private final ConfigStoreTask configStoreTask;
     private final DBCleanTask dbCleanTask;
+    private final DailyRollupTask dailyRollupTask;
+    private final ActivitySnapshotTask activitySnapshotTask;
     private final ExtensionServerMethodCallerTask extensionServerMethodCallerTask;
 
     @Inject
@@ -64,6 +68,8 @@ public class SpongeTaskSystem extends TaskSystem {
             LogsFolderCleanTask logsFolderCleanTask,
             ConfigStoreTask configStoreTask,
             DBCleanTask dbCleanTask,
+            DailyRollupTask dailyRollupTask,
+            ActivitySnapshotTask activitySnapshotTask,
             JSONCache.CleanTask jsonCacheCleanTask
     ) {
         super(runnableFactory);
@@ -78,6 +84,8 @@ public class SpongeTaskSystem extends TaskSystem {
         this.logsFolderCleanTask = logsFolderCleanTask;
         this.configStoreTask = configStoreTask;
         this.dbCleanTask = dbCleanTask;
+        this.dailyRollupTask = dailyRollupTask;
+        this.activitySnapshotTask = activitySnapshotTask;
         this.jsonCacheCleanTask = jsonCacheCleanTask;
 
     }
@@ -101,6 +109,9 @@ public class SpongeTaskSystem extends TaskSystem {
                 TimeAmount.toTicks(20, TimeUnit.SECONDS),
                 TimeAmount.toTicks(config.get(TimeSettings.CLEAN_DATABASE_PERIOD), TimeUnit.MILLISECONDS)
         );
+        long hour = TimeAmount.toTicks(1L, TimeUnit.HOURS);
+        registerTask(dailyRollupTask).runTaskTimerAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS), hour);
+        registerTask(activitySnapshotTask).runTaskTimerAsynchronously(TimeAmount.toTicks(40L, TimeUnit.SECONDS), hour);
         long minute = TimeAmount.toTicks(1, TimeUnit.MINUTES);
         registerTask(jsonCacheCleanTask).runTaskTimerAsynchronously(minute, minute);
     }
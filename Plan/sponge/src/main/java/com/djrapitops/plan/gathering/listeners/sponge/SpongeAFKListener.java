@@ -33,9 +33,9 @@ import org.spongepowered.api.event.message.MessageChannelEvent;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 
 import javax.inject.Inject;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -56,7 +56,7 @@ public class SpongeAFKListener {
     @Inject
     public SpongeAFKListener(PlanConfig config, ErrorHandler errorHandler) {
         this.errorHandler = errorHandler;
-        this.ignorePermissionInfo = new HashMap<>();
+        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         SpongeAFKListener.assignAFKTracker(config);
     }
@@ -69,7 +69,7 @@ public class SpongeAFKListener {
 
     private void event(TargetPlayerEvent event) {
         try {
-            performedAction(event.getTargetEntity());
+            performedAction(event.getTargetEntity(), false);
         } catch (Exception e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
         }
@@ -77,36 +77,38 @@ public class SpongeAFKListener {
 
     @Listener(order = Order.POST)
     public void onMove(MoveEntityEvent event, @First Player player) {
-        performedAction(player);
+        performedAction(player, true);
     }
 
     @Listener(order = Order.POST)
     public void onPlayerChat(MessageChannelEvent.Chat event, @First Player player) {
-        performedAction(player);
+        performedAction(player, false);
     }
 
-    private void performedAction(Player player) {
+    private void performedAction(Player player, boolean movement) {
         UUID uuid = player.getUniqueId();
         long time = System.currentTimeMillis();
 
         Boolean ignored = ignorePermissionInfo.get(uuid);
         if (ignored == null) {
             ignored = player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+            ignorePermissionInfo.put(uuid, ignored);
         }
         if (ignored) {
             AFK_TRACKER.hasIgnorePermission(uuid);
-            ignorePermissionInfo.put(uuid, true);
             return;
-        } else {
-            ignorePermissionInfo.put(uuid, false);
         }
 
-        AFK_TRACKER.performedAction(uuid, time);
+        if (movement) {
+            AFK_TRACKER.performedMovement(uuid, time);
+        } else {
+            AFK_TRACKER.performedAction(uuid, time);
+        }
     }
 
     @Listener(order = Order.POST)
     public void onPlayerCommand(SendCommandEvent event, @First Player player) {
-        performedAction(player);
+        performedAction(player, false);
 
         boolean isAfkCommand = event.getCommand().toLowerCase().startsWith("afk");
         if (isAfkCommand) {
@@ -25,6 +25,7 @@ import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.upkeep.NetworkConfigStoreTask;
 import com.djrapitops.plan.storage.upkeep.DBCleanTask;
+import com.djrapitops.plan.storage.upkeep.DailyRollupTask;
 import com.djrapitops.plan.storage.upkeep.LogsFolderCleanTask;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -48,6 +49,7 @@ public class VelocityTaskSystem extends TaskSystem {
     private final LogsFolderCleanTask logsFolderCleanTask;
     private final NetworkConfigStoreTask networkConfigStoreTask;
     private final DBCleanTask dbCleanTask;
+    private final DailyRollupTask dailyRollupTask;
     private final JSONCache.CleanTask jsonCacheCleanTask;
     private final ExtensionServerMethodCallerTask extensionServerMethodCallerTask;
 
@@ -61,6 +63,7 @@ public class VelocityTaskSystem extends TaskSystem {
             LogsFolderCleanTask logsFolderCleanTask,
             NetworkConfigStoreTask networkConfigStoreTask,
             DBCleanTask dbCleanTask,
+            DailyRollupTask dailyRollupTask,
             JSONCache.CleanTask jsonCacheCleanTask,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask
     ) {
@@ -72,6 +75,7 @@ public class VelocityTaskSystem extends TaskSystem {
         this.logsFolderCleanTask = logsFolderCleanTask;
         this.networkConfigStoreTask = networkConfigStoreTask;
         this.dbCleanTask = dbCleanTask;
+        this.dailyRollupTask = dailyRollupTask;
         this.jsonCacheCleanTask = jsonCacheCleanTask;
         this.extensionServerMethodCallerTask = extensionServerMethodCallerTask;
     }
@@ -100,6 +104,8 @@ public class VelocityTaskSystem extends TaskSystem {
                 TimeAmount.toTicks(20, TimeUnit.SECONDS),
                 TimeAmount.toTicks(config.get(TimeSettings.CLEAN_DATABASE_PERIOD), TimeUnit.MILLISECONDS)
         );
+        long hour = TimeAmount.toTicks(1L, TimeUnit.HOURS);
+        registerTask(dailyRollupTask).runTaskTimerAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS), hour);
         long minute = TimeAmount.toTicks(1, TimeUnit.MINUTES);
         registerTask(jsonCacheCleanTask).runTaskTimerAsynchronously(minute, minute);
 
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.gathering.timed;
 
+import com.djrapitops.plan.gathering.cache.TPSCache;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -36,11 +37,12 @@ public class VelocityTPSCounter extends TPSCounter {
     public VelocityTPSCounter(
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            TPSCache tpsCache,
             ServerProperties serverProperties,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
-        super(dbSystem, serverInfo, logger, errorHandler);
+        super(dbSystem, serverInfo, tpsCache, logger, errorHandler);
         this.serverProperties = serverProperties;
     }
 